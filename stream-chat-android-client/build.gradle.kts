@@ -9,6 +9,8 @@ plugins {
     alias(libs.plugins.androidx.baseline.profile)
 }
 
+apply(from = "$rootDir/scripts/jmh.gradle")
+
 android {
     namespace = "io.getstream.chat.android.client"
     defaultConfig {
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.client.benchmark
+
+import io.getstream.chat.android.client.events.ChatEvent
+import io.getstream.chat.android.client.parser2.MoshiChatParser
+import io.getstream.chat.android.client.parser2.ParserFactory
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Fork
+import org.openjdk.jmh.annotations.Measurement
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.Warmup
+import java.util.concurrent.TimeUnit
+
+/**
+ * Measures [MoshiChatParser.fromJson] over the payloads of every event type in [BenchmarkFixtures.allEventTypes].
+ *
+ * Every invocation parses the payload of the next event type, so the score is the average cost of an event across
+ * all the types, including the ones without a direct adapter. [EventParsingBenchmark] breaks the high-frequency
+ * types down one by one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+internal open class AllEventTypesParsingBenchmark {
+
+    private lateinit var payloads: List<String>
+    private lateinit var dtoParser: MoshiChatParser
+    private lateinit var directParser: MoshiChatParser
+    private var nextIndex = 0
+
+    @Setup
+    fun setUp() {
+        payloads = BenchmarkFixtures.allEventTypes.values.toList()
+        dtoParser = ParserFactory.createMoshiChatParser(fastEventParsing = false)
+        directParser = ParserFactory.createMoshiChatParser(fastEventParsing = true)
+    }
+
+    @Benchmark
+    fun dtoPath(): ChatEvent = dtoParser.fromJson(nextPayload(), ChatEvent::class.java)
+
+    @Benchmark
+    fun directPath(): ChatEvent = directParser.fromJson(nextPayload(), ChatEvent::class.java)
+
+    private fun nextPayload(): String {
+        val payload = payloads[nextIndex]
+        nextIndex = (nextIndex + 1) % payloads.size
+        return payload
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.client.benchmark
+
+import io.getstream.chat.android.client.events.ChatEvent
+import io.getstream.chat.android.client.parser.EventArguments
+import io.getstream.chat.android.client.parser2.testdata.DirectEventTestData
+import io.getstream.chat.android.client.parser2.testdata.NewMessageEventTestData
+import io.getstream.chat.android.models.Channel
+import io.getstream.chat.android.models.Member
+import io.getstream.chat.android.models.Message
+import io.getstream.chat.android.models.User
+import java.util.Date
+
+/**
+ * Recorded payloads and deterministic models shared by the benchmarks.
+ *
+ * The event payloads are the same fixtures the parser tests assert against, so the benchmarks measure exactly the
+ * shapes the tests keep correct.
+ */
+internal object BenchmarkFixtures {
+
+    /**
+     * Recorded WebSocket payloads keyed by the name used in the benchmarks' `@Param` values.
+     */
+    val events: Map<String, String> = mapOf(
+        "messageNew" to NewMessageEventTestData.jsonAllFields,
+        "messageUpdated" to DirectEventTestData.messageUpdated,
+        "messageRead" to DirectEventTestData.messageRead,
+        "markAllRead" to DirectEventTestData.markAllRead,
+        "notificationMessageNew" to DirectEventTestData.notificationMessageNew,
+        "reactionNew" to DirectEventTestData.reactionNew,
+        "reactionUpdated" to DirectEventTestData.reactionUpdated,
+        "reactionDeleted" to DirectEventTestData.reactionDeleted,
+        "typingStart" to DirectEventTestData.typingStart,
+        "typingStop" to DirectEventTestData.typingStop,
+        "userPresenceChanged" to DirectEventTestData.userPresenceChanged,
+        "healthCheck" to DirectEventTestData.healthCheck,
+    )
+
+    /**
+     * Payloads of every event type covered by the parser tests, keyed by the event type, e.g. `channel.truncated`.
+     * Built from [EventArguments], so an event type added to the parser tests is benchmarked too.
+     */
+    val allEventTypes: Map<String, String> by lazy {
+        EventArguments.chatParserEventArgumentsList()
+            .map { arguments -> arguments.get() }
+            .distinctBy { (_, event) -> (event as ChatEvent).type }
+            .associate { (json, event) -> (event as ChatEvent).type to json as String }
+    }
+
+    const val CHANNEL_TYPE = "messaging"
+    const val CHANNEL_ID = "benchmark"
+    const val CID = "$CHANNEL_TYPE:$CHANNEL_ID"
+
+    val currentUser = User(id = "benchmark-user", name = "Benchmark User")
+
+    private val otherUser = User(id = "other-user", name = "Other User")
+
+    /**
+     * Creates [count] messages sorted by `createdAt`, one second apart, with alternating runs of authors.
+     *
+     * @param count The number of messages to create.
+     * @param startIndex The index of the first message, used for the id and the timestamp.
+     * @param step The distance between two consecutive indices.
+     */
+    fun messages(count: Int, startIndex: Int = 0, step: Int = 1): List<Message> =
+        List(count) { position ->
+            val index = startIndex + position * step
+            Message(
+                id = "message_$index",
+                cid = CID,
+                text = "Benchmark message $index",
+                user = if ((index / AUTHOR_RUN_LENGTH) % 2 == 0) currentUser else otherUser,
+                createdAt = Date(BASE_TIME + index * 1000L),
+            )
+        }
+
+    /**
+     * Creates [count] channels with spread out member counts and last message dates.
+     *
+     * @param count The number of channels to create.
+     */
+    fun channels(count: Int): List<Channel> =
+        List(count) { index ->
+            // Multiplying by a prime spreads the values so the input is not already sorted.
+            val spread = (index * SPREAD_PRIME) % count
+            Channel(
+                type = CHANNEL_TYPE,
+                id = "channel_$index",
+                memberCount = spread % MAX_MEMBER_COUNT,
+                lastMessageAt = Date(BASE_TIME + spread * 1000L).takeIf { index % NULL_DATE_EVERY != 0 },
+                createdAt = Date(BASE_TIME + index * 1000L),
+            )
+        }
+
+    /**
+     * Creates [count] members with a few channel roles and spread out creation dates.
+     *
+     * @param count The number of members to create.
+     */
+    fun members(count: Int): List<Member> =
+        List(count) { index ->
+            val spread = (index * SPREAD_PRIME) % count
+            Member(
+                user = User(id = "user_$spread"),
+                channelRole = MEMBER_ROLES[index % MEMBER_ROLES.size],
+                createdAt = Date(BASE_TIME + spread * 1000L),
+            )
+        }
+
+    private val MEMBER_ROLES = listOf("channel_member", "channel_moderator", "owner")
+    private const val BASE_TIME = 1_700_000_000_000L
+    private const val AUTHOR_RUN_LENGTH = 3
+    private const val SPREAD_PRIME = 7919
+    private const val MAX_MEMBER_COUNT = 50
+    private const val NULL_DATE_EVERY = 10
+}
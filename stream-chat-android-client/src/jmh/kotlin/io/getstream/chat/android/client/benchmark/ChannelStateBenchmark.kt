@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.client.benchmark
+
+import io.getstream.chat.android.client.internal.state.plugin.state.channel.internal.ChannelStateImpl
+import io.getstream.chat.android.client.internal.state.utils.internal.mergeSorted
+import io.getstream.chat.android.models.Message
+import kotlinx.coroutines.flow.MutableStateFlow
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Fork
+import org.openjdk.jmh.annotations.Measurement
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.Warmup
+import java.util.concurrent.TimeUnit
+
+/**
+ * Measures [ChannelStateImpl.upsertMessages] and the [mergeSorted] it is built on.
+ *
+ * The channel starts with [existing] messages and receives a page of [incoming] messages, half of which overlap
+ * with the existing ones and half of which are interleaved inserts. After the first invocation every message of
+ * the page is already in the state, so the steady state measures re-upserting an overlapping page, as it happens
+ * when a channel is reloaded after a reconnection.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+internal open class ChannelStateBenchmark {
+
+    @Param("100", "1000", "5000")
+    @JvmField
+    var existing: Int = 0
+
+    @Param("30", "300")
+    @JvmField
+    var incoming: Int = 0
+
+    private lateinit var existingMessages: List<Message>
+    private lateinit var incomingMessages: List<Message>
+    private lateinit var channelState: ChannelStateImpl
+
+    @Setup
+    fun setUp() {
+        // Even indices are already in the state, the incoming page covers both even (updated) and odd (new) ones.
+        existingMessages = BenchmarkFixtures.messages(count = existing, step = 2)
+        incomingMessages = BenchmarkFixtures.messages(count = incoming, startIndex = maxOf(0, existing - incoming))
+        channelState = ChannelStateImpl(
+            channelType = BenchmarkFixtures.CHANNEL_TYPE,
+            channelId = BenchmarkFixtures.CHANNEL_ID,
+            currentUser = MutableStateFlow(BenchmarkFixtures.currentUser),
+            latestUsers = MutableStateFlow(mapOf(BenchmarkFixtures.currentUser.id to BenchmarkFixtures.currentUser)),
+            mutedUsers = MutableStateFlow(emptyList()),
+            liveLocations = MutableStateFlow(emptyList()),
+            messageLimit = null,
+        )
+        channelState.setMessages(existingMessages)
+    }
+
+    @Benchmark
+    fun upsertMessages(): List<Message> {
+        channelState.upsertMessages(incomingMessages)
+        return channelState.messages.value
+    }
+
+    @Benchmark
+    fun mergeSorted(): List<Message> = existingMessages.mergeSorted(
+        other = incomingMessages,
+        idSelector = Message::id,
+        comparator = MESSAGE_COMPARATOR,
+    )
+
+    private companion object {
+        private val MESSAGE_COMPARATOR: Comparator<Message> = compareBy { it.createdAt }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.client.benchmark
+
+import io.getstream.chat.android.client.api2.mapping.DomainMapping
+import io.getstream.chat.android.client.api2.mapping.EventMapping
+import io.getstream.chat.android.client.api2.model.dto.ChatEventDto
+import io.getstream.chat.android.client.events.ChatEvent
+import io.getstream.chat.android.client.parser2.ParserFactory
+import io.getstream.chat.android.models.NoOpChannelTransformer
+import io.getstream.chat.android.models.NoOpMessageTransformer
+import io.getstream.chat.android.models.NoOpUserTransformer
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Fork
+import org.openjdk.jmh.annotations.Measurement
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.Warmup
+import java.util.concurrent.TimeUnit
+
+/**
+ * Measures [EventMapping] (and the [DomainMapping] it delegates to) in isolation: the payload is decoded into a
+ * [ChatEventDto] once during setup, so only the DTO to domain conversion is timed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+internal open class EventMappingBenchmark {
+
+    @Param(
+        "messageNew",
+        "messageUpdated",
+        "messageRead",
+        "notificationMessageNew",
+        "reactionNew",
+        "typingStart",
+        "userPresenceChanged",
+    )
+    @JvmField
+    var event: String = ""
+
+    private lateinit var dto: ChatEventDto
+
+    private val eventMapping = EventMapping(
+        domainMapping = DomainMapping(
+            currentUserIdProvider = { BenchmarkFixtures.currentUser.id },
+            channelTransformer = NoOpChannelTransformer,
+            messageTransformer = NoOpMessageTransformer,
+            userTransformer = NoOpUserTransformer,
+        ),
+    )
+
+    @Setup
+    fun setUp() {
+        dto = ParserFactory.createMoshiChatParser()
+            .fromJson(BenchmarkFixtures.events.getValue(event), ChatEventDto::class.java)
+    }
+
+    @Benchmark
+    fun toDomain(): ChatEvent = with(eventMapping) { dto.toDomain() }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.client.benchmark
+
+import io.getstream.chat.android.client.api2.model.dto.ChatEventDto
+import io.getstream.chat.android.client.events.ChatEvent
+import io.getstream.chat.android.client.parser2.MoshiChatParser
+import io.getstream.chat.android.client.parser2.ParserFactory
+import okio.Buffer
+import okio.BufferedSource
+import okio.ByteString
+import okio.ByteString.Companion.encodeUtf8
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Fork
+import org.openjdk.jmh.annotations.Measurement
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.Warmup
+import java.util.concurrent.TimeUnit
+
+/**
+ * Measures [MoshiChatParser.fromJson] for each high-frequency event type, comparing the DTO path
+ * (JSON -> [ChatEventDto] -> [ChatEvent]) with the direct event parser (JSON -> [ChatEvent]).
+ * [AllEventTypesParsingBenchmark] covers every event type.
+ *
+ * Events without a direct adapter fall back to the DTO path, so for those both benchmarks should report the same
+ * score plus the cost of peeking at the event type.
+ *
+ * The `FromBytes` benchmarks parse the payload the way the socket parses a binary frame: the bytes are written to a
+ * [Buffer] which the parser reads through [BufferedSource.peek], with no intermediate [String]. Run with the `gc`
+ * profiler, as `scripts/jmh.gradle` does, to compare the bytes allocated per event (`gc.alloc.rate.norm`).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+internal open class EventParsingBenchmark {
+
+    @Param(
+        "messageNew",
+        "messageUpdated",
+        "messageRead",
+        "markAllRead",
+        "notificationMessageNew",
+        "reactionNew",
+        "reactionUpdated",
+        "reactionDeleted",
+        "typingStart",
+        "typingStop",
+        "userPresenceChanged",
+        "healthCheck",
+    )
+    @JvmField
+    var event: String = ""
+
+    private lateinit var payload: String
+    private lateinit var payloadBytes: ByteString
+    private lateinit var dtoParser: MoshiChatParser
+    private lateinit var directParser: MoshiChatParser
+
+    @Setup
+    fun setUp() {
+        payload = BenchmarkFixtures.events.getValue(event)
+        payloadBytes = payload.encodeUtf8()
+        dtoParser = ParserFactory.createMoshiChatParser(fastEventParsing = false)
+        directParser = ParserFactory.createMoshiChatParser(fastEventParsing = true)
+    }
+
+    @Benchmark
+    fun dtoPath(): ChatEvent = dtoParser.fromJson(payload, ChatEvent::class.java)
+
+    @Benchmark
+    fun directPath(): ChatEvent = directParser.fromJson(payload, ChatEvent::class.java)
+
+    @Benchmark
+    fun dtoPathFromBytes(): ChatEvent = dtoParser.fromBytes(payloadBytes)
+
+    @Benchmark
+    fun directPathFromBytes(): ChatEvent = directParser.fromBytes(payloadBytes)
+
+    private fun MoshiChatParser.fromBytes(bytes: ByteString): ChatEvent {
+        val buffer = Buffer().write(bytes)
+        return try {
+            fromJson(buffer, ChatEvent::class.java)
+        } finally {
+            buffer.clear()
+        }
+    }
+}
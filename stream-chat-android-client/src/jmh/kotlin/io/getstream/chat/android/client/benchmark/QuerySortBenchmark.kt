@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.client.benchmark
+
+import io.getstream.chat.android.models.Channel
+import io.getstream.chat.android.models.Member
+import io.getstream.chat.android.models.querysort.QuerySortByField
+import io.getstream.chat.android.models.querysort.sortedWithQuery
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Fork
+import org.openjdk.jmh.annotations.Measurement
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.Warmup
+import java.util.concurrent.TimeUnit
+
+/**
+ * Measures sorting channel and member lists with the comparators built by [QuerySortByField], the way the state
+ * orders query results, against [sortedWithQuery] which extracts the sort keys once per element.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+internal open class QuerySortBenchmark {
+
+    @Param("30", "1000", "10000")
+    @JvmField
+    var size: Int = 0
+
+    private lateinit var channels: List<Channel>
+    private lateinit var members: List<Member>
+
+    private val singleFieldSort = QuerySortByField.descByName<Channel>("last_message_at")
+
+    private val multiFieldSort = QuerySortByField.descByName<Channel>("last_message_at")
+        .desc("member_count")
+        .asc("created_at")
+
+    private val memberSort = QuerySortByField.descByName<Member>("channel_role")
+        .asc("created_at")
+        .asc("user_id")
+
+    @Setup
+    fun setUp() {
+        channels = BenchmarkFixtures.channels(size)
+        members = BenchmarkFixtures.members(size)
+    }
+
+    @Benchmark
+    fun sortBySingleField(): List<Channel> = channels.sortedWith(singleFieldSort.comparator)
+
+    @Benchmark
+    fun sortByMultipleFields(): List<Channel> = channels.sortedWith(multiFieldSort.comparator)
+
+    @Benchmark
+    fun sortBySingleFieldWithQuery(): List<Channel> = channels.sortedWithQuery(singleFieldSort)
+
+    @Benchmark
+    fun sortByMultipleFieldsWithQuery(): List<Channel> = channels.sortedWithQuery(multiFieldSort)
+
+    @Benchmark
+    fun sortMembers(): List<Member> = members.sortedWith(memberSort.comparator)
+
+    @Benchmark
+    fun sortMembersWithQuery(): List<Member> = members.sortedWithQuery(memberSort)
+}
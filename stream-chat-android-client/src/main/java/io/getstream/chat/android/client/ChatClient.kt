@@ -27,10 +27,13 @@ import androidx.media3.common.AudioAttributes
 import androidx.media3.common.C.AUDIO_CONTENT_TYPE_MUSIC
 import androidx.media3.exoplayer.ExoPlayer
 import io.getstream.chat.android.client.ChatClient.Companion.MAX_COOLDOWN_TIME_SECONDS
+import io.getstream.chat.android.client.api.AdaptiveEventBatchingPolicy
 import io.getstream.chat.android.client.api.ChatApi
 import io.getstream.chat.android.client.api.ChatApiConfig
 import io.getstream.chat.android.client.api.ChatClientConfig
 import io.getstream.chat.android.client.api.ErrorCall
+import io.getstream.chat.android.client.api.EventBatchingPolicy
+import io.getstream.chat.android.client.api.FixedEventBatchingPolicy
 import io.getstream.chat.android.client.api.models.GetThreadOptions
 import io.getstream.chat.android.client.api.models.PinnedMessagesPagination
 import io.getstream.chat.android.client.api.models.QueryChannelRequest
@@ -69,6 +72,7 @@ import io.getstream.chat.android.client.api2.model.dto.DownstreamChannelDto
 import io.getstream.chat.android.client.api2.model.dto.DownstreamMessageDto
 import io.getstream.chat.android.client.api2.model.dto.DownstreamReactionDto
 import io.getstream.chat.android.client.api2.model.dto.DownstreamUserDto
+import io.getstream.chat.android.client.attachment.AttachmentUploadLimiter
 import io.getstream.chat.android.client.attachment.AttachmentsSender
 import io.getstream.chat.android.client.attachment.MessagePreparer
 import io.getstream.chat.android.client.attachment.prepareForUpload
@@ -200,6 +204,7 @@ import io.getstream.chat.android.models.Member
 import io.getstream.chat.android.models.MemberData
 import io.getstream.chat.android.models.Message
 import io.getstream.chat.android.models.MessageReminder
+import io.getstream.chat.android.models.MessageSearchHit
 import io.getstream.chat.android.models.Mute
 import io.getstream.chat.android.models.PendingMessage
 import io.getstream.chat.android.models.Poll
@@ -304,6 +309,7 @@ internal constructor(
     internal val messageReceiptManager: MessageReceiptManager,
     @InternalStreamChatApi
     public val cdn: CDN? = null,
+    private val lifecycleObserver: StreamLifecycleObserver? = null,
 ) {
     private val logger by taggedLogger(TAG)
     private val fileManager = StreamFileManager()
@@ -314,6 +320,18 @@ internal constructor(
     private val eventsObservable = ChatEventsObservable(waitConnection, userScope, chatSocket)
     private val eventMutex = Mutex()
 
+    /**
+     * Writes the pending offline storage upserts when the app goes to the background, so they are not lost if the
+     * process is killed.
+     */
+    private val persistenceLifecycleHandler = object : LifecycleHandler {
+        override suspend fun resume() = Unit
+        override suspend fun stopped() {
+            flushPendingWrites()
+            messageReceiptReporter.flush()
+        }
+    }
+
     /**
      * The user's id for which the client is initialized.
      * Used in [initializeClientWithUser] to prevent recreating objects like repository, plugins, etc.
@@ -666,6 +684,7 @@ internal constructor(
         appSettingsManager.loadAppSettings()
         warmUp()
         messageReceiptReporter.start()
+        lifecycleObserver?.let { observer -> userScope.launch { observer.observe(persistenceLifecycleHandler) } }
         logger.i { "[initializeClientWithUser] user.id: '${user.id}'completed" }
     }
 
@@ -1582,6 +1601,10 @@ internal constructor(
         userStateService.onLogout()
         chatSocket.disconnect()
         clientState.awaitConnectionState(ConnectionState.Offline)
+        lifecycleObserver?.dispose(persistenceLifecycleHandler)
+        if (!flushPersistence) {
+            flushPendingWrites()
+        }
         userScope.cancelChildren(userId)
 
         if (flushPersistence) {
@@ -1599,6 +1622,15 @@ internal constructor(
         logger.v { "[disconnectUserSuspend] completed('$userId')" }
     }
 
+    @Suppress("TooGenericExceptionCaught")
+    private suspend fun flushPendingWrites() {
+        try {
+            _repositoryFacade?.flushPendingWrites()
+        } catch (e: Throwable) {
+            logger.e(e) { "[flushPendingWrites] failed: ${e.message}" }
+        }
+    }
+
     @Suppress("TooGenericExceptionCaught")
     private suspend fun ClientState.awaitConnectionState(
         state: ConnectionState,
@@ -2005,6 +2037,31 @@ internal constructor(
         )
     }
 
+    /**
+     * Searches the text of the messages stored in the offline database, without hitting the network.
+     * Every word of [query] is matched as a prefix, so results can be shown while the user is still typing.
+     * The results are ordered from the newest to the oldest message and do not include deleted messages.
+     *
+     * The local database only contains messages that were already loaded on this device, so the results
+     * can be combined with [searchMessages] once the server responds.
+     *
+     * @param query The text to search for.
+     * @param cids The channels to search in, or null to search in all stored channels.
+     * @param limit The maximum number of results.
+     *
+     * @return Executable async [Call] returning the matching messages, each with a snippet of its text
+     * where the matched words are wrapped in `<b>` tags.
+     */
+    @CheckResult
+    public fun searchMessagesLocally(
+        query: String,
+        cids: List<String>? = null,
+        limit: Int = DEFAULT_LOCAL_SEARCH_LIMIT,
+    ): Call<List<MessageSearchHit>> =
+        CoroutineCall(userScope) {
+            Result.Success(repositoryFacade.searchMessages(query, cids, limit))
+        }
+
     /**
      * Returns a list of messages pinned in the channel.
      * You can sort the list by specifying [sort] parameter.
@@ -4919,6 +4976,7 @@ internal constructor(
         private var customOkHttpClient: OkHttpClient? = null
         private var userCredentialStorage: UserCredentialStorage? = null
         private var retryPolicy: RetryPolicy = NoRetryPolicy()
+        private var eventBatchingPolicy: EventBatchingPolicy = FixedEventBatchingPolicy()
         private var distinctApiCalls: Boolean = true
         private var debugRequests: Boolean = false
         private var chatClientConfig: ChatClientConfig = ChatClientConfig()
@@ -5173,6 +5231,17 @@ internal constructor(
             this.retryPolicy = retryPolicy
         }
 
+        /**
+         * Sets the [EventBatchingPolicy] used to batch incoming WebSocket events before they are applied to the state.
+         * By default, every batch uses the same fixed window. Use [AdaptiveEventBatchingPolicy] to use larger batches
+         * under heavy traffic and near-immediate delivery otherwise.
+         *
+         * @param eventBatchingPolicy Custom [EventBatchingPolicy] implementation.
+         */
+        public fun eventBatchingPolicy(eventBatchingPolicy: EventBatchingPolicy): Builder = apply {
+            this.eventBatchingPolicy = eventBatchingPolicy
+        }
+
         /**
          * Allows simultaneous network calls of the same request, avoiding combining them into one.
          * By default [distinctApiCalls] is enabled.
@@ -5291,6 +5360,12 @@ internal constructor(
 
             val database = ChatClientDatabase.build(appContext)
             val repository = ChatClientRepository.from(database)
+            val messageReceiptReporter = MessageReceiptReporter(
+                scope = userScope,
+                messageReceiptRepository = repository,
+                api = api,
+            )
+            AttachmentUploadLimiter.instance.isMeteredNetwork = module.networkStateProvider::isMetered
 
             val allPluginFactories = setupPluginFactories(
                 chatClientConfig = chatClientConfig,
@@ -5320,18 +5395,16 @@ internal constructor(
                 currentUserFetcher = module.currentUserFetcher,
                 audioPlayer = audioPlayer,
                 repository = repository,
-                messageReceiptReporter = MessageReceiptReporter(
-                    scope = userScope,
-                    messageReceiptRepository = repository,
-                    api = api,
-                ),
+                messageReceiptReporter = messageReceiptReporter,
                 messageReceiptManager = MessageReceiptManager(
                     now = ::Date,
                     getRepositoryFacade = { instance().repositoryFacade },
                     messageReceiptRepository = repository,
                     api = api,
+                    onReceiptsStored = messageReceiptReporter::onReceiptsEnqueued,
                 ),
                 cdn = cdn,
+                lifecycleObserver = module.lifecycleObserver,
             ).apply {
                 attachmentsSender = AttachmentsSender(
                     context = appContext,
@@ -5350,7 +5423,7 @@ internal constructor(
                 add(ThrottlingPluginFactory)
                 add(MessageDeliveredPluginFactory)
                 // State plugin
-                add(StreamStatePluginFactory(chatClientConfig, appContext))
+                add(StreamStatePluginFactory(chatClientConfig, appContext, eventBatchingPolicy))
                 // Offline plugin (if enabled)
                 if (chatClientConfig.offlineEnabled) {
                     add(StreamOfflinePluginFactory(appContext, chatClientConfig.ignoredOfflineChannelTypes))
@@ -5421,6 +5494,7 @@ internal constructor(
 
         private const val MAX_COOLDOWN_TIME_SECONDS = 120
         private const val DEFAULT_CONNECTION_STATE_TIMEOUT = 10_000L
+        private const val DEFAULT_LOCAL_SEARCH_LIMIT = 30
         private const val KEY_MESSAGE_ACTION = "image_action"
         private const val MESSAGE_ACTION_SEND = "send"
         private const val MESSAGE_ACTION_SHUFFLE = "shuffle"
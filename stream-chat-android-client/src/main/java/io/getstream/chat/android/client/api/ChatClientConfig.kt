@@ -83,8 +83,9 @@ import io.getstream.chat.android.models.TimeDuration
  * @param fastEventParsing Enables the fast event-parsing path for incoming WebSocket events. When enabled, supported
  * event types are parsed directly into domain models, bypassing the DTO intermediate layer; unsupported event types
  * fall back to the default DTO-based parser, so behavior is preserved for events the fast path does not yet handle.
- * Currently supported event types: `message.new`. Disabled by default. The set of supported event types may grow over
- * time.
+ * Currently supported event types: `message.new`, `message.updated`, `message.read`, `notification.message_new`,
+ * `reaction.new`, `reaction.updated`, `reaction.deleted`, `typing.start`, `typing.stop`, `user.presence.changed` and
+ * `health.check`. Disabled by default. The set of supported event types may grow over time.
  */
 public data class ChatClientConfig @JvmOverloads constructor(
     public val offlineEnabled: Boolean = true,
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.client.api
+
+/**
+ * Decides how incoming WebSocket events are collected into batches before they are applied to the SDK state.
+ *
+ * Larger windows apply bursts of events in fewer, bigger batches, while smaller windows apply each event with less
+ * delay. Use [FixedEventBatchingPolicy] to always use the same window, or [AdaptiveEventBatchingPolicy] to scale the
+ * window with the measured event rate.
+ */
+public interface EventBatchingPolicy {
+
+    /**
+     * Returns the window for a new batch. Called when the first event of a batch arrives.
+     *
+     * @param eventsPerSecond The recently measured rate of incoming events.
+     */
+    public fun window(eventsPerSecond: Double): EventBatchWindow
+
+    /**
+     * Called every time a batch is applied. Override it to record the batch sizes and latencies, for example into
+     * histograms, when tuning the policy.
+     *
+     * @param size The number of events in the batch.
+     * @param latencyMs The time in milliseconds between the first event of the batch arriving and the batch being
+     * applied.
+     */
+    public fun onBatchDispatched(size: Int, latencyMs: Long) {
+        // No-op by default
+    }
+}
+
+/**
+ * Limits of a single batch of events. A batch is applied as soon as any of the limits is reached.
+ *
+ * @param idleTimeoutMs The time in milliseconds without new events after which the batch is applied.
+ * @param maxCollectionTimeMs The maximum time in milliseconds a batch is collected for.
+ * @param maxEvents The maximum number of events in a batch.
+ */
+public data class EventBatchWindow(
+    public val idleTimeoutMs: Long,
+    public val maxCollectionTimeMs: Long,
+    public val maxEvents: Int,
+) {
+
+    init {
+        require(idleTimeoutMs >= 0) { "idleTimeoutMs must not be negative" }
+        require(maxCollectionTimeMs >= 0) { "maxCollectionTimeMs must not be negative" }
+        require(maxEvents > 0) { "maxEvents must be positive" }
+    }
+
+    public companion object {
+
+        /**
+         * The window used by default: a 300 ms idle timeout, up to 1 second of collection and up to 200 events.
+         */
+        @JvmField
+        public val DEFAULT: EventBatchWindow = EventBatchWindow(
+            idleTimeoutMs = 300,
+            maxCollectionTimeMs = 1000,
+            maxEvents = 200,
+        )
+    }
+}
+
+/**
+ * Uses the same [window] for every batch, regardless of the event rate. This is the default policy.
+ *
+ * @param window The window used for every batch.
+ */
+public class FixedEventBatchingPolicy @JvmOverloads constructor(
+    private val window: EventBatchWindow = EventBatchWindow.DEFAULT,
+) : EventBatchingPolicy {
+
+    override fun window(eventsPerSecond: Double): EventBatchWindow = window
+
+    override fun equals(other: Any?): Boolean = other is FixedEventBatchingPolicy && other.window == window
+
+    override fun hashCode(): Int = window.hashCode()
+
+    override fun toString(): String = "FixedEventBatchingPolicy(window=$window)"
+}
+
+/**
+ * Scales the window linearly with the measured event rate.
+ *
+ * At or below [lowRate] events per second [minWindow] is used, so sporadic events, like in 1:1 chats, are applied
+ * almost immediately. At or above [highRate] events per second [maxWindow] is used, so heavy traffic, like in
+ * livestreams, is applied in large batches.
+ *
+ * @param minWindow The window used for low event rates.
+ * @param maxWindow The window used for high event rates.
+ * @param lowRate The event rate, in events per second, up to which [minWindow] is used.
+ * @param highRate The event rate, in events per second, from which [maxWindow] is used.
+ */
+public class AdaptiveEventBatchingPolicy @JvmOverloads constructor(
+    private val minWindow: EventBatchWindow = EventBatchWindow(
+        idleTimeoutMs = 20,
+        maxCollectionTimeMs = 100,
+        maxEvents = 50,
+    ),
+    private val maxWindow: EventBatchWindow = EventBatchWindow(
+        idleTimeoutMs = 500,
+        maxCollectionTimeMs = 2000,
+        maxEvents = 500,
+    ),
+    private val lowRate: Double = 2.0,
+    private val highRate: Double = 50.0,
+) : EventBatchingPolicy {
+
+    init {
+        require(highRate > lowRate) { "highRate must be greater than lowRate" }
+    }
+
+    override fun window(eventsPerSecond: Double): EventBatchWindow {
+        val fraction = ((eventsPerSecond - lowRate) / (highRate - lowRate)).coerceIn(0.0, 1.0)
+        return EventBatchWindow(
+            idleTimeoutMs = interpolate(minWindow.idleTimeoutMs, maxWindow.idleTimeoutMs, fraction),
+            maxCollectionTimeMs = interpolate(minWindow.maxCollectionTimeMs, maxWindow.maxCollectionTimeMs, fraction),
+            maxEvents = interpolate(minWindow.maxEvents.toLong(), maxWindow.maxEvents.toLong(), fraction).toInt(),
+        )
+    }
+
+    override fun equals(other: Any?): Boolean = other is AdaptiveEventBatchingPolicy &&
+        other.minWindow == minWindow &&
+        other.maxWindow == maxWindow &&
+        other.lowRate == lowRate &&
+        other.highRate == highRate
+
+    override fun hashCode(): Int {
+        var result = minWindow.hashCode()
+        result = 31 * result + maxWindow.hashCode()
+        result = 31 * result + lowRate.hashCode()
+        result = 31 * result + highRate.hashCode()
+        return result
+    }
+
+    override fun toString(): String = "AdaptiveEventBatchingPolicy(minWindow=$minWindow, maxWindow=$maxWindow, " +
+        "lowRate=$lowRate, highRate=$highRate)"
+
+    private fun interpolate(from: Long, to: Long, fraction: Double): Long = from + ((to - from) * fraction).toLong()
+}
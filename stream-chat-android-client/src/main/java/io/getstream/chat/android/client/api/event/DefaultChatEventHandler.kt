@@ -16,6 +16,8 @@
 
 package io.getstream.chat.android.client.api.event
 
+import io.getstream.chat.android.client.events.ChannelUpdatedByUserEvent
+import io.getstream.chat.android.client.events.ChannelUpdatedEvent
 import io.getstream.chat.android.client.events.ChatEvent
 import io.getstream.chat.android.client.events.CidEvent
 import io.getstream.chat.android.client.events.HasChannel
@@ -28,6 +30,7 @@ import io.getstream.chat.android.client.events.NotificationMessageNewEvent
 import io.getstream.chat.android.client.events.NotificationRemovedFromChannelEvent
 import io.getstream.chat.android.client.extensions.internal.updateMember
 import io.getstream.chat.android.client.extensions.internal.updateMembership
+import io.getstream.chat.android.client.query.filter.FilterPredicate
 import io.getstream.chat.android.client.setup.state.ClientState
 import io.getstream.chat.android.models.Channel
 import io.getstream.chat.android.models.FilterObject
@@ -45,12 +48,17 @@ public open class DefaultChatEventHandler(
     protected val clientState: ClientState,
 ) : BaseChatEventHandler() {
 
+    @Volatile
+    private var compiledFilter: Pair<FilterObject, FilterPredicate<Channel>>? = null
+
     /**
      * Handles additional events:
      * - [NewMessageEvent] - adds the channel to the set if its not a system message.
      * - [MemberRemovedEvent] - removes the channel from the set if a current user left.
      * - [MemberAddedEvent] - adds the channel to the set if a current user was added.
      *
+     * A channel is never added when the [filter] evaluated on the device shows that it doesn't match.
+     *
      * @see [BaseChatEventHandler.handleCidEvent]
      *
      * @param event [ChatEvent] that may contain updates for the set of channels.
@@ -60,13 +68,18 @@ public open class DefaultChatEventHandler(
      * @return [EventHandlingResult] Result of handling.
      */
     override fun handleCidEvent(event: CidEvent, filter: FilterObject, cachedChannel: Channel?): EventHandlingResult {
-        return when (event) {
+        val result = when (event) {
             is NewMessageEvent -> handleNewMessageEvent(event, cachedChannel)
             is MemberRemovedEvent -> removeIfCurrentUserLeftChannel(event.cid, event.member)
             is MemberAddedEvent -> addIfCurrentUserJoinedChannel(cachedChannel, event.member)
             is MemberUpdatedEvent -> addIfMembershipUpdated(cachedChannel, event.member)
             else -> super.handleCidEvent(event, filter, cachedChannel)
         }
+        return if (result is EventHandlingResult.Add && !mayMatch(filter, result.channel)) {
+            EventHandlingResult.Skip
+        } else {
+            result
+        }
     }
 
     /**
@@ -74,6 +87,10 @@ public open class DefaultChatEventHandler(
      * - [NotificationMessageNewEvent] - calls watch and adds the channel to the set.
      * - [NotificationRemovedFromChannelEvent] - removes the channel from the set if a current user left.
      * - [NotificationAddedToChannelEvent] - calls watch and adds the channel to the set if a current user was added.
+     * - [ChannelUpdatedEvent], [ChannelUpdatedByUserEvent] - removes the channel from the set if it doesn't match
+     * the [filter] anymore.
+     *
+     * A channel is never watched and added when the [filter] evaluated on the device shows that it doesn't match.
      *
      * @param event [ChatEvent] that may contain updates for the set of channels.
      * @param filter [FilterObject] associated with the set of channels. Can be used to define the result of handling.
@@ -82,9 +99,11 @@ public open class DefaultChatEventHandler(
      */
     override fun handleChannelEvent(event: HasChannel, filter: FilterObject): EventHandlingResult {
         return when (event) {
-            is NotificationMessageNewEvent -> EventHandlingResult.WatchAndAdd(event.cid)
-            is NotificationAddedToChannelEvent -> EventHandlingResult.WatchAndAdd(event.cid)
+            is NotificationMessageNewEvent -> watchAndAddIfMayMatch(event.cid, event.channel, filter)
+            is NotificationAddedToChannelEvent -> watchAndAddIfMayMatch(event.cid, event.channel, filter)
             is NotificationRemovedFromChannelEvent -> removeIfCurrentUserLeftChannel(event.cid, event.member)
+            is ChannelUpdatedEvent -> removeIfNoLongerMatching(event.channel, filter)
+            is ChannelUpdatedByUserEvent -> removeIfNoLongerMatching(event.channel, filter)
             else -> super.handleChannelEvent(event, filter)
         }
     }
@@ -106,6 +125,49 @@ public open class DefaultChatEventHandler(
         }
     }
 
+    /**
+     * Watches and adds the channel unless it definitely doesn't match the [filter].
+     *
+     * @param cid CID of the channel from the event.
+     * @param channel The channel from the event.
+     * @param filter [FilterObject] associated with the set of channels.
+     *
+     * @return [EventHandlingResult] Result of handling.
+     */
+    private fun watchAndAddIfMayMatch(cid: String, channel: Channel, filter: FilterObject): EventHandlingResult {
+        return if (mayMatch(filter, channel)) {
+            EventHandlingResult.WatchAndAdd(cid)
+        } else {
+            EventHandlingResult.Skip
+        }
+    }
+
+    /**
+     * Removes the visible channel if its updated version definitely doesn't match the [filter] anymore.
+     *
+     * @param channel The updated channel from the event.
+     * @param filter [FilterObject] associated with the set of channels.
+     *
+     * @return [EventHandlingResult] Result of handling.
+     */
+    private fun removeIfNoLongerMatching(channel: Channel, filter: FilterObject): EventHandlingResult {
+        return if (mayMatch(filter, channel)) {
+            EventHandlingResult.Skip
+        } else {
+            removeIfChannelExists(channel.cid)
+        }
+    }
+
+    /**
+     * Evaluates the [filter] against the [channel] on the device. Returns false only when the channel definitely
+     * doesn't match, so a filter referencing data that isn't available locally never drops a channel.
+     */
+    private fun mayMatch(filter: FilterObject, channel: Channel): Boolean {
+        val predicate = compiledFilter?.takeIf { (compiled, _) -> compiled == filter }?.second
+            ?: FilterPredicate.forChannels(filter).also { compiledFilter = filter to it }
+        return predicate.evaluate(channel) != false
+    }
+
     private fun addIfMembershipUpdated(channel: Channel?, member: Member): EventHandlingResult {
         return if (channel?.membership?.getUserId() == member.getUserId()) {
             EventHandlingResult.Add(
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.client.api.internal
+
+/**
+ * Snapshot of the request coalescing performed by [DistinctChatApi].
+ *
+ * @property requests Number of coalescable requests made through [DistinctChatApi].
+ * @property hits Number of requests which joined an identical request already in flight. Every hit is a network
+ * call saved.
+ * @property inFlight Number of distinct requests currently in flight.
+ */
+internal data class DistinctApiMetrics(
+    val requests: Long,
+    val hits: Long,
+    val inFlight: Int,
+)
@@ -17,17 +17,25 @@
 package io.getstream.chat.android.client.api.internal
 
 import io.getstream.chat.android.client.api.ChatApi
+import io.getstream.chat.android.client.api.models.GetThreadOptions
 import io.getstream.chat.android.client.api.models.PinnedMessagesPagination
 import io.getstream.chat.android.client.api.models.QueryChannelRequest
 import io.getstream.chat.android.client.api.models.QueryChannelsRequest
 import io.getstream.chat.android.client.api.models.QueryChannelsResult
+import io.getstream.chat.android.client.api.models.QueryUsersRequest
 import io.getstream.chat.android.client.api2.optimisation.hash.ChannelQueryKey
+import io.getstream.chat.android.client.api2.optimisation.hash.GetMessageHash
 import io.getstream.chat.android.client.api2.optimisation.hash.GetNewerRepliesHash
+import io.getstream.chat.android.client.api2.optimisation.hash.GetPendingMessageHash
 import io.getstream.chat.android.client.api2.optimisation.hash.GetPinnedMessagesHash
 import io.getstream.chat.android.client.api2.optimisation.hash.GetReactionsHash
 import io.getstream.chat.android.client.api2.optimisation.hash.GetRepliesHash
+import io.getstream.chat.android.client.api2.optimisation.hash.GetThreadHash
 import io.getstream.chat.android.client.api2.optimisation.hash.QueryBanedUsersHash
+import io.getstream.chat.android.client.api2.optimisation.hash.QueryChannelsHash
 import io.getstream.chat.android.client.api2.optimisation.hash.QueryMembersHash
+import io.getstream.chat.android.client.api2.optimisation.hash.QueryReactionsHash
+import io.getstream.chat.android.client.api2.optimisation.hash.QueryUsersHash
 import io.getstream.chat.android.models.BannedUser
 import io.getstream.chat.android.models.BannedUsersSort
 import io.getstream.chat.android.models.Channel
@@ -35,7 +43,10 @@ import io.getstream.chat.android.models.FilterObject
 import io.getstream.chat.android.models.Member
 import io.getstream.chat.android.models.Message
 import io.getstream.chat.android.models.PendingMessage
+import io.getstream.chat.android.models.QueryReactionsResult
 import io.getstream.chat.android.models.Reaction
+import io.getstream.chat.android.models.Thread
+import io.getstream.chat.android.models.User
 import io.getstream.chat.android.models.querysort.QuerySorter
 import io.getstream.log.StreamLog
 import io.getstream.result.call.Call
@@ -43,9 +54,13 @@ import io.getstream.result.call.DistinctCall
 import kotlinx.coroutines.CoroutineScope
 import java.util.Date
 import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicLong
 
 /**
  * Prevents simultaneous network calls of the same request.
+ *
+ * Requests are keyed by data classes holding all of their arguments, so two requests only share a call when they
+ * are structurally equal.
  */
 @Suppress("UNCHECKED_CAST")
 internal class DistinctChatApi(
@@ -53,20 +68,22 @@ internal class DistinctChatApi(
     internal val delegate: ChatApi,
 ) : ChatApi by delegate {
 
-    private val distinctCalls = ConcurrentHashMap<Int, DistinctCall<out Any>>()
+    private val distinctCalls = ConcurrentHashMap<Any, DistinctCall<out Any>>()
+    private val requestCount = AtomicLong()
+    private val hitCount = AtomicLong()
 
     override fun queryChannel(channelType: String, channelId: String, query: QueryChannelRequest): Call<Channel> {
-        val uniqueKey = ChannelQueryKey.from(channelType, channelId, query).hashCode()
-        StreamLog.d(TAG) { "[queryChannel] channelType: $channelType, channelId: $channelId, uniqueKey: $uniqueKey" }
+        val uniqueKey = ChannelQueryKey.from(channelType, channelId, query)
+        StreamLog.d(TAG) { "[queryChannel] channelType: $channelType, channelId: $channelId" }
         return getOrCreate(uniqueKey) {
             delegate.queryChannel(channelType, channelId, query)
         }
     }
 
     override fun getRepliesMore(messageId: String, firstId: String, limit: Int): Call<List<Message>> {
-        val uniqueKey = GetRepliesHash(messageId, firstId, limit).hashCode()
+        val uniqueKey = GetRepliesHash(messageId, firstId, limit)
         StreamLog.d(TAG) {
-            "[getRepliesMore] messageId: $messageId, firstId: $firstId, limit: $limit, uniqueKey: $uniqueKey"
+            "[getRepliesMore] messageId: $messageId, firstId: $firstId, limit: $limit"
         }
         return getOrCreate(uniqueKey) {
             delegate.getRepliesMore(messageId, firstId, limit)
@@ -74,17 +91,17 @@ internal class DistinctChatApi(
     }
 
     override fun getReplies(messageId: String, limit: Int): Call<List<Message>> {
-        val uniqueKey = GetRepliesHash(messageId, null, limit).hashCode()
-        StreamLog.d(TAG) { "[getReplies] messageId: $messageId, limit: $limit, uniqueKey: $uniqueKey" }
+        val uniqueKey = GetRepliesHash(messageId, null, limit)
+        StreamLog.d(TAG) { "[getReplies] messageId: $messageId, limit: $limit" }
         return getOrCreate(uniqueKey) {
             delegate.getReplies(messageId, limit)
         }
     }
 
     override fun getNewerReplies(parentId: String, limit: Int, lastId: String?): Call<List<Message>> {
-        val uniqueKey = GetNewerRepliesHash(parentId, limit, lastId).hashCode()
+        val uniqueKey = GetNewerRepliesHash(parentId, limit, lastId)
         StreamLog.d(TAG) {
-            "[getNewerReplies] parentId: $parentId, limit: $limit, lastId: $lastId, uniqueKey: $uniqueKey"
+            "[getNewerReplies] parentId: $parentId, limit: $limit, lastId: $lastId"
         }
         return getOrCreate(uniqueKey) {
             delegate.getNewerReplies(parentId, limit, lastId)
@@ -92,9 +109,9 @@ internal class DistinctChatApi(
     }
 
     override fun getReactions(messageId: String, offset: Int, limit: Int): Call<List<Reaction>> {
-        val uniqueKey = GetReactionsHash(messageId, offset, limit).hashCode()
+        val uniqueKey = GetReactionsHash(messageId, offset, limit)
         StreamLog.d(TAG) {
-            "[getReactions] messageId: $messageId, offset: $offset, limit: $limit, uniqueKey: $uniqueKey"
+            "[getReactions] messageId: $messageId, offset: $offset, limit: $limit"
         }
         return getOrCreate(uniqueKey) {
             delegate.getReactions(messageId, offset, limit)
@@ -102,16 +119,16 @@ internal class DistinctChatApi(
     }
 
     override fun getMessage(messageId: String): Call<Message> {
-        val uniqueKey = messageId.hashCode()
-        StreamLog.d(TAG) { "[getMessage] messageId: $messageId, uniqueKey: $uniqueKey" }
+        val uniqueKey = GetMessageHash(messageId)
+        StreamLog.d(TAG) { "[getMessage] messageId: $messageId" }
         return getOrCreate(uniqueKey) {
             delegate.getMessage(messageId)
         }
     }
 
     override fun getPendingMessage(messageId: String): Call<PendingMessage> {
-        val uniqueKey = messageId.hashCode()
-        StreamLog.d(TAG) { "[getPendingMessage] messageId: $messageId, uniqueKey: $uniqueKey" }
+        val uniqueKey = GetPendingMessageHash(messageId)
+        StreamLog.d(TAG) { "[getPendingMessage] messageId: $messageId" }
         return getOrCreate(uniqueKey) {
             delegate.getPendingMessage(messageId)
         }
@@ -124,10 +141,10 @@ internal class DistinctChatApi(
         sort: QuerySorter<Message>,
         pagination: PinnedMessagesPagination,
     ): Call<List<Message>> {
-        val uniqueKey = GetPinnedMessagesHash(channelType, channelId, limit, sort, pagination).hashCode()
+        val uniqueKey = GetPinnedMessagesHash(channelType, channelId, limit, sort, pagination)
         StreamLog.d(TAG) {
             "[getPinnedMessages] channelType: $channelType, channelId: $channelId, " +
-                "limit: $limit, sort: $sort, pagination: $pagination, uniqueKey: $uniqueKey"
+                "limit: $limit, sort: $sort, pagination: $pagination"
         }
         return getOrCreate(uniqueKey) {
             delegate.getPinnedMessages(channelType, channelId, limit, sort, pagination)
@@ -135,8 +152,8 @@ internal class DistinctChatApi(
     }
 
     override fun queryChannels(query: QueryChannelsRequest): Call<QueryChannelsResult> {
-        val uniqueKey = query.hashCode()
-        StreamLog.d(TAG) { "[queryChannels] query: $query, uniqueKey: $uniqueKey" }
+        val uniqueKey = QueryChannelsHash.from(query)
+        StreamLog.d(TAG) { "[queryChannels] query: $query" }
         return getOrCreate(uniqueKey) {
             delegate.queryChannels(query)
         }
@@ -161,7 +178,7 @@ internal class DistinctChatApi(
             createdAtAfterOrEqual,
             createdAtBefore,
             createdAtBeforeOrEqual,
-        ).hashCode()
+        )
 
         StreamLog.d(TAG) { "[queryBannedUsers] uniqueKey: $uniqueKey" }
 
@@ -189,7 +206,6 @@ internal class DistinctChatApi(
         members: List<Member>,
     ): Call<List<Member>> {
         val uniqueKey = QueryMembersHash(channelType, channelId, offset, limit, filter, sort, members)
-            .hashCode()
 
         StreamLog.d(TAG) { "[queryMembers] uniqueKey: $uniqueKey" }
 
@@ -198,16 +214,68 @@ internal class DistinctChatApi(
         }
     }
 
+    override fun queryReactions(
+        messageId: String,
+        filter: FilterObject?,
+        limit: Int?,
+        next: String?,
+        sort: QuerySorter<Reaction>?,
+    ): Call<QueryReactionsResult> {
+        val uniqueKey = QueryReactionsHash(messageId, filter, limit, next, sort)
+        StreamLog.d(TAG) { "[queryReactions] messageId: $messageId, limit: $limit, next: $next" }
+        return getOrCreate(uniqueKey) {
+            delegate.queryReactions(messageId, filter, limit, next, sort)
+        }
+    }
+
+    override fun queryUsers(queryUsers: QueryUsersRequest): Call<List<User>> {
+        val uniqueKey = QueryUsersHash.from(queryUsers)
+        StreamLog.d(TAG) { "[queryUsers] queryUsers: $queryUsers" }
+        return getOrCreate(uniqueKey) {
+            delegate.queryUsers(queryUsers)
+        }
+    }
+
+    override fun getThread(messageId: String, options: GetThreadOptions): Call<Thread> {
+        val uniqueKey = GetThreadHash(messageId, options)
+        StreamLog.d(TAG) { "[getThread] messageId: $messageId, options: $options" }
+        return getOrCreate(uniqueKey) {
+            delegate.getThread(messageId, options)
+        }
+    }
+
+    /**
+     * Returns a snapshot of the coalescing counters, e.g. to verify how many network calls were saved. The snapshot is
+     * also logged whenever a request joins a call in flight, and whenever the last call in flight finishes.
+     */
+    fun metrics(): DistinctApiMetrics = DistinctApiMetrics(
+        requests = requestCount.get(),
+        hits = hitCount.get(),
+        inFlight = distinctCalls.size,
+    )
+
     private fun <T : Any> getOrCreate(
-        uniqueKey: Int,
+        uniqueKey: Any,
         callBuilder: () -> Call<T>,
     ): Call<T> {
-        return distinctCalls[uniqueKey] as? DistinctCall<T>
-            ?: DistinctCall(scope = scope, callBuilder = callBuilder) {
-                distinctCalls.remove(uniqueKey)
-            }.also {
-                distinctCalls[uniqueKey] = it
+        requestCount.incrementAndGet()
+        distinctCalls[uniqueKey]?.let { return it.asHit() }
+        val newCall = DistinctCall(scope = scope, callBuilder = callBuilder) {
+            distinctCalls.remove(uniqueKey)
+            if (distinctCalls.isEmpty()) {
+                StreamLog.d(TAG) { "[getOrCreate] no call in flight, ${metrics()}" }
             }
+        }
+        val existingCall = distinctCalls.putIfAbsent(uniqueKey, newCall) ?: return newCall
+        // Another thread registered the same request in the meantime; release the call we just created.
+        newCall.cancel()
+        return existingCall.asHit()
+    }
+
+    private fun <T : Any> DistinctCall<out Any>.asHit(): Call<T> {
+        hitCount.incrementAndGet()
+        StreamLog.d(TAG) { "[getOrCreate] joined a call in flight, ${metrics()}" }
+        return this as DistinctCall<T>
     }
 
     private companion object {
@@ -75,6 +75,7 @@ import io.getstream.chat.android.client.api2.model.response.QueryRemindersRespon
 import io.getstream.chat.android.client.extensions.enrichWithCid
 import io.getstream.chat.android.client.extensions.internal.sortedByLastReply
 import io.getstream.chat.android.client.extensions.syncUnreadCountWithReads
+import io.getstream.chat.android.client.utils.internal.copyExtraData
 import io.getstream.chat.android.core.internal.StreamHandsOff
 import io.getstream.chat.android.models.Answer
 import io.getstream.chat.android.models.App
@@ -201,7 +202,7 @@ internal class DomainMapping(
             activeLiveLocations = active_live_locations.map { it.toDomain() },
             messageCount = message_count,
             lastMessageAt = last_message_at,
-            extraData = extraData.toMutableMap(),
+            extraData = extraData.copyExtraData(),
         ).syncUnreadCountWithReads(currentUserIdProvider())
             .let(channelTransformer::transform)
 
@@ -270,7 +271,7 @@ internal class DomainMapping(
                 sharedLocation = shared_location?.toDomain(),
                 channelRole = member?.channel_role,
                 deletedForMe = deleted_for_me ?: false,
-                extraData = extraData.toMutableMap(),
+                extraData = extraData.copyExtraData(),
             ).let(messageTransformer::transform)
         }
 
@@ -359,7 +360,7 @@ internal class DomainMapping(
             blockedUserIds = blocked_user_ids.orEmpty(),
             avgResponseTime = avg_response_time,
             pushPreference = push_preferences?.toDomain(),
-            extraData = extraData.toMutableMap(),
+            extraData = extraData.copyExtraData(),
         ).let(userTransformer::transform)
 
     /**
@@ -375,7 +376,7 @@ internal class DomainMapping(
             user = user?.toDomain(),
             userId = user_id,
             emojiCode = emoji_code,
-            extraData = extraData.toMutableMap(),
+            extraData = extraData.copyExtraData(),
         )
 
     /**
@@ -614,7 +615,7 @@ internal class DomainMapping(
             type = type,
             originalHeight = original_height,
             originalWidth = original_width,
-            extraData = extraData.toMutableMap(),
+            extraData = extraData.copyExtraData(),
         )
 
     /**
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.client.api2.optimisation.hash
+
+import io.getstream.chat.android.client.api.models.QueryChannelsRequest
+import io.getstream.chat.android.models.Channel
+import io.getstream.chat.android.models.FilterObject
+import io.getstream.chat.android.models.querysort.QuerySorter
+
+/**
+ * A snapshot of the mutable [QueryChannelsRequest]. Unlike the request itself, it also covers the
+ * [QueryChannelsRequest.state], [QueryChannelsRequest.watch] and [QueryChannelsRequest.presence] flags, which are
+ * declared outside of the request's primary constructor and therefore ignored by its `equals`.
+ */
+internal data class QueryChannelsHash(
+    val filter: FilterObject,
+    val offset: Int,
+    val limit: Int,
+    val querySort: QuerySorter<Channel>,
+    val messageLimit: Int?,
+    val memberLimit: Int?,
+    val predefinedFilter: String?,
+    val filterValues: Map<String, Any>?,
+    val sortValues: Map<String, Any>?,
+    val state: Boolean,
+    val watch: Boolean,
+    val presence: Boolean,
+) {
+
+    companion object {
+        fun from(request: QueryChannelsRequest): QueryChannelsHash = QueryChannelsHash(
+            filter = request.filter,
+            offset = request.offset,
+            limit = request.limit,
+            querySort = request.querySort,
+            messageLimit = request.messageLimit,
+            memberLimit = request.memberLimit,
+            predefinedFilter = request.predefinedFilter,
+            filterValues = request.filterValues,
+            sortValues = request.sortValues,
+            state = request.state,
+            watch = request.watch,
+            presence = request.presence,
+        )
+    }
+}
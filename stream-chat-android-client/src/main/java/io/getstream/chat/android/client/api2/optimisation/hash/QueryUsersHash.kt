@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.client.api2.optimisation.hash
+
+import io.getstream.chat.android.client.api.models.QueryUsersRequest
+import io.getstream.chat.android.models.FilterObject
+import io.getstream.chat.android.models.User
+import io.getstream.chat.android.models.querysort.QuerySorter
+
+/**
+ * A snapshot of the mutable [QueryUsersRequest], so later changes to the request cannot alter the key.
+ */
+internal data class QueryUsersHash(
+    val filter: FilterObject,
+    val offset: Int,
+    val limit: Int,
+    val querySort: QuerySorter<User>,
+    val presence: Boolean,
+) {
+
+    companion object {
+        fun from(request: QueryUsersRequest): QueryUsersHash = QueryUsersHash(
+            filter = request.filter,
+            offset = request.offset,
+            limit = request.limit,
+            querySort = request.querySort,
+            presence = request.presence,
+        )
+    }
+}
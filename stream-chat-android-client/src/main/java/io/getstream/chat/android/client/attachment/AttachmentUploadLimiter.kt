@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.client.attachment
+
+import kotlinx.coroutines.sync.Semaphore
+import kotlinx.coroutines.sync.withPermit
+
+/**
+ * Limits how many attachments are uploaded at the same time, across all the messages being sent.
+ *
+ * Every upload takes a permit of the global cap. While the active network is metered, uploads also take a permit
+ * of the lower metered cap, so parallel uploads do not saturate a mobile link and time out together.
+ *
+ * @param maxConcurrentUploads The maximum number of uploads running at the same time.
+ * @param maxConcurrentMeteredUploads The maximum number of uploads running at the same time on a metered network.
+ * @param isMeteredNetwork Returns true when the active network is metered.
+ */
+internal class AttachmentUploadLimiter(
+    maxConcurrentUploads: Int = MAX_CONCURRENT_UPLOADS,
+    maxConcurrentMeteredUploads: Int = MAX_CONCURRENT_METERED_UPLOADS,
+    @Volatile var isMeteredNetwork: () -> Boolean = { false },
+) {
+
+    private val uploads = Semaphore(maxConcurrentUploads)
+    private val meteredUploads = Semaphore(maxConcurrentMeteredUploads)
+
+    /**
+     * Runs the [upload] once a permit is available for the current network type.
+     */
+    suspend fun <T> withPermit(upload: suspend () -> T): T = uploads.withPermit {
+        if (isMeteredNetwork()) {
+            meteredUploads.withPermit { upload() }
+        } else {
+            upload()
+        }
+    }
+
+    internal companion object {
+        private const val MAX_CONCURRENT_UPLOADS = 4
+        private const val MAX_CONCURRENT_METERED_UPLOADS = 2
+
+        /**
+         * The limiter shared by all the upload workers of the process.
+         */
+        val instance: AttachmentUploadLimiter = AttachmentUploadLimiter()
+    }
+}
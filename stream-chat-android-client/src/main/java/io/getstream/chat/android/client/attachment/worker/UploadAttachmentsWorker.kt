@@ -17,6 +17,7 @@
 package io.getstream.chat.android.client.attachment.worker
 
 import io.getstream.chat.android.client.ChatClient
+import io.getstream.chat.android.client.attachment.AttachmentUploadLimiter
 import io.getstream.chat.android.client.attachment.AttachmentUploader
 import io.getstream.chat.android.client.attachment.AttachmentsUploadStates
 import io.getstream.chat.android.client.channel.ChannelMessagesUpdateLogic
@@ -126,7 +127,15 @@ public class UploadAttachmentsWorker(
                                 )
                             }
 
-                            attachmentUploader.uploadAttachment(channelType, channelId, attachment, progressCallback)
+                            val result = AttachmentUploadLimiter.instance.withPermit {
+                                attachmentUploader.uploadAttachment(
+                                    channelType,
+                                    channelId,
+                                    attachment,
+                                    progressCallback,
+                                )
+                            }
+                            result
                                 .recover { error ->
                                     attachment.copy(uploadState = Attachment.UploadState.Failed(error))
                                 }
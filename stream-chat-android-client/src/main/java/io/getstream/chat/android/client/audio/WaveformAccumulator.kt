@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.client.audio
+
+import java.nio.ByteBuffer
+import java.nio.ByteOrder
+import kotlin.math.sqrt
+
+/**
+ * Reduces decoded PCM audio to a waveform of [expectedPoints] RMS values.
+ *
+ * The samples are read straight from the decoder buffers in tight loops over primitives: only the first channel of
+ * each frame is used, and the points are stored in a [FloatArray], so nothing is boxed per sample or per point.
+ *
+ * @param expectedPoints The number of points of the waveform.
+ */
+internal class WaveformAccumulator(private val expectedPoints: Int) {
+
+    private val points = FloatArray(expectedPoints)
+    private var samplesPerPoint = 1L
+    private var sampleCount = 0L
+    private var squaredSampleSum = 0.0
+
+    /**
+     * The number of points computed so far.
+     */
+    var pointCount: Int = 0
+        private set
+
+    /**
+     * True once all the [expectedPoints] are computed.
+     */
+    val isComplete: Boolean
+        get() = pointCount >= expectedPoints
+
+    /**
+     * The progress of the extraction, from 0 to 1.
+     */
+    val progress: Float
+        get() = pointCount.toFloat() / expectedPoints
+
+    /**
+     * Sets the number of samples of the whole track, to spread them evenly over the points.
+     */
+    fun setTotalSamples(totalSamples: Long) {
+        samplesPerPoint = (totalSamples / expectedPoints).coerceAtLeast(1)
+    }
+
+    /**
+     * Returns a copy of the points computed so far.
+     */
+    fun points(): FloatArray = points.copyOf(pointCount)
+
+    /**
+     * Sets all the points at once, e.g. when they are read from a cache.
+     */
+    fun setPoints(values: FloatArray) {
+        val count = minOf(values.size, expectedPoints)
+        values.copyInto(points, endIndex = count)
+        pointCount = count
+    }
+
+    /**
+     * Adds the unsigned 8-bit samples in [size] bytes of [buffer], starting at [offset].
+     */
+    fun add8bit(buffer: ByteBuffer, offset: Int, size: Int, channels: Int) {
+        val end = offset + size
+        var position = offset
+        while (position < end && !isComplete) {
+            addSample(((buffer.get(position).toInt() and BYTE_MASK) - PCM_8BIT_CENTER) / PCM_8BIT_SCALE)
+            position += channels
+        }
+    }
+
+    /**
+     * Adds the signed 16-bit samples in [size] bytes of [buffer], starting at [offset].
+     */
+    fun add16bit(buffer: ByteBuffer, offset: Int, size: Int, channels: Int) {
+        buffer.order(ByteOrder.nativeOrder())
+        val frameSize = Short.SIZE_BYTES * channels
+        val end = offset + size - Short.SIZE_BYTES
+        var position = offset
+        while (position <= end && !isComplete) {
+            addSample(buffer.getShort(position) / PCM_16BIT_SCALE)
+            position += frameSize
+        }
+    }
+
+    /**
+     * Adds the 32-bit float samples in [size] bytes of [buffer], starting at [offset].
+     */
+    fun addFloat(buffer: ByteBuffer, offset: Int, size: Int, channels: Int) {
+        buffer.order(ByteOrder.nativeOrder())
+        val frameSize = Float.SIZE_BYTES * channels
+        val end = offset + size - Float.SIZE_BYTES
+        var position = offset
+        while (position <= end && !isComplete) {
+            addSample(buffer.getFloat(position))
+            position += frameSize
+        }
+    }
+
+    /**
+     * Completes the last point with the samples added since the previous one, if any.
+     */
+    fun flush() {
+        if (sampleCount > 0 && !isComplete) addPoint()
+    }
+
+    private fun addSample(sample: Float) {
+        squaredSampleSum += sample * sample
+        if (++sampleCount == samplesPerPoint) addPoint()
+    }
+
+    private fun addPoint() {
+        points[pointCount++] = sqrt(squaredSampleSum / sampleCount).toFloat()
+        sampleCount = 0
+        squaredSampleSum = 0.0
+    }
+
+    private companion object {
+        private const val BYTE_MASK = 0xFF
+        private const val PCM_8BIT_CENTER = 128
+        private const val PCM_8BIT_SCALE = 128f
+        private const val PCM_16BIT_SCALE = 32768f
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.client.audio
+
+import io.getstream.log.taggedLogger
+import java.io.DataInputStream
+import java.io.DataOutputStream
+import java.io.File
+import java.io.IOException
+import java.security.MessageDigest
+
+/**
+ * Stores extracted waveforms on disk, so a voice message is decoded only once per device.
+ *
+ * Waveforms are keyed by the path of the audio and the number of points. For local files, the size and the last
+ * modification time of the file are part of the key too, so a file rewritten at the same path is decoded again. The
+ * least recently used waveforms are deleted once the directory grows over [maxSizeInBytes].
+ *
+ * @param directory The directory where the waveforms are stored.
+ * @param maxSizeInBytes The maximum total size of the stored waveforms.
+ */
+internal class WaveformCache(
+    private val directory: File,
+    private val maxSizeInBytes: Long = DEFAULT_MAX_SIZE_IN_BYTES,
+) {
+
+    private val logger by taggedLogger("Chat:WaveformCache")
+
+    /**
+     * Returns the waveform of [points] points stored for [path], or null if there is none.
+     */
+    fun get(path: String, points: Int): FloatArray? {
+        val file = fileFor(path, points)
+        if (!file.exists()) return null
+        return try {
+            DataInputStream(file.inputStream().buffered()).use { input ->
+                val size = input.readInt()
+                if (size != points) throw IOException("Unexpected waveform size: $size")
+                FloatArray(size) { input.readFloat() }
+            }.also { file.setLastModified(System.currentTimeMillis()) }
+        } catch (e: IOException) {
+            logger.e(e) { "[get] failed to read the waveform of $path" }
+            file.delete()
+            null
+        }
+    }
+
+    /**
+     * Stores the [waveform] of [path].
+     */
+    fun put(path: String, waveform: FloatArray) {
+        try {
+            directory.mkdirs()
+            val file = fileFor(path, waveform.size)
+            DataOutputStream(file.outputStream().buffered()).use { output ->
+                output.writeInt(waveform.size)
+                waveform.forEach(output::writeFloat)
+            }
+            trimToSize(keep = file)
+        } catch (e: IOException) {
+            logger.e(e) { "[put] failed to write the waveform of $path" }
+        }
+    }
+
+    private fun trimToSize(keep: File) {
+        val files = directory.listFiles()?.filter(File::isFile) ?: return
+        var size = files.sumOf(File::length)
+        if (size <= maxSizeInBytes) return
+        files.filter { it != keep }
+            .sortedBy(File::lastModified)
+            .forEach { file ->
+                if (size <= maxSizeInBytes) return
+                val length = file.length()
+                if (file.delete()) size -= length
+            }
+    }
+
+    private fun fileFor(path: String, points: Int): File {
+        val version = localFileOf(path)?.let { "${it.length()}:${it.lastModified()}" }.orEmpty()
+        val digest = MessageDigest.getInstance("SHA-256").digest("$points:$version:$path".toByteArray())
+        return File(directory, digest.joinToString(separator = "") { "%02x".format(it) })
+    }
+
+    private fun localFileOf(path: String): File? = when {
+        path.startsWith(FILE_SCHEME) -> File(path.removePrefix(FILE_SCHEME))
+        path.startsWith(File.separator) -> File(path)
+        else -> null
+    }?.takeIf(File::isFile)
+
+    private companion object {
+        private const val DEFAULT_MAX_SIZE_IN_BYTES = 2L * 1024 * 1024
+        private const val FILE_SCHEME = "file://"
+    }
+}
@@ -25,11 +25,15 @@ import android.net.Uri
 import android.os.Build
 import io.getstream.chat.android.core.internal.InternalStreamChatApi
 import io.getstream.log.taggedLogger
-import java.nio.ByteBuffer
 import java.util.concurrent.CountDownLatch
-import kotlin.math.pow
-import kotlin.math.sqrt
 
+/**
+ * Extracts a waveform of [expectedPoints] RMS values from an audio track.
+ *
+ * The extraction reports partial results: [extractorCallBack] is notified after every decoded buffer that completes
+ * new points, and [sampleData] holds the points computed so far. Completed waveforms are stored on disk, keyed by the
+ * audio path, so the same audio is decoded only once per device.
+ */
 @InternalStreamChatApi
 public class WaveformExtractor(
     private val context: Context,
@@ -40,21 +44,26 @@ public class WaveformExtractor(
 
     private val logger by taggedLogger("WaveformExtractor")
 
+    private val cache = WaveformCache(context.cacheDir.resolve(WAVEFORM_CACHE_DIR))
+    private val accumulator = WaveformAccumulator(expectedPoints)
+
     private var decoder: MediaCodec? = null
     private var extractor: MediaExtractor? = null
+    private var path: String? = null
     private var durationInSeconds = 0f
-    private var progress = 0F
-    private var currentProgress = 0F
 
     @Volatile
     private var started = false
     private val finishCount = CountDownLatch(1)
     private var inputEof = false
-    private var sampleRate = 0
     private var channels = 1
     private var pcmEncodingBit = 16
-    private var totalSamples = 0L
-    private var samplesPerPoint = 0L
+
+    /**
+     * The points of the waveform computed so far.
+     */
+    public val sampleData: List<Float>
+        get() = accumulator.points().asList()
 
     private fun getFormat(path: String): MediaFormat? {
         val mediaExtractor = MediaExtractor()
@@ -79,6 +88,16 @@ public class WaveformExtractor(
             logger.i { "[start] started: $started, path: $path" }
             if (started) return
             started = true
+            this.path = path
+            val cached = cache.get(path, expectedPoints)
+            if (cached != null) {
+                logger.v { "[start] waveform found in cache, key: $key" }
+                accumulator.setPoints(cached)
+                started = false
+                finishCount.countDown()
+                extractorCallBack.onProgress(this, accumulator.progress)
+                return
+            }
             val format = getFormat(path) ?: error("No audio format found")
             val mime = format.getString(MediaFormat.KEY_MIME) ?: error("No MIME type found")
             decoder = MediaCodec.createDecoderByType(mime).also {
@@ -106,8 +125,8 @@ public class WaveformExtractor(
                     }
 
                     override fun onOutputFormatChanged(codec: MediaCodec, format: MediaFormat) {
-                        sampleRate = format.getInteger(MediaFormat.KEY_SAMPLE_RATE)
-                        channels = format.getInteger(MediaFormat.KEY_CHANNEL_COUNT)
+                        val sampleRate = format.getInteger(MediaFormat.KEY_SAMPLE_RATE)
+                        channels = format.getInteger(MediaFormat.KEY_CHANNEL_COUNT).coerceAtLeast(1)
                         pcmEncodingBit = if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N &&
                             format.containsKey(MediaFormat.KEY_PCM_ENCODING)
                         ) {
@@ -120,8 +139,7 @@ public class WaveformExtractor(
                         } else {
                             16
                         }
-                        totalSamples = (sampleRate * durationInSeconds).toLong()
-                        samplesPerPoint = totalSamples / expectedPoints
+                        accumulator.setTotalSamples((sampleRate * durationInSeconds).toLong())
                     }
 
                     override fun onError(codec: MediaCodec, e: MediaCodec.CodecException) {
@@ -136,27 +154,21 @@ public class WaveformExtractor(
                     ) {
                         if (info.size > 0) {
                             codec.getOutputBuffer(index)?.let { buf ->
-                                val size = info.size
-                                buf.position(info.offset)
+                                val pointCount = accumulator.pointCount
                                 when (pcmEncodingBit) {
-                                    8 -> {
-                                        handle8bit(size, buf)
-                                    }
-
-                                    16 -> {
-                                        handle16bit(size, buf)
-                                    }
-
-                                    32 -> {
-                                        handle32bit(size, buf)
-                                    }
+                                    8 -> accumulator.add8bit(buf, info.offset, info.size, channels)
+                                    16 -> accumulator.add16bit(buf, info.offset, info.size, channels)
+                                    32 -> accumulator.addFloat(buf, info.offset, info.size, channels)
                                 }
                                 codec.releaseOutputBuffer(index, false)
+                                if (accumulator.pointCount > pointCount) {
+                                    extractorCallBack.onProgress(this@WaveformExtractor, accumulator.progress)
+                                }
                             }
                         }
 
-                        if (info.isEof()) {
-                            stop()
+                        if (accumulator.isComplete || info.isEof()) {
+                            complete()
                         }
                     }
                 })
@@ -167,84 +179,17 @@ public class WaveformExtractor(
         }
     }
 
-    public var sampleData: ArrayList<Float> = ArrayList()
-    private var sampleCount = 0L
-    private var squaredSampleSum = 0.0f
-
-    private fun rms(sample: Float) {
-        if (sampleCount == samplesPerPoint) {
-            currentProgress++
-            progress = currentProgress / expectedPoints
-
-            // Discard redundant values and release resources
-            if (progress > 1.0F) {
-                stop()
-                return
-            }
-            val averageSquaredSample = squaredSampleSum / samplesPerPoint
-            val rms = sqrt(averageSquaredSample)
-            logger.v { "[rms] sample: $sample, averageSquaredSample: $averageSquaredSample, rms: $rms" }
-            sampleData.add(rms)
-            extractorCallBack.onProgress(this, progress)
-            sampleCount = 0
-            squaredSampleSum = 0.0f
-
-            val args: MutableMap<String, Any?> = HashMap()
-            args["waveformData"] = sampleData
-            args["progress"] = progress
-            args["playerKey"] = key
-            // TODO notify success
-            // logger.v { "[rms] sampleData: $sampleData" }
-        }
-
-        sampleCount++
-        squaredSampleSum += sample.pow(x = 2f)
-    }
-
-    private fun handle8bit(size: Int, buf: ByteBuffer) {
-        logger.v { "[handle8bit] size: $size" }
-        repeat(size / if (channels == 2) 2 else 1) {
-            val result = buf.get().toInt() / 127f
-            if (channels == 2) {
-                buf.get()
-            }
-            rms(result)
-        }
-    }
-
-    private fun handle16bit(size: Int, buf: ByteBuffer) {
-        logger.v { "[handle16bit] size: $size" }
-        logger.v { "[handle16bit] this.totalSamples: $totalSamples, sampleRate: $sampleRate, duration: $durationInSeconds" }
-        repeat(size / if (channels == 2) 4 else 2) {
-            val first = buf.get().toInt()
-            val second = buf.get().toInt() shl 8
-            val amplitude = first or second
-            logger.v { "[handle16bit] amplitude: $amplitude" }
-            val sample = amplitude / 32767f
-            if (channels == 2) {
-                buf.get()
-                buf.get()
-            }
-            rms(sample)
+    private fun complete() {
+        if (!started) return
+        if (!accumulator.isComplete) {
+            accumulator.flush()
+            extractorCallBack.onProgress(this, accumulator.progress)
         }
-    }
-
-    private fun handle32bit(size: Int, buf: ByteBuffer) {
-        logger.v { "[handle32bit] size: $size" }
-        repeat(size / if (channels == 2) 8 else 4) {
-            val first = buf.get().toLong()
-            val second = buf.get().toLong() shl 8
-            val third = buf.get().toLong() shl 16
-            val forth = buf.get().toLong() shl 24
-            val value = (first or second or third or forth) / 2_147_483_648f
-            if (channels == 2) {
-                buf.get()
-                buf.get()
-                buf.get()
-                buf.get()
-            }
-            rms(value)
+        val path = path
+        if (path != null && accumulator.isComplete) {
+            cache.put(path, accumulator.points())
         }
+        stop()
     }
 
     public fun stop() {
@@ -256,6 +201,10 @@ public class WaveformExtractor(
         extractor?.release()
         finishCount.countDown()
     }
+
+    private companion object {
+        private const val WAVEFORM_CACHE_DIR = "stream_waveforms"
+    }
 }
 
 public fun MediaCodec.BufferInfo.isEof(): Boolean = flags and MediaCodec.BUFFER_FLAG_END_OF_STREAM != 0
@@ -167,6 +167,7 @@ constructor(
         if (config.fastEventParsing) {
             DirectEventParser(
                 currentUserIdProvider = currentUserIdProvider,
+                channelTransformer = apiModelTransformers.incomingChannelTransformer,
                 messageTransformer = apiModelTransformers.incomingMessageTransformer,
                 userTransformer = apiModelTransformers.incomingUserTransformer,
             )
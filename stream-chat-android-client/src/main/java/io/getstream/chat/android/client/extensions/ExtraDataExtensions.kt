@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.client.extensions
+
+import io.getstream.chat.android.client.utils.internal.LazyExtraData
+import io.getstream.chat.android.core.internal.InternalStreamChatApi
+
+/**
+ * Returns the string value of [key] in this extraData, or null if it's missing or not a string.
+ */
+@InternalStreamChatApi
+public fun Map<String, Any>.getString(key: String): String? =
+    if (this is LazyExtraData) getString(key) else this[key] as? String
+
+/**
+ * Returns the boolean value of [key] in this extraData, or null if it's missing or not a boolean.
+ */
+@InternalStreamChatApi
+public fun Map<String, Any>.getBoolean(key: String): Boolean? =
+    if (this is LazyExtraData) getBoolean(key) else this[key] as? Boolean
+
+/**
+ * Returns the value of [key] in this extraData as a [Long], or null if it's missing or not an integral number
+ * fitting a [Long]. Extra data read from the network or the database keeps the exact value, without the [Double]
+ * round trip of reading it from the map.
+ */
+@InternalStreamChatApi
+public fun Map<String, Any>.getLong(key: String): Long? =
+    if (this is LazyExtraData) getLong(key) else (this[key] as? Number)?.toIntegralLong()
+
+/**
+ * Returns the value of [key] in this extraData as an [Int], or null if it's missing or not an integral number
+ * fitting an [Int].
+ */
+@InternalStreamChatApi
+public fun Map<String, Any>.getInt(key: String): Int? =
+    if (this is LazyExtraData) {
+        getInt(key)
+    } else {
+        (this[key] as? Number)?.toIntegralLong()?.takeIf { it in Int.MIN_VALUE..Int.MAX_VALUE }?.toInt()
+    }
+
+/**
+ * Returns the value of [key] in this extraData as a [Double], or null if it's missing or not a number.
+ */
+@InternalStreamChatApi
+public fun Map<String, Any>.getDouble(key: String): Double? =
+    if (this is LazyExtraData) getDouble(key) else (this[key] as? Number)?.toDouble()
+
+private fun Number.toIntegralLong(): Long? = when (this) {
+    is Long, is Int, is Short, is Byte -> toLong()
+    else -> toDouble().takeIf { it % 1.0 == 0.0 && it >= Long.MIN_VALUE && it <= Long.MAX_VALUE }?.toLong()
+}
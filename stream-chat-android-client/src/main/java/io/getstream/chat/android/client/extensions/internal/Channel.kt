@@ -30,6 +30,7 @@ import io.getstream.chat.android.models.Member
 import io.getstream.chat.android.models.Message
 import io.getstream.chat.android.models.User
 import io.getstream.chat.android.models.UserId
+import io.getstream.chat.android.models.querysort.sortedWithQuery
 import io.getstream.log.StreamLog
 import io.getstream.log.taggedLogger
 import java.util.Date
@@ -244,7 +245,9 @@ public fun Collection<Channel>.applyPagination(pagination: AnyChannelPaginationR
                 "Sorting channels: $ids"
             }
         }
-        .sortedWith(pagination.sort.comparator)
+        .toList()
+        .sortedWithQuery(pagination.sort)
+        .asSequence()
         .also { channelSequence ->
             logger.d {
                 val ids = channelSequence.joinToString { channel -> channel.id }
@@ -18,24 +18,27 @@ package io.getstream.chat.android.client.internal.offline.repository.database.co
 
 import androidx.room.TypeConverter
 import com.squareup.moshi.adapter
+import io.getstream.chat.android.client.utils.internal.LazyExtraData
 
+/**
+ * Stores extraData as its JSON object. Reading a row doesn't decode it, see [LazyExtraData], and extraData which was
+ * read but never replaced is written back as the same JSON.
+ */
 internal class ExtraDataConverter {
     @OptIn(ExperimentalStdlibApi::class)
     private val adapter = moshi.adapter<Map<String, Any>>()
 
     @TypeConverter
-    fun stringToMap(data: String?): Map<String, Any>? {
-        if (data.isNullOrEmpty() || data == "null") {
-            return emptyMap()
-        }
-        return adapter.fromJson(data)
-    }
+    fun stringToMap(data: String?): Map<String, Any>? = LazyExtraData.of(data)
 
     @TypeConverter
     fun mapToString(someObjects: Map<String, Any>?): String? {
         if (someObjects == null) {
             return "{}"
         }
+        if (someObjects is LazyExtraData) {
+            return someObjects.toJson()
+        }
         return adapter.toJson(someObjects)
     }
 }
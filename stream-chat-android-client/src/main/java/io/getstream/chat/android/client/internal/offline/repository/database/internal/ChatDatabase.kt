@@ -53,6 +53,7 @@ import io.getstream.chat.android.client.internal.offline.repository.domain.messa
 import io.getstream.chat.android.client.internal.offline.repository.domain.message.attachment.internal.ReplyAttachmentEntity
 import io.getstream.chat.android.client.internal.offline.repository.domain.message.internal.DraftMessageEntity
 import io.getstream.chat.android.client.internal.offline.repository.domain.message.internal.MessageDao
+import io.getstream.chat.android.client.internal.offline.repository.domain.message.internal.MessageFtsEntity
 import io.getstream.chat.android.client.internal.offline.repository.domain.message.internal.MessageInnerEntity
 import io.getstream.chat.android.client.internal.offline.repository.domain.message.internal.PollDao
 import io.getstream.chat.android.client.internal.offline.repository.domain.message.internal.PollEntity
@@ -88,8 +89,9 @@ import io.getstream.chat.android.client.internal.offline.repository.domain.user.
         ThreadEntity::class,
         ThreadOrderEntity::class,
         DraftMessageEntity::class,
+        MessageFtsEntity::class,
     ],
-    version = 202,
+    version = 203,
     exportSchema = false,
 )
 @TypeConverters(
@@ -26,6 +26,7 @@ import io.getstream.chat.android.client.utils.message.LocalOnlySyncStatuses
 import io.getstream.chat.android.client.utils.message.isDeleted
 import io.getstream.chat.android.models.DraftMessage
 import io.getstream.chat.android.models.Message
+import io.getstream.chat.android.models.MessageSearchHit
 import io.getstream.chat.android.models.Poll
 import io.getstream.chat.android.models.SyncStatus
 import io.getstream.chat.android.models.User
@@ -44,6 +45,7 @@ internal class DatabaseMessageRepository(
     private val currentUser: User,
     private val ignoredChannelTypes: Set<String>,
     cacheSize: Int = 1000,
+    private val getUsers: suspend (userIds: List<String>) -> List<User> = { emptyList() },
 ) : MessageRepository {
     // the message cache, specifically caches messages on which we're receiving events
     // (saving a few trips to the db when you get 10 likes on 1 message)
@@ -64,7 +66,26 @@ internal class DatabaseMessageRepository(
         pagination: AnyChannelPaginationRequest?,
     ): List<Message> =
         selectMessagesEntitiesForChannel(cid, pagination)
-            .map { it.toMessage() }
+            .toMessages()
+
+    override suspend fun selectMessagesForChannels(
+        cids: List<String>,
+        pagination: AnyChannelPaginationRequest?,
+    ): Map<String, List<Message>> {
+        if (cids.isEmpty()) return emptyMap()
+        if (pagination?.messageFilterDirection != null) {
+            // filtered pages are only requested for a single channel at a time
+            return cids.associateWith { cid -> selectMessagesForChannel(cid, pagination) }
+        }
+        val limit = pagination?.messageLimit ?: DEFAULT_MESSAGE_LIMIT
+        if (limit <= 0) return cids.associateWith { emptyList() }
+        val messagesByCid = messageDao.messagesForChannels(cids, limit)
+            .groupBy { entity -> entity.messageInnerEntity.cid }
+            .flatMap { (_, entities) -> entities.take(limit) }
+            .toMessages()
+            .groupBy(Message::cid)
+        return cids.associateWith { cid -> messagesByCid[cid].orEmpty() }
+    }
 
     /**
      * Select messages for a thread in a desired page.
@@ -74,15 +95,15 @@ internal class DatabaseMessageRepository(
      */
     override suspend fun selectMessagesForThread(messageId: String, limit: Int): List<Message> =
         messageDao.messagesForThread(messageId, limit)
-            .map { it.toMessage() }
+            .toMessages()
 
     override suspend fun selectAllUserMessages(userId: String): List<Message> =
         messageDao.selectByUserId(userId)
-            .map { it.toMessage() }
+            .toMessages()
 
     override suspend fun selectAllChannelUserMessages(cid: String, userId: String): List<Message> =
         messageDao.selectByCidAndUserId(cid, userId)
-            .map { it.toMessage() }
+            .toMessages()
 
     private suspend fun selectRepliedMessage(messageId: String): Message? =
         replyMessageCache[messageId] ?: replyMessageDao.selectById(messageId)?.toModel(getUser, ::getPoll)
@@ -235,11 +256,11 @@ internal class DatabaseMessageRepository(
      * @param syncStatus [SyncStatus]
      */
     override suspend fun selectMessageBySyncState(syncStatus: SyncStatus): List<Message> {
-        return messageDao.selectBySyncStatus(syncStatus).map { it.toMessage() }
+        return messageDao.selectBySyncStatus(syncStatus).toMessages()
     }
 
     override suspend fun selectMessagesWithPoll(pollId: String): List<Message> =
-        messageDao.selectMessagesWithPoll(pollId).map { it.toMessage() }
+        messageDao.selectMessagesWithPoll(pollId).toMessages()
 
     override suspend fun evictMessage(messageId: String) {
         messageCache.remove(messageId)
@@ -270,7 +291,35 @@ internal class DatabaseMessageRepository(
             cid = cid,
             syncStatuses = LocalOnlySyncStatuses.map(SyncStatus::status),
             types = LocalOnlyMessageTypes.toList(),
-        ).map { entity -> entity.toMessage() }
+        ).toMessages()
+
+    override suspend fun searchMessages(
+        query: String,
+        cids: List<String>?,
+        limit: Int,
+    ): List<MessageSearchHit> {
+        val matchQuery = query.toFtsMatchQuery() ?: return emptyList()
+        if (cids?.isEmpty() == true) return emptyList()
+        val hits = if (cids == null) {
+            messageDao.search(matchQuery, limit)
+        } else {
+            messageDao.search(matchQuery, cids, limit)
+        }
+        val messages = selectMessages(hits.map(MessageSearchHitEntity::messageId)).associateBy(Message::id)
+        return hits.mapNotNull { hit ->
+            messages[hit.messageId]?.let { message -> MessageSearchHit(message = message, snippet = hit.snippet) }
+        }
+    }
+
+    /**
+     * Turns free text into an FTS MATCH expression where every word is a quoted prefix term, so the user input can
+     * never be interpreted as FTS query syntax.
+     */
+    private fun String.toFtsMatchQuery(): String? =
+        split(WHITESPACE_REGEX)
+            .filter(String::isNotBlank)
+            .takeUnless(List<String>::isEmpty)
+            ?.joinToString(separator = " ") { term -> "\"${term.replace("\"", "\"\"")}\"*" }
 
     private suspend fun selectMessagesEntitiesForChannel(
         cid: String,
@@ -311,10 +360,8 @@ internal class DatabaseMessageRepository(
     /** Fetches messages from [MessageDao] and cache values in [LruCache]. */
     private suspend fun fetchMessagesFromDB(messageIds: List<String>): List<Message> {
         return messageDao.select(messageIds)
-            .map { entity ->
-                entity.toMessage()
-                    .also(::updateCache)
-            }
+            .toMessages()
+            .onEach(::updateCache)
     }
 
     private suspend fun fetchMessageFromDB(messageId: String): Message? {
@@ -331,6 +378,43 @@ internal class DatabaseMessageRepository(
     private suspend fun MessageEntity.toMessage(): Message =
         this.toModel(getUser, ::selectRepliedMessage, ::getPoll).filterReactions()
 
+    /**
+     * Maps a page of entities to messages. The users, replied messages and polls referenced by the whole page are
+     * loaded upfront with one query each, instead of one query per reference while mapping every message.
+     */
+    private suspend fun List<MessageEntity>.toMessages(): List<Message> {
+        if (size <= 1) return map { it.toMessage() }
+
+        val replyIds = mapNotNullTo(HashSet()) { it.messageInnerEntity.replyToId }
+        val cachedReplies = replyIds.mapNotNull { replyMessageCache[it] }.associateBy(Message::id)
+        val replyEntities = (replyIds - cachedReplies.keys)
+            .takeUnless { it.isEmpty() }
+            ?.let { replyMessageDao.selectByIds(it) }
+            .orEmpty()
+
+        val pollIds = mapNotNullTo(HashSet()) { it.messageInnerEntity.pollId } +
+            replyEntities.mapNotNull { it.replyMessageInnerEntity.pollId }
+        val pollEntities = pollIds.takeUnless { it.isEmpty() }?.let { pollDao.getPolls(it) }.orEmpty()
+
+        val userIds = flatMapTo(HashSet(), MessageEntity::referencedUserIds) +
+            replyEntities.flatMap(ReplyMessageEntity::referencedUserIds) +
+            pollEntities.flatMap(PollEntity::referencedUserIds)
+        val users = getUsers(userIds.toList()).associateBy(User::id)
+        val resolveUser: suspend (String) -> User = { userId -> users[userId] ?: getUser(userId) }
+
+        val polls = pollEntities.associate { entity -> entity.id to entity.toModel(resolveUser) }
+        val replies = cachedReplies + replyEntities.associate { entity ->
+            entity.replyMessageInnerEntity.id to entity.toModel(resolveUser) { pollId -> polls[pollId] }
+        }
+        return map { entity ->
+            entity.toModel(
+                getUser = resolveUser,
+                getReply = { replyId -> replies[replyId] },
+                getPoll = { pollId -> polls[pollId] },
+            ).filterReactions()
+        }
+    }
+
     private suspend fun getPoll(pollId: String): Poll? =
         pollDao.getPoll(pollId)?.toModel(getUser)
 
@@ -347,5 +431,6 @@ internal class DatabaseMessageRepository(
 
     private companion object {
         private const val DEFAULT_MESSAGE_LIMIT = 100
+        private val WHITESPACE_REGEX = Regex("\\s+")
     }
 }
@@ -22,6 +22,7 @@ import androidx.room.OnConflictStrategy
 import androidx.room.Query
 import androidx.room.Transaction
 import androidx.room.Update
+import io.getstream.chat.android.client.internal.offline.repository.domain.channel.internal.CHANNEL_ENTITY_TABLE_NAME
 import io.getstream.chat.android.client.internal.offline.repository.domain.message.attachment.internal.AttachmentEntity
 import io.getstream.chat.android.client.internal.offline.repository.domain.reaction.internal.ReactionEntity
 import io.getstream.chat.android.models.SyncStatus
@@ -172,6 +173,39 @@ internal interface MessageDao {
     @Transaction
     suspend fun messagesForChannel(cid: String, limit: Int = 100): List<MessageEntity>
 
+    /**
+     * Selects the latest messages of every channel in [cids] with a constant number of queries.
+     *
+     * SQLite on older Android versions has no window functions, so the latest [limit] messages can't be ranked per
+     * channel directly. Instead, the cutoff date of every channel is resolved with an index lookup, and every message
+     * created at or after it is returned, along with the messages that only have a local creation date. The result
+     * can contain more than [limit] messages per channel, ordered by channel and then newest first.
+     */
+    @Transaction
+    suspend fun messagesForChannels(cids: List<String>, limit: Int): List<MessageEntity> =
+        cids.chunked(SQLITE_MAX_VARIABLE_NUMBER - 1).flatMap { chunk ->
+            messagesForChannelsChunked(chunk, cutoffOffset = limit - 1)
+        }
+
+    @Query(
+        "SELECT m.* FROM $MESSAGE_ENTITY_TABLE_NAME m " +
+            "JOIN (" +
+            "SELECT c.cid AS cid, (" +
+            "SELECT createdAt FROM $MESSAGE_ENTITY_TABLE_NAME " +
+            "WHERE cid = c.cid AND createdAt IS NOT NULL " +
+            "ORDER BY createdAt DESC LIMIT 1 OFFSET :cutoffOffset" +
+            ") AS cutoff " +
+            "FROM $CHANNEL_ENTITY_TABLE_NAME c WHERE c.cid IN (:cids)" +
+            ") w ON m.cid = w.cid " +
+            "WHERE w.cutoff IS NULL OR m.createdAt IS NULL OR m.createdAt >= w.cutoff " +
+            "ORDER BY m.cid, CASE WHEN m.createdAt " +
+            "IS NULL THEN m.createdLocallyAt " +
+            "ELSE m.createdAt " +
+            "END DESC",
+    )
+    @Transaction
+    suspend fun messagesForChannelsChunked(cids: List<String>, cutoffOffset: Int): List<MessageEntity>
+
     @Query(
         "SELECT * from $MESSAGE_ENTITY_TABLE_NAME " +
             "WHERE parentId = :messageId OR id = :messageId " +
@@ -269,8 +303,32 @@ internal interface MessageDao {
     @Query("DELETE FROM $DRAFT_MESSAGE_ENTITY_TABLE_NAME")
     suspend fun deleteAllDrafts()
 
+    @Query(
+        "SELECT m.id AS messageId, " +
+            "snippet($MESSAGE_FTS_TABLE_NAME, '<b>', '</b>', '…', -1, $SNIPPET_TOKENS) AS snippet " +
+            "FROM $MESSAGE_FTS_TABLE_NAME " +
+            "JOIN $MESSAGE_ENTITY_TABLE_NAME m ON m.rowid = $MESSAGE_FTS_TABLE_NAME.rowid " +
+            "WHERE $MESSAGE_FTS_TABLE_NAME MATCH :query AND m.deletedAt IS NULL AND m.deletedForMe = 0 " +
+            "ORDER BY m.createdAt DESC " +
+            "LIMIT :limit",
+    )
+    suspend fun search(query: String, limit: Int): List<MessageSearchHitEntity>
+
+    @Query(
+        "SELECT m.id AS messageId, " +
+            "snippet($MESSAGE_FTS_TABLE_NAME, '<b>', '</b>', '…', -1, $SNIPPET_TOKENS) AS snippet " +
+            "FROM $MESSAGE_FTS_TABLE_NAME " +
+            "JOIN $MESSAGE_ENTITY_TABLE_NAME m ON m.rowid = $MESSAGE_FTS_TABLE_NAME.rowid " +
+            "WHERE $MESSAGE_FTS_TABLE_NAME MATCH :query AND m.deletedAt IS NULL AND m.deletedForMe = 0 " +
+            "AND m.cid IN (:cids) " +
+            "ORDER BY m.createdAt DESC " +
+            "LIMIT :limit",
+    )
+    suspend fun search(query: String, cids: List<String>, limit: Int): List<MessageSearchHitEntity>
+
     private companion object {
         private const val SQLITE_MAX_VARIABLE_NUMBER: Int = 999
         private const val NO_LIMIT: Int = -1
+        private const val SNIPPET_TOKENS: Int = 10
     }
 }
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.client.internal.offline.repository.domain.message.internal
+
+import androidx.room.ColumnInfo
+import androidx.room.Entity
+import androidx.room.Fts4
+import androidx.room.FtsOptions
+import androidx.room.PrimaryKey
+
+/**
+ * Full-text index over the [MessageInnerEntity.text] column.
+ *
+ * The table uses [MessageInnerEntity] as its external content, so the message text is not duplicated and Room keeps
+ * the index in sync with the message table through triggers.
+ */
+@Entity(tableName = MESSAGE_FTS_TABLE_NAME)
+@Fts4(contentEntity = MessageInnerEntity::class, tokenizer = FtsOptions.TOKENIZER_UNICODE61)
+internal data class MessageFtsEntity(
+    @PrimaryKey
+    @ColumnInfo(name = "rowid")
+    val rowId: Int,
+    val text: String,
+)
+
+/**
+ * A message matched by a full-text search, along with a snippet of its text around the match.
+ */
+internal data class MessageSearchHitEntity(
+    val messageId: String,
+    val snippet: String,
+)
+
+internal const val MESSAGE_FTS_TABLE_NAME = "stream_chat_message_fts"
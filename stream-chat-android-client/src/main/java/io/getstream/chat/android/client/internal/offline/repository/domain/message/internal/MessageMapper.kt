@@ -22,6 +22,7 @@ import io.getstream.chat.android.client.internal.offline.repository.domain.messa
 import io.getstream.chat.android.client.internal.offline.repository.domain.message.attachment.internal.toReplyEntity
 import io.getstream.chat.android.client.internal.offline.repository.domain.message.channelinfo.internal.toEntity
 import io.getstream.chat.android.client.internal.offline.repository.domain.message.channelinfo.internal.toModel
+import io.getstream.chat.android.client.internal.offline.repository.domain.reaction.internal.ReactionEntity
 import io.getstream.chat.android.client.internal.offline.repository.domain.reaction.internal.toEntity
 import io.getstream.chat.android.client.internal.offline.repository.domain.reaction.internal.toModel
 import io.getstream.chat.android.models.DraftMessage
@@ -92,6 +93,18 @@ internal suspend fun MessageEntity.toModel(
     )
 }
 
+/**
+ * Returns the ids of the users [toModel] resolves for this message, so they can be loaded upfront for a whole page.
+ */
+internal fun MessageEntity.referencedUserIds(): Set<String> = buildSet {
+    add(messageInnerEntity.userId)
+    latestReactions.mapTo(this, ReactionEntity::userId)
+    ownReactions.mapTo(this, ReactionEntity::userId)
+    addAll(messageInnerEntity.remoteMentionedUserIds)
+    addAll(messageInnerEntity.threadParticipantsIds)
+    messageInnerEntity.pinnedByUserId?.let(::add)
+}
+
 internal fun Message.toEntity(): MessageEntity = MessageEntity(
     messageInnerEntity = MessageInnerEntity(
         id = id,
@@ -202,6 +215,16 @@ internal suspend fun ReplyMessageEntity.toModel(
     }
 }
 
+/**
+ * Returns the ids of the users [toModel] resolves for this replied message.
+ */
+internal fun ReplyMessageEntity.referencedUserIds(): Set<String> = buildSet {
+    add(replyMessageInnerEntity.userId)
+    addAll(replyMessageInnerEntity.remoteMentionedUserIds)
+    addAll(replyMessageInnerEntity.threadParticipantsIds)
+    replyMessageInnerEntity.pinnedByUserId?.let(::add)
+}
+
 internal fun Message.toReplyEntity(): ReplyMessageEntity =
     ReplyMessageEntity(
         replyMessageInnerEntity = ReplyMessageInnerEntity(
@@ -20,6 +20,7 @@ import androidx.room.Dao
 import androidx.room.Insert
 import androidx.room.OnConflictStrategy
 import androidx.room.Query
+import androidx.room.Transaction
 
 @Dao
 internal interface PollDao {
@@ -29,6 +30,18 @@ internal interface PollDao {
     @Query("SELECT * From $POLL_ENTITY_TABLE_NAME  WHERE id = :pollId")
     suspend fun getPoll(pollId: String): PollEntity?
 
+    @Transaction
+    suspend fun getPolls(pollIds: Collection<String>): List<PollEntity> {
+        return pollIds.chunked(SQLITE_MAX_VARIABLE_NUMBER).flatMap { chunk -> getPollsChunked(chunk) }
+    }
+
+    @Query("SELECT * FROM $POLL_ENTITY_TABLE_NAME WHERE id IN (:pollIds)")
+    suspend fun getPollsChunked(pollIds: List<String>): List<PollEntity>
+
     @Query("DELETE FROM $POLL_ENTITY_TABLE_NAME WHERE id = :pollId")
     suspend fun deletePoll(pollId: String)
+
+    private companion object {
+        private const val SQLITE_MAX_VARIABLE_NUMBER: Int = 999
+    }
 }
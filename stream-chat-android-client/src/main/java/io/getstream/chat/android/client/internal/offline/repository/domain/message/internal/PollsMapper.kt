@@ -82,6 +82,18 @@ internal suspend fun PollEntity.toModel(
     extraData = extraData,
 )
 
+/**
+ * Returns the ids of the users [toModel] resolves for this poll.
+ *
+ * @return The ids of the poll creator and of the users who voted or answered.
+ */
+internal fun PollEntity.referencedUserIds(): Set<String> = buildSet {
+    votes.mapNotNullTo(this, VoteEntity::userId)
+    ownVotes.mapNotNullTo(this, VoteEntity::userId)
+    answers.mapNotNullTo(this, AnswerEntity::userId)
+    createdById?.let(::add)
+}
+
 /**
  * Converts an [Option] domain model to an [OptionEntity] database entity.
  *
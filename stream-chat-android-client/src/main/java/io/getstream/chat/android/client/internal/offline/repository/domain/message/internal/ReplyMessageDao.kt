@@ -31,6 +31,15 @@ internal interface ReplyMessageDao {
     @Transaction
     suspend fun selectById(id: String): ReplyMessageEntity?
 
+    @Transaction
+    suspend fun selectByIds(ids: Collection<String>): List<ReplyMessageEntity> {
+        return ids.chunked(SQLITE_MAX_VARIABLE_NUMBER).flatMap { chunk -> selectByIdsChunked(chunk) }
+    }
+
+    @Query("SELECT * FROM $REPLY_MESSAGE_ENTITY_TABLE_NAME WHERE id IN (:ids)")
+    @Transaction
+    suspend fun selectByIdsChunked(ids: List<String>): List<ReplyMessageEntity>
+
     @Transaction
     suspend fun insert(replyMessageEntities: List<ReplyMessageEntity>) {
         insertAttachments(replyMessageEntities.flatMap(ReplyMessageEntity::attachments))
@@ -48,4 +57,8 @@ internal interface ReplyMessageDao {
 
     @Query("DELETE FROM $REPLY_MESSAGE_ENTITY_TABLE_NAME")
     suspend fun deleteAll()
+
+    private companion object {
+        private const val SQLITE_MAX_VARIABLE_NUMBER: Int = 999
+    }
 }
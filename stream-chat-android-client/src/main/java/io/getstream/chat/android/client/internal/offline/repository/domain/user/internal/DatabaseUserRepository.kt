@@ -16,7 +16,6 @@
 
 package io.getstream.chat.android.client.internal.offline.repository.domain.user.internal
 
-import androidx.collection.LruCache
 import io.getstream.chat.android.client.internal.offline.extensions.launchWithMutex
 import io.getstream.chat.android.client.internal.offline.repository.domain.push.internal.toEntity
 import io.getstream.chat.android.client.internal.offline.repository.domain.push.internal.toModel
@@ -25,7 +24,6 @@ import io.getstream.chat.android.models.Mute
 import io.getstream.chat.android.models.User
 import io.getstream.log.taggedLogger
 import kotlinx.coroutines.CoroutineScope
-import kotlinx.coroutines.flow.MutableStateFlow
 import kotlinx.coroutines.flow.StateFlow
 import kotlinx.coroutines.launch
 import kotlinx.coroutines.sync.Mutex
@@ -39,11 +37,10 @@ internal class DatabaseUserRepository(
     private val logger by taggedLogger("Chat:UserRepository")
 
     // the user cache is simple, just keeps the last x users in memory, defined by cacheSize
-    private val userCache = LruCache<String, User>(cacheSize)
-    private val latestUsersFlow: MutableStateFlow<Map<String, User>> = MutableStateFlow(emptyMap())
+    private val userCache = LatestUsersCache(cacheSize)
     private val dbMutex = Mutex()
 
-    override fun observeLatestUsers(): StateFlow<Map<String, User>> = latestUsersFlow
+    override fun observeLatestUsers(): StateFlow<Map<String, User>> = userCache.latestUsers
 
     override suspend fun clear() {
         dbMutex.withLock {
@@ -116,10 +113,9 @@ internal class DatabaseUserRepository(
     }
 
     private fun cacheUsers(users: Collection<User>) {
-        for (userEntity in users) {
-            userCache.put(userEntity.id, userEntity)
+        if (userCache.put(users)) {
+            scope.launch { userCache.publish() }
         }
-        scope.launch { latestUsersFlow.value = userCache.snapshot() }
     }
 
     private fun User.toEntity(): UserEntity =
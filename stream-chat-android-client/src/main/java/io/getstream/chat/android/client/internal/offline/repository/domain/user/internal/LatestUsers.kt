@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.client.internal.offline.repository.domain.user.internal
+
+import io.getstream.chat.android.models.User
+
+/**
+ * Versioned snapshot of the latest known users.
+ *
+ * Consecutive snapshots share a [UserChangeLog], so observers can find out which users changed between the snapshot
+ * they processed last and the current one without comparing every entry, see [changedUserIds].
+ *
+ * @property version The version of the snapshot, incremented on every change.
+ */
+internal class LatestUsers(
+    val version: Long,
+    private val users: Map<String, User>,
+    private val changeLog: UserChangeLog,
+) : Map<String, User> by users {
+
+    /**
+     * Returns the ids of the users which changed between [previous] and this snapshot, or null if they can't be
+     * determined from the change log anymore.
+     */
+    fun changedSince(previous: LatestUsers): Set<String>? =
+        if (previous.changeLog === changeLog) changeLog.changedBetween(previous.version, version) else null
+
+    override fun equals(other: Any?): Boolean = users == other
+
+    override fun hashCode(): Int = users.hashCode()
+
+    override fun toString(): String = users.toString()
+}
+
+/**
+ * Returns the ids of the users which differ between [previous] and this map: the users added, replaced or removed.
+ *
+ * Snapshots published by the same [LatestUsersCache] are diffed using their change log, other maps are compared
+ * entry by entry.
+ */
+internal fun Map<String, User>.changedUserIds(previous: Map<String, User>): Set<String> {
+    if (this === previous) return emptySet()
+    if (this is LatestUsers && previous is LatestUsers) {
+        changedSince(previous)?.let { return it }
+    }
+    val changed = HashSet<String>()
+    forEach { (id, user) -> if (previous[id] !== user) changed += id }
+    previous.keys.forEach { id -> if (id !in this) changed += id }
+    return changed
+}
+
+/**
+ * Bounded log of the ids of the users changed by each version of [LatestUsers].
+ *
+ * @param capacity The number of versions kept in the log.
+ */
+internal class UserChangeLog(private val capacity: Int = DEFAULT_CAPACITY) {
+
+    private val entries = ArrayDeque<Set<String>>()
+    private var firstVersion = 1L
+
+    /** The last version appended to the log, 0 if none. */
+    val lastVersion: Long
+        @Synchronized get() = firstVersion + entries.size - 1
+
+    /**
+     * Appends the ids changed by a new version.
+     *
+     * @return The new version.
+     */
+    @Synchronized
+    fun append(userIds: Set<String>): Long {
+        entries.addLast(userIds)
+        if (entries.size > capacity) {
+            entries.removeFirst()
+            firstVersion++
+        }
+        return lastVersion
+    }
+
+    /**
+     * Returns the ids changed between the [from] and [to] versions, in any order, or null if some of the versions
+     * in between were already dropped from the log.
+     */
+    @Synchronized
+    fun changedBetween(from: Long, to: Long): Set<String>? {
+        val low = minOf(from, to)
+        val high = maxOf(from, to)
+        if (low + 1 < firstVersion || high > lastVersion) return null
+        val changed = HashSet<String>()
+        for (version in low + 1..high) {
+            changed += entries[(version - firstVersion).toInt()]
+        }
+        return changed
+    }
+
+    private companion object {
+        private const val DEFAULT_CAPACITY = 64
+    }
+}
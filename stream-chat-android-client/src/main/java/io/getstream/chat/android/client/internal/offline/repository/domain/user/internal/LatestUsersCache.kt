@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.client.internal.offline.repository.domain.user.internal
+
+import androidx.collection.LruCache
+import io.getstream.chat.android.models.User
+import kotlinx.coroutines.flow.MutableStateFlow
+import kotlinx.coroutines.flow.StateFlow
+import kotlinx.coroutines.flow.asStateFlow
+
+/**
+ * In-memory cache of the last [maxSize] users which publishes its content as [LatestUsers] snapshots.
+ *
+ * Changes are accumulated by [put] and published by [publish], so a burst of inserts results in a single snapshot.
+ * Inserting a user equal to the cached one isn't a change and isn't published.
+ *
+ * @param maxSize The maximum number of users kept in memory.
+ */
+internal class LatestUsersCache(maxSize: Int) {
+
+    private val changeLog = UserChangeLog()
+    private var pendingUserIds = HashSet<String>()
+
+    private val cache = object : LruCache<String, User>(maxSize) {
+        override fun entryRemoved(evicted: Boolean, key: String, oldValue: User, newValue: User?) {
+            // Called from put, which already holds the lock of the outer class
+            if (evicted) pendingUserIds += key
+        }
+    }
+
+    private val _latestUsers = MutableStateFlow<Map<String, User>>(LatestUsers(0, emptyMap(), changeLog))
+
+    /** The latest published users. */
+    val latestUsers: StateFlow<Map<String, User>> = _latestUsers.asStateFlow()
+
+    /** Returns the cached user with the given [userId], if any. */
+    operator fun get(userId: String): User? = cache[userId]
+
+    /**
+     * Caches the [users].
+     *
+     * @return True if any of the users changed and [publish] should be called.
+     */
+    @Synchronized
+    fun put(users: Collection<User>): Boolean {
+        users.forEach { user ->
+            if (cache[user.id] != user) {
+                cache.put(user.id, user)
+                pendingUserIds += user.id
+            }
+        }
+        return pendingUserIds.isNotEmpty()
+    }
+
+    /** Publishes a new snapshot if any user changed since the last one. */
+    @Synchronized
+    fun publish() {
+        if (pendingUserIds.isEmpty()) return
+        val changed = pendingUserIds
+        pendingUserIds = HashSet()
+        val version = changeLog.append(changed)
+        _latestUsers.value = LatestUsers(version, cache.snapshot(), changeLog)
+    }
+}
@@ -16,6 +16,7 @@
 
 package io.getstream.chat.android.client.internal.offline.repository.factory.internal
 
+import androidx.room.withTransaction
 import io.getstream.chat.android.client.internal.offline.repository.database.internal.ChatDatabase
 import io.getstream.chat.android.client.internal.offline.repository.domain.channel.internal.DatabaseChannelRepository
 import io.getstream.chat.android.client.internal.offline.repository.domain.channelconfig.internal.DatabaseChannelConfigRepository
@@ -142,6 +143,7 @@ internal class DatabaseRepositoryFactory(
                 currentUser,
                 ignoredChannelTypes,
                 DEFAULT_CACHE_SIZE,
+                createUserRepository()::selectUsers,
             ).also { repository ->
                 repositoriesCache[MessageRepository::class.java] = repository
             }
@@ -169,4 +171,8 @@ internal class DatabaseRepositoryFactory(
             }
         }
     }
+
+    override suspend fun runInTransaction(block: suspend () -> Unit) {
+        database.withTransaction { block() }
+    }
 }
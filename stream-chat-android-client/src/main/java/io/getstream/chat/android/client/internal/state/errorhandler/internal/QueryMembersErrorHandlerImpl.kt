@@ -23,6 +23,7 @@ import io.getstream.chat.android.client.setup.state.ClientState
 import io.getstream.chat.android.models.FilterObject
 import io.getstream.chat.android.models.Member
 import io.getstream.chat.android.models.querysort.QuerySorter
+import io.getstream.chat.android.models.querysort.sortedWithQuery
 import io.getstream.log.taggedLogger
 import io.getstream.result.Result
 import io.getstream.result.call.Call
@@ -71,7 +72,7 @@ internal class QueryMembersErrorHandlerImpl(
                 val clampedLimit = limit.coerceAtLeast(0)
                 val membersFromDatabase = channelRepository
                     .selectMembersForChannel(Pair(channelType, channelId).toCid())
-                    .sortedWith(sort.comparator)
+                    .sortedWithQuery(sort)
                     .drop(clampedOffset)
                     .let { members ->
                         if (clampedLimit > 0) {
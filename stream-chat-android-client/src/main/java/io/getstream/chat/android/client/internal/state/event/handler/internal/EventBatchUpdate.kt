@@ -140,10 +140,12 @@ internal class EventBatchUpdate private constructor(
         currentUserId?.let { userMap -= it }
         logger.v { "[execute] id: $id, channelMap.size: ${channelMap.size}" }
 
-        repos.insertUsers(userMap.values.toList())
-        repos.insertChannels(channelMap.values.updateUsers(userMap))
-        repos.insertMessages(messageMap.values.toList().updateUsers(userMap))
-        repos.insertThreads(threadMap.values.toList())
+        repos.upsertBatch(
+            users = userMap.values.toList(),
+            channels = channelMap.values.updateUsers(userMap),
+            messages = messageMap.values.toList().updateUsers(userMap),
+            threads = threadMap.values.toList(),
+        )
     }
 
     internal class Builder(
@@ -18,6 +18,8 @@ package io.getstream.chat.android.client.internal.state.event.handler.internal
 
 import androidx.annotation.VisibleForTesting
 import io.getstream.chat.android.client.ChatEventListener
+import io.getstream.chat.android.client.api.EventBatchingPolicy
+import io.getstream.chat.android.client.api.FixedEventBatchingPolicy
 import io.getstream.chat.android.client.api.MessageBufferConfig
 import io.getstream.chat.android.client.api.MessageBufferOverflow
 import io.getstream.chat.android.client.api.event.EventHandlingResult
@@ -166,6 +168,7 @@ internal class EventHandlerSequential(
     private val syncedEvents: Flow<List<ChatEvent>>,
     private val bufferConfig: MessageBufferConfig,
     scope: CoroutineScope,
+    batchingPolicy: EventBatchingPolicy = FixedEventBatchingPolicy(),
     private val groupedUnreadChannelsUpdater: GroupedUnreadChannelsUpdater = GroupedUnreadChannelsUpdater(
         stateRegistry = stateRegistry,
         currentUserId = currentUserId,
@@ -193,7 +196,7 @@ internal class EventHandlerSequential(
             },
         )
     }
-    private val socketEventCollector = SocketEventCollector(scope) { batchEvent ->
+    private val socketEventCollector = SocketEventCollector(scope, batchingPolicy) { batchEvent ->
         handleBatchEvent(batchEvent)
     }
 
@@ -17,6 +17,8 @@
 package io.getstream.chat.android.client.internal.state.event.handler.internal.batch
 
 import androidx.annotation.VisibleForTesting
+import io.getstream.chat.android.client.api.EventBatchWindow
+import io.getstream.chat.android.client.api.EventBatchingPolicy
 import io.getstream.chat.android.client.events.ChatEvent
 import io.getstream.chat.android.client.events.ConnectedEvent
 import io.getstream.chat.android.client.events.ConnectingEvent
@@ -29,40 +31,39 @@ import kotlinx.coroutines.delay
 import kotlinx.coroutines.launch
 import kotlinx.coroutines.sync.Mutex
 import kotlinx.coroutines.sync.withLock
+import kotlin.math.exp
 
 /**
  * Collects socket events to produce a single [BatchEvent].
  *
+ * The limits of every batch are taken from the [EventBatchWindow] returned by [policy] when the first event of the
+ * batch arrives, based on the recently measured event rate.
+ *
  * @param scope The coroutine scope that will be used to collect events.
- * @param timeout The timeout in milliseconds after which the [BatchEvent] will be fired if no other events coming.
- * @param timeLimit The max possible time in milliseconds for collecting a single [BatchEvent]. If the time is exceeded,
- * the [BatchEvent] will be fired.
- * @param itemCountLimit The item count limit after which the [BatchEvent] will be fired.
+ * @param policy The policy deciding the limits of every batch.
  * @param now The function that returns the current time in milliseconds.
  * @param fireEvent The function that will be called when the [BatchEvent] is ready.
  */
 internal class SocketEventCollector @VisibleForTesting constructor(
     private val scope: CoroutineScope,
-    private val timeout: Long,
-    private val timeLimit: Long,
-    private val itemCountLimit: Int,
-    now: () -> Long,
+    private val policy: EventBatchingPolicy,
+    private val now: () -> Long,
     private val fireEvent: suspend (BatchEvent) -> Unit,
 ) {
     /**
      * Creates a new instance of [SocketEventCollector].
      *
      * @param scope The coroutine scope that will be used to collect events.
+     * @param policy The policy deciding the limits of every batch.
      * @param fireEvent The function that will be called when the [BatchEvent] is ready.
      */
     constructor(
         scope: CoroutineScope,
+        policy: EventBatchingPolicy,
         fireEvent: suspend (BatchEvent) -> Unit,
     ) : this(
         scope = scope,
-        timeout = TIMEOUT,
-        timeLimit = TIME_LIMIT,
-        itemCountLimit = ITEM_COUNT_LIMIT,
+        policy = policy,
         now = { System.currentTimeMillis() },
         fireEvent = fireEvent,
     )
@@ -71,6 +72,10 @@ internal class SocketEventCollector @VisibleForTesting constructor(
     private val mutex = Mutex()
     private val postponed = Postponed(now)
     private val timeoutJob = TimeoutJob()
+    private val rateMeter = EventRateMeter()
+    private val sizeHistogram = BatchHistogram()
+    private val latencyHistogram = BatchHistogram()
+    private var window = EventBatchWindow.DEFAULT
 
     internal suspend fun collect(event: ChatEvent) {
         logger.d { "[collect] event.type: '${event.realType}', event.hash: ${event.hashCode()}" }
@@ -87,10 +92,16 @@ internal class SocketEventCollector @VisibleForTesting constructor(
             logger.d { "[add] event.type: ${event.realType}(${event.hashCode()})" }
             mutex.withLock {
                 timeoutJob.cancel()
+                val time = now()
+                rateMeter.record(time)
+                if (postponed.isEmpty()) {
+                    window = policy.window(rateMeter.eventsPerSecond(time))
+                    logger.v { "[add] new batch window: $window" }
+                }
                 return postponed.add(event).also {
                     when {
-                        postponed.size >= itemCountLimit -> onItemCountLimit()
-                        postponed.collectionTime() >= timeLimit -> onTimeLimit()
+                        postponed.size >= window.maxEvents -> onItemCountLimit()
+                        postponed.collectionTime() >= window.maxCollectionTimeMs -> onTimeLimit()
                         else -> scheduleTimeout()
                     }
                 }
@@ -109,6 +120,7 @@ internal class SocketEventCollector @VisibleForTesting constructor(
     }
 
     private fun scheduleTimeout() {
+        val timeout = window.idleTimeoutMs
         timeoutJob.set(
             scope.launch {
                 delay(timeout)
@@ -136,22 +148,38 @@ internal class SocketEventCollector @VisibleForTesting constructor(
             return
         }
         logger.v { "[doFire] postponed.size: ${postponed.size}" }
-        val sortedEvents = postponed.sortedBy { it.createdAt }
+        val sortedEvents = postponed.toList()
+        val latency = postponed.collectionTime()
         postponed.clear()
         timeoutJob.reset()
+        onBatchDispatched(sortedEvents.size, latency)
         fireEvent(
             BatchEvent(sortedEvents = sortedEvents, isFromHistorySync = false),
         )
     }
 
+    private fun onBatchDispatched(size: Int, latencyMs: Long) {
+        policy.onBatchDispatched(size, latencyMs)
+        sizeHistogram.record(size.toLong())
+        latencyHistogram.record(latencyMs)
+        if (sizeHistogram.count % HISTOGRAM_LOG_INTERVAL == 0L) {
+            logger.i { "[onBatchDispatched] batch sizes: $sizeHistogram; batch latencies (ms): $latencyHistogram" }
+        }
+    }
+
     private companion object {
         private const val TAG = "Chat:EventCollector"
-        private const val TIMEOUT = 300L
-        private const val TIME_LIMIT = 1000L
-        private const val ITEM_COUNT_LIMIT = 200
+        private const val HISTOGRAM_LOG_INTERVAL = 100L
     }
 }
 
+/**
+ * Keeps the collected events ordered by [ChatEvent.createdAt].
+ *
+ * Events mostly arrive in order, so every new event is inserted by walking back from the end of the list, which keeps
+ * adding an in-order event O(1) and avoids sorting the whole batch when it is fired. Events with the same creation
+ * date keep their arrival order.
+ */
 private class Postponed(
     private val now: () -> Long,
 ) {
@@ -170,10 +198,15 @@ private class Postponed(
         if (events.isEmpty()) {
             collectStartTime = now()
         }
-        return events.add(event)
+        var index = events.size
+        while (index > 0 && events[index - 1].createdAt > event.createdAt) {
+            index--
+        }
+        events.add(index, event)
+        return true
     }
 
-    fun <R : Comparable<R>> sortedBy(predicate: (ChatEvent) -> R) = events.sortedBy(predicate)
+    fun toList(): List<ChatEvent> = events.toList()
 
     fun isEmpty(): Boolean = events.isEmpty()
 
@@ -187,6 +220,66 @@ private class Postponed(
     }
 }
 
+/**
+ * Measures the rate of incoming events as an exponentially decaying count, so recent events weigh more than older
+ * ones.
+ */
+private class EventRateMeter {
+
+    private var score = 0.0
+    private var lastTime = NO_TIME
+
+    fun record(time: Long) {
+        score = decayed(time) + 1
+        lastTime = time
+    }
+
+    fun eventsPerSecond(time: Long): Double = decayed(time) * MILLIS_IN_SECOND / DECAY_MS
+
+    private fun decayed(time: Long): Double = when (lastTime) {
+        NO_TIME -> 0.0
+        else -> score * exp(-(time - lastTime).coerceAtLeast(0) / DECAY_MS)
+    }
+
+    private companion object {
+        private const val NO_TIME = -1L
+        private const val DECAY_MS = 1000.0
+        private const val MILLIS_IN_SECOND = 1000.0
+    }
+}
+
+/**
+ * A histogram with power-of-two buckets: bucket `i` counts the values in `[2^(i-1), 2^i)`, and bucket `0` counts
+ * zeros.
+ */
+private class BatchHistogram {
+
+    private val buckets = LongArray(BUCKET_COUNT)
+
+    var count = 0L
+        private set
+
+    fun record(value: Long) {
+        val bucket = (Long.SIZE_BITS - value.coerceAtLeast(0).countLeadingZeroBits()).coerceAtMost(BUCKET_COUNT - 1)
+        buckets[bucket]++
+        count++
+    }
+
+    override fun toString(): String = buckets.indices
+        .filter { buckets[it] > 0 }
+        .joinToString(prefix = "{", postfix = "}") { bucket ->
+            val label = when (bucket) {
+                BUCKET_COUNT - 1 -> ">=${1L shl (bucket - 1)}"
+                else -> "<${1L shl bucket}"
+            }
+            "$label: ${buckets[bucket]}"
+        }
+
+    private companion object {
+        private const val BUCKET_COUNT = 16
+    }
+}
+
 private class TimeoutJob {
 
     private var pending: Job? = null
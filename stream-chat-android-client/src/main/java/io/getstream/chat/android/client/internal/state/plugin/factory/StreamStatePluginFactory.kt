@@ -19,6 +19,8 @@ package io.getstream.chat.android.client.internal.state.plugin.factory
 import android.content.Context
 import io.getstream.chat.android.client.ChatClient
 import io.getstream.chat.android.client.api.ChatClientConfig
+import io.getstream.chat.android.client.api.EventBatchingPolicy
+import io.getstream.chat.android.client.api.FixedEventBatchingPolicy
 import io.getstream.chat.android.client.api.MessageBufferConfig
 import io.getstream.chat.android.client.api.state.StateRegistry
 import io.getstream.chat.android.client.events.ChatEvent
@@ -52,11 +54,13 @@ import kotlin.reflect.KClass
  *
  * @param config [ChatClientConfig] Configuration of persistence of the SDK.
  * @param appContext [Context]
+ * @param eventBatchingPolicy [EventBatchingPolicy] used to batch incoming WebSocket events.
  */
 @InternalStreamChatApi
 public class StreamStatePluginFactory(
     private val config: ChatClientConfig,
     private val appContext: Context,
+    private val eventBatchingPolicy: EventBatchingPolicy = FixedEventBatchingPolicy(),
 ) : PluginFactory {
     private val logger by taggedLogger("Chat:StatePluginFactory")
 
@@ -163,6 +167,7 @@ public class StreamStatePluginFactory(
             syncedEvents = syncManager.syncedEvents,
             sideEffect = syncManager::awaitSyncing,
             bufferConfig = config.messageLimitConfig.messageBufferConfig,
+            batchingPolicy = eventBatchingPolicy,
         )
 
         val stateErrorHandlerFactory = StateErrorHandlerFactory(
@@ -201,6 +206,7 @@ public class StreamStatePluginFactory(
         sideEffect: suspend () -> Unit,
         syncedEvents: Flow<List<ChatEvent>>,
         bufferConfig: MessageBufferConfig,
+        batchingPolicy: EventBatchingPolicy,
     ): EventHandler {
         return EventHandlerSequential(
             scope = scope,
@@ -215,6 +221,7 @@ public class StreamStatePluginFactory(
             syncedEvents = syncedEvents,
             sideEffect = sideEffect,
             bufferConfig = bufferConfig,
+            batchingPolicy = batchingPolicy,
         )
     }
 }
@@ -87,7 +87,10 @@ internal class ChannelLogicImpl(
 
     override suspend fun updateStateFromDatabase(query: QueryChannelRequest) {
         if (query.isNotificationUpdate) return
-        if (query.isFilteringMessages()) return
+        if (query.isFilteringMessages()) {
+            restoreEvictedMessages(query)
+            return
+        }
         // Populate from DB ONLY if loading latest messages
         val channel = fetchOfflineChannel(cid, query) ?: return
         val localOnlyMessages = repository.selectLocalOnlyMessagesForChannel(cid)
@@ -403,6 +406,28 @@ internal class ChannelLogicImpl(
         state.setPendingMessages(channel.pendingMessages.map { it.message })
     }
 
+    /**
+     * Serves a page of older/newer messages from the database when the page lies inside a range which was evicted
+     * from the message window, so scrolling back over it doesn't wait for the network. The network page still
+     * follows and is merged on top, like the database seed of the latest messages.
+     */
+    private suspend fun restoreEvictedMessages(query: QueryChannelRequest) {
+        val isOlder = query.filteringOlderMessages()
+        if (!isOlder && !query.isFilteringNewerMessages()) return
+        val bound = (if (isOlder) state.getEvictedOlderBound() else state.getEvictedNewerBound()) ?: return
+        val page = repository
+            .selectMessagesForChannel(cid, query.toAnyChannelPaginationRequest())
+            .filter { message ->
+                // Only the evicted range is known to be contiguous in the database
+                val createdAt = message.getCreatedAtOrNull() ?: return@filter false
+                if (isOlder) createdAt >= bound else createdAt <= bound
+            }
+            .sortedBy { it.getCreatedAtOrNull() }
+        if (page.isEmpty()) return
+        state.upsertMessages(page)
+        if (isOlder) state.trimNewestMessages() else state.trimOldestMessages()
+    }
+
     private suspend fun fetchOfflineChannel(cid: String, request: QueryChannelRequest): Channel? {
         // Fetch channel data from DB
         val channel = repository.selectChannel(cid) ?: return null
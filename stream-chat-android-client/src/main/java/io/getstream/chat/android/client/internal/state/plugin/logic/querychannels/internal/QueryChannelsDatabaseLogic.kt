@@ -16,16 +16,20 @@
 
 package io.getstream.chat.android.client.internal.state.plugin.logic.querychannels.internal
 
-import io.getstream.chat.android.client.extensions.internal.applyPagination
 import io.getstream.chat.android.client.internal.state.plugin.QueryChannelsIdentifier
 import io.getstream.chat.android.client.persistance.repository.ChannelConfigRepository
 import io.getstream.chat.android.client.persistance.repository.ChannelRepository
 import io.getstream.chat.android.client.persistance.repository.QueryChannelsRepository
 import io.getstream.chat.android.client.persistance.repository.RepositoryFacade
 import io.getstream.chat.android.client.query.QueryChannelsSpec
+import io.getstream.chat.android.client.query.filter.FilterPredicate
 import io.getstream.chat.android.client.query.pagination.AnyChannelPaginationRequest
+import io.getstream.chat.android.models.AndFilterObject
 import io.getstream.chat.android.models.Channel
 import io.getstream.chat.android.models.ChannelConfig
+import io.getstream.chat.android.models.EqualsFilterObject
+import io.getstream.chat.android.models.FilterObject
+import io.getstream.chat.android.models.InFilterObject
 
 /**
  * Pair of the persisted [QueryChannelsSpec] and the channels associated with it. The spec is
@@ -53,21 +57,50 @@ internal class QueryChannelsDatabaseLogic(
     /**
      * Fetch the cached spec and channels for the given query [identifier].
      *
-     * @return null if no spec is found in the database; otherwise a [CachedQueryChannels] wrapping
-     *  the persisted spec and the channels, paginated according to [pagination]. The channels list
-     *  may be empty if a previous online query returned 0 results.
+     * A standard query that was never persisted is answered from the stored channels matching its
+     * filter on the device, without persisting anything.
+     *
+     * @return null if no spec is found in the database and no stored channel matches; otherwise a
+     *  [CachedQueryChannels] wrapping the spec and the channels, paginated according to [pagination].
+     *  The channels list may be empty if a previous online query returned 0 results.
      */
     internal suspend fun fetchChannelsFromCache(
         pagination: AnyChannelPaginationRequest,
         identifier: QueryChannelsIdentifier,
     ): CachedQueryChannels? {
-        val spec = queryChannelsRepository.selectBy(identifier) ?: return null
-        val channels = repositoryFacade
-            .selectChannels(spec.cids.toList(), pagination)
-            .applyPagination(pagination)
+        val spec = queryChannelsRepository.selectBy(identifier)
+            ?: (identifier as? QueryChannelsIdentifier.Standard)?.let { matchStoredChannels(it) }
+            ?: return null
+        val channels = repositoryFacade.selectChannels(spec.cids.toList(), pagination)
         return CachedQueryChannels(spec, channels)
     }
 
+    /**
+     * Builds a spec for a standard query from the stored channels that match its filter on the
+     * device. Channels for which the filter can't be decided locally are left out.
+     *
+     * The stored cids are first narrowed down by the `cid` and `type` conditions of the filter, which
+     * don't need the channels to be loaded. Up to [MAX_SCANNED_CHANNELS] of the rest are loaded in
+     * chunks and matched, so the matches can then be sorted and paged as a whole. The result is an
+     * offline preview, replaced by the online query.
+     *
+     * @return null if no stored channel matches.
+     */
+    private suspend fun matchStoredChannels(identifier: QueryChannelsIdentifier.Standard): QueryChannelsSpec? {
+        val predicate = FilterPredicate.forChannels(identifier.filter)
+        val cidConditions = identifier.filter.cidConditions()
+        val candidates = channelRepository.selectAllCids()
+            .filter { cid -> cidConditions.all { condition -> condition(cid) } }
+            .take(MAX_SCANNED_CHANNELS)
+        val cids = mutableSetOf<String>()
+        for (chunk in candidates.chunked(SCAN_CHUNK_SIZE)) {
+            channelRepository.selectChannels(chunk)
+                .filter { channel -> predicate.evaluate(channel) == true }
+                .mapTo(cids, Channel::cid)
+        }
+        return cids.takeUnless(Set<String>::isEmpty)?.let { QueryChannelsSpec(identifier.filter, identifier.sort, it) }
+    }
+
     /**
      * Select a channel from database without fetching messages
      *
@@ -103,4 +136,26 @@ internal class QueryChannelsDatabaseLogic(
     internal suspend fun insertChannelConfigs(configs: Collection<ChannelConfig>) {
         return channelConfigRepository.insertChannelConfigs(configs)
     }
+
+    private companion object {
+        private const val MAX_SCANNED_CHANNELS = 1000
+        private const val SCAN_CHUNK_SIZE = 100
+    }
+}
+
+/**
+ * Returns the conditions on the cid of a channel implied by the `cid` and `type` conditions of the filter's top level.
+ * Every channel matching the filter satisfies all of them.
+ */
+private fun FilterObject.cidConditions(): List<(cid: String) -> Boolean> = when (this) {
+    is AndFilterObject -> filterObjects.flatMap { it.cidConditions() }
+    is EqualsFilterObject -> cidConditions(fieldName, setOf(value))
+    is InFilterObject -> cidConditions(fieldName, values)
+    else -> emptyList()
+}
+
+private fun cidConditions(fieldName: String, values: Set<Any>): List<(cid: String) -> Boolean> = when (fieldName) {
+    "cid" -> listOf { cid -> cid in values }
+    "type" -> listOf { cid -> cid.substringBefore(':') in values }
+    else -> emptyList()
 }
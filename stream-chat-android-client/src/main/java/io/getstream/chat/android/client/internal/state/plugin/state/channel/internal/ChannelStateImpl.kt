@@ -32,6 +32,7 @@ import io.getstream.chat.android.client.internal.state.message.attachments.inter
 import io.getstream.chat.android.client.internal.state.plugin.state.channel.internal.ChannelStateImpl.Companion.CACHED_LATEST_MESSAGES_LIMIT
 import io.getstream.chat.android.client.internal.state.plugin.state.channel.internal.ChannelStateImpl.Companion.TRIM_BUFFER
 import io.getstream.chat.android.client.internal.state.utils.internal.combineStates
+import io.getstream.chat.android.client.internal.state.utils.internal.combineWithUsers
 import io.getstream.chat.android.client.internal.state.utils.internal.mapState
 import io.getstream.chat.android.client.internal.state.utils.internal.mergeSorted
 import io.getstream.chat.android.client.internal.state.utils.internal.updateIf
@@ -142,6 +143,17 @@ internal class ChannelStateImpl(
     private var lastStartTypingEvent: Date? = null
     private var keystrokeParentMessageId: String? = null
 
+    /**
+     * The creation date of the oldest/newest message evicted from the message window by the [messageLimit].
+     * Every message between these bounds and the current window was held in memory, hence persisted, so the evicted
+     * range can be served back from the database instead of the network.
+     */
+    @Volatile
+    private var evictedOlderBound: Date? = null
+
+    @Volatile
+    private var evictedNewerBound: Date? = null
+
     /**
      * Keeps track of messages who are linked with polls.
      * Key: Poll ID
@@ -208,7 +220,11 @@ internal class ChannelStateImpl(
 
     override val watcherCount: StateFlow<Int> = _watcherCount.asStateFlow()
 
-    override val watchers: StateFlow<List<User>> = combineStates(_watchers, latestUsers) { watchers, users ->
+    override val watchers: StateFlow<List<User>> = combineWithUsers(
+        flow = _watchers,
+        latestUsers = latestUsers,
+        referencedUserIds = { watchers -> watchers.mapTo(HashSet(), User::id) },
+    ) { watchers, users ->
         watchers.updateUsers(users)
     }
 
@@ -228,13 +244,21 @@ internal class ChannelStateImpl(
 
     override val membersCount: StateFlow<Int> = _memberCount.asStateFlow()
 
-    override val members: StateFlow<List<Member>> = combineStates(_members, latestUsers) { members, users ->
+    override val members: StateFlow<List<Member>> = combineWithUsers(
+        flow = _members,
+        latestUsers = latestUsers,
+        referencedUserIds = { members -> members.mapTo(HashSet(), Member::getUserId) },
+    ) { members, users ->
         members
             .updateUsers(users)
             .sortedBy(Member::createdAt)
     }
 
-    override val channelData: StateFlow<ChannelData> = combineStates(_channelData, latestUsers) { data, users ->
+    override val channelData: StateFlow<ChannelData> = combineWithUsers(
+        flow = _channelData,
+        latestUsers = latestUsers,
+        referencedUserIds = { data -> setOfNotNull(data?.createdBy?.id) },
+    ) { data, users ->
         if (data == null) {
             ChannelData(type = channelType, id = channelId)
         } else {
@@ -338,6 +362,9 @@ internal class ChannelStateImpl(
     fun setMessages(messages: List<Message>) {
         trackOwnThreadReply(messages)
         val messagesToSet = messages.filterNot { shouldIgnoreUpsertion(it) }
+        // The window is replaced, so the evicted ranges are no longer contiguous with it
+        evictedOlderBound = null
+        evictedNewerBound = null
         for (message in messagesToSet) {
             message.replyTo?.let { addQuotedMessage(it.id, message.id) }
             message.replyMessageId?.let { addQuotedMessage(it, message.id) }
@@ -1431,6 +1458,8 @@ internal class ChannelStateImpl(
 
         when (direction) {
             TrimDirection.FROM_OLDEST -> {
+                val evictedOldest = _messages.value.firstOrNull()?.getCreatedAtOrNull()
+                evictedOlderBound = listOfNotNull(evictedOlderBound, evictedOldest).minOrNull()
                 _messages.update { it.takeLast(limit) }
                 paginationManager.setEndOfOlderMessages(false)
                 paginationManager.setOldestMessage(_messages.value.firstOrNull())
@@ -1439,6 +1468,8 @@ internal class ChannelStateImpl(
             TrimDirection.FROM_NEWEST -> {
                 // Cache the latest messages before trimming to preserve them for later
                 cacheLatestMessages()
+                val evictedNewest = _messages.value.lastOrNull()?.getCreatedAtOrNull()
+                evictedNewerBound = listOfNotNull(evictedNewerBound, evictedNewest).maxOrNull()
                 _messages.update { it.take(limit) }
                 paginationManager.setEndOfNewerMessages(false)
                 paginationManager.setNewestMessage(_messages.value.lastOrNull())
@@ -1447,6 +1478,26 @@ internal class ChannelStateImpl(
         }
     }
 
+    /**
+     * Returns the creation date of the oldest message evicted from the window by [trimOldestMessages], if older
+     * messages were evicted and not yet restored. Messages created between this date and the oldest message of the
+     * window are persisted and can be read back from the database.
+     */
+    fun getEvictedOlderBound(): Date? {
+        val windowOldest = _messages.value.firstOrNull()?.getCreatedAtOrNull() ?: return null
+        return evictedOlderBound?.takeIf { it < windowOldest }
+    }
+
+    /**
+     * Returns the creation date of the newest message evicted from the window by [trimNewestMessages], if newer
+     * messages were evicted and not yet restored. Messages created between the newest message of the window and this
+     * date are persisted and can be read back from the database.
+     */
+    fun getEvictedNewerBound(): Date? {
+        val windowNewest = _messages.value.lastOrNull()?.getCreatedAtOrNull() ?: return null
+        return evictedNewerBound?.takeIf { it > windowNewest }
+    }
+
     /**
      * Sets whether the loading of the channel resulted in a error, and a recovery is needed.
      *
@@ -1560,6 +1611,8 @@ internal class ChannelStateImpl(
         _insideSearch.value = false
         lastStartTypingEvent = null
         keystrokeParentMessageId = null
+        evictedOlderBound = null
+        evictedNewerBound = null
 
         // Clear non-StateFlow mutable state
         messagesWithPolls.clear()
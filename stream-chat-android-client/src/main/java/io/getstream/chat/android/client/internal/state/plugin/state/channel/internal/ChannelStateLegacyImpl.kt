@@ -20,9 +20,11 @@ import io.getstream.chat.android.client.channel.state.ChannelState
 import io.getstream.chat.android.client.extensions.getCreatedAtOrDefault
 import io.getstream.chat.android.client.extensions.getCreatedAtOrNull
 import io.getstream.chat.android.client.extensions.internal.updateUsers
+import io.getstream.chat.android.client.extensions.internal.users
 import io.getstream.chat.android.client.extensions.internal.wasCreatedAfter
 import io.getstream.chat.android.client.extensions.syncUnreadCountWithReads
 import io.getstream.chat.android.client.internal.state.utils.internal.combineStates
+import io.getstream.chat.android.client.internal.state.utils.internal.combineWithUsers
 import io.getstream.chat.android.client.internal.state.utils.internal.mapState
 import io.getstream.chat.android.client.utils.message.isDeleted
 import io.getstream.chat.android.client.utils.message.isPinned
@@ -140,7 +142,11 @@ internal class ChannelStateLegacyImpl(
 
     /** The raw message list updated by recent users value. */
     val messageList: StateFlow<List<Message>> =
-        combineStates(_messages!!, latestUsers) { messageMap, userMap -> messageMap.values.updateUsers(userMap) }
+        combineWithUsers(
+            flow = _messages!!,
+            latestUsers = latestUsers,
+            referencedUserIds = { messageMap -> messageMap.values.flatMapTo(HashSet()) { it.users().map(User::id) } },
+        ) { messageMap, userMap -> messageMap.values.updateUsers(userMap) }
 
     val pinnedMessagesList: StateFlow<List<Message>> =
         combineStates(_pinnedMessages!!, latestUsers) { pinnedMessagesMap, userMap ->
@@ -219,7 +225,11 @@ internal class ChannelStateLegacyImpl(
     override val watcherCount: StateFlow<Int> = _watcherCount!!
 
     override val watchers: StateFlow<List<User>> =
-        combineStates(_watchers!!, latestUsers) { watcherMap, userMap -> watcherMap.values.updateUsers(userMap) }
+        combineWithUsers(
+            flow = _watchers!!,
+            latestUsers = latestUsers,
+            referencedUserIds = { watcherMap -> watcherMap.keys },
+        ) { watcherMap, userMap -> watcherMap.values.updateUsers(userMap) }
             .mapState { it.sortedBy(User::createdAt) }
 
     override val typing: StateFlow<TypingEvent> = _typing!!
@@ -233,13 +243,21 @@ internal class ChannelStateLegacyImpl(
     override val unreadCount: StateFlow<Int> = read.mapState { it?.unreadMessages ?: 0 }
 
     override val members: StateFlow<List<Member>> =
-        combineStates(_members!!, latestUsers) { membersMap, usersMap -> membersMap.values.updateUsers(usersMap) }
+        combineWithUsers(
+            flow = _members!!,
+            latestUsers = latestUsers,
+            referencedUserIds = { membersMap -> membersMap.values.mapTo(HashSet(), Member::getUserId) },
+        ) { membersMap, usersMap -> membersMap.values.updateUsers(usersMap) }
             .mapState { it.sortedBy(Member::createdAt) }
 
     override val membersCount: StateFlow<Int> = _membersCount!!
 
     override val channelData: StateFlow<ChannelData> =
-        combineStates(_channelData!!, latestUsers) { channelData, users ->
+        combineWithUsers(
+            flow = _channelData!!,
+            latestUsers = latestUsers,
+            referencedUserIds = { channelData -> setOfNotNull(channelData?.createdBy?.id) },
+        ) { channelData, users ->
             if (channelData == null) {
                 ChannelData(
                     type = channelType,
@@ -24,8 +24,6 @@ import io.getstream.chat.android.client.api.state.ChannelsStateData
 import io.getstream.chat.android.client.api.state.QueryChannelsState
 import io.getstream.chat.android.client.api.state.querychannels.GroupedQueryConfig
 import io.getstream.chat.android.client.events.ChatEvent
-import io.getstream.chat.android.client.extensions.internal.updateLiveLocations
-import io.getstream.chat.android.client.extensions.internal.updateUsers
 import io.getstream.chat.android.client.internal.state.plugin.QueryChannelsIdentifier
 import io.getstream.chat.android.client.query.QueryChannelsSpec
 import io.getstream.chat.android.models.Channel
@@ -127,12 +125,10 @@ internal class QueryChannelsMutableState(
         get() = if (channels.value.isNullOrEmpty()) loading else loadingMore
 
     private var _endOfChannels: MutableStateFlow<Boolean>? = MutableStateFlow(false)
+    private val sortedChannelIndex = SortedChannelIndex()
     private val sortedChannels: StateFlow<List<Channel>?> =
         combine(mapChannels, latestUsers, activeLiveLocations, _sort) { channelMap, userMap, activeLocations, sort ->
-            channelMap?.values
-                ?.updateUsers(userMap)
-                ?.updateLiveLocations(activeLocations)
-                ?.sortedWith(sort.comparator)
+            sortedChannelIndex.update(channelMap, userMap, activeLocations, sort)
         }.stateIn(scope, SharingStarted.Eagerly, null)
     private var _currentRequest: MutableStateFlow<QueryChannelsRequest?>? = MutableStateFlow(null)
     private var _recoveryNeeded: MutableStateFlow<Boolean>? = MutableStateFlow(false)
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.client.internal.state.plugin.state.querychannels.internal
+
+import io.getstream.chat.android.client.extensions.internal.updateUsers
+import io.getstream.chat.android.client.extensions.internal.users
+import io.getstream.chat.android.client.internal.offline.repository.domain.user.internal.changedUserIds
+import io.getstream.chat.android.models.Channel
+import io.getstream.chat.android.models.Location
+import io.getstream.chat.android.models.User
+import io.getstream.chat.android.models.querysort.QuerySorter
+import io.getstream.chat.android.models.querysort.sortedWithQuery
+
+/**
+ * Keeps the channels of a query enriched with the latest users and live locations, and sorted by the query sort.
+ *
+ * Instead of enriching and re-sorting every channel on each update, the index compares the new inputs with the
+ * previous ones and only repositions the affected channels: the channels which changed, the channels referencing a
+ * changed user and the channels whose live locations changed. Each of them is removed and re-inserted with a binary
+ * search, so a single update costs O(log n) comparisons. Falls back to a full rebuild when the sort changes or when
+ * a large part of the list is affected anyway.
+ *
+ * The changed users are resolved with [changedUserIds], which reads the change log of the latest users snapshots, so
+ * an update of a single user doesn't scan the whole user map.
+ *
+ * Not thread safe, meant to be driven by a single collector.
+ */
+internal class SortedChannelIndex {
+
+    private var sort: QuerySorter<Channel>? = null
+    private lateinit var comparator: Comparator<in Channel>
+
+    private var rawChannels: Map<String, Channel> = emptyMap()
+    private var users: Map<String, User> = emptyMap()
+    private var locationsByCid: Map<String, List<Location>> = emptyMap()
+
+    private val enrichedChannels = HashMap<String, Channel>()
+    private val cidsByUserId = HashMap<String, MutableSet<String>>()
+    private val sortedChannels = ArrayList<Channel>()
+    private var result: List<Channel>? = null
+
+    /**
+     * Applies the latest inputs and returns the sorted, enriched channels.
+     *
+     * @param channelMap The raw channels of the query, or null if no query is active.
+     * @param userMap The latest known users.
+     * @param locations The active live locations.
+     * @param sort The sort of the query.
+     * @return The sorted channels, or null if [channelMap] is null.
+     */
+    fun update(
+        channelMap: Map<String, Channel>?,
+        userMap: Map<String, User>,
+        locations: List<Location>,
+        sort: QuerySorter<Channel>,
+    ): List<Channel>? {
+        if (channelMap == null) {
+            clear()
+            return null
+        }
+        val newLocationsByCid = locations.groupBy(Location::cid)
+        if (sort !== this.sort) {
+            this.sort = sort
+            // Resolved once per sort, the custom sorters outside of BaseQuerySort may build it on every access
+            comparator = sort.comparator
+            rebuild(channelMap, userMap, newLocationsByCid, sort)
+        } else {
+            val changedCids = changedCids(channelMap, userMap, newLocationsByCid)
+            if (changedCids.size > channelMap.size / REBUILD_RATIO) {
+                rebuild(channelMap, userMap, newLocationsByCid, sort)
+            } else {
+                changedCids.forEach { cid -> reposition(cid, channelMap[cid], userMap, newLocationsByCid) }
+            }
+            // Keeps the previous list when nothing shown by the query changed, e.g. an unrelated user was updated
+            if (changedCids.isNotEmpty()) result = null
+        }
+        rawChannels = channelMap
+        users = userMap
+        locationsByCid = newLocationsByCid
+        return result ?: sortedChannels.toList().also { result = it }
+    }
+
+    private fun changedCids(
+        channelMap: Map<String, Channel>,
+        userMap: Map<String, User>,
+        newLocationsByCid: Map<String, List<Location>>,
+    ): Set<String> {
+        val changed = HashSet<String>()
+        if (channelMap !== rawChannels) {
+            channelMap.forEach { (cid, channel) -> if (rawChannels[cid] !== channel) changed += cid }
+            rawChannels.keys.forEach { cid -> if (cid !in channelMap) changed += cid }
+        }
+        userMap.changedUserIds(users).forEach { id -> cidsByUserId[id]?.let(changed::addAll) }
+        if (newLocationsByCid != locationsByCid) {
+            (newLocationsByCid.keys + locationsByCid.keys).forEach { cid ->
+                if (newLocationsByCid[cid] != locationsByCid[cid]) changed += cid
+            }
+        }
+        return changed
+    }
+
+    private fun rebuild(
+        channelMap: Map<String, Channel>,
+        userMap: Map<String, User>,
+        newLocationsByCid: Map<String, List<Location>>,
+        sort: QuerySorter<Channel>,
+    ) {
+        clear()
+        channelMap.forEach { (cid, channel) ->
+            enrichedChannels[cid] = channel.enrich(userMap, newLocationsByCid)
+            indexUsers(cid, channel)
+        }
+        // Sorted in map order, like a plain sortedWith, so ties keep the order of the raw channels
+        sortedChannels += channelMap.keys.map(enrichedChannels::getValue).sortedWithQuery(sort)
+    }
+
+    private fun reposition(
+        cid: String,
+        channel: Channel?,
+        userMap: Map<String, User>,
+        newLocationsByCid: Map<String, List<Location>>,
+    ) {
+        enrichedChannels.remove(cid)?.let(::removeSorted)
+        rawChannels[cid]?.let { unindexUsers(cid, it) }
+        if (channel != null) {
+            val enriched = channel.enrich(userMap, newLocationsByCid)
+            enrichedChannels[cid] = enriched
+            insertSorted(enriched)
+            indexUsers(cid, channel)
+        }
+    }
+
+    private fun removeSorted(channel: Channel) {
+        val index = indexOfSorted(channel)
+        if (index >= 0) sortedChannels.removeAt(index)
+    }
+
+    private fun indexOfSorted(channel: Channel): Int {
+        val found = sortedChannels.binarySearch(channel, comparator)
+        if (found < 0) return sortedChannels.indexOfFirst { it.cid == channel.cid }
+        // Ties share the comparator position, look for the channel itself among them
+        var index = found
+        while (index >= 0 && comparator.compare(sortedChannels[index], channel) == 0) {
+            if (sortedChannels[index].cid == channel.cid) return index
+            index--
+        }
+        index = found + 1
+        while (index < sortedChannels.size && comparator.compare(sortedChannels[index], channel) == 0) {
+            if (sortedChannels[index].cid == channel.cid) return index
+            index++
+        }
+        return sortedChannels.indexOfFirst { it.cid == channel.cid }
+    }
+
+    private fun insertSorted(channel: Channel) {
+        // Upper bound, so an updated channel goes after the channels it ties with
+        var low = 0
+        var high = sortedChannels.size
+        while (low < high) {
+            val mid = (low + high) ushr 1
+            if (comparator.compare(sortedChannels[mid], channel) <= 0) low = mid + 1 else high = mid
+        }
+        sortedChannels.add(low, channel)
+    }
+
+    private fun indexUsers(cid: String, channel: Channel) {
+        channel.users().forEach { user -> cidsByUserId.getOrPut(user.id) { HashSet() } += cid }
+    }
+
+    private fun unindexUsers(cid: String, channel: Channel) {
+        channel.users().forEach { user ->
+            val cids = cidsByUserId[user.id] ?: return@forEach
+            cids -= cid
+            if (cids.isEmpty()) cidsByUserId -= user.id
+        }
+    }
+
+    private fun clear() {
+        enrichedChannels.clear()
+        cidsByUserId.clear()
+        sortedChannels.clear()
+        rawChannels = emptyMap()
+        result = null
+    }
+
+    private fun Channel.enrich(userMap: Map<String, User>, locationsByCid: Map<String, List<Location>>): Channel =
+        updateUsers(userMap).copy(activeLiveLocations = locationsByCid[cid].orEmpty())
+
+    private companion object {
+        /**
+         * Above one changed channel in [REBUILD_RATIO], rebuilding the index is cheaper than repositioning.
+         */
+        private const val REBUILD_RATIO = 4
+    }
+}
@@ -16,6 +16,8 @@
 
 package io.getstream.chat.android.client.internal.state.utils.internal
 
+import io.getstream.chat.android.client.internal.offline.repository.domain.user.internal.changedUserIds
+import io.getstream.chat.android.models.User
 import kotlinx.coroutines.InternalCoroutinesApi
 import kotlinx.coroutines.coroutineScope
 import kotlinx.coroutines.flow.Flow
@@ -76,3 +78,49 @@ internal fun <T1, T2, T3, R> combineStates(
         flow = combine(flow, flow2, flow3) { a, b, c -> transform(a, b, c) },
     )
 }
+
+/**
+ * Combines [flow] with the [latestUsers], like [combineStates], but runs [transform] again only when [flow] changes or
+ * when one of the users returned by [referencedUserIds] changes. Updates of other users keep the previous result, so
+ * they aren't emitted downstream.
+ */
+internal fun <T, R> combineWithUsers(
+    flow: StateFlow<T>,
+    latestUsers: StateFlow<Map<String, User>>,
+    referencedUserIds: (value: T) -> Set<String>,
+    transform: (value: T, users: Map<String, User>) -> R,
+): StateFlow<R> {
+    val memo = ReferencedUsersMemo(referencedUserIds, transform)
+    return combineStates(flow, latestUsers, memo::apply)
+}
+
+/**
+ * Remembers the last result of [transform] together with the inputs and the users it depends on.
+ */
+private class ReferencedUsersMemo<T, R>(
+    private val referencedUserIds: (value: T) -> Set<String>,
+    private val transform: (value: T, users: Map<String, User>) -> R,
+) {
+
+    private var last: Entry<T, R>? = null
+
+    @Synchronized
+    fun apply(value: T, users: Map<String, User>): R {
+        val last = last
+        if (last != null && last.value === value) {
+            if (last.users === users || users.changedUserIds(last.users).none(last.userIds::contains)) {
+                this.last = last.copy(users = users)
+                return last.result
+            }
+        }
+        val userIds = if (last != null && last.value === value) last.userIds else referencedUserIds(value)
+        return transform(value, users).also { this.last = Entry(value, users, userIds, it) }
+    }
+
+    private data class Entry<T, R>(
+        val value: T,
+        val users: Map<String, User>,
+        val userIds: Set<String>,
+        val result: R,
+    )
+}
@@ -103,6 +103,11 @@ internal class NetworkStateProvider(
         }
     }
 
+    /**
+     * Returns true when the active network is metered, or when it cannot be determined.
+     */
+    fun isMetered(): Boolean = runCatching { connectivityManager.isActiveNetworkMetered }.getOrDefault(true)
+
     fun subscribe(listener: NetworkStateListener) {
         synchronized(lock) {
             listeners = listeners + listener
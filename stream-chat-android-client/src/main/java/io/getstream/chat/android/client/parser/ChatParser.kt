@@ -25,6 +25,7 @@ import io.getstream.result.Error
 import io.getstream.result.Result
 import okhttp3.Response
 import okhttp3.ResponseBody
+import okio.BufferedSource
 import retrofit2.Retrofit
 
 internal interface ChatParser {
@@ -33,6 +34,13 @@ internal interface ChatParser {
 
     fun toJson(any: Any): String
     fun <T : Any> fromJson(raw: String, clazz: Class<T>): T
+
+    /**
+     * Parses the JSON held by [source] into [clazz]. Implementations can override it to read the bytes directly
+     * instead of decoding them into an intermediate [String] first.
+     */
+    fun <T : Any> fromJson(source: BufferedSource, clazz: Class<T>): T = fromJson(source.readUtf8(), clazz)
+
     fun configRetrofit(builder: Retrofit.Builder): Retrofit.Builder
 
     @Suppress("TooGenericExceptionCaught")
@@ -46,6 +54,15 @@ internal interface ChatParser {
         }
     }
 
+    @Suppress("TooGenericExceptionCaught")
+    fun <T : Any> fromJsonOrError(source: BufferedSource, clazz: Class<T>): Result<T> {
+        return try {
+            Result.Success(fromJson(source, clazz))
+        } catch (expected: Throwable) {
+            Result.Failure(Error.ThrowableError("fromJsonOrError error parsing of $clazz", expected))
+        }
+    }
+
     @Suppress("TooGenericExceptionCaught", "NestedBlockDepth")
     fun toError(okHttpResponse: Response): Error.NetworkError {
         val statusCode: Int = okHttpResponse.code
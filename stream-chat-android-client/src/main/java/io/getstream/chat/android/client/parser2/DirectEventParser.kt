@@ -22,28 +22,43 @@ import com.squareup.moshi.Moshi
 import io.getstream.chat.android.client.events.ChatEvent
 import io.getstream.chat.android.client.parser2.adapters.DateAdapter
 import io.getstream.chat.android.client.parser2.direct.AttachmentAdapter
+import io.getstream.chat.android.client.parser2.direct.ChannelAdapter
 import io.getstream.chat.android.client.parser2.direct.ChannelInfoAdapter
+import io.getstream.chat.android.client.parser2.direct.ChannelUserReadAdapter
+import io.getstream.chat.android.client.parser2.direct.CommandAdapter
+import io.getstream.chat.android.client.parser2.direct.ConfigAdapter
 import io.getstream.chat.android.client.parser2.direct.DeviceAdapter
+import io.getstream.chat.android.client.parser2.direct.HealthEventAdapter
 import io.getstream.chat.android.client.parser2.direct.LocationAdapter
+import io.getstream.chat.android.client.parser2.direct.MemberAdapter
 import io.getstream.chat.android.client.parser2.direct.MessageAdapter
 import io.getstream.chat.android.client.parser2.direct.MessageModerationDetailsAdapter
+import io.getstream.chat.android.client.parser2.direct.MessageReadEventAdapter
 import io.getstream.chat.android.client.parser2.direct.MessageReminderInfoAdapter
+import io.getstream.chat.android.client.parser2.direct.MessageUpdatedEventAdapter
 import io.getstream.chat.android.client.parser2.direct.ModerationAdapter
 import io.getstream.chat.android.client.parser2.direct.NewMessageEventAdapter
+import io.getstream.chat.android.client.parser2.direct.NotificationMessageNewEventAdapter
 import io.getstream.chat.android.client.parser2.direct.OptionAdapter
 import io.getstream.chat.android.client.parser2.direct.PollAdapter
 import io.getstream.chat.android.client.parser2.direct.PrivacySettingsAdapter
 import io.getstream.chat.android.client.parser2.direct.ReactionAdapter
+import io.getstream.chat.android.client.parser2.direct.ReactionEventAdapter
 import io.getstream.chat.android.client.parser2.direct.ReactionGroupAdapter
+import io.getstream.chat.android.client.parser2.direct.ThreadInfoAdapter
+import io.getstream.chat.android.client.parser2.direct.TypingEventAdapter
 import io.getstream.chat.android.client.parser2.direct.UserAdapter
 import io.getstream.chat.android.client.parser2.direct.UserGroupAdapter
 import io.getstream.chat.android.client.parser2.direct.UserGroupMemberAdapter
+import io.getstream.chat.android.client.parser2.direct.UserPresenceChangedEventAdapter
+import io.getstream.chat.android.models.ChannelTransformer
 import io.getstream.chat.android.models.EventType
 import io.getstream.chat.android.models.MessageTransformer
 import io.getstream.chat.android.models.UserId
 import io.getstream.chat.android.models.UserTransformer
 import io.getstream.log.taggedLogger
 import okio.Buffer
+import okio.BufferedSource
 import java.util.Date
 
 /**
@@ -53,6 +68,7 @@ import java.util.Date
  */
 internal class DirectEventParser(
     private val currentUserIdProvider: () -> UserId?,
+    private val channelTransformer: ChannelTransformer,
     private val messageTransformer: MessageTransformer,
     private val userTransformer: UserTransformer,
 ) {
@@ -70,6 +86,8 @@ internal class DirectEventParser(
     private val optionAdapter by lazy { OptionAdapter() }
     private val locationAdapter by lazy { LocationAdapter(dateAdapter) }
     private val reactionGroupAdapter by lazy { ReactionGroupAdapter(dateAdapter) }
+    private val commandAdapter by lazy { CommandAdapter() }
+    private val configAdapter by lazy { ConfigAdapter(commandAdapter, dateAdapter) }
 
     // endregion
 
@@ -92,6 +110,17 @@ internal class DirectEventParser(
             pollAdapter, reminderAdapter, locationAdapter, dateAdapter, messageTransformer,
         )
     }
+    private val memberAdapter by lazy { MemberAdapter(userAdapter, dateAdapter) }
+    private val channelUserReadAdapter by lazy { ChannelUserReadAdapter(userAdapter, dateAdapter) }
+    private val channelAdapter by lazy {
+        ChannelAdapter(
+            messageAdapter, memberAdapter, userAdapter, channelUserReadAdapter, configAdapter,
+            locationAdapter, dateAdapter, currentUserIdProvider, channelTransformer,
+        )
+    }
+    private val threadInfoAdapter by lazy {
+        ThreadInfoAdapter(channelAdapter, messageAdapter, userAdapter, dateAdapter)
+    }
 
     // endregion
 
@@ -100,23 +129,66 @@ internal class DirectEventParser(
     private val newMessageEventAdapter by lazy {
         NewMessageEventAdapter(messageAdapter, userAdapter)
     }
+    private val messageUpdatedEventAdapter by lazy {
+        MessageUpdatedEventAdapter(messageAdapter, userAdapter)
+    }
+    private val notificationMessageNewEventAdapter by lazy {
+        NotificationMessageNewEventAdapter(channelAdapter, messageAdapter)
+    }
+    private val messageReadEventAdapter by lazy { MessageReadEventAdapter(threadInfoAdapter, userAdapter) }
+    private val reactionEventAdapter by lazy { ReactionEventAdapter(messageAdapter, reactionAdapter, userAdapter) }
+    private val typingEventAdapter by lazy { TypingEventAdapter(userAdapter) }
+    private val userPresenceChangedEventAdapter by lazy { UserPresenceChangedEventAdapter(userAdapter) }
+    private val healthEventAdapter by lazy { HealthEventAdapter() }
 
     // endregion
 
-    /** Registry mapping event type strings to their direct adapters. */
+    /**
+     * Registry mapping event type strings to their direct adapters.
+     * Covers the high-frequency events; everything else goes through the DTO path.
+     */
     private val adapterMap: Map<String, JsonAdapter<out ChatEvent>> by lazy {
-        mapOf(EventType.MESSAGE_NEW to newMessageEventAdapter)
+        mapOf(
+            EventType.MESSAGE_NEW to newMessageEventAdapter,
+            EventType.MESSAGE_UPDATED to messageUpdatedEventAdapter,
+            EventType.NOTIFICATION_MESSAGE_NEW to notificationMessageNewEventAdapter,
+            EventType.MESSAGE_READ to messageReadEventAdapter,
+            EventType.REACTION_NEW to reactionEventAdapter,
+            EventType.REACTION_UPDATED to reactionEventAdapter,
+            EventType.REACTION_DELETED to reactionEventAdapter,
+            EventType.TYPING_START to typingEventAdapter,
+            EventType.TYPING_STOP to typingEventAdapter,
+            EventType.USER_PRESENCE_CHANGED to userPresenceChangedEventAdapter,
+            EventType.HEALTH_CHECK to healthEventAdapter,
+        )
     }
 
     /**
      * Attempts to parse [raw] JSON into a [ChatEvent] using a direct adapter.
      * Returns `null` if the event type is not supported by any direct adapter,
+     * if the adapter declines the payload (e.g. a `health.check` carrying `me`),
      * or if the matching adapter throws — allowing the caller to fall back to the DTO path.
      */
     fun parse(raw: String): ChatEvent? {
-        val type = extractType(raw) ?: return null
+        val buffer = Buffer().writeUtf8(raw)
+        return try {
+            parse(buffer)
+        } finally {
+            buffer.clear()
+        }
+    }
+
+    /**
+     * Attempts to parse the JSON event held by [source] into a [ChatEvent] using a direct adapter.
+     *
+     * Type detection and the full parse both read through [BufferedSource.peek], sharing the segments of
+     * [source] without copying them, and leave [source] unconsumed so the caller can hand it to the DTO
+     * path when this returns `null`.
+     */
+    fun parse(source: BufferedSource): ChatEvent? {
+        val type = extractType(source.peek()) ?: return null
         val adapter = adapterMap[type] ?: return null
-        return runCatching { adapter.fromJson(raw) }
+        return runCatching { adapter.fromJson(source.peek()) }
             .onFailure { e ->
                 logger.v { "Direct parse failed for '$type'; falling back to DTO path: ${e.message}" }
             }
@@ -127,26 +199,38 @@ internal class DirectEventParser(
 
         private val logger by taggedLogger("DirectEventParser")
 
+        private val typeOptions = JsonReader.Options.of("type")
+
         /**
          * Extracts the `"type"` field value from the top level of a JSON object
          * using a streaming [JsonReader]. Stops as soon as the field is found.
          */
-        @Suppress("NestedBlockDepth")
         internal fun extractType(raw: String): String? {
             if (raw.isBlank()) return null
-            val reader = JsonReader.of(Buffer().writeUtf8(raw))
+            return extractType(Buffer().writeUtf8(raw))
+        }
+
+        /**
+         * Extracts the `"type"` field value from the top level of the JSON object in [source].
+         * Consumes [source] only up to the field; callers that need the payload afterwards should pass a
+         * [BufferedSource.peek].
+         */
+        @Suppress("NestedBlockDepth")
+        internal fun extractType(source: BufferedSource): String? {
+            val reader = JsonReader.of(source)
             return try {
                 reader.use {
                     if (it.peek() != JsonReader.Token.BEGIN_OBJECT) return null
                     it.beginObject()
                     while (it.hasNext()) {
-                        if (it.nextName() == "type") {
+                        if (it.selectName(typeOptions) == 0) {
                             return if (it.peek() == JsonReader.Token.NULL) {
                                 it.nextNull<String>()
                             } else {
                                 it.nextString()
                             }
                         } else {
+                            it.skipName()
                             it.skipValue()
                         }
                     }
@@ -53,6 +53,8 @@ import io.getstream.chat.android.client.parser2.adapters.UpstreamReactionDtoAdap
 import io.getstream.chat.android.client.parser2.adapters.UpstreamUserDtoAdapter
 import io.getstream.chat.android.client.socket.ErrorResponse
 import io.getstream.chat.android.client.socket.SocketErrorMessage
+import okio.Buffer
+import okio.BufferedSource
 import retrofit2.Retrofit
 import retrofit2.converter.moshi.MoshiConverterFactory
 
@@ -118,36 +120,46 @@ internal class MoshiChatParser(
         return upstreamConnectedEventAdapter.toJson(eventDto)
     }
 
-    @Suppress("UNCHECKED_CAST")
     override fun <T : Any> fromJson(raw: String, clazz: Class<T>): T {
+        val buffer = Buffer().writeUtf8(raw)
+        return try {
+            fromJson(buffer, clazz)
+        } finally {
+            buffer.clear()
+        }
+    }
+
+    @Suppress("UNCHECKED_CAST")
+    override fun <T : Any> fromJson(source: BufferedSource, clazz: Class<T>): T {
         return when (clazz) {
-            ChatEvent::class.java -> parseAndProcessEvent(raw) as T
-            SocketErrorMessage::class.java -> parseSocketError(raw) as T
-            ErrorResponse::class.java -> parseErrorResponse(raw) as T
-            else -> return moshi.adapter(clazz).fromJson(raw)!!
+            ChatEvent::class.java -> parseAndProcessEvent(source) as T
+            SocketErrorMessage::class.java -> parseSocketError(source) as T
+            ErrorResponse::class.java -> parseErrorResponse(source) as T
+            else -> return moshi.adapter(clazz).fromJson(source)!!
         }
     }
 
     private val socketErrorResponseAdapter = moshi.adapter(SocketErrorResponse::class.java)
 
-    private fun parseSocketError(raw: String): SocketErrorMessage {
-        return socketErrorResponseAdapter.fromJson(raw)!!.toDomain()
+    private fun parseSocketError(source: BufferedSource): SocketErrorMessage {
+        return socketErrorResponseAdapter.fromJson(source)!!.toDomain()
     }
 
     private val errorResponseAdapter = moshi.adapter(SocketErrorResponse.ErrorResponse::class.java)
 
-    private fun parseErrorResponse(raw: String): ErrorResponse {
-        return errorResponseAdapter.fromJson(raw)!!.toDomain()
+    private fun parseErrorResponse(source: BufferedSource): ErrorResponse {
+        return errorResponseAdapter.fromJson(source)!!.toDomain()
     }
 
     private val chatEventDtoAdapter = moshi.adapter(ChatEventDto::class.java)
 
-    private fun parseAndProcessEvent(raw: String): ChatEvent {
-        val directEvent = directEventParser?.parse(raw)
+    private fun parseAndProcessEvent(source: BufferedSource): ChatEvent {
+        // The direct parser only peeks at the source, so it is still intact for the DTO fallback.
+        val directEvent = directEventParser?.parse(source)
         if (directEvent != null) {
             // Direct adapters handle enrichment inline — no enrichIfNeeded() needed.
             return directEvent
         }
-        return with(eventMapping) { chatEventDtoAdapter.fromJson(raw)!!.toDomain() }.enrichIfNeeded()
+        return with(eventMapping) { chatEventDtoAdapter.fromJson(source)!!.toDomain() }.enrichIfNeeded()
     }
 }
@@ -28,9 +28,10 @@ internal object AttachmentDtoAdapter : CustomObjectDtoAdapter<AttachmentDto>(Att
     @FromJson
     fun fromJson(
         jsonReader: JsonReader,
-        mapAdapter: JsonAdapter<MutableMap<String, Any>>,
         messageAdapter: JsonAdapter<AttachmentDto>,
-    ): AttachmentDto? = parseWithExtraData(jsonReader, mapAdapter, messageAdapter)
+    ): AttachmentDto? = parseWithExtraData(jsonReader, messageAdapter) { dto, extraData ->
+        dto.copy(extraData = extraData)
+    }
 
     @ToJson
     fun toJson(
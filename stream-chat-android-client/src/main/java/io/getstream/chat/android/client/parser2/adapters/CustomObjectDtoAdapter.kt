@@ -19,6 +19,8 @@ package io.getstream.chat.android.client.parser2.adapters
 import com.squareup.moshi.JsonAdapter
 import com.squareup.moshi.JsonReader
 import com.squareup.moshi.JsonWriter
+import io.getstream.chat.android.client.utils.internal.LazyExtraData
+import okio.Buffer
 import kotlin.reflect.KClass
 
 /**
@@ -42,41 +44,50 @@ internal open class CustomObjectDtoAdapter<Value : Any>(private val kClass: KCla
 
     /**
      * Moves all values in the input JSON that are not declared properties of
-     * [Value] into an extraValue field, and then parses a [Value] instance
-     * from this transformed data.
+     * [Value] into its extraData, and parses a [Value] instance from the
+     * remaining declared properties.
+     *
+     * The extra values are copied as raw JSON while streaming the object and
+     * attached through [withExtraData] as a [LazyExtraData], so they are only
+     * decoded if something reads them.
      */
     protected fun parseWithExtraData(
         jsonReader: JsonReader,
-        mapAdapter: JsonAdapter<MutableMap<String, Any>>,
         valueAdapter: JsonAdapter<Value>,
+        withExtraData: (value: Value, extraData: Map<String, Any>) -> Value,
     ): Value? {
         if (jsonReader.peek() == JsonReader.Token.NULL) {
             jsonReader.nextNull<Nothing?>()
             return null
         }
 
-        // Parse full JSON content as a MutableMap
-        val map = mapAdapter.fromJson(jsonReader)!!
-
-        val extraData = mutableMapOf<String, Any>()
-
-        // Save the value of the literal "extraData" field at the root of the object, if present
-        map[EXTRA_DATA]?.let { explicitExtraData ->
-            extraData[EXTRA_DATA] = explicitExtraData
-        }
-
-        // Save the values of non-member fields as extra data
-        map.forEach { entry ->
-            if (entry.key !in memberNames) {
-                extraData[entry.key] = entry.value
+        val members = Buffer()
+        val extraData = LazyExtraData.Builder()
+        JsonWriter.of(members).use { membersWriter ->
+            membersWriter.beginObject()
+            jsonReader.beginObject()
+            while (jsonReader.hasNext()) {
+                val name = jsonReader.nextName()
+                // The literal "extraData" field at the root of the object is not a member, so it is kept as well
+                if (name in memberNames) {
+                    membersWriter.name(name)
+                    jsonReader.nextSource().use { source ->
+                        membersWriter.valueSink().use { sink -> sink.writeAll(source) }
+                    }
+                } else {
+                    extraData.add(name, jsonReader)
+                }
             }
-        }
+            jsonReader.endObject()
 
-        // Replace original "extraData" with the newly collected values
-        map[EXTRA_DATA] = extraData
+            // The real extraData is attached below, without being parsed by the value adapter
+            membersWriter.name(EXTRA_DATA).beginObject().endObject()
+            membersWriter.endObject()
+        }
 
-        // Parse output value object from the transformed Map
-        return valueAdapter.fromJsonValue(map)!!
+        // Parse output value object from the declared properties
+        val value = valueAdapter.fromJson(members)!!
+        return withExtraData(value, extraData.build())
     }
 
     /**
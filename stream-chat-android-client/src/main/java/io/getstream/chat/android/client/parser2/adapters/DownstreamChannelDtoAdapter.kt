@@ -29,9 +29,10 @@ internal object DownstreamChannelDtoAdapter :
     @FromJson
     fun fromJson(
         jsonReader: JsonReader,
-        mapAdapter: JsonAdapter<MutableMap<String, Any>>,
         messageAdapter: JsonAdapter<DownstreamChannelDto>,
-    ): DownstreamChannelDto? = parseWithExtraData(jsonReader, mapAdapter, messageAdapter)
+    ): DownstreamChannelDto? = parseWithExtraData(jsonReader, messageAdapter) { dto, extraData ->
+        dto.copy(extraData = extraData)
+    }
 
     @ToJson
     @Suppress("UNUSED_PARAMETER")
@@ -29,9 +29,10 @@ internal object DownstreamModerationDetailsDtoAdapter :
     @FromJson
     fun fromJson(
         jsonReader: JsonReader,
-        mapAdapter: JsonAdapter<MutableMap<String, Any>>,
         messageAdapter: JsonAdapter<DownstreamModerationDetailsDto>,
-    ): DownstreamModerationDetailsDto? = parseWithExtraData(jsonReader, mapAdapter, messageAdapter)
+    ): DownstreamModerationDetailsDto? = parseWithExtraData(jsonReader, messageAdapter) { dto, extraData ->
+        dto.copy(extraData = extraData)
+    }
 
     @ToJson
     @Suppress("UNUSED_PARAMETER")
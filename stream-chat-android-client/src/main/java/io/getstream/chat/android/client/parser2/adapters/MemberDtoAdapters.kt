@@ -33,9 +33,10 @@ internal object DownstreamMemberDtoAdapter : CustomObjectDtoAdapter<DownstreamMe
     @FromJson
     fun fromJson(
         jsonReader: JsonReader,
-        mapAdapter: JsonAdapter<MutableMap<String, Any>>,
         memberAdapter: JsonAdapter<DownstreamMemberDto>,
-    ): DownstreamMemberDto? = parseWithExtraData(jsonReader, mapAdapter, memberAdapter)
+    ): DownstreamMemberDto? = parseWithExtraData(jsonReader, memberAdapter) { dto, extraData ->
+        dto.copy(extraData = extraData)
+    }
 
     @ToJson
     @Suppress("UNUSED_PARAMETER")
@@ -30,9 +30,10 @@ internal object DownstreamMessageDtoAdapter :
     @FromJson
     fun fromJson(
         jsonReader: JsonReader,
-        mapAdapter: JsonAdapter<MutableMap<String, Any>>,
         messageAdapter: JsonAdapter<DownstreamMessageDto>,
-    ): DownstreamMessageDto? = parseWithExtraData(jsonReader, mapAdapter, messageAdapter)
+    ): DownstreamMessageDto? = parseWithExtraData(jsonReader, messageAdapter) { dto, extraData ->
+        dto.copy(extraData = extraData)
+    }
 
     @ToJson
     @Suppress("UNUSED_PARAMETER")
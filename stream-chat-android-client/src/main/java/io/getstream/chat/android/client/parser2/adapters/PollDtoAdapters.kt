@@ -35,9 +35,10 @@ internal object DownstreamPollDtoAdapter : CustomObjectDtoAdapter<DownstreamPoll
     @FromJson
     fun fromJson(
         jsonReader: JsonReader,
-        mapAdapter: JsonAdapter<MutableMap<String, Any>>,
         pollAdapter: JsonAdapter<DownstreamPollDto>,
-    ): DownstreamPollDto? = parseWithExtraData(jsonReader, mapAdapter, pollAdapter)
+    ): DownstreamPollDto? = parseWithExtraData(jsonReader, pollAdapter) { dto, extraData ->
+        dto.copy(extraData = extraData)
+    }
 
     @ToJson
     fun toJson(jsonWriter: JsonWriter, value: DownstreamPollDto): Unit = error("Can't convert this to Json")
@@ -53,9 +54,10 @@ internal object DownstreamPollOptionDtoAdapter :
     @FromJson
     fun fromJson(
         jsonReader: JsonReader,
-        mapAdapter: JsonAdapter<MutableMap<String, Any>>,
         optionAdapter: JsonAdapter<DownstreamPollOptionDto>,
-    ): DownstreamPollOptionDto? = parseWithExtraData(jsonReader, mapAdapter, optionAdapter)
+    ): DownstreamPollOptionDto? = parseWithExtraData(jsonReader, optionAdapter) { dto, extraData ->
+        dto.copy(extraData = extraData)
+    }
 
     @ToJson
     fun toJson(jsonWriter: JsonWriter, value: DownstreamPollOptionDto): Unit = error("Can't convert this to Json")
@@ -30,9 +30,10 @@ internal object DownstreamReactionDtoAdapter :
     @FromJson
     fun fromJson(
         jsonReader: JsonReader,
-        mapAdapter: JsonAdapter<MutableMap<String, Any>>,
         messageAdapter: JsonAdapter<DownstreamReactionDto>,
-    ): DownstreamReactionDto? = parseWithExtraData(jsonReader, mapAdapter, messageAdapter)
+    ): DownstreamReactionDto? = parseWithExtraData(jsonReader, messageAdapter) { dto, extraData ->
+        dto.copy(extraData = extraData)
+    }
 
     @ToJson
     @Suppress("UNUSED_PARAMETER")
@@ -33,9 +33,10 @@ internal object DownstreamThreadDtoAdapter :
     @FromJson
     fun fromJson(
         jsonReader: JsonReader,
-        mapAdapter: JsonAdapter<MutableMap<String, Any>>,
         messageAdapter: JsonAdapter<DownstreamThreadDto>,
-    ): DownstreamThreadDto? = parseWithExtraData(jsonReader, mapAdapter, messageAdapter)
+    ): DownstreamThreadDto? = parseWithExtraData(jsonReader, messageAdapter) { dto, extraData ->
+        dto.copy(extraData = extraData)
+    }
 
     @ToJson
     @Suppress("UNUSED_PARAMETER")
@@ -51,9 +52,10 @@ internal object DownstreamThreadInfoDtoAdapter :
     @FromJson
     fun fromJson(
         jsonReader: JsonReader,
-        mapAdapter: JsonAdapter<MutableMap<String, Any>>,
         messageAdapter: JsonAdapter<DownstreamThreadInfoDto>,
-    ): DownstreamThreadInfoDto? = parseWithExtraData(jsonReader, mapAdapter, messageAdapter)
+    ): DownstreamThreadInfoDto? = parseWithExtraData(jsonReader, messageAdapter) { dto, extraData ->
+        dto.copy(extraData = extraData)
+    }
 
     @ToJson
     @Suppress("UNUSED_PARAMETER")
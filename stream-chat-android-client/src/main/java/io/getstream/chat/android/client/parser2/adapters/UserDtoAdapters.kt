@@ -30,9 +30,10 @@ internal object DownstreamUserDtoAdapter :
     @FromJson
     fun fromJson(
         jsonReader: JsonReader,
-        mapAdapter: JsonAdapter<MutableMap<String, Any>>,
         messageAdapter: JsonAdapter<DownstreamUserDto>,
-    ): DownstreamUserDto? = parseWithExtraData(jsonReader, mapAdapter, messageAdapter)
+    ): DownstreamUserDto? = parseWithExtraData(jsonReader, messageAdapter) { dto, extraData ->
+        dto.copy(extraData = extraData)
+    }
 
     @ToJson
     @Suppress("UNUSED_PARAMETER")
@@ -19,6 +19,7 @@ package io.getstream.chat.android.client.parser2.direct
 import com.squareup.moshi.JsonAdapter
 import com.squareup.moshi.JsonReader
 import com.squareup.moshi.JsonWriter
+import io.getstream.chat.android.client.utils.internal.LazyExtraData
 import io.getstream.chat.android.models.Attachment
 
 internal class AttachmentAdapter : JsonAdapter<Attachment>() {
@@ -45,7 +46,7 @@ internal class AttachmentAdapter : JsonAdapter<Attachment>() {
         var type: String? = null
         var originalHeight: Int? = null
         var originalWidth: Int? = null
-        var extraData: MutableMap<String, Any>? = null
+        val extraData = LazyExtraData.Builder()
 
         while (reader.hasNext()) {
             val key = reader.nextName()
@@ -67,7 +68,7 @@ internal class AttachmentAdapter : JsonAdapter<Attachment>() {
                 "type" -> type = JsonParsingUtils.readNullableString(reader)
                 "original_height" -> originalHeight = JsonParsingUtils.readNullableInt(reader)
                 "original_width" -> originalWidth = JsonParsingUtils.readNullableInt(reader)
-                else -> extraData = JsonParsingUtils.accumulateExtraData(key, reader, extraData)
+                else -> JsonParsingUtils.accumulateExtraData(key, reader, extraData)
             }
         }
         reader.endObject()
@@ -90,7 +91,7 @@ internal class AttachmentAdapter : JsonAdapter<Attachment>() {
             type = type,
             originalHeight = originalHeight,
             originalWidth = originalWidth,
-            extraData = extraData?.toMutableMap() ?: mutableMapOf(),
+            extraData = extraData.build(),
         )
     }
 
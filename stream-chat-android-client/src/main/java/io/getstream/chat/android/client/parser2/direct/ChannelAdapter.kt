@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.client.parser2.direct
+
+import com.squareup.moshi.JsonAdapter
+import com.squareup.moshi.JsonReader
+import com.squareup.moshi.JsonWriter
+import io.getstream.chat.android.client.extensions.syncUnreadCountWithReads
+import io.getstream.chat.android.client.utils.internal.LazyExtraData
+import io.getstream.chat.android.models.Channel
+import io.getstream.chat.android.models.ChannelInfo
+import io.getstream.chat.android.models.ChannelTransformer
+import io.getstream.chat.android.models.ChannelUserRead
+import io.getstream.chat.android.models.Config
+import io.getstream.chat.android.models.Location
+import io.getstream.chat.android.models.Member
+import io.getstream.chat.android.models.Message
+import io.getstream.chat.android.models.User
+import io.getstream.chat.android.models.UserId
+import java.util.Date
+
+@Suppress("LongParameterList")
+internal class ChannelAdapter(
+    private val messageAdapter: JsonAdapter<Message>,
+    private val memberAdapter: JsonAdapter<Member>,
+    private val userAdapter: JsonAdapter<User>,
+    private val channelUserReadAdapter: JsonAdapter<ChannelUserRead>,
+    private val configAdapter: JsonAdapter<Config>,
+    private val locationAdapter: JsonAdapter<Location>,
+    private val dateAdapter: JsonAdapter<Date>,
+    private val currentUserIdProvider: () -> UserId?,
+    private val channelTransformer: ChannelTransformer,
+) : JsonAdapter<Channel>() {
+
+    override fun fromJson(reader: JsonReader): Channel? = fromJsonWithInfo(reader)?.first
+
+    /**
+     * Parses a channel together with the [ChannelInfo] the DTO path derives from it
+     * (`DownstreamChannelDto.toChannelInfo()`). The raw `name`/`image` values are kept nullable
+     * there, so the info can't be rebuilt from the resulting [Channel] afterwards.
+     */
+    @Suppress("LongMethod")
+    fun fromJsonWithInfo(reader: JsonReader): Pair<Channel, ChannelInfo>? {
+        if (reader.peek() == JsonReader.Token.NULL) return reader.nextNull()
+
+        reader.beginObject()
+
+        var cid: String? = null
+        var id: String? = null
+        var type: String? = null
+        var name: String? = null
+        var image: String? = null
+        var watcherCount = 0
+        var filterTags: List<String>? = null
+        var frozen: Boolean? = null
+        var lastMessageAt: Date? = null
+        var createdAt: Date? = null
+        var deletedAt: Date? = null
+        var updatedAt: Date? = null
+        var memberCount = 0
+        var messages: List<Message>? = null
+        var members: List<Member>? = null
+        var watchers: List<User>? = null
+        var read: List<ChannelUserRead>? = null
+        var config: Config? = null
+        var createdBy: User? = null
+        var team: String? = null
+        var cooldown = 0
+        var pinnedMessages: List<Message>? = null
+        var ownCapabilities: List<String>? = null
+        var membership: Member? = null
+        var activeLiveLocations: List<Location>? = null
+        var messageCount: Int? = null
+        val extraData = LazyExtraData.Builder()
+
+        while (reader.hasNext()) {
+            val key = reader.nextName()
+            when (key) {
+                "cid" -> cid = reader.nextString()
+                "id" -> id = reader.nextString()
+                "type" -> type = reader.nextString()
+                "name" -> name = JsonParsingUtils.readNullableString(reader)
+                "image" -> image = JsonParsingUtils.readNullableString(reader)
+                "watcher_count" -> watcherCount = reader.nextInt()
+                "filter_tags" -> filterTags = JsonParsingUtils.parseStringList(reader)
+                "frozen" -> frozen = reader.nextBoolean()
+                "last_message_at" -> lastMessageAt = dateAdapter.fromJson(reader)
+                "created_at" -> createdAt = dateAdapter.fromJson(reader)
+                "deleted_at" -> deletedAt = dateAdapter.fromJson(reader)
+                "updated_at" -> updatedAt = dateAdapter.fromJson(reader)
+                "member_count" -> memberCount = reader.nextInt()
+                // Collections below are non-nullable in DownstreamChannelDto (with defaults),
+                // so the DTO path throws on explicit JSON null. Match that here.
+                "messages" -> {
+                    JsonParsingUtils.rejectExplicitNull(reader, "messages")
+                    messages = JsonParsingUtils.parseList(reader, messageAdapter)
+                }
+                "members" -> {
+                    JsonParsingUtils.rejectExplicitNull(reader, "members")
+                    members = JsonParsingUtils.parseList(reader, memberAdapter)
+                }
+                "watchers" -> {
+                    JsonParsingUtils.rejectExplicitNull(reader, "watchers")
+                    watchers = JsonParsingUtils.parseList(reader, userAdapter)
+                }
+                "read" -> {
+                    JsonParsingUtils.rejectExplicitNull(reader, "read")
+                    read = JsonParsingUtils.parseList(reader, channelUserReadAdapter)
+                }
+                "config" -> config = configAdapter.fromJson(reader)
+                "created_by" -> createdBy = userAdapter.fromJson(reader)
+                "team" -> {
+                    JsonParsingUtils.rejectExplicitNull(reader, "team")
+                    team = reader.nextString()
+                }
+                "cooldown" -> cooldown = reader.nextInt()
+                "pinned_messages" -> {
+                    JsonParsingUtils.rejectExplicitNull(reader, "pinned_messages")
+                    pinnedMessages = JsonParsingUtils.parseList(reader, messageAdapter)
+                }
+                "own_capabilities" -> {
+                    JsonParsingUtils.rejectExplicitNull(reader, "own_capabilities")
+                    ownCapabilities = JsonParsingUtils.parseStringList(reader)
+                }
+                "membership" -> membership = memberAdapter.fromJson(reader)
+                "active_live_locations" -> {
+                    JsonParsingUtils.rejectExplicitNull(reader, "active_live_locations")
+                    activeLiveLocations = JsonParsingUtils.parseList(reader, locationAdapter)
+                }
+                "message_count" -> messageCount = JsonParsingUtils.readNullableInt(reader)
+                else -> JsonParsingUtils.accumulateExtraData(key, reader, extraData)
+            }
+        }
+        reader.endObject()
+
+        JsonParsingUtils.requireField(cid, "cid", reader)
+        JsonParsingUtils.requireField(id, "id", reader)
+        JsonParsingUtils.requireField(type, "type", reader)
+        JsonParsingUtils.requireField(frozen, "frozen", reader)
+        JsonParsingUtils.requireField(config, "config", reader)
+
+        val channelInfo = ChannelInfo(
+            cid = cid,
+            id = id,
+            memberCount = memberCount,
+            name = name,
+            type = type,
+            image = image,
+        )
+
+        val channel = Channel(
+            id = id,
+            type = type,
+            name = name ?: "",
+            image = image ?: "",
+            watcherCount = watcherCount,
+            filterTags = filterTags.orEmpty(),
+            frozen = frozen,
+            createdAt = createdAt,
+            deletedAt = deletedAt,
+            updatedAt = updatedAt,
+            memberCount = memberCount,
+            // Messages are parsed before the channel fields are complete; apply the channel's
+            // info afterwards, matching `toDomain(this.toChannelInfo())` in DomainMapping.
+            messages = messages?.map { it.withFallbackChannelInfo(channelInfo) }.orEmpty(),
+            members = members.orEmpty(),
+            watchers = watchers.orEmpty(),
+            read = read?.map { channelRead ->
+                lastMessageAt?.let { channelRead.copy(lastReceivedEventDate = it) } ?: channelRead
+            }.orEmpty(),
+            config = config,
+            createdBy = createdBy ?: User(),
+            team = team ?: "",
+            cooldown = cooldown,
+            pinnedMessages = pinnedMessages?.map { it.withFallbackChannelInfo(channelInfo) }.orEmpty(),
+            ownCapabilities = ownCapabilities?.toSet().orEmpty(),
+            membership = membership,
+            activeLiveLocations = activeLiveLocations.orEmpty(),
+            messageCount = messageCount,
+            lastMessageAt = lastMessageAt,
+            extraData = extraData.build(),
+        ).syncUnreadCountWithReads(currentUserIdProvider())
+            .let(channelTransformer::transform)
+
+        return channel to channelInfo
+    }
+
+    override fun toJson(p0: JsonWriter, p1: Channel?) {
+        error("Serialization not supported for direct-to-domain path")
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.client.parser2.direct
+
+import com.squareup.moshi.JsonAdapter
+import com.squareup.moshi.JsonReader
+import com.squareup.moshi.JsonWriter
+import io.getstream.chat.android.client.events.HealthEvent
+import io.getstream.chat.android.client.parser2.adapters.internal.StreamDateFormatter
+
+/**
+ * Parses periodic `health.check` events. The first `health.check` of a connection carries a `me`
+ * field and is a `ConnectedEvent`; for that one `null` is returned so the caller falls back to the DTO path.
+ */
+internal class HealthEventAdapter : JsonAdapter<HealthEvent>() {
+
+    private val streamDateFormatter = StreamDateFormatter("HealthEventAdapter")
+
+    override fun fromJson(reader: JsonReader): HealthEvent? {
+        if (reader.peek() == JsonReader.Token.NULL) return reader.nextNull()
+
+        reader.beginObject()
+
+        var type: String? = null
+        var rawCreatedAt: String? = null
+        var connectionId: String? = null
+        var hasMe = false
+
+        while (reader.hasNext()) {
+            when (reader.nextName()) {
+                "type" -> type = reader.nextString()
+                "created_at" -> rawCreatedAt = JsonParsingUtils.readNullableString(reader)
+                "connection_id" -> connectionId = reader.nextString()
+                "me" -> {
+                    hasMe = reader.peek() != JsonReader.Token.NULL
+                    reader.skipValue()
+                }
+                else -> reader.skipValue()
+            }
+        }
+        reader.endObject()
+
+        if (hasMe) return null
+
+        JsonParsingUtils.requireField(type, "type", reader)
+        val createdAt = JsonParsingUtils.requireExactDate(rawCreatedAt, "created_at", streamDateFormatter, reader)
+        JsonParsingUtils.requireField(connectionId, "connection_id", reader)
+
+        return HealthEvent(
+            type = type,
+            createdAt = createdAt,
+            rawCreatedAt = rawCreatedAt,
+            connectionId = connectionId,
+        )
+    }
+
+    override fun toJson(p0: JsonWriter, p1: HealthEvent?) {
+        error("Serialization not supported for direct-to-domain path")
+    }
+}
@@ -19,6 +19,9 @@ package io.getstream.chat.android.client.parser2.direct
 import com.squareup.moshi.JsonAdapter
 import com.squareup.moshi.JsonDataException
 import com.squareup.moshi.JsonReader
+import io.getstream.chat.android.client.parser2.adapters.internal.StreamDateFormatter
+import io.getstream.chat.android.client.utils.internal.LazyExtraData
+import java.util.Date
 import kotlin.contracts.ExperimentalContracts
 import kotlin.contracts.contract
 
@@ -41,6 +44,24 @@ internal object JsonParsingUtils {
         )
     }
 
+    /**
+     * Parses a required event timestamp kept alongside its raw value (the DTO `ExactDate`).
+     * Throws [JsonDataException] if [rawValue] is missing or cannot be parsed, mirroring the DTO path
+     * where `ExactDateAdapter` yields `null` for unparseable values and codegen rejects it.
+     */
+    @OptIn(ExperimentalContracts::class)
+    fun requireExactDate(
+        rawValue: String?,
+        fieldName: String,
+        dateFormatter: StreamDateFormatter,
+        reader: JsonReader,
+    ): Date {
+        contract { returns() implies (rawValue != null) }
+        requireField(rawValue, fieldName, reader)
+        return dateFormatter.parse(rawValue)
+            ?: throw JsonDataException("Unparseable '$fieldName' value '$rawValue' at ${reader.path}")
+    }
+
     /**
      * Throws [JsonDataException] if the next JSON value is an explicit `null`. Use for fields
      * whose DTO declaration is non-nullable but has a default value — Moshi codegen rejects
@@ -76,16 +97,17 @@ internal object JsonParsingUtils {
         return if (reader.peek() == JsonReader.Token.NULL) reader.nextNull() else reader.nextLong()
     }
 
-    /** Accumulates a key-value pair into an extra data map, lazily creating it if needed. */
+    /** Adds a key-value pair to [extraData] as raw JSON, skipping null values. */
     fun accumulateExtraData(
         key: String,
         reader: JsonReader,
-        extraData: MutableMap<String, Any>?,
-    ): MutableMap<String, Any>? {
-        val value = reader.readJsonValue() ?: return extraData
-        val map = extraData ?: mutableMapOf()
-        map[key] = value
-        return map
+        extraData: LazyExtraData.Builder,
+    ) {
+        if (reader.peek() == JsonReader.Token.NULL) {
+            reader.skipValue()
+            return
+        }
+        extraData.add(key, reader)
     }
 
     /**
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.client.parser2.direct
+
+import com.squareup.moshi.JsonAdapter
+import com.squareup.moshi.JsonReader
+import com.squareup.moshi.JsonWriter
+import io.getstream.chat.android.client.utils.internal.LazyExtraData
+import io.getstream.chat.android.models.Member
+import io.getstream.chat.android.models.User
+import java.util.Date
+
+internal class MemberAdapter(
+    private val userAdapter: JsonAdapter<User>,
+    private val dateAdapter: JsonAdapter<Date>,
+) : JsonAdapter<Member>() {
+
+    @Suppress("LongMethod")
+    override fun fromJson(reader: JsonReader): Member? {
+        if (reader.peek() == JsonReader.Token.NULL) return reader.nextNull()
+
+        reader.beginObject()
+
+        var user: User? = null
+        var createdAt: Date? = null
+        var updatedAt: Date? = null
+        var invited: Boolean? = null
+        var inviteAcceptedAt: Date? = null
+        var inviteRejectedAt: Date? = null
+        var shadowBanned: Boolean? = null
+        var banned: Boolean? = null
+        var channelRole: String? = null
+        var notificationsMuted: Boolean? = null
+        var status: String? = null
+        var banExpires: Date? = null
+        var pinnedAt: Date? = null
+        var archivedAt: Date? = null
+        val extraData = LazyExtraData.Builder()
+
+        while (reader.hasNext()) {
+            val key = reader.nextName()
+            when (key) {
+                "user" -> user = userAdapter.fromJson(reader)
+                "created_at" -> createdAt = dateAdapter.fromJson(reader)
+                "updated_at" -> updatedAt = dateAdapter.fromJson(reader)
+                "invited" -> invited = JsonParsingUtils.readNullableBoolean(reader)
+                "invite_accepted_at" -> inviteAcceptedAt = dateAdapter.fromJson(reader)
+                "invite_rejected_at" -> inviteRejectedAt = dateAdapter.fromJson(reader)
+                "shadow_banned" -> shadowBanned = JsonParsingUtils.readNullableBoolean(reader)
+                "banned" -> banned = JsonParsingUtils.readNullableBoolean(reader)
+                "channel_role" -> channelRole = JsonParsingUtils.readNullableString(reader)
+                "notifications_muted" -> notificationsMuted = JsonParsingUtils.readNullableBoolean(reader)
+                "status" -> status = JsonParsingUtils.readNullableString(reader)
+                "ban_expires" -> banExpires = dateAdapter.fromJson(reader)
+                "pinned_at" -> pinnedAt = dateAdapter.fromJson(reader)
+                "archived_at" -> archivedAt = dateAdapter.fromJson(reader)
+                else -> JsonParsingUtils.accumulateExtraData(key, reader, extraData)
+            }
+        }
+        reader.endObject()
+
+        JsonParsingUtils.requireField(user, "user", reader)
+
+        return Member(
+            user = user,
+            createdAt = createdAt,
+            updatedAt = updatedAt,
+            isInvited = invited,
+            inviteAcceptedAt = inviteAcceptedAt,
+            inviteRejectedAt = inviteRejectedAt,
+            shadowBanned = shadowBanned ?: false,
+            banned = banned ?: false,
+            channelRole = channelRole,
+            notificationsMuted = notificationsMuted,
+            status = status,
+            banExpires = banExpires,
+            pinnedAt = pinnedAt,
+            archivedAt = archivedAt,
+            extraData = extraData.build(),
+        )
+    }
+
+    override fun toJson(p0: JsonWriter, p1: Member?) {
+        error("Serialization not supported for direct-to-domain path")
+    }
+}
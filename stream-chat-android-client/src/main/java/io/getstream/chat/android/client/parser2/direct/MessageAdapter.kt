@@ -19,6 +19,7 @@ package io.getstream.chat.android.client.parser2.direct
 import com.squareup.moshi.JsonAdapter
 import com.squareup.moshi.JsonReader
 import com.squareup.moshi.JsonWriter
+import io.getstream.chat.android.client.utils.internal.LazyExtraData
 import io.getstream.chat.android.models.Attachment
 import io.getstream.chat.android.models.ChannelInfo
 import io.getstream.chat.android.models.Location
@@ -105,7 +106,7 @@ internal class MessageAdapter(
         var sharedLocation: Location? = null
         var channelRole: String? = null
         var deletedForMe: Boolean? = null
-        var extraData: MutableMap<String, Any>? = null
+        val extraData = LazyExtraData.Builder()
 
         while (reader.hasNext()) {
             val key = reader.nextName()
@@ -175,7 +176,7 @@ internal class MessageAdapter(
                 "shared_location" -> sharedLocation = locationAdapter.fromJson(reader)
                 "member" -> channelRole = parseMemberChannelRole(reader)
                 "deleted_for_me" -> deletedForMe = JsonParsingUtils.readNullableBoolean(reader)
-                else -> extraData = JsonParsingUtils.accumulateExtraData(key, reader, extraData)
+                else -> JsonParsingUtils.accumulateExtraData(key, reader, extraData)
             }
         }
         reader.endObject()
@@ -272,7 +273,7 @@ internal class MessageAdapter(
             sharedLocation = sharedLocation,
             channelRole = channelRole,
             deletedForMe = deletedForMe ?: false,
-            extraData = extraData ?: emptyMap(),
+            extraData = extraData.build(),
         ).let(messageTransformer::transform)
     }
 
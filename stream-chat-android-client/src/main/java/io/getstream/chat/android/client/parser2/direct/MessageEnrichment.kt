@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.client.parser2.direct
+
+import io.getstream.chat.android.client.extensions.enrichWithCid
+import io.getstream.chat.android.models.ChannelInfo
+import io.getstream.chat.android.models.Message
+
+/**
+ * Applies [channelInfo] to a message parsed without it, mirroring the DTO path's
+ * `toDomain(fallbackChannelInfo)`: the message and its quoted message keep their own
+ * channel info when present. Only copies if something actually needs to change.
+ */
+internal fun Message.withFallbackChannelInfo(channelInfo: ChannelInfo): Message {
+    if (this.channelInfo != null) return this
+    val replyTo = replyTo
+    return copy(
+        channelInfo = channelInfo,
+        replyTo = if (replyTo != null && replyTo.channelInfo == null) {
+            replyTo.copy(channelInfo = channelInfo)
+        } else {
+            replyTo
+        },
+    )
+}
+
+/**
+ * Equivalent of `enrichIfNeeded()` for a single event message: sets [cid] on the message and
+ * its quoted-message chain, but skips the copy when every level already carries [cid].
+ */
+internal fun Message.enrichWithEventCid(cid: String): Message {
+    var current: Message? = this
+    while (current != null) {
+        if (current.cid != cid) return enrichWithCid(cid)
+        current = current.replyTo
+    }
+    return this
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.client.parser2.direct
+
+import com.squareup.moshi.JsonAdapter
+import com.squareup.moshi.JsonReader
+import com.squareup.moshi.JsonWriter
+import io.getstream.chat.android.client.events.MessageUpdatedEvent
+import io.getstream.chat.android.client.parser2.adapters.internal.StreamDateFormatter
+import io.getstream.chat.android.models.Message
+import io.getstream.chat.android.models.User
+
+internal class MessageUpdatedEventAdapter(
+    private val messageAdapter: JsonAdapter<Message>,
+    private val userAdapter: JsonAdapter<User>,
+) : JsonAdapter<MessageUpdatedEvent>() {
+
+    private val streamDateFormatter = StreamDateFormatter("MessageUpdatedEventAdapter")
+
+    override fun fromJson(reader: JsonReader): MessageUpdatedEvent? {
+        if (reader.peek() == JsonReader.Token.NULL) return reader.nextNull()
+
+        reader.beginObject()
+
+        var type: String? = null
+        var rawCreatedAt: String? = null
+        var user: User? = null
+        var cid: String? = null
+        var channelType: String? = null
+        var channelId: String? = null
+        var message: Message? = null
+
+        while (reader.hasNext()) {
+            when (reader.nextName()) {
+                "type" -> type = reader.nextString()
+                "created_at" -> rawCreatedAt = JsonParsingUtils.readNullableString(reader)
+                "user" -> user = userAdapter.fromJson(reader)
+                "cid" -> cid = reader.nextString()
+                "channel_type" -> channelType = reader.nextString()
+                "channel_id" -> channelId = reader.nextString()
+                "message" -> message = messageAdapter.fromJson(reader)
+                else -> reader.skipValue()
+            }
+        }
+        reader.endObject()
+
+        JsonParsingUtils.requireField(type, "type", reader)
+        val createdAt = JsonParsingUtils.requireExactDate(rawCreatedAt, "created_at", streamDateFormatter, reader)
+        JsonParsingUtils.requireField(user, "user", reader)
+        JsonParsingUtils.requireField(cid, "cid", reader)
+        JsonParsingUtils.requireField(channelType, "channel_type", reader)
+        JsonParsingUtils.requireField(channelId, "channel_id", reader)
+        JsonParsingUtils.requireField(message, "message", reader)
+
+        return MessageUpdatedEvent(
+            type = type,
+            createdAt = createdAt,
+            rawCreatedAt = rawCreatedAt,
+            user = user,
+            cid = cid,
+            channelType = channelType,
+            channelId = channelId,
+            message = message.enrichWithEventCid(cid),
+        )
+    }
+
+    override fun toJson(p0: JsonWriter, p1: MessageUpdatedEvent?) {
+        error("Serialization not supported for direct-to-domain path")
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.client.parser2.direct
+
+import com.squareup.moshi.JsonAdapter
+import com.squareup.moshi.JsonReader
+import com.squareup.moshi.JsonWriter
+import io.getstream.chat.android.client.events.NotificationMessageNewEvent
+import io.getstream.chat.android.client.parser2.adapters.internal.StreamDateFormatter
+import io.getstream.chat.android.models.Channel
+import io.getstream.chat.android.models.ChannelInfo
+import io.getstream.chat.android.models.Message
+
+internal class NotificationMessageNewEventAdapter(
+    private val channelAdapter: ChannelAdapter,
+    private val messageAdapter: JsonAdapter<Message>,
+) : JsonAdapter<NotificationMessageNewEvent>() {
+
+    private val streamDateFormatter = StreamDateFormatter("NotificationMessageNewEventAdapter")
+
+    @Suppress("LongMethod")
+    override fun fromJson(reader: JsonReader): NotificationMessageNewEvent? {
+        if (reader.peek() == JsonReader.Token.NULL) return reader.nextNull()
+
+        reader.beginObject()
+
+        var type: String? = null
+        var rawCreatedAt: String? = null
+        var cid: String? = null
+        var channelType: String? = null
+        var channelId: String? = null
+        var channel: Channel? = null
+        var channelInfo: ChannelInfo? = null
+        var message: Message? = null
+        var totalUnreadCount = 0
+        var unreadChannels = 0
+        var groupedUnreadChannels: Map<String, Int>? = null
+
+        while (reader.hasNext()) {
+            when (reader.nextName()) {
+                "type" -> type = reader.nextString()
+                "created_at" -> rawCreatedAt = JsonParsingUtils.readNullableString(reader)
+                "cid" -> cid = reader.nextString()
+                "channel_type" -> channelType = reader.nextString()
+                "channel_id" -> channelId = reader.nextString()
+                "channel" -> {
+                    val parsed = channelAdapter.fromJsonWithInfo(reader)
+                    channel = parsed?.first
+                    channelInfo = parsed?.second
+                }
+                "message" -> message = messageAdapter.fromJson(reader)
+                "total_unread_count" -> totalUnreadCount = reader.nextInt()
+                "unread_channels" -> unreadChannels = reader.nextInt()
+                "grouped_unread_channels" -> groupedUnreadChannels = JsonParsingUtils.parseIntMap(reader)
+                else -> reader.skipValue()
+            }
+        }
+        reader.endObject()
+
+        JsonParsingUtils.requireField(type, "type", reader)
+        val createdAt = JsonParsingUtils.requireExactDate(rawCreatedAt, "created_at", streamDateFormatter, reader)
+        JsonParsingUtils.requireField(cid, "cid", reader)
+        JsonParsingUtils.requireField(channelType, "channel_type", reader)
+        JsonParsingUtils.requireField(channelId, "channel_id", reader)
+        JsonParsingUtils.requireField(channel, "channel", reader)
+        JsonParsingUtils.requireField(channelInfo, "channel", reader)
+        JsonParsingUtils.requireField(message, "message", reader)
+
+        return NotificationMessageNewEvent(
+            type = type,
+            createdAt = createdAt,
+            rawCreatedAt = rawCreatedAt,
+            cid = cid,
+            channelType = channelType,
+            channelId = channelId,
+            channel = channel,
+            // The DTO path maps the message with the channel's info as fallback, then enriches it with the cid.
+            message = message.withFallbackChannelInfo(channelInfo).enrichWithEventCid(cid),
+            totalUnreadCount = totalUnreadCount,
+            unreadChannels = unreadChannels,
+            groupedUnreadChannels = groupedUnreadChannels,
+        )
+    }
+
+    override fun toJson(p0: JsonWriter, p1: NotificationMessageNewEvent?) {
+        error("Serialization not supported for direct-to-domain path")
+    }
+}
@@ -19,6 +19,7 @@ package io.getstream.chat.android.client.parser2.direct
 import com.squareup.moshi.JsonAdapter
 import com.squareup.moshi.JsonReader
 import com.squareup.moshi.JsonWriter
+import io.getstream.chat.android.client.utils.internal.LazyExtraData
 import io.getstream.chat.android.models.Option
 
 internal class OptionAdapter : JsonAdapter<Option>() {
@@ -29,14 +30,14 @@ internal class OptionAdapter : JsonAdapter<Option>() {
 
         var id: String? = null
         var text: String? = null
-        var extraData: MutableMap<String, Any>? = null
+        val extraData = LazyExtraData.Builder()
 
         while (reader.hasNext()) {
             val key = reader.nextName()
             when (key) {
                 "id" -> id = reader.nextString()
                 "text" -> text = reader.nextString()
-                else -> extraData = JsonParsingUtils.accumulateExtraData(key, reader, extraData)
+                else -> JsonParsingUtils.accumulateExtraData(key, reader, extraData)
             }
         }
         reader.endObject()
@@ -47,7 +48,7 @@ internal class OptionAdapter : JsonAdapter<Option>() {
         return Option(
             id = id,
             text = text,
-            extraData = extraData?.toMap() ?: emptyMap(),
+            extraData = extraData.build(),
         )
     }
 
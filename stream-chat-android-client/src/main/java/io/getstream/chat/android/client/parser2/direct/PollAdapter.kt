@@ -19,6 +19,7 @@ package io.getstream.chat.android.client.parser2.direct
 import com.squareup.moshi.JsonAdapter
 import com.squareup.moshi.JsonReader
 import com.squareup.moshi.JsonWriter
+import io.getstream.chat.android.client.utils.internal.LazyExtraData
 import io.getstream.chat.android.models.Answer
 import io.getstream.chat.android.models.Option
 import io.getstream.chat.android.models.Poll
@@ -70,7 +71,7 @@ internal class PollAdapter(
         var answersCount: Int? = null
         var answers: List<ParsedVoteDto>? = null
         var createdBy: User? = null
-        var extraData: MutableMap<String, Any>? = null
+        val extraData = LazyExtraData.Builder()
 
         while (reader.hasNext()) {
             val key = reader.nextName()
@@ -95,7 +96,7 @@ internal class PollAdapter(
                 "latest_answers" -> answers = parseParsedVotesList(reader)
                 "created_by" -> createdBy = userAdapter.fromJson(reader)
                 "created_by_id" -> reader.skipValue()
-                else -> extraData = JsonParsingUtils.accumulateExtraData(key, reader, extraData)
+                else -> JsonParsingUtils.accumulateExtraData(key, reader, extraData)
             }
         }
         reader.endObject()
@@ -153,7 +154,7 @@ internal class PollAdapter(
             answersCount = answersCount,
             answers = answersList,
             createdBy = createdBy,
-            extraData = extraData?.toMap() ?: emptyMap(),
+            extraData = extraData.build(),
         )
     }
 
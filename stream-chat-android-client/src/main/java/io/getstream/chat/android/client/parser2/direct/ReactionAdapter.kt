@@ -19,6 +19,7 @@ package io.getstream.chat.android.client.parser2.direct
 import com.squareup.moshi.JsonAdapter
 import com.squareup.moshi.JsonReader
 import com.squareup.moshi.JsonWriter
+import io.getstream.chat.android.client.utils.internal.LazyExtraData
 import io.getstream.chat.android.models.Reaction
 import io.getstream.chat.android.models.User
 import java.util.Date
@@ -42,7 +43,7 @@ internal class ReactionAdapter(
         var updatedAt: Date? = null
         var user: User? = null
         var emojiCode: String? = null
-        var extraData: MutableMap<String, Any>? = null
+        val extraData = LazyExtraData.Builder()
 
         while (reader.hasNext()) {
             val key = reader.nextName()
@@ -55,7 +56,7 @@ internal class ReactionAdapter(
                 "updated_at" -> updatedAt = dateAdapter.fromJson(reader)
                 "user" -> user = userAdapter.fromJson(reader)
                 "emoji_code" -> emojiCode = JsonParsingUtils.readNullableString(reader)
-                else -> extraData = JsonParsingUtils.accumulateExtraData(key, reader, extraData)
+                else -> JsonParsingUtils.accumulateExtraData(key, reader, extraData)
             }
         }
         reader.endObject()
@@ -74,7 +75,7 @@ internal class ReactionAdapter(
             updatedAt = updatedAt,
             user = user,
             emojiCode = emojiCode,
-            extraData = extraData?.toMap() ?: emptyMap(),
+            extraData = extraData.build(),
         )
     }
 
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.client.parser2.direct
+
+import com.squareup.moshi.JsonAdapter
+import com.squareup.moshi.JsonReader
+import com.squareup.moshi.JsonWriter
+import io.getstream.chat.android.client.events.CidEvent
+import io.getstream.chat.android.client.events.ReactionDeletedEvent
+import io.getstream.chat.android.client.events.ReactionNewEvent
+import io.getstream.chat.android.client.events.ReactionUpdateEvent
+import io.getstream.chat.android.client.parser2.adapters.internal.StreamDateFormatter
+import io.getstream.chat.android.models.EventType
+import io.getstream.chat.android.models.Message
+import io.getstream.chat.android.models.Reaction
+import io.getstream.chat.android.models.User
+
+/**
+ * Parses `reaction.new`, `reaction.updated` and `reaction.deleted` events, which share the same
+ * payload. Returns `null` for any other type so the caller falls back to the DTO path.
+ */
+internal class ReactionEventAdapter(
+    private val messageAdapter: JsonAdapter<Message>,
+    private val reactionAdapter: JsonAdapter<Reaction>,
+    private val userAdapter: JsonAdapter<User>,
+) : JsonAdapter<CidEvent>() {
+
+    private val streamDateFormatter = StreamDateFormatter("ReactionEventAdapter")
+
+    @Suppress("LongMethod")
+    override fun fromJson(reader: JsonReader): CidEvent? {
+        if (reader.peek() == JsonReader.Token.NULL) return reader.nextNull()
+
+        reader.beginObject()
+
+        var type: String? = null
+        var rawCreatedAt: String? = null
+        var user: User? = null
+        var cid: String? = null
+        var channelType: String? = null
+        var channelId: String? = null
+        var message: Message? = null
+        var reaction: Reaction? = null
+
+        while (reader.hasNext()) {
+            when (reader.nextName()) {
+                "type" -> type = reader.nextString()
+                "created_at" -> rawCreatedAt = JsonParsingUtils.readNullableString(reader)
+                "user" -> user = userAdapter.fromJson(reader)
+                "cid" -> cid = reader.nextString()
+                "channel_type" -> channelType = reader.nextString()
+                "channel_id" -> channelId = reader.nextString()
+                "message" -> message = messageAdapter.fromJson(reader)
+                "reaction" -> reaction = reactionAdapter.fromJson(reader)
+                else -> reader.skipValue()
+            }
+        }
+        reader.endObject()
+
+        JsonParsingUtils.requireField(type, "type", reader)
+        val createdAt = JsonParsingUtils.requireExactDate(rawCreatedAt, "created_at", streamDateFormatter, reader)
+        JsonParsingUtils.requireField(user, "user", reader)
+        JsonParsingUtils.requireField(cid, "cid", reader)
+        JsonParsingUtils.requireField(channelType, "channel_type", reader)
+        JsonParsingUtils.requireField(channelId, "channel_id", reader)
+        JsonParsingUtils.requireField(message, "message", reader)
+        JsonParsingUtils.requireField(reaction, "reaction", reader)
+
+        val enrichedMessage = message.enrichWithEventCid(cid)
+
+        return when (type) {
+            EventType.REACTION_NEW -> ReactionNewEvent(
+                type = type,
+                createdAt = createdAt,
+                rawCreatedAt = rawCreatedAt,
+                user = user,
+                cid = cid,
+                channelType = channelType,
+                channelId = channelId,
+                message = enrichedMessage,
+                reaction = reaction,
+            )
+            EventType.REACTION_UPDATED -> ReactionUpdateEvent(
+                type = type,
+                createdAt = createdAt,
+                rawCreatedAt = rawCreatedAt,
+                user = user,
+                cid = cid,
+                channelType = channelType,
+                channelId = channelId,
+                message = enrichedMessage,
+                reaction = reaction,
+            )
+            EventType.REACTION_DELETED -> ReactionDeletedEvent(
+                type = type,
+                createdAt = createdAt,
+                rawCreatedAt = rawCreatedAt,
+                user = user,
+                cid = cid,
+                channelType = channelType,
+                channelId = channelId,
+                message = enrichedMessage,
+                reaction = reaction,
+            )
+            else -> null
+        }
+    }
+
+    override fun toJson(p0: JsonWriter, p1: CidEvent?) {
+        error("Serialization not supported for direct-to-domain path")
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.client.parser2.direct
+
+import com.squareup.moshi.JsonAdapter
+import com.squareup.moshi.JsonReader
+import com.squareup.moshi.JsonWriter
+import io.getstream.chat.android.client.extensions.internal.sortedByLastReply
+import io.getstream.chat.android.client.utils.internal.LazyExtraData
+import io.getstream.chat.android.models.Channel
+import io.getstream.chat.android.models.ChannelInfo
+import io.getstream.chat.android.models.Message
+import io.getstream.chat.android.models.ThreadInfo
+import io.getstream.chat.android.models.ThreadParticipant
+import io.getstream.chat.android.models.User
+import java.util.Date
+
+internal class ThreadInfoAdapter(
+    private val channelAdapter: ChannelAdapter,
+    private val messageAdapter: JsonAdapter<Message>,
+    private val userAdapter: JsonAdapter<User>,
+    private val dateAdapter: JsonAdapter<Date>,
+) : JsonAdapter<ThreadInfo>() {
+
+    @Suppress("LongMethod")
+    override fun fromJson(reader: JsonReader): ThreadInfo? {
+        if (reader.peek() == JsonReader.Token.NULL) return reader.nextNull()
+
+        reader.beginObject()
+
+        var channelCid: String? = null
+        var channel: Channel? = null
+        var channelInfo: ChannelInfo? = null
+        var parentMessageId: String? = null
+        var parentMessage: Message? = null
+        var createdByUserId: String? = null
+        var createdBy: User? = null
+        var replyCount: Int? = null
+        var participantCount: Int? = null
+        var activeParticipantCount: Int? = null
+        var threadParticipants: List<ThreadParticipant>? = null
+        var lastMessageAt: Date? = null
+        var createdAt: Date? = null
+        var updatedAt: Date? = null
+        var deletedAt: Date? = null
+        var title: String? = null
+        val extraData = LazyExtraData.Builder()
+
+        while (reader.hasNext()) {
+            val key = reader.nextName()
+            when (key) {
+                "channel_cid" -> channelCid = reader.nextString()
+                "channel" -> {
+                    val parsed = channelAdapter.fromJsonWithInfo(reader)
+                    channel = parsed?.first
+                    channelInfo = parsed?.second
+                }
+                "parent_message_id" -> parentMessageId = reader.nextString()
+                "parent_message" -> parentMessage = messageAdapter.fromJson(reader)
+                "created_by_user_id" -> createdByUserId = reader.nextString()
+                "created_by" -> createdBy = userAdapter.fromJson(reader)
+                "reply_count" -> replyCount = JsonParsingUtils.readNullableInt(reader)
+                "participant_count" -> participantCount = JsonParsingUtils.readNullableInt(reader)
+                "active_participant_count" -> activeParticipantCount = JsonParsingUtils.readNullableInt(reader)
+                "thread_participants" -> threadParticipants = parseParticipants(reader)
+                "last_message_at" -> lastMessageAt = dateAdapter.fromJson(reader)
+                "created_at" -> createdAt = dateAdapter.fromJson(reader)
+                "updated_at" -> updatedAt = dateAdapter.fromJson(reader)
+                "deleted_at" -> deletedAt = dateAdapter.fromJson(reader)
+                "title" -> title = reader.nextString()
+                else -> JsonParsingUtils.accumulateExtraData(key, reader, extraData)
+            }
+        }
+        reader.endObject()
+
+        JsonParsingUtils.requireField(channelCid, "channel_cid", reader)
+        JsonParsingUtils.requireField(parentMessageId, "parent_message_id", reader)
+        JsonParsingUtils.requireField(createdByUserId, "created_by_user_id", reader)
+        JsonParsingUtils.requireField(createdAt, "created_at", reader)
+        JsonParsingUtils.requireField(updatedAt, "updated_at", reader)
+        JsonParsingUtils.requireField(title, "title", reader)
+
+        return ThreadInfo(
+            activeParticipantCount = activeParticipantCount ?: 0,
+            cid = channelCid,
+            createdAt = createdAt,
+            createdBy = createdBy,
+            createdByUserId = createdByUserId,
+            deletedAt = deletedAt,
+            lastMessageAt = lastMessageAt,
+            parentMessage = if (channelInfo != null) {
+                parentMessage?.withFallbackChannelInfo(channelInfo)
+            } else {
+                parentMessage
+            },
+            parentMessageId = parentMessageId,
+            participantCount = participantCount ?: 0,
+            replyCount = replyCount ?: 0,
+            title = title,
+            updatedAt = updatedAt,
+            channel = channel,
+            threadParticipants = threadParticipants.orEmpty().sortedByLastReply(),
+            extraData = extraData.build(),
+        )
+    }
+
+    private fun parseParticipants(reader: JsonReader): List<ThreadParticipant>? {
+        if (reader.peek() == JsonReader.Token.NULL) return reader.nextNull()
+        if (reader.peek() != JsonReader.Token.BEGIN_ARRAY) {
+            reader.skipValue()
+            return null
+        }
+        reader.beginArray()
+        val participants = mutableListOf<ThreadParticipant>()
+        while (reader.hasNext()) {
+            parseParticipant(reader)?.let(participants::add)
+        }
+        reader.endArray()
+        return participants
+    }
+
+    private fun parseParticipant(reader: JsonReader): ThreadParticipant? {
+        if (reader.peek() == JsonReader.Token.NULL) return reader.nextNull()
+
+        reader.beginObject()
+        var userId: String? = null
+        var user: User? = null
+        var lastThreadMessageAt: Date? = null
+
+        while (reader.hasNext()) {
+            when (reader.nextName()) {
+                "user_id" -> userId = reader.nextString()
+                "user" -> user = userAdapter.fromJson(reader)
+                "last_thread_message_at" -> lastThreadMessageAt = dateAdapter.fromJson(reader)
+                else -> reader.skipValue()
+            }
+        }
+        reader.endObject()
+
+        JsonParsingUtils.requireField(userId, "user_id", reader)
+
+        return ThreadParticipant(
+            user = user ?: User(id = userId),
+            lastThreadMessageAt = lastThreadMessageAt,
+        )
+    }
+
+    override fun toJson(p0: JsonWriter, p1: ThreadInfo?) {
+        error("Serialization not supported for direct-to-domain path")
+    }
+}
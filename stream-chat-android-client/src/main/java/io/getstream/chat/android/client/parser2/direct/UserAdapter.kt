@@ -20,6 +20,7 @@ import com.squareup.moshi.JsonAdapter
 import com.squareup.moshi.JsonReader
 import com.squareup.moshi.JsonWriter
 import io.getstream.chat.android.PrivacySettings
+import io.getstream.chat.android.client.utils.internal.LazyExtraData
 import io.getstream.chat.android.models.Device
 import io.getstream.chat.android.models.User
 import io.getstream.chat.android.models.UserTransformer
@@ -59,7 +60,7 @@ internal class UserAdapter(
         var teamsRole: Map<String, String>? = null
         var blockedUserIds: List<String>? = null
         var avgResponseTime: Long? = null
-        var extraData: MutableMap<String, Any>? = null
+        val extraData = LazyExtraData.Builder()
 
         while (reader.hasNext()) {
             val key = reader.nextName()
@@ -92,8 +93,10 @@ internal class UserAdapter(
                 // The following are not part of the UserResponse (they are part of OwnUserResponse):
                 // This is an intentional change from DownstreamUserDto which covers both UserResponse/OwnUserResponse
                 "mutes", "channel_mutes", "push_preferences" -> reader.skipValue()
+                // Declared on DownstreamUserDto but not mapped to the domain model; keep it out of extraData.
+                "unread_count" -> reader.skipValue()
 
-                else -> extraData = JsonParsingUtils.accumulateExtraData(key, reader, extraData)
+                else -> JsonParsingUtils.accumulateExtraData(key, reader, extraData)
             }
         }
         reader.endObject()
@@ -125,7 +128,7 @@ internal class UserAdapter(
             teamsRole = teamsRole ?: emptyMap(),
             blockedUserIds = blockedUserIds ?: emptyList(),
             avgResponseTime = avgResponseTime,
-            extraData = extraData?.toMap() ?: emptyMap(),
+            extraData = extraData.build(),
         ).let(userTransformer::transform)
     }
 
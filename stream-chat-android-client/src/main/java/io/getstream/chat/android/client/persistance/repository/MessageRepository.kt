@@ -20,6 +20,7 @@ import io.getstream.chat.android.client.query.pagination.AnyChannelPaginationReq
 import io.getstream.chat.android.core.internal.InternalStreamChatApi
 import io.getstream.chat.android.models.DraftMessage
 import io.getstream.chat.android.models.Message
+import io.getstream.chat.android.models.MessageSearchHit
 import io.getstream.chat.android.models.SyncStatus
 import java.util.Date
 
@@ -41,6 +42,19 @@ public interface MessageRepository {
         pagination: AnyChannelPaginationRequest?,
     ): List<Message>
 
+    /**
+     * Select messages for several channels in a desired page, with a constant number of queries regardless of the
+     * number of channels.
+     *
+     * @param cids The channels to select the messages for.
+     * @param pagination [AnyChannelPaginationRequest]
+     * @return The messages of every channel in [cids], keyed by the channel ID.
+     */
+    public suspend fun selectMessagesForChannels(
+        cids: List<String>,
+        pagination: AnyChannelPaginationRequest?,
+    ): Map<String, List<Message>>
+
     /**
      * Select messages for a thread in a desired page.
      *
@@ -211,4 +225,15 @@ public interface MessageRepository {
      * @return List of local-only messages, unordered.
      */
     public suspend fun selectLocalOnlyMessagesForChannel(cid: String): List<Message>
+
+    /**
+     * Searches the text of the stored messages, newest first. Every word of [query] is matched as a prefix, so
+     * partially typed words already produce results. Deleted messages are excluded.
+     *
+     * @param query The text to search for.
+     * @param cids The channels to search in, or null to search in all stored channels.
+     * @param limit The maximum number of results.
+     * @return The matching messages, each with a snippet of its text around the match.
+     */
+    public suspend fun searchMessages(query: String, cids: List<String>?, limit: Int): List<MessageSearchHit>
 }
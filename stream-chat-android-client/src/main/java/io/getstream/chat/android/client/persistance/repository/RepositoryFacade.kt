@@ -18,27 +18,47 @@ package io.getstream.chat.android.client.persistance.repository
 
 import androidx.annotation.VisibleForTesting
 import io.getstream.chat.android.client.extensions.enrichWithCid
+import io.getstream.chat.android.client.extensions.internal.applyPagination
 import io.getstream.chat.android.client.extensions.internal.users
+import io.getstream.chat.android.client.internal.state.plugin.QueryChannelsIdentifier
 import io.getstream.chat.android.client.persistance.repository.factory.RepositoryFactory
+import io.getstream.chat.android.client.query.QueryChannelsSpec
 import io.getstream.chat.android.client.query.pagination.AnyChannelPaginationRequest
 import io.getstream.chat.android.client.query.pagination.isRequestingMoreThanLastMessage
+import io.getstream.chat.android.client.sync.SyncState
 import io.getstream.chat.android.core.internal.InternalStreamChatApi
 import io.getstream.chat.android.models.Channel
 import io.getstream.chat.android.models.ChannelConfig
 import io.getstream.chat.android.models.Config
+import io.getstream.chat.android.models.DraftMessage
 import io.getstream.chat.android.models.Member
 import io.getstream.chat.android.models.Message
+import io.getstream.chat.android.models.MessageSearchHit
 import io.getstream.chat.android.models.Reaction
+import io.getstream.chat.android.models.SyncStatus
 import io.getstream.chat.android.models.Thread
 import io.getstream.chat.android.models.User
 import io.getstream.log.taggedLogger
+import kotlinx.coroutines.CancellationException
 import kotlinx.coroutines.CoroutineScope
-import kotlinx.coroutines.async
-import kotlinx.coroutines.awaitAll
+import kotlinx.coroutines.Job
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.launch
+import kotlinx.coroutines.sync.Mutex
+import kotlinx.coroutines.sync.withLock
 import java.util.Date
 
+/**
+ * Single entry point to all the repositories.
+ *
+ * Upserts enqueued with [upsertBatch] are written behind: upserts of the same entity are merged, and all of them are
+ * written in a single transaction after a short time window or once enough entities are pending. Reads by id see the
+ * pending upserts, while every other read and write through the facade flushes the pending upserts first, so the
+ * writes are still applied in order and queries see them. Call [flushPendingWrites] to write the pending upserts
+ * immediately.
+ */
 @InternalStreamChatApi
-@SuppressWarnings("LongParameterList", "TooManyFunctions")
+@SuppressWarnings("LongParameterList", "TooManyFunctions", "LargeClass")
 public class RepositoryFacade private constructor(
     private val userRepository: UserRepository,
     private val configsRepository: ChannelConfigRepository,
@@ -50,6 +70,7 @@ public class RepositoryFacade private constructor(
     private val syncStateRepository: SyncStateRepository,
     private val scope: CoroutineScope,
     private val defaultConfig: Config,
+    private val runInTransaction: suspend (block: suspend () -> Unit) -> Unit,
 ) : UserRepository by userRepository,
     ChannelRepository by channelsRepository,
     ReactionRepository by reactionsRepository,
@@ -61,24 +82,143 @@ public class RepositoryFacade private constructor(
 
     private val logger by taggedLogger("Chat:RepositoryFacade")
 
+    private val pendingLock = Any()
+    private var pending = PendingUpserts()
+    private var flushing: PendingUpserts? = null
+    private var scheduledFlush: Job? = null
+    private val flushMutex = Mutex()
+
+    /**
+     * Enqueues the upserts of the given entities. Upserts of the same entity are merged, keeping the latest one.
+     * The upserts are written in a single transaction, either after a short time window or once enough entities are
+     * pending, whichever comes first.
+     *
+     * @param users The users to upsert.
+     * @param channels The channels to upsert, along with their users.
+     * @param messages The messages to upsert, along with their users.
+     * @param threads The threads to upsert, along with their messages and users.
+     */
+    public suspend fun upsertBatch(
+        users: Collection<User> = emptyList(),
+        channels: Collection<Channel> = emptyList(),
+        messages: Collection<Message> = emptyList(),
+        threads: Collection<Thread> = emptyList(),
+    ) {
+        val isFull = synchronized(pendingLock) {
+            pending.add(users, channels, messages, threads)
+            val isFull = pending.size >= WRITE_BEHIND_MAX_ENTITIES
+            if (!isFull && scheduledFlush?.isActive != true) {
+                scheduledFlush = scope.launch {
+                    delay(WRITE_BEHIND_WINDOW_MS)
+                    flushScheduledWrites()
+                }
+            }
+            isFull
+        }
+        if (isFull) {
+            flushPendingWrites()
+        }
+    }
+
+    /**
+     * Writes the upserts enqueued with [upsertBatch] in a single transaction, if there are any.
+     */
+    public suspend fun flushPendingWrites() {
+        if (synchronized(pendingLock) { pending.isEmpty() && flushing == null }) return
+        flushMutex.withLock {
+            val upserts = synchronized(pendingLock) {
+                pending.takeUnless { it.isEmpty() }?.also {
+                    flushing = it
+                    pending = PendingUpserts()
+                }
+            } ?: return
+            logger.v { "[flushPendingWrites] size: ${upserts.size}" }
+            try {
+                runInTransaction {
+                    // The users embedded in the entities were already merged into the pending users, so they are
+                    // written once, and an older embedded snapshot can't overwrite a newer user.
+                    writeChannelRows(upserts.channels.values)
+                    writeMessageRows(upserts.messages.values.toList())
+                    writeThreadRows(upserts.threads.values.toList())
+                    writeUsers(upserts.users.values)
+                }
+            } finally {
+                synchronized(pendingLock) { flushing = null }
+            }
+        }
+    }
+
+    @Suppress("TooGenericExceptionCaught")
+    private suspend fun flushScheduledWrites() {
+        try {
+            flushPendingWrites()
+        } catch (e: CancellationException) {
+            throw e
+        } catch (e: Throwable) {
+            logger.e(e) { "[flushScheduledWrites] failed: ${e.message}" }
+        }
+    }
+
+    private fun <T : Any> pendingUpsert(select: PendingUpserts.() -> Map<String, T>, id: String): T? =
+        synchronized(pendingLock) { pending.select()[id] ?: flushing?.select()?.get(id) }
+
+    private suspend fun <T : Any> withPendingUpserts(
+        ids: List<String>,
+        select: PendingUpserts.() -> Map<String, T>,
+        id: (T) -> String,
+        selectStored: suspend (List<String>) -> List<T>,
+    ): List<T> {
+        val pendingEntities = ids.mapNotNull { pendingUpsert(select, it) }
+        if (pendingEntities.isEmpty()) return selectStored(ids)
+        val pendingIds = pendingEntities.mapTo(HashSet(), id)
+        val storedEntities = ids.filterNot(pendingIds::contains)
+            .takeUnless { it.isEmpty() }
+            ?.let { selectStored(it) }
+            .orEmpty()
+        return pendingEntities + storedEntities
+    }
+
+    override suspend fun selectUser(userId: String): User? =
+        pendingUpsert({ users }, userId) ?: userRepository.selectUser(userId)
+
+    override suspend fun selectUsers(ids: List<String>): List<User> =
+        withPendingUpserts(ids, { users }, User::id, userRepository::selectUsers)
+
+    override suspend fun selectChannel(cid: String): Channel? =
+        pendingUpsert({ channels }, cid) ?: channelsRepository.selectChannel(cid)
+
+    override suspend fun selectMessage(messageId: String): Message? =
+        pendingUpsert({ messages }, messageId) ?: messageRepository.selectMessage(messageId)
+
+    override suspend fun selectMessages(messageIds: List<String>): List<Message> =
+        withPendingUpserts(messageIds, { messages }, Message::id, messageRepository::selectMessages)
+
+    override suspend fun selectThread(id: String): Thread? =
+        pendingUpsert({ threads }, id) ?: threadsRepository.selectThread(id)
+
+    override suspend fun selectThreads(ids: List<String>): List<Thread> =
+        withPendingUpserts(ids, { threads }, Thread::parentMessageId, threadsRepository::selectThreads)
+
     override suspend fun selectChannels(channelCIDs: List<String>): List<Channel> =
         selectChannels(channelCIDs, null)
 
+    /**
+     * Selects the channels with the given [channelIds], along with their messages.
+     *
+     * When [pagination] is given, the channels are sorted and paged according to it before any message is loaded, and
+     * the messages of the whole page are loaded at once.
+     */
     public suspend fun selectChannels(
         channelIds: List<String>,
         pagination: AnyChannelPaginationRequest?,
     ): List<Channel> {
         // fetch the channel entities from room
-        val channels = channelsRepository.selectChannels(channelIds)
+        val channels = withPendingUpserts(channelIds, { channels }, Channel::cid, channelsRepository::selectChannels)
+            .let { selected -> pagination?.let(selected::applyPagination) ?: selected }
         // TODO why it is not compared this way?
         //  pagination?.isRequestingMoreThanLastMessage() == true
         val messagesMap = if (pagination?.isRequestingMoreThanLastMessage() != false) {
-            // with postgres this could be optimized into a single query instead of N, not sure about sqlite on android
-            // sqlite has window functions: https://sqlite.org/windowfunctions.html
-            // but android runs a very dated version: https://developer.android.com/reference/android/database/sqlite/package-summary
-            channelIds.map { cid ->
-                scope.async { cid to selectMessagesForChannel(cid, pagination) }
-            }.awaitAll().toMap()
+            selectMessagesForChannels(channels.map(Channel::cid), pagination)
         } else {
             emptyMap()
         }
@@ -99,26 +239,205 @@ public class RepositoryFacade private constructor(
         },
     )
 
+    override suspend fun selectMessagesForChannel(
+        cid: String,
+        pagination: AnyChannelPaginationRequest?,
+    ): List<Message> {
+        flushPendingWrites()
+        return messageRepository.selectMessagesForChannel(cid, pagination)
+    }
+
+    override suspend fun selectMessagesForChannels(
+        cids: List<String>,
+        pagination: AnyChannelPaginationRequest?,
+    ): Map<String, List<Message>> {
+        flushPendingWrites()
+        return messageRepository.selectMessagesForChannels(cids, pagination)
+    }
+
+    override suspend fun selectMessagesForThread(messageId: String, limit: Int): List<Message> {
+        flushPendingWrites()
+        return messageRepository.selectMessagesForThread(messageId, limit)
+    }
+
+    override suspend fun selectAllUserMessages(userId: String): List<Message> {
+        flushPendingWrites()
+        return messageRepository.selectAllUserMessages(userId)
+    }
+
+    override suspend fun selectAllChannelUserMessages(cid: String, userId: String): List<Message> {
+        flushPendingWrites()
+        return messageRepository.selectAllChannelUserMessages(cid, userId)
+    }
+
+    override suspend fun selectMessagesWithPoll(pollId: String): List<Message> {
+        flushPendingWrites()
+        return messageRepository.selectMessagesWithPoll(pollId)
+    }
+
+    override suspend fun selectMessageIdsBySyncState(syncStatus: SyncStatus): List<String> {
+        flushPendingWrites()
+        return messageRepository.selectMessageIdsBySyncState(syncStatus)
+    }
+
+    override suspend fun selectMessageBySyncState(syncStatus: SyncStatus): List<Message> {
+        flushPendingWrites()
+        return messageRepository.selectMessageBySyncState(syncStatus)
+    }
+
+    override suspend fun selectLocalOnlyMessagesForChannel(cid: String): List<Message> {
+        flushPendingWrites()
+        return messageRepository.selectLocalOnlyMessagesForChannel(cid)
+    }
+
+    override suspend fun searchMessages(query: String, cids: List<String>?, limit: Int): List<MessageSearchHit> {
+        flushPendingWrites()
+        return messageRepository.searchMessages(query, cids, limit)
+    }
+
+    override suspend fun selectAllCids(): List<String> {
+        flushPendingWrites()
+        return channelsRepository.selectAllCids()
+    }
+
+    override suspend fun selectChannelCidsBySyncNeeded(limit: Int): List<String> {
+        flushPendingWrites()
+        return channelsRepository.selectChannelCidsBySyncNeeded(limit)
+    }
+
+    override suspend fun selectChannelsSyncNeeded(limit: Int): List<Channel> {
+        flushPendingWrites()
+        return channelsRepository.selectChannelsSyncNeeded(limit)
+    }
+
+    override suspend fun selectMembersForChannel(cid: String): List<Member> {
+        flushPendingWrites()
+        return channelsRepository.selectMembersForChannel(cid)
+    }
+
+    override suspend fun selectThreadOrder(id: String): List<String> {
+        flushPendingWrites()
+        return threadsRepository.selectThreadOrder(id)
+    }
+
+    override suspend fun selectDraftMessages(): List<DraftMessage> {
+        flushPendingWrites()
+        return messageRepository.selectDraftMessages()
+    }
+
+    override suspend fun selectDraftMessagesByCid(cid: String): DraftMessage? {
+        flushPendingWrites()
+        return messageRepository.selectDraftMessagesByCid(cid)
+    }
+
+    override suspend fun selectDraftMessageByParentId(parentId: String): DraftMessage? {
+        flushPendingWrites()
+        return messageRepository.selectDraftMessageByParentId(parentId)
+    }
+
+    override suspend fun selectReactionById(id: Int): Reaction? {
+        flushPendingWrites()
+        return reactionsRepository.selectReactionById(id)
+    }
+
+    override suspend fun selectReactionsByIds(ids: List<Int>): List<Reaction> {
+        flushPendingWrites()
+        return reactionsRepository.selectReactionsByIds(ids)
+    }
+
+    override suspend fun selectReactionIdsBySyncStatus(syncStatus: SyncStatus): List<Int> {
+        flushPendingWrites()
+        return reactionsRepository.selectReactionIdsBySyncStatus(syncStatus)
+    }
+
+    override suspend fun selectReactionsBySyncStatus(syncStatus: SyncStatus): List<Reaction> {
+        flushPendingWrites()
+        return reactionsRepository.selectReactionsBySyncStatus(syncStatus)
+    }
+
+    override suspend fun selectUserReactionToMessage(
+        reactionType: String,
+        messageId: String,
+        userId: String,
+    ): Reaction? {
+        flushPendingWrites()
+        return reactionsRepository.selectUserReactionToMessage(reactionType, messageId, userId)
+    }
+
+    override suspend fun selectUserReactionsToMessage(messageId: String, userId: String): List<Reaction> {
+        flushPendingWrites()
+        return reactionsRepository.selectUserReactionsToMessage(messageId, userId)
+    }
+
+    override suspend fun selectBy(identifier: QueryChannelsIdentifier): QueryChannelsSpec? {
+        flushPendingWrites()
+        return queryChannelsRepository.selectBy(identifier)
+    }
+
+    override suspend fun selectSyncState(userId: String): SyncState? {
+        flushPendingWrites()
+        return syncStateRepository.selectSyncState(userId)
+    }
+
+    override suspend fun insertUser(user: User) {
+        flushPendingWrites()
+        userRepository.insertUser(user)
+    }
+
+    override suspend fun insertUsers(users: Collection<User>) {
+        flushPendingWrites()
+        writeUsers(users)
+    }
+
+    override suspend fun insertCurrentUser(user: User) {
+        flushPendingWrites()
+        userRepository.insertCurrentUser(user)
+    }
+
+    private suspend fun writeUsers(users: Collection<User>) {
+        userRepository.insertUsers(users)
+    }
+
     override suspend fun insertChannel(channel: Channel) {
-        insertUsers(channel.let(Channel::users))
-        channel.draftMessage?.let { insertDraftMessage(it) }
+        flushPendingWrites()
+        writeUsers(channel.let(Channel::users))
+        channel.draftMessage?.let { messageRepository.insertDraftMessage(it) }
         channelsRepository.insertChannel(channel)
     }
 
     override suspend fun insertChannels(channels: Collection<Channel>) {
-        insertUsers(channels.flatMap(Channel::users))
-        channels.forEach { it.draftMessage?.let { insertDraftMessage(it) } }
+        flushPendingWrites()
+        writeChannels(channels)
+    }
+
+    private suspend fun writeChannels(channels: Collection<Channel>) {
+        writeUsers(channels.flatMap(Channel::users))
+        writeChannelRows(channels)
+    }
+
+    private suspend fun writeChannelRows(channels: Collection<Channel>) {
+        channels.forEach { it.draftMessage?.let { messageRepository.insertDraftMessage(it) } }
         channelsRepository.insertChannels(channels)
     }
 
     override suspend fun insertMessage(message: Message) {
-        insertUsers(message.users())
+        flushPendingWrites()
+        writeUsers(message.users())
         messageRepository.insertMessage(message)
         threadsRepository.upsertMessageInThread(message)
     }
 
     override suspend fun insertMessages(messages: List<Message>) {
-        insertUsers(messages.flatMap(Message::users))
+        flushPendingWrites()
+        writeMessages(messages)
+    }
+
+    private suspend fun writeMessages(messages: List<Message>) {
+        writeUsers(messages.flatMap(Message::users))
+        writeMessageRows(messages)
+    }
+
+    private suspend fun writeMessageRows(messages: List<Message>) {
         messageRepository.insertMessages(messages)
         threadsRepository.upsertMessagesInThread(messages)
     }
@@ -127,22 +446,72 @@ public class RepositoryFacade private constructor(
      * Deletes channel messages before [hideMessagesBefore] and removes channel from the cache.
      */
     override suspend fun deleteChannelMessagesBefore(cid: String, hideMessagesBefore: Date) {
+        flushPendingWrites()
         messageRepository.deleteChannelMessagesBefore(cid, hideMessagesBefore)
     }
 
+    override suspend fun deleteChannelMessages(cid: String) {
+        flushPendingWrites()
+        messageRepository.deleteChannelMessages(cid)
+    }
+
+    override suspend fun deleteMessages(messages: List<Message>) {
+        flushPendingWrites()
+        messageRepository.deleteMessages(messages)
+    }
+
     override suspend fun deleteChannelMessage(message: Message) {
+        flushPendingWrites()
         messageRepository.deleteChannelMessage(message)
         channelsRepository.deleteChannelMessage(message)
     }
 
+    override suspend fun deleteAllChannelUserMessages(cid: String?, userId: String) {
+        flushPendingWrites()
+        channelsRepository.deleteAllChannelUserMessages(cid, userId)
+    }
+
+    override suspend fun updateChannelMessage(message: Message) {
+        flushPendingWrites()
+        channelsRepository.updateChannelMessage(message)
+    }
+
+    override suspend fun updateLastMessageForChannel(cid: String, lastMessage: Message) {
+        flushPendingWrites()
+        channelsRepository.updateLastMessageForChannel(cid, lastMessage)
+    }
+
+    override suspend fun setChannelDeletedAt(cid: String, deletedAt: Date) {
+        flushPendingWrites()
+        channelsRepository.setChannelDeletedAt(cid, deletedAt)
+    }
+
+    override suspend fun evictChannel(cid: String) {
+        flushPendingWrites()
+        channelsRepository.evictChannel(cid)
+    }
+
+    override suspend fun evictMessage(messageId: String) {
+        flushPendingWrites()
+        messageRepository.evictMessage(messageId)
+    }
+
+    override suspend fun evictMessages() {
+        flushPendingWrites()
+        messageRepository.evictMessages()
+    }
+
     @InternalStreamChatApi
     public suspend fun markMessageAsDeleted(message: Message) {
+        flushPendingWrites()
         messageRepository.insertMessage(message)
         messageRepository.evictMessage(message.id)
         channelsRepository.updateChannelMessage(message)
     }
 
     override suspend fun insertReaction(reaction: Reaction) {
+        // The message may still be pending, and writing it later would overwrite its reactions with the old ones.
+        flushPendingWrites()
         val messageId = reaction.messageId
         if (messageId.isEmpty()) {
             logger.w { "[insertReaction] rejected (message id cannot be empty)" }
@@ -158,12 +527,63 @@ public class RepositoryFacade private constructor(
             return
         }
         logger.d { "[insertReaction] reaction: ${reaction.type}, messageId: $messageId" }
-        insertUser(user)
+        userRepository.insertUser(user)
         reactionsRepository.insertReaction(reaction)
     }
 
+    override suspend fun updateReactionsForMessageByDeletedDate(userId: String, messageId: String, deletedAt: Date) {
+        flushPendingWrites()
+        reactionsRepository.updateReactionsForMessageByDeletedDate(userId, messageId, deletedAt)
+    }
+
+    override suspend fun deleteReaction(reaction: Reaction) {
+        flushPendingWrites()
+        reactionsRepository.deleteReaction(reaction)
+    }
+
+    override suspend fun insertDraftMessage(message: DraftMessage) {
+        flushPendingWrites()
+        messageRepository.insertDraftMessage(message)
+    }
+
+    override suspend fun deleteDraftMessage(message: DraftMessage) {
+        flushPendingWrites()
+        messageRepository.deleteDraftMessage(message)
+    }
+
+    override suspend fun deletePoll(pollId: String) {
+        flushPendingWrites()
+        messageRepository.deletePoll(pollId)
+    }
+
+    override suspend fun cacheChannelConfigs() {
+        flushPendingWrites()
+        configsRepository.cacheChannelConfigs()
+    }
+
+    override suspend fun insertChannelConfigs(configs: Collection<ChannelConfig>) {
+        flushPendingWrites()
+        configsRepository.insertChannelConfigs(configs)
+    }
+
+    override suspend fun insertChannelConfig(config: ChannelConfig) {
+        flushPendingWrites()
+        configsRepository.insertChannelConfig(config)
+    }
+
+    override suspend fun insertQueryChannels(queryChannelsSpec: QueryChannelsSpec) {
+        flushPendingWrites()
+        queryChannelsRepository.insertQueryChannels(queryChannelsSpec)
+    }
+
+    override suspend fun insertSyncState(syncState: SyncState) {
+        flushPendingWrites()
+        syncStateRepository.insertSyncState(syncState)
+    }
+
     override suspend fun updateMembersForChannel(cid: String, members: List<Member>) {
-        insertUsers(members.map(Member::user))
+        flushPendingWrites()
+        writeUsers(members.map(Member::user))
         channelsRepository.updateMembersForChannel(cid, members)
     }
 
@@ -182,51 +602,89 @@ public class RepositoryFacade private constructor(
     }
 
     override suspend fun deleteChannel(cid: String) {
+        flushPendingWrites()
         threadsRepository.deleteChannelThreads(cid)
         channelsRepository.deleteChannel(cid)
         messageRepository.deleteChannelMessages(cid)
     }
 
     override suspend fun setHiddenForChannel(cid: String, hidden: Boolean, hideMessagesBefore: Date) {
+        flushPendingWrites()
         channelsRepository.setHiddenForChannel(cid, hidden, hideMessagesBefore)
         messageRepository.evictMessages()
     }
 
     override suspend fun setHiddenForChannel(cid: String, hidden: Boolean) {
+        flushPendingWrites()
         channelsRepository.setHiddenForChannel(cid, hidden)
         messageRepository.evictMessages()
     }
 
     override suspend fun insertThreads(threads: List<Thread>) {
-        val parentMessages = threads.map(Thread::parentMessage)
-        val replyMessages = threads.flatMap(Thread::latestReplies)
-        val messages = parentMessages + replyMessages
-        val threadUsers = threads.mapNotNull(Thread::createdBy)
-        val users = threadUsers + messages.flatMap(Message::users)
-        insertUsers(users)
-        threads.forEach { it.draft?.let { insertDraftMessage(it) } }
-        messageRepository.insertMessages(messages)
+        flushPendingWrites()
+        writeThreads(threads)
+    }
+
+    private suspend fun writeThreads(threads: List<Thread>) {
+        writeUsers(threads.flatMap(Thread::threadUsers))
+        writeThreadRows(threads)
+    }
+
+    private suspend fun writeThreadRows(threads: List<Thread>) {
+        threads.forEach { it.draft?.let { messageRepository.insertDraftMessage(it) } }
+        messageRepository.insertMessages(threads.flatMap(Thread::threadMessages))
         threadsRepository.insertThreads(threads)
     }
 
+    override suspend fun insertThreadOrder(id: String, order: List<String>) {
+        flushPendingWrites()
+        threadsRepository.insertThreadOrder(id, order)
+    }
+
+    override suspend fun upsertMessageInThread(message: Message) {
+        flushPendingWrites()
+        threadsRepository.upsertMessageInThread(message)
+    }
+
+    override suspend fun upsertMessagesInThread(messages: List<Message>) {
+        flushPendingWrites()
+        threadsRepository.upsertMessagesInThread(messages)
+    }
+
+    override suspend fun deleteChannelThreads(cid: String) {
+        flushPendingWrites()
+        threadsRepository.deleteChannelThreads(cid)
+    }
+
     public suspend fun storeStateForChannel(channel: Channel) {
         storeStateForChannels(listOf(channel))
     }
 
     override suspend fun clear() {
-        userRepository.clear()
-        channelsRepository.clear()
-        reactionsRepository.clear()
-        messageRepository.clear()
-        threadsRepository.clear()
-        configsRepository.clear()
-        queryChannelsRepository.clear()
-        syncStateRepository.clear()
+        // Waits for an in-flight flush, so it can't write the pending upserts after the repositories are cleared.
+        flushMutex.withLock {
+            synchronized(pendingLock) {
+                pending = PendingUpserts()
+                scheduledFlush?.cancel()
+                scheduledFlush = null
+            }
+            userRepository.clear()
+            channelsRepository.clear()
+            reactionsRepository.clear()
+            messageRepository.clear()
+            threadsRepository.clear()
+            configsRepository.clear()
+            queryChannelsRepository.clear()
+            syncStateRepository.clear()
+        }
     }
 
     @InternalStreamChatApi
     public companion object {
 
+        private const val WRITE_BEHIND_WINDOW_MS = 100L
+        private const val WRITE_BEHIND_MAX_ENTITIES = 500
+
         /**
          * Creates a new instance of [RepositoryFacade] and populate the Singleton instance. This method should be
          * used mainly for tests or internally by other constructor methods.
@@ -264,7 +722,65 @@ public class RepositoryFacade private constructor(
                 syncStateRepository = factory.createSyncStateRepository(),
                 scope = scope,
                 defaultConfig = defaultConfig,
+                runInTransaction = factory::runInTransaction,
             )
         }
     }
 }
+
+/**
+ * Upserts waiting to be written, keyed by the entity id, so a newer upsert of an entity replaces the older one.
+ */
+private class PendingUpserts {
+    val users = LinkedHashMap<String, User>()
+    val channels = LinkedHashMap<String, Channel>()
+    val messages = LinkedHashMap<String, Message>()
+    val threads = LinkedHashMap<String, Thread>()
+
+    val size: Int get() = users.size + channels.size + messages.size + threads.size
+
+    fun isEmpty(): Boolean = size == 0
+
+    /**
+     * Adds the entities, along with the users embedded in [channels], [messages] and [threads], so every user is
+     * written once with its newest known snapshot.
+     */
+    fun add(
+        users: Collection<User>,
+        channels: Collection<Channel>,
+        messages: Collection<Message>,
+        threads: Collection<Thread>,
+    ) {
+        channels.forEach { channel ->
+            this.channels[channel.cid] = channel
+            channel.users().forEach(::addUser)
+        }
+        messages.forEach { message ->
+            this.messages[message.id] = message
+            message.users().forEach(::addUser)
+        }
+        threads.forEach { thread ->
+            this.threads[thread.parentMessageId] = thread
+            thread.threadUsers().forEach(::addUser)
+        }
+        users.forEach(::addUser)
+    }
+
+    /**
+     * Keeps the newest snapshot of the [user]: the one updated last, or the one enqueued last when the update dates
+     * can't tell them apart.
+     */
+    private fun addUser(user: User) {
+        val current = users[user.id]
+        val currentUpdatedAt = current?.updatedAt
+        val updatedAt = user.updatedAt
+        if (currentUpdatedAt == null || updatedAt == null || !updatedAt.before(currentUpdatedAt)) {
+            users[user.id] = user
+        }
+    }
+}
+
+private fun Thread.threadMessages(): List<Message> = listOf(parentMessage) + latestReplies
+
+private fun Thread.threadUsers(): List<User> = listOfNotNull(createdBy) + threadMessages().flatMap(Message::users)
+
@@ -95,6 +95,16 @@ public interface RepositoryFactory {
      */
     public fun createSyncStateRepository(): SyncStateRepository
 
+    /**
+     * Runs [block] in a single transaction, so the writes made by [block] are committed together.
+     * By default, [block] is run without a transaction.
+     *
+     * @param block The writes to run in the transaction.
+     */
+    public suspend fun runInTransaction(block: suspend () -> Unit) {
+        block()
+    }
+
     /**
      * Interface to delegate creation of [RepositoryFactory].
      */
@@ -20,6 +20,7 @@ import io.getstream.chat.android.client.persistance.repository.MessageRepository
 import io.getstream.chat.android.client.query.pagination.AnyChannelPaginationRequest
 import io.getstream.chat.android.models.DraftMessage
 import io.getstream.chat.android.models.Message
+import io.getstream.chat.android.models.MessageSearchHit
 import io.getstream.chat.android.models.SyncStatus
 import java.util.Date
 
@@ -54,8 +55,17 @@ internal object NoOpMessageRepository : MessageRepository {
         cid: String,
         pagination: AnyChannelPaginationRequest?,
     ): List<Message> = emptyList()
+    override suspend fun selectMessagesForChannels(
+        cids: List<String>,
+        pagination: AnyChannelPaginationRequest?,
+    ): Map<String, List<Message>> = emptyMap()
     override suspend fun selectMessagesForThread(messageId: String, limit: Int): List<Message> = emptyList()
     override suspend fun selectAllUserMessages(userId: String): List<Message> = emptyList()
     override suspend fun selectAllChannelUserMessages(cid: String, userId: String): List<Message> = emptyList()
     override suspend fun selectLocalOnlyMessagesForChannel(cid: String): List<Message> = emptyList()
+    override suspend fun searchMessages(
+        query: String,
+        cids: List<String>?,
+        limit: Int,
+    ): List<MessageSearchHit> = emptyList()
 }
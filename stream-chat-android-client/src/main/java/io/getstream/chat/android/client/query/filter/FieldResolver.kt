@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.client.query.filter
+
+import io.getstream.chat.android.models.Channel
+import io.getstream.chat.android.models.Member
+import io.getstream.chat.android.models.Message
+import io.getstream.chat.android.models.User
+import io.getstream.chat.android.models.querysort.ComparableFieldProvider
+
+/**
+ * Resolves the value of a filter field on a model.
+ */
+internal fun interface FieldResolver<T> {
+
+    /**
+     * Resolves the field named [fieldName] on [target].
+     *
+     * @return [FieldValue.Resolved] with the value of the field, which is null if the field is not set, or
+     * [FieldValue.Unsupported] if the field is unknown or its value isn't fully available locally.
+     */
+    fun resolve(target: T, fieldName: String): FieldValue
+}
+
+/**
+ * The result of resolving a filter field.
+ */
+internal sealed interface FieldValue {
+
+    /**
+     * The field is known and has the given [value].
+     */
+    data class Resolved(val value: Any?) : FieldValue
+
+    /**
+     * The field can't be evaluated locally.
+     */
+    data object Unsupported : FieldValue
+}
+
+internal val ChannelFieldResolver = FieldResolver<Channel> { channel, fieldName ->
+    when (fieldName) {
+        "members" -> channel.loadedMembers()?.map(Member::getUserId).toFieldValue()
+        "member.user.name" -> channel.loadedMembers()?.map { it.user.name }.toFieldValue()
+        "filter_tags", "filterTags" -> FieldValue.Resolved(channel.filterTags)
+        "joined" -> channel.membership.resolveMembershipField { true }
+        "pinned" -> channel.membership.resolveMembershipField { it.pinnedAt != null }
+        "archived" -> channel.membership.resolveMembershipField { it.archivedAt != null }
+        "pinned_at", "pinnedAt" -> channel.membership.resolveMembershipField { it.pinnedAt }
+        "archived_at", "archivedAt" -> channel.membership.resolveMembershipField { it.archivedAt }
+        else -> channel.resolveField(fieldName, channel.extraData, CHANNEL_NULLABLE_FIELDS)
+    }
+}
+
+internal val MemberFieldResolver = FieldResolver<Member> { member, fieldName ->
+    when (fieldName) {
+        "id" -> FieldValue.Resolved(member.getUserId())
+        "name" -> FieldValue.Resolved(member.user.name)
+        else -> member.resolveField(fieldName, member.extraData, MEMBER_NULLABLE_FIELDS)
+    }
+}
+
+internal val UserFieldResolver = FieldResolver<User> { user, fieldName ->
+    when (fieldName) {
+        "teams" -> FieldValue.Resolved(user.teams)
+        else -> user.resolveField(fieldName, user.extraData, USER_NULLABLE_FIELDS)
+    }
+}
+
+internal val MessageFieldResolver = FieldResolver<Message> { message, fieldName ->
+    when (fieldName) {
+        "user.id", "user_id", "userId" -> FieldValue.Resolved(message.user.id)
+        "mentioned_users.id" -> FieldValue.Resolved(message.mentionedUsersIds)
+        else -> message.resolveField(fieldName, message.extraData, MESSAGE_NULLABLE_FIELDS)
+    }
+}
+
+/**
+ * Returns the members of the channel, or null if only a part of them is loaded.
+ */
+private fun Channel.loadedMembers(): List<Member>? = members.takeIf { it.isNotEmpty() && it.size >= memberCount }
+
+/**
+ * Resolves a field of the current user's membership, which is unknown when the membership isn't loaded.
+ */
+private fun Member?.resolveMembershipField(value: (Member) -> Any?): FieldValue =
+    this?.let { FieldValue.Resolved(value(it)) } ?: FieldValue.Unsupported
+
+private fun Any?.toFieldValue(): FieldValue = this?.let(FieldValue::Resolved) ?: FieldValue.Unsupported
+
+/**
+ * Resolves the field with [ComparableFieldProvider.getComparableField], falling back to the raw [extraData] value so
+ * that custom list values can be matched too. A missing value resolves to null only for the fields in
+ * [nullableFields], since any other name may reference data that isn't stored on the device.
+ */
+private fun ComparableFieldProvider.resolveField(
+    fieldName: String,
+    extraData: Map<String, Any>,
+    nullableFields: Set<String>,
+): FieldValue {
+    val value = getComparableField(fieldName) ?: extraData[fieldName]
+    return when {
+        value != null -> FieldValue.Resolved(value)
+        fieldName in nullableFields -> FieldValue.Resolved(null)
+        else -> FieldValue.Unsupported
+    }
+}
+
+private val CHANNEL_NULLABLE_FIELDS = setOf(
+    "last_message_at", "lastMessageAt",
+    "created_at", "createdAt",
+    "updated_at", "updatedAt",
+    "deleted_at", "deletedAt",
+    "last_updated", "lastUpdated",
+)
+
+private val MEMBER_NULLABLE_FIELDS = setOf(
+    "created_at", "createdAt",
+    "updated_at", "updatedAt",
+    "is_invited", "isInvited",
+    "invite_accepted_at", "inviteAcceptedAt",
+    "invite_rejected_at", "inviteRejectedAt",
+    "banned",
+    "ban_expires", "banExpires",
+    "channel_role", "channelRole",
+    "notifications_muted", "notificationsMuted",
+    "status",
+    "pinned_at", "pinnedAt",
+    "archived_at", "archivedAt",
+)
+
+private val USER_NULLABLE_FIELDS = setOf(
+    "created_at", "createdAt",
+    "deactivated_at", "deactivatedAt",
+    "updated_at", "updatedAt",
+    "last_active", "lastActive",
+    "avg_response_time", "avgResponseTime",
+    "language",
+)
+
+private val MESSAGE_NULLABLE_FIELDS = setOf(
+    "parent_id", "parentId",
+    "command",
+    "created_at", "createdAt",
+    "updated_at", "updatedAt",
+    "deleted_at", "deletedAt",
+    "updated_locally_at", "updatedLocallyAt",
+    "created_locally_at", "createdLocallyAt",
+    "pinned_at", "pinnedAt",
+    "pin_expires", "pinExpires",
+)
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.client.query.filter
+
+import io.getstream.chat.android.core.internal.InternalStreamChatApi
+import io.getstream.chat.android.models.AndFilterObject
+import io.getstream.chat.android.models.AutocompleteFilterObject
+import io.getstream.chat.android.models.Channel
+import io.getstream.chat.android.models.ContainsFilterObject
+import io.getstream.chat.android.models.DistinctFilterObject
+import io.getstream.chat.android.models.EqualsFilterObject
+import io.getstream.chat.android.models.ExistsFilterObject
+import io.getstream.chat.android.models.FilterObject
+import io.getstream.chat.android.models.GreaterThanFilterObject
+import io.getstream.chat.android.models.GreaterThanOrEqualsFilterObject
+import io.getstream.chat.android.models.InFilterObject
+import io.getstream.chat.android.models.LessThanFilterObject
+import io.getstream.chat.android.models.LessThanOrEqualsFilterObject
+import io.getstream.chat.android.models.Member
+import io.getstream.chat.android.models.Message
+import io.getstream.chat.android.models.NeutralFilterObject
+import io.getstream.chat.android.models.NorFilterObject
+import io.getstream.chat.android.models.NotEqualsFilterObject
+import io.getstream.chat.android.models.NotExistsFilterObject
+import io.getstream.chat.android.models.NotInFilterObject
+import io.getstream.chat.android.models.OrFilterObject
+import io.getstream.chat.android.models.User
+import java.util.Date
+
+/**
+ * A [FilterObject] compiled into a predicate that can be evaluated on the device.
+ *
+ * The evaluation follows a three-valued logic: a filter that references data which isn't available locally, such as
+ * an unknown field or a partially loaded member list, evaluates to `null` instead of guessing. Callers should only
+ * act on a definite `true` or `false`.
+ */
+@InternalStreamChatApi
+public class FilterPredicate<T> private constructor(private val node: Node<T>) {
+
+    /**
+     * Evaluates the filter against the given [target].
+     *
+     * @return true if [target] matches the filter, false if it doesn't, or null if it can't be decided locally.
+     */
+    public fun evaluate(target: T): Boolean? = node(target)
+
+    public companion object {
+
+        /**
+         * Compiles the given [filter] into a predicate over [Channel]s.
+         */
+        public fun forChannels(filter: FilterObject): FilterPredicate<Channel> =
+            FilterPredicate(filter.compile(ChannelFieldResolver))
+
+        /**
+         * Compiles the given [filter] into a predicate over [Member]s.
+         */
+        public fun forMembers(filter: FilterObject): FilterPredicate<Member> =
+            FilterPredicate(filter.compile(MemberFieldResolver))
+
+        /**
+         * Compiles the given [filter] into a predicate over [User]s.
+         */
+        public fun forUsers(filter: FilterObject): FilterPredicate<User> =
+            FilterPredicate(filter.compile(UserFieldResolver))
+
+        /**
+         * Compiles the given [filter] into a predicate over [Message]s.
+         */
+        public fun forMessages(filter: FilterObject): FilterPredicate<Message> =
+            FilterPredicate(filter.compile(MessageFieldResolver))
+    }
+}
+
+private typealias Node<T> = (T) -> Boolean?
+
+@Suppress("ComplexMethod", "DEPRECATION")
+private fun <T> FilterObject.compile(resolver: FieldResolver<T>): Node<T> = when (this) {
+    is AndFilterObject -> allOf(filterObjects.map { it.compile(resolver) })
+    is OrFilterObject -> anyOf(filterObjects.map { it.compile(resolver) })
+    is NorFilterObject -> negate(anyOf(filterObjects.map { it.compile(resolver) }))
+    is ExistsFilterObject -> resolver.field(fieldName) { value -> value != null }
+    is NotExistsFilterObject -> resolver.field(fieldName) { value -> value == null }
+    is EqualsFilterObject -> resolver.equalsAny(fieldName, setOf(value))
+    is NotEqualsFilterObject -> negate(resolver.equalsAny(fieldName, setOf(value)))
+    is InFilterObject -> resolver.equalsAny(fieldName, values)
+    is NotInFilterObject -> negate(resolver.equalsAny(fieldName, values))
+    is ContainsFilterObject -> resolver.contains(fieldName, value)
+    is AutocompleteFilterObject -> resolver.autocompletes(fieldName, value)
+    is GreaterThanFilterObject -> resolver.compared(fieldName, value) { it > 0 }
+    is GreaterThanOrEqualsFilterObject -> resolver.compared(fieldName, value) { it >= 0 }
+    is LessThanFilterObject -> resolver.compared(fieldName, value) { it < 0 }
+    is LessThanOrEqualsFilterObject -> resolver.compared(fieldName, value) { it <= 0 }
+    is DistinctFilterObject -> allOf(
+        listOf(
+            resolver.field(FIELD_ID) { value -> (value as? String)?.startsWith(DISTINCT_CHANNEL_ID_PREFIX) },
+            resolver.field(FIELD_MEMBERS) { value -> (value as? Collection<*>)?.let { it.toSet() == memberIds } },
+        ),
+    )
+    is NeutralFilterObject -> { _: T -> true }
+}
+
+private fun <T> allOf(nodes: List<Node<T>>): Node<T> = { target -> nodes.allOf(target) }
+
+private fun <T> anyOf(nodes: List<Node<T>>): Node<T> = { target -> nodes.anyOf(target) }
+
+private fun <T> negate(node: Node<T>): Node<T> = { target -> node(target)?.not() }
+
+private fun <T> FieldResolver<T>.field(fieldName: String, test: (Any?) -> Boolean?): Node<T> = { target ->
+    when (val field = resolve(target, fieldName)) {
+        is FieldValue.Resolved -> test(field.value)
+        FieldValue.Unsupported -> null
+    }
+}
+
+private fun <T> FieldResolver<T>.equalsAny(fieldName: String, expected: Set<Any>): Node<T> =
+    field(fieldName) { value -> value.anyElement { element -> expected.any { valuesEqual(element, it) } } }
+
+private fun <T> FieldResolver<T>.contains(fieldName: String, expected: Any): Node<T> =
+    field(fieldName) { value -> (value as? Collection<*>)?.any { valuesEqual(it, expected) } }
+
+private fun <T> FieldResolver<T>.autocompletes(fieldName: String, query: String): Node<T> =
+    field(fieldName) { value -> value.anyElement { element -> (element as? String)?.let { autocompletes(it, query) } } }
+
+private fun <T> FieldResolver<T>.compared(fieldName: String, expected: Any, test: (Int) -> Boolean): Node<T> =
+    field(fieldName) { value -> value.anyElement { element -> compareFilterValues(element, expected)?.let(test) } }
+
+private fun <T> List<Node<T>>.allOf(target: T): Boolean? {
+    var result: Boolean? = true
+    for (node in this) {
+        when (node(target)) {
+            false -> return false
+            null -> result = null
+            true -> Unit
+        }
+    }
+    return result
+}
+
+private fun <T> List<Node<T>>.anyOf(target: T): Boolean? {
+    var result: Boolean? = false
+    for (node in this) {
+        when (node(target)) {
+            true -> return true
+            null -> result = null
+            false -> Unit
+        }
+    }
+    return result
+}
+
+/**
+ * Applies [test] to every element when the value is a collection, as the server does for array fields, or to the
+ * value itself otherwise.
+ */
+private fun Any?.anyElement(test: (Any?) -> Boolean?): Boolean? {
+    if (this !is Collection<*>) return test(this)
+    var result: Boolean? = false
+    for (element in this) {
+        when (test(element)) {
+            true -> return true
+            null -> result = null
+            false -> Unit
+        }
+    }
+    return result
+}
+
+private fun valuesEqual(actual: Any?, expected: Any?): Boolean = when {
+    actual is Number && expected is Number -> compareNumbers(actual, expected) == 0
+    else -> actual == expected
+}
+
+private fun compareFilterValues(actual: Any?, expected: Any): Int? = when {
+    actual is Number && expected is Number -> compareNumbers(actual, expected)
+    actual is Date && expected is Date -> actual.compareTo(expected)
+    actual is String && expected is String -> actual.compareTo(expected)
+    actual is Boolean && expected is Boolean -> actual.compareTo(expected)
+    else -> null
+}
+
+private fun compareNumbers(actual: Number, expected: Number): Int =
+    if (actual.isIntegral() && expected.isIntegral()) {
+        actual.toLong().compareTo(expected.toLong())
+    } else {
+        actual.toDouble().compareTo(expected.toDouble())
+    }
+
+private fun Number.isIntegral(): Boolean = this is Int || this is Long || this is Short || this is Byte
+
+private fun autocompletes(text: String, query: String): Boolean =
+    text.split(WHITESPACE_REGEX).any { word -> word.startsWith(query, ignoreCase = true) }
+
+private const val FIELD_ID = "id"
+private const val FIELD_MEMBERS = "members"
+private const val DISTINCT_CHANNEL_ID_PREFIX = "!members-"
+private val WHITESPACE_REGEX = Regex("\\s+")
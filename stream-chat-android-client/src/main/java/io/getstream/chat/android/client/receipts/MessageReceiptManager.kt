@@ -39,12 +39,14 @@ import java.util.Date
  * @param getRepositoryFacade Function to provide the [RepositoryFacade] tied to the currently logged in user.
  * @param messageReceiptRepository The [MessageReceiptRepository] to store the created receipts.
  * @param api The [ChatApi] to fetch data if needed.
+ * @param onReceiptsStored Called after new receipts are stored, to wake up the reporter.
  */
 internal class MessageReceiptManager(
     private val now: () -> Date,
     private val getRepositoryFacade: () -> RepositoryFacade,
     private val messageReceiptRepository: MessageReceiptRepository,
     private val api: ChatApi,
+    private val onReceiptsStored: () -> Unit = {},
 ) {
 
     private val repositoryFacade: RepositoryFacade
@@ -151,6 +153,7 @@ internal class MessageReceiptManager(
         messageReceiptRepository.upsertMessageReceipts(receipts)
 
         logger.d { "[markMessagesAsDelivered] ${messages.size} delivery receipts upserted" }
+        onReceiptsStored()
 
         return true
     }
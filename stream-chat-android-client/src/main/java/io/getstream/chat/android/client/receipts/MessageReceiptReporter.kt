@@ -20,63 +20,129 @@ import io.getstream.chat.android.client.api.ChatApi
 import io.getstream.chat.android.client.persistence.repository.MessageReceiptRepository
 import io.getstream.chat.android.models.Message
 import io.getstream.log.taggedLogger
-import io.getstream.result.onSuccessSuspend
+import io.getstream.result.Result
 import kotlinx.coroutines.CoroutineScope
-import kotlinx.coroutines.delay
+import kotlinx.coroutines.channels.Channel
 import kotlinx.coroutines.isActive
 import kotlinx.coroutines.launch
+import kotlinx.coroutines.withTimeoutOrNull
 
 /**
- * Reports message delivery receipts to the server in batches of [MAX_BATCH_SIZE]
- * every [REPORT_INTERVAL_IN_MS] milliseconds.
+ * Reports message delivery receipts to the server in batches of up to [maxBatchSize].
+ *
+ * The reporter sleeps until [onReceiptsEnqueued] signals new receipts, then waits [debounceMs] to coalesce the
+ * receipts enqueued in the meantime into one request. [flush] skips the debounce, e.g. when the app goes to the
+ * background. When reporting fails, the reporter retries with an exponential backoff, starting at
+ * [initialBackoffMs] and capped at [maxBackoffMs]. A [flush] during the backoff retries right away.
  */
+@Suppress("LongParameterList")
 internal class MessageReceiptReporter(
     private val scope: CoroutineScope,
     private val messageReceiptRepository: MessageReceiptRepository,
     private val api: ChatApi,
+    private val debounceMs: Long = DEFAULT_DEBOUNCE_MS,
+    private val maxBatchSize: Int = DEFAULT_MAX_BATCH_SIZE,
+    private val initialBackoffMs: Long = DEFAULT_INITIAL_BACKOFF_MS,
+    private val maxBackoffMs: Long = DEFAULT_MAX_BACKOFF_MS,
 ) {
 
     private val logger by taggedLogger("Chat:MessageReceiptReporter")
 
+    private val wakeUps = Channel<Unit>(Channel.CONFLATED)
+    private val flushRequests = Channel<Unit>(Channel.CONFLATED)
+
     fun start() {
         logger.d { "Starting reporter…" }
+        // Receipts stored by a previous session are still pending
+        flush()
         scope.launch {
             try {
+                var backoffMs = initialBackoffMs
                 while (isActive) {
-                    val messages = messageReceiptRepository
-                        .selectMessageReceipts(limit = MAX_BATCH_SIZE)
-                        .map { receipt ->
-                            Message(
-                                id = receipt.messageId,
-                                cid = receipt.cid,
-                            )
+                    wakeUps.receive()
+                    awaitFlush(timeoutMs = debounceMs)
+                    while (isActive) {
+                        val result = reportBatch() ?: break
+                        if (result.reported) {
+                            backoffMs = initialBackoffMs
+                            // A partial batch means there is nothing left to report
+                            if (result.size < maxBatchSize) break
+                        } else {
+                            logger.d { "Retrying in $backoffMs ms" }
+                            awaitFlush(timeoutMs = backoffMs)
+                            backoffMs = (backoffMs * 2).coerceAtMost(maxBackoffMs)
                         }
-
-                    if (messages.isNotEmpty()) {
-                        logger.d { "Reporting delivery receipts for ${messages.size} messages…" }
-                        api.markDelivered(messages)
-                            .execute()
-                            .onSuccessSuspend {
-                                logger.d { "Successfully reported delivery receipts for ${messages.size} messages" }
-                                val deliveredMessageIds = messages.map(Message::id)
-                                messageReceiptRepository.deleteMessageReceiptsByMessageIds(deliveredMessageIds)
-                            }
-                            .onError { error ->
-                                logger.e {
-                                    "Failed to report delivery receipts for ${messages.size} messages: " +
-                                        error.message
-                                }
-                            }
                     }
-
-                    delay(REPORT_INTERVAL_IN_MS)
                 }
             } finally {
                 logger.d { "Reporter is no longer active" }
             }
         }
     }
+
+    /**
+     * Signals that new receipts were stored and should be reported.
+     */
+    fun onReceiptsEnqueued() {
+        wakeUps.trySend(Unit)
+    }
+
+    /**
+     * Reports the pending receipts without waiting for the debounce.
+     */
+    fun flush() {
+        flushRequests.trySend(Unit)
+        wakeUps.trySend(Unit)
+    }
+
+    /**
+     * Suspends until [flush] is called, or for at most [timeoutMs].
+     */
+    private suspend fun awaitFlush(timeoutMs: Long) {
+        withTimeoutOrNull(timeoutMs) { flushRequests.receive() }
+    }
+
+    /**
+     * Reports the next batch of receipts.
+     *
+     * @return The outcome of the report, or null if there were no receipts to report.
+     */
+    private suspend fun reportBatch(): BatchResult? {
+        // The receipts read below include everything stored before a pending flush, so that flush is served
+        // by this report and must not skip the debounce of a later wake-up
+        flushRequests.tryReceive()
+        val messages = messageReceiptRepository
+            .selectMessageReceipts(limit = maxBatchSize)
+            .map { receipt ->
+                Message(
+                    id = receipt.messageId,
+                    cid = receipt.cid,
+                )
+            }
+        if (messages.isEmpty()) return null
+
+        logger.d { "Reporting delivery receipts for ${messages.size} messages…" }
+        return when (val result = api.markDelivered(messages).execute()) {
+            is Result.Success -> {
+                logger.d { "Successfully reported delivery receipts for ${messages.size} messages" }
+                messageReceiptRepository.deleteMessageReceiptsByMessageIds(messages.map(Message::id))
+                BatchResult(size = messages.size, reported = true)
+            }
+
+            is Result.Failure -> {
+                logger.e {
+                    "Failed to report delivery receipts for ${messages.size} messages: " +
+                        result.value.message
+                }
+                BatchResult(size = messages.size, reported = false)
+            }
+        }
+    }
+
+    private class BatchResult(val size: Int, val reported: Boolean)
 }
 
-private const val REPORT_INTERVAL_IN_MS = 1000L
-private const val MAX_BATCH_SIZE = 100
+private const val DEFAULT_DEBOUNCE_MS = 1000L
+private const val DEFAULT_MAX_BATCH_SIZE = 100
+private const val DEFAULT_INITIAL_BACKOFF_MS = 1000L
+private const val DEFAULT_MAX_BACKOFF_MS = 60_000L
@@ -97,6 +97,7 @@ internal open class ChatSocket(
                         socketListenerJob = listen().onEach {
                             when (it) {
                                 is StreamWebSocketEvent.Error -> handleError(it.streamError)
+                                is StreamWebSocketEvent.Overflow -> handleOverflow(it.droppedFrames)
                                 is StreamWebSocketEvent.Message -> when (val event = it.chatEvent) {
                                     is ConnectionErrorEvent -> handleError(event.toNetworkError())
                                     else -> handleEvent(event)
@@ -215,6 +216,15 @@ internal open class ChatSocket(
         }
     }
 
+    /**
+     * Frames were dropped before they could be parsed, so the local state may have missed events.
+     * Restarting the connection emits a fresh [ConnectedEvent], which makes the sync manager resync active channels.
+     */
+    private suspend fun handleOverflow(droppedFrames: Long) {
+        logger.w { "[handleOverflow] droppedFrames: $droppedFrames, restarting connection to resync" }
+        chatSocketStateService.onWebSocketEventLost()
+    }
+
     private suspend fun startObservers() {
         lifecycleObserver.observe(lifecycleHandler)
         networkStateProvider.subscribe(networkStateListener)
@@ -20,8 +20,10 @@ import io.getstream.chat.android.PrivacySettings
 import io.getstream.chat.android.client.parser.ChatParser
 import io.getstream.chat.android.client.token.TokenManager
 import io.getstream.chat.android.client.utils.HeadersUtil
+import io.getstream.chat.android.core.internal.coroutines.DispatcherProvider
 import io.getstream.chat.android.models.User
 import io.getstream.log.taggedLogger
+import kotlinx.coroutines.CoroutineDispatcher
 import okhttp3.OkHttpClient
 import okhttp3.Request
 import java.io.UnsupportedEncodingException
@@ -33,6 +35,8 @@ internal class SocketFactory(
     private val tokenManager: TokenManager,
     private val headersUtil: HeadersUtil,
     private val httpClient: OkHttpClient = OkHttpClient(),
+    private val parseDispatcher: CoroutineDispatcher = DispatcherProvider.IO,
+    private val frameBufferCapacity: Int = FRAME_BUFFER_CAPACITY,
 ) {
     private val logger by taggedLogger("Chat:SocketFactory")
 
@@ -40,7 +44,7 @@ internal class SocketFactory(
     fun createSocket(connectionConf: ConnectionConf): StreamWebSocket {
         val request = buildRequest(connectionConf)
         logger.i { "new web socket: ${request.url}" }
-        return StreamWebSocket(parser) { httpClient.newWebSocket(request, it) }
+        return StreamWebSocket(parser, parseDispatcher, frameBufferCapacity) { httpClient.newWebSocket(request, it) }
     }
 
     @Throws(UnsupportedEncodingException::class)
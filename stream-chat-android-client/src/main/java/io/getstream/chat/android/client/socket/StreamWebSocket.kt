@@ -21,35 +21,72 @@ import io.getstream.chat.android.client.errors.extractCause
 import io.getstream.chat.android.client.errors.fromChatErrorCode
 import io.getstream.chat.android.client.events.ChatEvent
 import io.getstream.chat.android.client.parser.ChatParser
+import io.getstream.chat.android.core.internal.coroutines.DispatcherProvider
 import io.getstream.log.StreamLog
 import io.getstream.result.Error
 import io.getstream.result.Result
 import io.getstream.result.recover
+import kotlinx.coroutines.CoroutineDispatcher
+import kotlinx.coroutines.channels.Channel
 import kotlinx.coroutines.flow.Flow
-import kotlinx.coroutines.flow.MutableSharedFlow
-import kotlinx.coroutines.flow.asSharedFlow
+import kotlinx.coroutines.flow.flow
+import kotlinx.coroutines.flow.flowOn
+import kotlinx.coroutines.selects.select
 import okhttp3.Response
 import okhttp3.WebSocket
 import okhttp3.WebSocketListener
+import okio.Buffer
+import okio.ByteString
+import java.util.concurrent.atomic.AtomicLong
 
-private const val EVENTS_BUFFER_SIZE = 100
+internal const val FRAME_BUFFER_CAPACITY = 1_000
 private const val CLOSE_SOCKET_CODE = 1000
 private const val CLOSE_SOCKET_REASON = "Connection close by client"
 
+/**
+ * Thin wrapper around an OkHttp [WebSocket] that turns incoming frames into [StreamWebSocketEvent]s.
+ *
+ * The OkHttp reader thread only enqueues raw frames into a bounded queue; parsing happens in [listen] on
+ * [parseDispatcher], so a burst of events never stalls frame reads. When the queue is full the frame is dropped,
+ * counted in [droppedFrameCount] and a [StreamWebSocketEvent.Overflow] is delivered once the consumer catches up,
+ * so the caller can recover the lost state with a resync. Failures and closes of the socket use a separate unbounded
+ * queue and are never dropped.
+ *
+ * @param parser Parser used to convert frames into [ChatEvent]s.
+ * @param parseDispatcher Dispatcher the parse stage runs on.
+ * @param frameBufferCapacity Maximum number of frames waiting to be parsed.
+ * @param socketCreator Factory that opens the underlying [WebSocket] with the given listener.
+ */
 internal class StreamWebSocket(
     private val parser: ChatParser,
+    private val parseDispatcher: CoroutineDispatcher = DispatcherProvider.IO,
+    frameBufferCapacity: Int = FRAME_BUFFER_CAPACITY,
     socketCreator: (WebSocketListener) -> WebSocket,
 ) {
-    private val eventFlow = MutableSharedFlow<StreamWebSocketEvent>(extraBufferCapacity = EVENTS_BUFFER_SIZE)
+    private val frames = Channel<SocketFrame>(capacity = frameBufferCapacity)
+    private val controlEvents = Channel<StreamWebSocketEvent>(capacity = Channel.UNLIMITED)
+    private val droppedFrames = AtomicLong(0)
+    private val pendingOverflow = AtomicLong(0)
+
+    /**
+     * Total number of frames dropped because the parse stage could not keep up.
+     */
+    val droppedFrameCount: Long
+        get() = droppedFrames.get()
 
     private val webSocket = socketCreator(object : WebSocketListener() {
         override fun onMessage(webSocket: WebSocket, text: String) {
             StreamLog.v("Chat:Events") { "[handleEvent] event: `$text`" }
-            eventFlow.tryEmit(parseMessage(text))
+            enqueue(SocketFrame.Text(text))
+        }
+
+        override fun onMessage(webSocket: WebSocket, bytes: ByteString) {
+            StreamLog.v("Chat:Events") { "[handleEvent] binary event: `${bytes.utf8()}`" }
+            enqueue(SocketFrame.Bytes(bytes))
         }
 
         override fun onFailure(webSocket: WebSocket, t: Throwable, response: Response?) {
-            eventFlow.tryEmit(
+            sendControlEvent(
                 StreamWebSocketEvent.Error(
                     Error.NetworkError.fromChatErrorCode(
                         chatErrorCode = ChatErrorCode.SOCKET_FAILURE,
@@ -62,7 +99,7 @@ internal class StreamWebSocket(
         override fun onClosed(webSocket: WebSocket, code: Int, reason: String) {
             if (code != CLOSE_SOCKET_CODE) {
                 // Treat as failure and reconnect, socket shouldn't be closed by server
-                eventFlow.tryEmit(
+                sendControlEvent(
                     StreamWebSocketEvent.Error(
                         Error.NetworkError.fromChatErrorCode(
                             chatErrorCode = ChatErrorCode.SOCKET_CLOSED,
@@ -75,14 +112,79 @@ internal class StreamWebSocket(
 
     fun send(chatEvent: ChatEvent): Boolean = webSocket.send(parser.toJson(chatEvent))
     fun close(): Boolean = webSocket.close(CLOSE_SOCKET_CODE, CLOSE_SOCKET_REASON)
-    fun listen(): Flow<StreamWebSocketEvent> = eventFlow.asSharedFlow()
 
-    private fun parseMessage(text: String): StreamWebSocketEvent =
-        parser.fromJsonOrError(text, ChatEvent::class.java)
+    /**
+     * Returns the stream of parsed socket events. The underlying queues support a single collector.
+     *
+     * Frames waiting to be parsed are delivered before a pending failure or close, as they were received before it.
+     */
+    fun listen(): Flow<StreamWebSocketEvent> = flow {
+        while (true) {
+            // select is biased to its first clause, so queued frames are drained before control events
+            val event = select<StreamWebSocketEvent> {
+                frames.onReceive { frame ->
+                    when (frame) {
+                        is SocketFrame.Text -> parseMessage(frame.text)
+                        is SocketFrame.Bytes -> parseMessage(frame.bytes)
+                    }
+                }
+                controlEvents.onReceive { it }
+            }
+            emit(event)
+            val dropped = pendingOverflow.getAndSet(0)
+            if (dropped > 0) emit(StreamWebSocketEvent.Overflow(dropped))
+        }
+    }.flowOn(parseDispatcher)
+
+    /**
+     * Delivers a failure or close of the socket. These never go through the bounded frame queue, so they can't be
+     * dropped when it is full and the connection always learns that it has to reconnect.
+     */
+    private fun sendControlEvent(event: StreamWebSocketEvent) {
+        controlEvents.trySend(event)
+    }
+
+    private fun enqueue(frame: SocketFrame) {
+        val result = frames.trySend(frame)
+        if (result.isFailure && !result.isClosed) {
+            val dropped = droppedFrames.incrementAndGet()
+            pendingOverflow.incrementAndGet()
+            StreamLog.w("Chat:Events") { "[enqueue] frame queue is full, dropping frame (total dropped: $dropped)" }
+        }
+    }
+
+    private fun parseMessage(text: String): StreamWebSocketEvent = parseMessage(
+        eventResult = parser.fromJsonOrError(text, ChatEvent::class.java),
+        errorResult = { parser.fromJsonOrError(text, SocketErrorMessage::class.java) },
+    )
+
+    /**
+     * Parses a binary frame straight from its bytes, so no intermediate [String] is built for the payload.
+     */
+    private fun parseMessage(bytes: ByteString): StreamWebSocketEvent {
+        val buffer = Buffer()
+        return try {
+            parseMessage(
+                eventResult = parser.fromJsonOrError(buffer.write(bytes), ChatEvent::class.java),
+                errorResult = {
+                    buffer.clear()
+                    parser.fromJsonOrError(buffer.write(bytes), SocketErrorMessage::class.java)
+                },
+            )
+        } finally {
+            buffer.clear()
+        }
+    }
+
+    private fun parseMessage(
+        eventResult: Result<ChatEvent>,
+        errorResult: () -> Result<SocketErrorMessage>,
+    ): StreamWebSocketEvent =
+        eventResult
             .map { StreamWebSocketEvent.Message(it) }
             .recover { parseChatError ->
                 val errorResponse =
-                    when (val chatErrorResult = parser.fromJsonOrError(text, SocketErrorMessage::class.java)) {
+                    when (val chatErrorResult = errorResult()) {
                         is Result.Success -> {
                             chatErrorResult.value.error
                         }
@@ -103,7 +205,18 @@ internal class StreamWebSocket(
             }.value
 }
 
+private sealed class SocketFrame {
+    class Text(val text: String) : SocketFrame()
+    class Bytes(val bytes: ByteString) : SocketFrame()
+}
+
 internal sealed class StreamWebSocketEvent {
     data class Error(val streamError: io.getstream.result.Error) : StreamWebSocketEvent()
     data class Message(val chatEvent: ChatEvent) : StreamWebSocketEvent()
+
+    /**
+     * Emitted after [droppedFrames] frames were discarded because the frame queue was full.
+     * The events carried by those frames are lost and local state has to be resynced.
+     */
+    data class Overflow(val droppedFrames: Long) : StreamWebSocketEvent()
 }
@@ -83,6 +83,7 @@ internal class CurrentUserFetcher(
             when (it) {
                 is StreamWebSocketEvent.Error -> Result.Failure(it.streamError)
                 is StreamWebSocketEvent.Message -> (it.chatEvent as? ConnectedEvent)?.let { Result.Success(it.me) }
+                is StreamWebSocketEvent.Overflow -> null
             }
         }
             .first()
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.client.utils.internal
+
+import com.squareup.moshi.JsonDataException
+import com.squareup.moshi.JsonReader
+import com.squareup.moshi.JsonWriter
+import com.squareup.moshi.Moshi
+import com.squareup.moshi.MultiMapJsonAdapter
+import com.squareup.moshi.adapter
+import okio.Buffer
+import java.io.IOException
+
+/**
+ * Read-only extraData backed by its raw JSON object.
+ *
+ * The JSON is decoded the first time the map is read, so rows and payloads whose extraData is never used don't pay
+ * for it. Once decoded, the values are the ones Moshi produces for a `Map<String, Any>`, which means every number is a
+ * [Double] and the last of duplicate keys wins. The typed accessors like [getLong], used by the extraData extensions
+ * like [io.getstream.chat.android.client.extensions.getLong], read a single key straight from the raw JSON instead,
+ * without decoding the map and without a [Double] round trip.
+ *
+ * Writing it back to JSON, see [toJson], returns the raw JSON as it was received. JSON which can't be decoded is
+ * treated as an empty map.
+ *
+ * @param json The raw JSON object.
+ */
+internal class LazyExtraData private constructor(private val json: String) : AbstractMap<String, Any>() {
+
+    private val decoded: Map<String, Any> by lazy {
+        try {
+            mapAdapter.fromJson(reader()) ?: emptyMap()
+        } catch (_: IOException) {
+            emptyMap()
+        } catch (_: JsonDataException) {
+            emptyMap()
+        }
+    }
+
+    override val entries: Set<Map.Entry<String, Any>>
+        get() = decoded.entries
+
+    override val size: Int
+        get() = decoded.size
+
+    override fun containsKey(key: String): Boolean = decoded.containsKey(key)
+
+    override fun get(key: String): Any? = decoded[key]
+
+    /** Returns the raw JSON object. */
+    fun toJson(): String = json
+
+    /** Returns the string value of [key], or null if it's missing or not a string. */
+    fun getString(key: String): String? = read(key, JsonReader.Token.STRING) { nextString() }
+
+    /** Returns the boolean value of [key], or null if it's missing or not a boolean. */
+    fun getBoolean(key: String): Boolean? = read(key, JsonReader.Token.BOOLEAN) { nextBoolean() }
+
+    /** Returns the value of [key] as a [Long], or null if it's missing or not an integral number fitting a [Long]. */
+    fun getLong(key: String): Long? = read(key, JsonReader.Token.NUMBER) { nextLong() }
+
+    /** Returns the value of [key] as an [Int], or null if it's missing or not an integral number fitting an [Int]. */
+    fun getInt(key: String): Int? = read(key, JsonReader.Token.NUMBER) { nextInt() }
+
+    /** Returns the value of [key] as a [Double], or null if it's missing or not a number. */
+    fun getDouble(key: String): Double? = read(key, JsonReader.Token.NUMBER) { nextDouble() }
+
+    override fun equals(other: Any?): Boolean =
+        other is LazyExtraData && other.json == json || super.equals(other)
+
+    override fun hashCode(): Int = super.hashCode()
+
+    private fun <T : Any> read(key: String, token: JsonReader.Token, readValue: JsonReader.() -> T): T? {
+        val reader = reader()
+        return try {
+            // Like the decoded map, the last of duplicate keys wins
+            var value: T? = null
+            reader.beginObject()
+            while (reader.hasNext()) {
+                if (reader.nextName() != key) {
+                    reader.skipValue()
+                } else if (reader.peek() == token) {
+                    value = reader.readValue()
+                } else {
+                    value = null
+                    reader.skipValue()
+                }
+            }
+            value
+        } catch (_: IOException) {
+            null
+        } catch (_: JsonDataException) {
+            null
+        } catch (_: NumberFormatException) {
+            null
+        }
+    }
+
+    private fun reader(): JsonReader = JsonReader.of(Buffer().writeUtf8(json))
+
+    /**
+     * Collects extraData values as raw JSON while an object is being parsed, so they don't need to be decoded into a
+     * map first.
+     */
+    class Builder {
+
+        private val buffer = Buffer()
+        private var writer: JsonWriter? = null
+
+        /**
+         * Copies the next value of [reader] as is under [name].
+         */
+        fun add(name: String, reader: JsonReader) {
+            val writer = writer ?: JsonWriter.of(buffer).also {
+                it.beginObject()
+                writer = it
+            }
+            writer.name(name)
+            reader.nextSource().use { source ->
+                writer.valueSink().use { sink -> sink.writeAll(source) }
+            }
+        }
+
+        /**
+         * Returns the collected values, or an empty map if there were none.
+         */
+        fun build(): Map<String, Any> {
+            val writer = writer ?: return emptyMap()
+            writer.endObject()
+            writer.close()
+            return of(buffer.readUtf8())
+        }
+    }
+
+    companion object {
+
+        private const val EMPTY_OBJECT = "{}"
+
+        @OptIn(ExperimentalStdlibApi::class)
+        private val mapAdapter by lazy {
+            Moshi.Builder()
+                .add(MultiMapJsonAdapter.FACTORY)
+                .build()
+                .adapter<Map<String, Any>>()
+        }
+
+        /**
+         * Wraps the raw [json] object, or returns an empty map when there is nothing to decode.
+         */
+        fun of(json: String?): Map<String, Any> =
+            if (json.isNullOrEmpty() || json == "null" || json == EMPTY_OBJECT) emptyMap() else LazyExtraData(json)
+    }
+}
+
+/**
+ * Returns a copy of this extraData which can't be changed by the owner of the original map. [LazyExtraData] is
+ * read-only, so it is returned as is instead of being decoded into a copy.
+ */
+internal fun Map<String, Any>.copyExtraData(): Map<String, Any> =
+    if (this is LazyExtraData) this else toMutableMap()
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.client.api
+
+import org.amshove.kluent.`should be equal to`
+import org.junit.jupiter.api.Test
+
+internal class AdaptiveEventBatchingPolicyTest {
+
+    private val minWindow = EventBatchWindow(idleTimeoutMs = 10, maxCollectionTimeMs = 100, maxEvents = 10)
+    private val maxWindow = EventBatchWindow(idleTimeoutMs = 110, maxCollectionTimeMs = 1100, maxEvents = 110)
+    private val policy = AdaptiveEventBatchingPolicy(
+        minWindow = minWindow,
+        maxWindow = maxWindow,
+        lowRate = 10.0,
+        highRate = 20.0,
+    )
+
+    @Test
+    fun `Should use the min window at or below the low rate`() {
+        policy.window(0.0) `should be equal to` minWindow
+        policy.window(10.0) `should be equal to` minWindow
+    }
+
+    @Test
+    fun `Should use the max window at or above the high rate`() {
+        policy.window(20.0) `should be equal to` maxWindow
+        policy.window(1_000.0) `should be equal to` maxWindow
+    }
+
+    @Test
+    fun `Should interpolate the window between the low and the high rate`() {
+        policy.window(15.0) `should be equal to` EventBatchWindow(
+            idleTimeoutMs = 60,
+            maxCollectionTimeMs = 600,
+            maxEvents = 60,
+        )
+    }
+
+    @Test
+    fun `Should be equal to a policy with the same parameters`() {
+        policy `should be equal to` AdaptiveEventBatchingPolicy(
+            minWindow = minWindow,
+            maxWindow = maxWindow,
+            lowRate = 10.0,
+            highRate = 20.0,
+        )
+        FixedEventBatchingPolicy() `should be equal to` FixedEventBatchingPolicy(EventBatchWindow.DEFAULT)
+    }
+}
@@ -18,6 +18,7 @@ package io.getstream.chat.android.client.api.internal
 
 import io.getstream.chat.android.client.Mother
 import io.getstream.chat.android.client.api.ChatApi
+import io.getstream.chat.android.client.api.models.GetThreadOptions
 import io.getstream.chat.android.client.api.models.PinnedMessagesPagination
 import io.getstream.chat.android.models.BannedUsersSort
 import io.getstream.chat.android.models.Filters
@@ -715,4 +716,80 @@ internal class DistinctChatApiTest {
         // verify different instance of call is returned
         Assert.assertFalse(call1 === call2)
     }
+
+    @Test
+    fun `When calling queryChannels with requests differing only in watch, Then different instance of Call is returned`() {
+        // given
+        val distinctChatApi = DistinctChatApi(TestScope(), mock())
+        val request1 = Mother.randomQueryChannelsRequest().apply { watch = true }
+        val request2 = request1.copy().apply { watch = false }
+        // when
+        val call1 = distinctChatApi.queryChannels(request1)
+        val call2 = distinctChatApi.queryChannels(request2)
+        // then
+        Assert.assertFalse(call1 === call2)
+    }
+
+    @Test
+    fun `When calling getMessage and getPendingMessage with the same id, Then different instance of Call is returned`() {
+        // given
+        val distinctChatApi = DistinctChatApi(TestScope(), mock())
+        val messageId = randomString()
+        // when
+        val call1 = distinctChatApi.getMessage(messageId)
+        val call2 = distinctChatApi.getPendingMessage(messageId)
+        // then
+        Assert.assertFalse(call1 === call2)
+    }
+
+    @Test
+    fun `When calling queryUsers with same arguments, Then same instance of Call is returned`() {
+        // given
+        val distinctChatApi = DistinctChatApi(TestScope(), mock())
+        val request = Mother.randomQueryUsersRequest()
+        // when
+        val call1 = distinctChatApi.queryUsers(request)
+        val call2 = distinctChatApi.queryUsers(request.copy())
+        // then
+        Assert.assertTrue(call1 === call2)
+    }
+
+    @Test
+    fun `When calling getThread with same arguments, Then same instance of Call is returned`() {
+        // given
+        val distinctChatApi = DistinctChatApi(TestScope(), mock())
+        val messageId = randomString()
+        val options = GetThreadOptions(replyLimit = randomInt())
+        // when
+        val call1 = distinctChatApi.getThread(messageId, options)
+        val call2 = distinctChatApi.getThread(messageId, options.copy())
+        // then
+        Assert.assertTrue(call1 === call2)
+    }
+
+    @Test
+    fun `When calling queryReactions with different cursors, Then different instance of Call is returned`() {
+        // given
+        val distinctChatApi = DistinctChatApi(TestScope(), mock())
+        val messageId = randomString()
+        // when
+        val call1 = distinctChatApi.queryReactions(messageId, null, 25, randomString(), null)
+        val call2 = distinctChatApi.queryReactions(messageId, null, 25, randomString(), null)
+        // then
+        Assert.assertFalse(call1 === call2)
+    }
+
+    @Test
+    fun `When identical requests are coalesced, Then metrics count the hits`() {
+        // given
+        val distinctChatApi = DistinctChatApi(TestScope(), mock())
+        val messageId = randomString()
+        // when
+        distinctChatApi.getMessage(messageId)
+        distinctChatApi.getMessage(messageId)
+        distinctChatApi.getMessage(messageId)
+        distinctChatApi.getMessage(randomString())
+        // then
+        Assert.assertEquals(DistinctApiMetrics(requests = 4, hits = 2, inFlight = 2), distinctChatApi.metrics())
+    }
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.client.attachment
+
+import kotlinx.coroutines.async
+import kotlinx.coroutines.awaitAll
+import kotlinx.coroutines.delay
+import kotlinx.coroutines.test.TestScope
+import kotlinx.coroutines.test.runTest
+import org.amshove.kluent.shouldBeEqualTo
+import org.junit.jupiter.api.Test
+
+internal class AttachmentUploadLimiterTest {
+
+    @Test
+    fun `uploads are limited by the global cap on unmetered networks`() = runTest {
+        val limiter = AttachmentUploadLimiter(
+            maxConcurrentUploads = 3,
+            maxConcurrentMeteredUploads = 1,
+            isMeteredNetwork = { false },
+        )
+
+        maxRunningUploads(limiter, uploads = 10) shouldBeEqualTo 3
+    }
+
+    @Test
+    fun `uploads are limited by the metered cap on metered networks`() = runTest {
+        val limiter = AttachmentUploadLimiter(
+            maxConcurrentUploads = 3,
+            maxConcurrentMeteredUploads = 1,
+            isMeteredNetwork = { true },
+        )
+
+        maxRunningUploads(limiter, uploads = 10) shouldBeEqualTo 1
+    }
+
+    @Test
+    fun `withPermit returns the result of the upload`() = runTest {
+        val limiter = AttachmentUploadLimiter()
+
+        limiter.withPermit { "url" } shouldBeEqualTo "url"
+    }
+
+    private suspend fun TestScope.maxRunningUploads(
+        limiter: AttachmentUploadLimiter,
+        uploads: Int,
+    ): Int {
+        var running = 0
+        var maxRunning = 0
+        (1..uploads).map {
+            async {
+                limiter.withPermit {
+                    running++
+                    maxRunning = maxOf(maxRunning, running)
+                    delay(100)
+                    running--
+                }
+            }
+        }.awaitAll()
+        return maxRunning
+    }
+}
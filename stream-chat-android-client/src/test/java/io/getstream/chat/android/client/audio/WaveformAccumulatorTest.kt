@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.client.audio
+
+import org.amshove.kluent.shouldBeEqualTo
+import org.amshove.kluent.shouldBeTrue
+import org.junit.jupiter.api.Test
+import java.nio.ByteBuffer
+import java.nio.ByteOrder
+
+internal class WaveformAccumulatorTest {
+
+    @Test
+    fun `16-bit samples are reduced to RMS points`() {
+        val accumulator = WaveformAccumulator(expectedPoints = 2)
+        accumulator.setTotalSamples(4)
+        val buffer = shorts(16384, -16384, 8192, -8192)
+
+        accumulator.add16bit(buffer, offset = 0, size = buffer.capacity(), channels = 1)
+
+        accumulator.isComplete.shouldBeTrue()
+        accumulator.points().toList() shouldBeEqualTo listOf(0.5f, 0.25f)
+    }
+
+    @Test
+    fun `only the first channel of each frame is used`() {
+        val accumulator = WaveformAccumulator(expectedPoints = 1)
+        accumulator.setTotalSamples(2)
+        val buffer = shorts(16384, 32767, -16384, 32767)
+
+        accumulator.add16bit(buffer, offset = 0, size = buffer.capacity(), channels = 2)
+
+        accumulator.points().toList() shouldBeEqualTo listOf(0.5f)
+    }
+
+    @Test
+    fun `8-bit samples are centered around 128`() {
+        val accumulator = WaveformAccumulator(expectedPoints = 1)
+        accumulator.setTotalSamples(2)
+        val buffer = ByteBuffer.wrap(byteArrayOf(192.toByte(), 64))
+
+        accumulator.add8bit(buffer, offset = 0, size = 2, channels = 1)
+
+        accumulator.points().toList() shouldBeEqualTo listOf(0.5f)
+    }
+
+    @Test
+    fun `float samples are read as is`() {
+        val accumulator = WaveformAccumulator(expectedPoints = 1)
+        accumulator.setTotalSamples(2)
+        val buffer = ByteBuffer.allocate(8).order(ByteOrder.nativeOrder())
+        buffer.putFloat(0.25f).putFloat(-0.25f)
+
+        accumulator.addFloat(buffer, offset = 0, size = 8, channels = 1)
+
+        accumulator.points().toList() shouldBeEqualTo listOf(0.25f)
+    }
+
+    @Test
+    fun `points are reported incrementally across buffers`() {
+        val accumulator = WaveformAccumulator(expectedPoints = 4)
+        accumulator.setTotalSamples(8)
+
+        accumulator.add16bit(shorts(16384, 16384, 16384), offset = 0, size = 6, channels = 1)
+        accumulator.pointCount shouldBeEqualTo 1
+        accumulator.progress shouldBeEqualTo 0.25f
+
+        accumulator.add16bit(shorts(16384), offset = 0, size = 2, channels = 1)
+        accumulator.pointCount shouldBeEqualTo 2
+    }
+
+    @Test
+    fun `flush completes the last partial point`() {
+        val accumulator = WaveformAccumulator(expectedPoints = 2)
+        accumulator.setTotalSamples(4)
+        accumulator.add16bit(shorts(16384, 16384, 16384), offset = 0, size = 6, channels = 1)
+
+        accumulator.flush()
+
+        accumulator.points().toList() shouldBeEqualTo listOf(0.5f, 0.5f)
+    }
+
+    @Test
+    fun `samples after the last point are ignored`() {
+        val accumulator = WaveformAccumulator(expectedPoints = 1)
+        accumulator.setTotalSamples(1)
+
+        accumulator.add16bit(shorts(16384, 32767), offset = 0, size = 4, channels = 1)
+
+        accumulator.points().toList() shouldBeEqualTo listOf(0.5f)
+    }
+
+    private fun shorts(vararg values: Int): ByteBuffer {
+        val buffer = ByteBuffer.allocate(values.size * Short.SIZE_BYTES).order(ByteOrder.nativeOrder())
+        values.forEach { buffer.putShort(it.toShort()) }
+        return buffer
+    }
+}
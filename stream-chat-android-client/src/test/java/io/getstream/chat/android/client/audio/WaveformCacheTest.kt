@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.client.audio
+
+import org.amshove.kluent.shouldBeEqualTo
+import org.amshove.kluent.shouldBeNull
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+import java.io.File
+
+internal class WaveformCacheTest {
+
+    @TempDir
+    lateinit var directory: File
+
+    @Test
+    fun `stored waveforms are read back`() {
+        val cache = WaveformCache(directory)
+
+        cache.put("https://cdn/voice.aac", floatArrayOf(0.1f, 0.5f, 1f))
+
+        cache.get("https://cdn/voice.aac", points = 3)?.toList() shouldBeEqualTo listOf(0.1f, 0.5f, 1f)
+    }
+
+    @Test
+    fun `waveforms are keyed by path and number of points`() {
+        val cache = WaveformCache(directory)
+
+        cache.put("https://cdn/voice.aac", floatArrayOf(0.1f, 0.5f, 1f))
+
+        cache.get("https://cdn/other.aac", points = 3).shouldBeNull()
+        cache.get("https://cdn/voice.aac", points = 100).shouldBeNull()
+    }
+
+    @Test
+    fun `corrupted waveforms are discarded`() {
+        val cache = WaveformCache(directory)
+        cache.put("https://cdn/voice.aac", floatArrayOf(0.1f, 0.5f, 1f))
+        directory.listFiles()!!.single().writeBytes(byteArrayOf(0, 0, 0, 3, 1))
+
+        cache.get("https://cdn/voice.aac", points = 3).shouldBeNull()
+        directory.listFiles()!!.size shouldBeEqualTo 0
+    }
+
+    @Test
+    fun `waveforms of a rewritten local file are not reused`(@TempDir audioDirectory: File) {
+        val cache = WaveformCache(directory)
+        val audio = audioDirectory.resolve("voice.aac").apply { writeBytes(byteArrayOf(1, 2, 3)) }
+        cache.put(audio.path, floatArrayOf(0.1f, 0.5f, 1f))
+
+        audio.writeBytes(byteArrayOf(1, 2, 3, 4))
+
+        cache.get(audio.path, points = 3).shouldBeNull()
+    }
+
+    @Test
+    fun `least recently used waveforms are deleted over the size limit`() {
+        // Every waveform of 3 points takes 16 bytes, so the cache holds 2 of them
+        val cache = WaveformCache(directory, maxSizeInBytes = 40)
+        cache.put("https://cdn/first.aac", floatArrayOf(0.1f, 0.5f, 1f))
+        cache.put("https://cdn/second.aac", floatArrayOf(0.1f, 0.5f, 1f))
+
+        cache.put("https://cdn/third.aac", floatArrayOf(0.1f, 0.5f, 1f))
+
+        directory.listFiles()!!.size shouldBeEqualTo 2
+        cache.get("https://cdn/third.aac", points = 3)?.toList() shouldBeEqualTo listOf(0.1f, 0.5f, 1f)
+    }
+}
@@ -22,18 +22,23 @@ import io.getstream.chat.android.client.internal.offline.repository.domain.messa
 import io.getstream.chat.android.client.internal.offline.repository.domain.message.internal.MessageDao
 import io.getstream.chat.android.client.internal.offline.repository.domain.message.internal.PollDao
 import io.getstream.chat.android.client.internal.offline.repository.domain.message.internal.ReplyMessageDao
+import io.getstream.chat.android.client.internal.offline.repository.domain.message.internal.toReplyEntity
 import io.getstream.chat.android.client.query.pagination.AnyChannelPaginationRequest
+import io.getstream.chat.android.models.Message
+import io.getstream.chat.android.randomCID
 import io.getstream.chat.android.randomMessage
 import io.getstream.chat.android.randomString
 import io.getstream.chat.android.randomUser
 import kotlinx.coroutines.test.UnconfinedTestDispatcher
 import kotlinx.coroutines.test.runTest
+import org.amshove.kluent.`should be equal to`
 import org.junit.jupiter.api.Assertions.assertEquals
 import org.junit.jupiter.api.Test
 import org.mockito.kotlin.any
 import org.mockito.kotlin.doReturn
 import org.mockito.kotlin.inOrder
 import org.mockito.kotlin.mock
+import org.mockito.kotlin.never
 import org.mockito.kotlin.verify
 import org.mockito.kotlin.whenever
 import java.util.Date
@@ -191,6 +196,43 @@ internal class MessageRepositoryTests {
             }
         }
 
+    @Test
+    fun `when selecting a page of messages, then users and replies are loaded in one query each`() = runTest {
+        // given
+        val cid = randomCID()
+        val replies = List(3) { randomMessage(cid = cid, pinnedBy = null) }
+        val messageEntities = replies.map { reply ->
+            randomMessageEntity(cid = cid, replyToId = reply.id, pinnedByUserId = null)
+        }
+        whenever(messageDao.messagesForChannel(cid, 100)) doReturn messageEntities
+        val replyEntities = replies.map(Message::toReplyEntity)
+        whenever(replyMessageDao.selectByIds(replies.map(Message::id).toSet())) doReturn replyEntities
+        val requestedUserIds = mutableListOf<List<String>>()
+        val repository = DatabaseMessageRepository(
+            scope = this,
+            messageDao = messageDao,
+            replyMessageDao = replyMessageDao,
+            pollDao = pollDao,
+            getUser = { error("Users should be resolved in a batch") },
+            currentUser = randomUser(id = "currentUserId"),
+            ignoredChannelTypes = emptySet(),
+            getUsers = { userIds ->
+                requestedUserIds += userIds
+                userIds.map { randomUser(id = it) }
+            },
+        )
+
+        // when
+        val result = repository.selectMessagesForChannel(cid, null)
+
+        // then
+        verify(replyMessageDao, never()).selectById(any())
+        result.map { it.replyTo?.id } `should be equal to` replies.map(Message::id)
+        requestedUserIds.size `should be equal to` 1
+        val expectedUserIds = messageEntities.map { it.messageInnerEntity.userId } + replies.map { it.user.id }
+        requestedUserIds.single().toSet() `should be equal to` expectedUserIds.toSet()
+    }
+
     @Test
     fun `when calling deleteMessages, then deleteMessages from MessageDao is called`() = runTest(testDispatcher) {
         // given
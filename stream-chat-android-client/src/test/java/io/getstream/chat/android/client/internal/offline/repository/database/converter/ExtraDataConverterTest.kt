@@ -75,4 +75,21 @@ internal class ExtraDataConverterTest {
             {"name":"John"}
         """.trimIndent()
     }
+
+    @Test
+    fun testUntouchedDataIsWrittenBackUnchanged() {
+        val converter = ExtraDataConverter()
+        val json = """{"count":9007199254740993,"name":"John"}"""
+        val converted = converter.stringToMap(json)
+        converter.mapToString(converted) shouldBeEqualTo json
+    }
+
+    @Test
+    fun testDecodedDataIsWrittenBackUnchanged() {
+        val converter = ExtraDataConverter()
+        val json = """{"count":3,"name":"John"}"""
+        val converted = converter.stringToMap(json)!!
+        converted["count"] shouldBeEqualTo 3.0
+        converter.mapToString(converted) shouldBeEqualTo json
+    }
 }
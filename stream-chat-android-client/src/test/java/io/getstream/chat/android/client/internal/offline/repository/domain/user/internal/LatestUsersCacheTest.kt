@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.client.internal.offline.repository.domain.user.internal
+
+import io.getstream.chat.android.models.User
+import org.amshove.kluent.`should be`
+import org.amshove.kluent.`should be equal to`
+import org.junit.jupiter.api.Test
+
+internal class LatestUsersCacheTest {
+
+    private val alice = User(id = "alice", name = "Alice")
+    private val bob = User(id = "bob", name = "Bob")
+    private val carol = User(id = "carol", name = "Carol")
+
+    @Test
+    fun `Given pending changes, When publishing, Then a snapshot with the users is published`() {
+        val cache = LatestUsersCache(maxSize = 10)
+
+        cache.put(listOf(alice, bob)) `should be equal to` true
+        cache.publish()
+
+        cache.latestUsers.value `should be equal to` mapOf(alice.id to alice, bob.id to bob)
+    }
+
+    @Test
+    fun `Given a cached user, When putting an equal user, Then nothing is pending`() {
+        val cache = LatestUsersCache(maxSize = 10)
+        cache.put(listOf(alice))
+        cache.publish()
+        val published = cache.latestUsers.value
+
+        cache.put(listOf(alice.copy())) `should be equal to` false
+        cache.publish()
+
+        cache.latestUsers.value `should be` published
+    }
+
+    @Test
+    fun `Given consecutive snapshots, When diffing them, Then only the changed users are returned`() {
+        val cache = LatestUsersCache(maxSize = 10)
+        cache.put(listOf(alice, bob))
+        cache.publish()
+        val previous = cache.latestUsers.value
+        cache.put(listOf(bob.copy(name = "Robert")))
+        cache.publish()
+        cache.put(listOf(carol))
+        cache.publish()
+
+        cache.latestUsers.value.changedUserIds(previous) `should be equal to` setOf(bob.id, carol.id)
+    }
+
+    @Test
+    fun `Given a full cache, When a user is evicted, Then the evicted user is reported as changed`() {
+        val cache = LatestUsersCache(maxSize = 2)
+        cache.put(listOf(alice, bob))
+        cache.publish()
+        val previous = cache.latestUsers.value
+
+        cache.put(listOf(carol))
+        cache.publish()
+
+        cache.latestUsers.value.keys `should be equal to` setOf(bob.id, carol.id)
+        cache.latestUsers.value.changedUserIds(previous) `should be equal to` setOf(alice.id, carol.id)
+    }
+
+    @Test
+    fun `Given plain maps, When diffing them, Then the entries are compared`() {
+        val previous = mapOf(alice.id to alice, bob.id to bob)
+        val current = mapOf(bob.id to bob.copy(name = "Robert"), carol.id to carol)
+
+        current.changedUserIds(previous) `should be equal to` setOf(alice.id, bob.id, carol.id)
+    }
+}
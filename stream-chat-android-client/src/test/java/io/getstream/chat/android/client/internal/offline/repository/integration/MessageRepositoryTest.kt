@@ -19,15 +19,23 @@ package io.getstream.chat.android.client.internal.offline.repository.integration
 import android.database.sqlite.SQLiteException
 import androidx.test.ext.junit.runners.AndroidJUnit4
 import io.getstream.chat.android.client.internal.offline.integration.BaseDomainTest2
+import io.getstream.chat.android.client.internal.offline.repository.domain.channel.internal.toEntity
+import io.getstream.chat.android.client.internal.offline.repository.domain.message.internal.toEntity
+import io.getstream.chat.android.client.query.pagination.AnyChannelPaginationRequest
+import io.getstream.chat.android.models.Message
 import io.getstream.chat.android.randomAttachment
+import io.getstream.chat.android.randomCID
+import io.getstream.chat.android.randomChannel
 import io.getstream.chat.android.randomMessage
 import io.getstream.chat.android.randomString
 import kotlinx.coroutines.test.runTest
 import org.amshove.kluent.coInvoking
 import org.amshove.kluent.`should be equal to`
+import org.amshove.kluent.shouldBeEmpty
 import org.amshove.kluent.shouldNotThrow
 import org.junit.Test
 import org.junit.runner.RunWith
+import java.util.Date
 
 @RunWith(AndroidJUnit4::class)
 internal class MessageRepositoryTest : BaseDomainTest2() {
@@ -71,4 +79,77 @@ internal class MessageRepositoryTest : BaseDomainTest2() {
     fun `When inserting more than 999 messages Should not throw SQLiteException`(): Unit = runTest {
         coInvoking { repos.insertMessages(List(1000) { randomMessage() }) } shouldNotThrow (SQLiteException::class)
     }
+
+    @Test
+    fun `When selecting messages for channels Should return the latest messages of every channel`(): Unit = runTest {
+        val channel1 = randomChannel(messages = emptyList())
+        val channel2 = randomChannel(messages = emptyList())
+        val unknownCid = randomCID()
+        val channel1Oldest = storedMessage(text = "a", cid = channel1.cid, createdAt = Date(1_000))
+        val channel1Older = storedMessage(text = "b", cid = channel1.cid, createdAt = Date(2_000))
+        val channel1Pending = storedMessage(text = "c", cid = channel1.cid)
+            .copy(createdAt = null, createdLocallyAt = Date(3_000))
+        val channel2Only = storedMessage(text = "d", cid = channel2.cid, createdAt = Date(4_000))
+        db.channelStateDao().insertMany(listOf(channel1, channel2).map { it.toEntity() })
+        db.messageDao().insert(
+            listOf(channel1Oldest, channel1Older, channel1Pending, channel2Only).map(Message::toEntity),
+        )
+
+        val messages = repos.selectMessagesForChannels(
+            cids = listOf(channel1.cid, channel2.cid, unknownCid),
+            pagination = AnyChannelPaginationRequest(messageLimit = 2),
+        )
+
+        messages.mapValues { (_, channelMessages) -> channelMessages.map(Message::id) } `should be equal to` mapOf(
+            channel1.cid to listOf(channel1Pending.id, channel1Older.id),
+            channel2.cid to listOf(channel2Only.id),
+            unknownCid to emptyList(),
+        )
+    }
+
+    @Test
+    fun `When searching messages Should return prefix matches newest first with snippets`(): Unit = runTest {
+        val older = storedMessage(text = "Lunch at noon?", createdAt = Date(1_000))
+        val newer = storedMessage(text = "Let's do lunch tomorrow", createdAt = Date(2_000))
+        val unrelated = storedMessage(text = "Meeting moved", createdAt = Date(3_000))
+        db.messageDao().insert(listOf(older, newer, unrelated).map(Message::toEntity))
+
+        val hits = repos.searchMessages(query = "lun", cids = null, limit = 10)
+
+        hits.map { it.message.id } `should be equal to` listOf(newer.id, older.id)
+        hits.first().snippet `should be equal to` "Let's do <b>lunch</b> tomorrow"
+    }
+
+    @Test
+    fun `When searching messages Should skip deleted messages and honor the channel filter`(): Unit = runTest {
+        val cid = randomCID()
+        val inChannel = storedMessage(text = "release notes", cid = cid)
+        val otherChannel = storedMessage(text = "release party")
+        val deleted = storedMessage(text = "release plan", cid = cid).copy(deletedAt = Date())
+        db.messageDao().insert(listOf(inChannel, otherChannel, deleted).map(Message::toEntity))
+
+        val hits = repos.searchMessages(query = "release", cids = listOf(cid), limit = 10)
+
+        hits.map { it.message.id } `should be equal to` listOf(inChannel.id)
+    }
+
+    @Test
+    fun `When searching with FTS syntax Should treat it as plain text`(): Unit = runTest {
+        db.messageDao().insert(storedMessage(text = "hello world").toEntity())
+
+        repos.searchMessages(query = "\"hello OR -world*", cids = null, limit = 10).shouldBeEmpty()
+        repos.searchMessages(query = "   ", cids = null, limit = 10).shouldBeEmpty()
+    }
+
+    private fun storedMessage(
+        text: String,
+        cid: String = randomCID(),
+        createdAt: Date = Date(),
+    ): Message = randomMessage(
+        cid = cid,
+        text = text,
+        createdAt = createdAt,
+        deletedAt = null,
+        deletedForMe = false,
+    )
 }
@@ -31,6 +31,7 @@ import io.getstream.chat.android.client.query.pagination.AnyChannelPaginationReq
 import io.getstream.chat.android.models.Attachment
 import io.getstream.chat.android.models.DraftMessage
 import io.getstream.chat.android.models.Message
+import io.getstream.chat.android.models.MessageSearchHit
 import io.getstream.chat.android.models.SyncStatus
 import io.getstream.chat.android.models.UploadedFile
 import io.getstream.chat.android.randomAttachmentsWithFile
@@ -219,6 +220,13 @@ internal class MockMessageRepository : MessageRepository {
         TODO("Not yet implemented")
     }
 
+    override suspend fun selectMessagesForChannels(
+        cids: List<String>,
+        pagination: AnyChannelPaginationRequest?,
+    ): Map<String, List<Message>> {
+        TODO("Not yet implemented")
+    }
+
     override suspend fun selectMessagesForThread(messageId: String, limit: Int): List<Message> {
         TODO("Not yet implemented")
     }
@@ -311,6 +319,12 @@ internal class MockMessageRepository : MessageRepository {
 
     override suspend fun selectLocalOnlyMessagesForChannel(cid: String): List<Message> = emptyList()
 
+    override suspend fun searchMessages(
+        query: String,
+        cids: List<String>?,
+        limit: Int,
+    ): List<MessageSearchHit> = emptyList()
+
     override suspend fun clear() {
         messages.clear()
     }
@@ -81,6 +81,7 @@ import org.mockito.kotlin.any
 import org.mockito.kotlin.argumentCaptor
 import org.mockito.kotlin.atLeast
 import org.mockito.kotlin.doReturn
+import org.mockito.kotlin.eq
 import org.mockito.kotlin.mock
 import org.mockito.kotlin.stub
 import org.mockito.kotlin.verify
@@ -218,7 +219,7 @@ internal class EventHandlerSequentialTest {
             updatedAt = updatedThreadInfo.updatedAt,
             extraData = updatedThreadInfo.extraData,
         )
-        verify(repos).insertThreads(listOf(expectedUpdatedThread))
+        verify(repos).upsertBatch(any(), any(), any(), eq(listOf(expectedUpdatedThread)))
     }
 
     @Test
@@ -238,7 +239,7 @@ internal class EventHandlerSequentialTest {
         // when
         handler.handleEvents(event)
         // then
-        verify(repos).insertThreads(emptyList())
+        verify(repos).upsertBatch(any(), any(), any(), eq(emptyList()))
     }
 
     @ParameterizedTest
@@ -16,6 +16,9 @@
 
 package io.getstream.chat.android.client.internal.state.event.handler.internal.batch
 
+import io.getstream.chat.android.client.api.EventBatchWindow
+import io.getstream.chat.android.client.api.EventBatchingPolicy
+import io.getstream.chat.android.client.api.FixedEventBatchingPolicy
 import io.getstream.chat.android.client.events.ChatEvent
 import io.getstream.chat.android.client.test.randomNewMessageEvent
 import io.getstream.chat.android.test.TestCoroutineExtension
@@ -27,6 +30,7 @@ import org.amshove.kluent.`should be greater than`
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.extension.RegisterExtension
+import java.util.Date
 
 internal class SocketEventCollectorTest {
 
@@ -44,9 +48,9 @@ internal class SocketEventCollectorTest {
         collected = MutableStateFlow(emptyList())
         eventCollector = SocketEventCollector(
             scope = testCoroutines.scope,
-            timeout = 150,
-            timeLimit = 300,
-            itemCountLimit = 10,
+            policy = FixedEventBatchingPolicy(
+                EventBatchWindow(idleTimeoutMs = 150, maxCollectionTimeMs = 300, maxEvents = 10),
+            ),
             now = { testCoroutines.scope.testScheduler.currentTime },
         ) {
             collected.value += it
@@ -112,4 +116,53 @@ internal class SocketEventCollectorTest {
         collected.value.first().size `should be equal to` 4
         collected.value.last().size `should be equal to` 1
     }
+
+    @Test
+    fun `test events are ordered by creation date keeping arrival order for equal dates`() = runTest {
+        val third = randomNewMessageEvent(createdAt = Date(3_000))
+        val first = randomNewMessageEvent(createdAt = Date(1_000))
+        val secondA = randomNewMessageEvent(createdAt = Date(2_000))
+        val secondB = randomNewMessageEvent(createdAt = Date(2_000))
+        val fourth = randomNewMessageEvent(createdAt = Date(4_000))
+
+        listOf(third, first, secondA, fourth, secondB).forEach { eventCollector.collect(it) }
+        delay(200)
+
+        collected.value.size `should be equal to` 1
+        collected.value.first().sortedEvents `should be equal to` listOf(first, secondA, secondB, third, fourth)
+    }
+
+    @Test
+    fun `test policy window is requested per batch and dispatched batches are reported`() = runTest {
+        val requestedRates = mutableListOf<Double>()
+        val dispatched = mutableListOf<Pair<Int, Long>>()
+        val policy = object : EventBatchingPolicy {
+            override fun window(eventsPerSecond: Double): EventBatchWindow {
+                requestedRates += eventsPerSecond
+                return EventBatchWindow(idleTimeoutMs = 50, maxCollectionTimeMs = 1000, maxEvents = 3)
+            }
+
+            override fun onBatchDispatched(size: Int, latencyMs: Long) {
+                dispatched += size to latencyMs
+            }
+        }
+        eventCollector = SocketEventCollector(
+            scope = testCoroutines.scope,
+            policy = policy,
+            now = { testCoroutines.scope.testScheduler.currentTime },
+        ) {
+            collected.value += it
+        }
+
+        repeat(4) {
+            eventCollector.collect(randomNewMessageEvent())
+            delay(10)
+        }
+        delay(100)
+
+        collected.value.map { it.size } `should be equal to` listOf(3, 1)
+        dispatched `should be equal to` listOf(3 to 20L, 1 to 50L)
+        requestedRates.size `should be equal to` 2
+        requestedRates.last() `should be greater than` requestedRates.first()
+    }
 }
@@ -34,16 +34,24 @@ import io.getstream.chat.android.randomMessage
 import io.getstream.chat.android.randomPendingMessage
 import io.getstream.chat.android.randomReaction
 import io.getstream.chat.android.randomUser
+import kotlinx.coroutines.CompletableDeferred
+import kotlinx.coroutines.launch
+import kotlinx.coroutines.test.runCurrent
 import kotlinx.coroutines.test.runTest
 import org.amshove.kluent.`should be equal to`
 import org.amshove.kluent.`should contain same`
 import org.amshove.kluent.shouldBeEqualTo
 import org.junit.jupiter.api.Test
+import org.mockito.kotlin.any
 import org.mockito.kotlin.check
 import org.mockito.kotlin.doReturn
+import org.mockito.kotlin.doSuspendableAnswer
 import org.mockito.kotlin.eq
+import org.mockito.kotlin.inOrder
+import org.mockito.kotlin.never
 import org.mockito.kotlin.verify
 import org.mockito.kotlin.whenever
+import java.util.Date
 
 internal class RepositoryFacadeTests : BaseRepositoryFacadeTest() {
 
@@ -72,11 +80,11 @@ internal class RepositoryFacadeTests : BaseRepositoryFacadeTest() {
             whenever(users.selectUser("userId")) doReturn user
             val message1 = randomMessage(id = "messageId1", cid = "type:id1", user = user)
             val message2 = randomMessage(id = "messageId2", cid = "type:id2", user = user)
-            whenever(messages.selectMessagesForChannel(eq("type:id1"), eq(paginationRequest))) doReturn listOf(
-                message1,
-            )
-            whenever(messages.selectMessagesForChannel(eq("type:id2"), eq(paginationRequest))) doReturn listOf(
-                message2,
+            whenever(
+                messages.selectMessagesForChannels(eq(listOf("type:id1", "type:id2")), eq(paginationRequest)),
+            ) doReturn mapOf(
+                "type:id1" to listOf(message1),
+                "type:id2" to listOf(message2),
             )
             val channel1 = randomChannel(messages = emptyList(), id = "id1", type = "type", createdBy = user)
             val channelEntity2 = randomChannel(messages = emptyList(), id = "id2", type = "type", createdBy = user)
@@ -92,6 +100,30 @@ internal class RepositoryFacadeTests : BaseRepositoryFacadeTest() {
             result.any { it.cid == "type:id2" && it.messages.size == 1 && it.messages.first().id == "messageId2" } shouldBeEqualTo true
         }
 
+    @Test
+    fun `Given paginated request When select channels Should load messages only for the requested page`(): Unit =
+        runTest {
+            val paginationRequest = AnyChannelPaginationRequest(100).apply {
+                channelOffset = 1
+                channelLimit = 1
+            }
+            val channel1 = randomChannel(messages = emptyList(), id = "id1", type = "type")
+            val channel2 = randomChannel(messages = emptyList(), id = "id2", type = "type")
+            val channel3 = randomChannel(messages = emptyList(), id = "id3", type = "type")
+            val message = randomMessage(cid = "type:id2")
+            val cids = listOf("type:id1", "type:id2", "type:id3")
+            whenever(channels.selectChannels(eq(cids))) doReturn listOf(channel1, channel2, channel3)
+            whenever(messages.selectMessagesForChannels(eq(listOf("type:id2")), eq(paginationRequest))) doReturn mapOf(
+                "type:id2" to listOf(message),
+            )
+
+            val result = sut.selectChannels(cids, paginationRequest)
+
+            result.map(Channel::cid) `should be equal to` listOf("type:id2")
+            result.first().messages.map(Message::id) `should be equal to` listOf(message.id)
+            verify(messages, never()).selectMessagesForChannel(any(), any())
+        }
+
     @Test
     fun `Given Db contains all required data When select messages Should return message list`() = runTest {
         val message1 = randomMessage()
@@ -302,4 +334,117 @@ internal class RepositoryFacadeTests : BaseRepositoryFacadeTest() {
         verify(channels).insertChannels(expectedChannels)
         verify(messages).insertMessages(expectedMessages)
     }
+
+    @Test
+    fun `When upserts are enqueued, they should be merged by id and written on flush`() = runTest {
+        val cid = randomCID()
+        val oldChannel = randomChannel(id = cid.substringAfter(":"), type = cid.substringBefore(":"))
+        val newChannel = oldChannel.copy(memberCount = oldChannel.memberCount + 1)
+        val message = randomMessage()
+
+        sut.upsertBatch(channels = listOf(oldChannel))
+        sut.upsertBatch(channels = listOf(newChannel), messages = listOf(message))
+
+        verify(channels, never()).insertChannels(any())
+        sut.flushPendingWrites()
+
+        verify(channels).insertChannels(listOf(newChannel))
+        verify(messages).insertMessages(listOf(message))
+    }
+
+    @Test
+    fun `When an upsert is pending, reads by id should return the pending entity`() = runTest {
+        val channel = randomChannel()
+        val message = randomMessage()
+        val storedMessage = randomMessage()
+        whenever(messages.selectMessages(listOf(storedMessage.id))) doReturn listOf(storedMessage)
+
+        sut.upsertBatch(channels = listOf(channel), messages = listOf(message))
+
+        sut.selectChannel(channel.cid) `should be equal to` channel
+        sut.selectMessages(listOf(message.id, storedMessage.id)) `should contain same` listOf(message, storedMessage)
+        verify(channels, never()).selectChannel(any())
+    }
+
+    @Test
+    fun `When writing directly, pending upserts should be written first`() = runTest {
+        val message = randomMessage()
+        val cid = randomCID()
+
+        sut.upsertBatch(messages = listOf(message))
+        sut.deleteChannelMessagesBefore(cid, Date())
+
+        inOrder(messages) {
+            verify(messages).insertMessages(listOf(message))
+            verify(messages).deleteChannelMessagesBefore(eq(cid), any())
+        }
+    }
+
+    @Test
+    fun `When an upsert embeds an older user snapshot, the newer user should be written once`() = runTest {
+        val newUser = randomUser(updatedAt = Date(2_000))
+        val oldUser = newUser.copy(name = "old", updatedAt = Date(1_000))
+        val message = randomMessage(user = oldUser)
+
+        sut.upsertBatch(users = listOf(newUser))
+        sut.upsertBatch(messages = listOf(message))
+        sut.flushPendingWrites()
+
+        verify(users).insertUsers(
+            check { writtenUsers ->
+                writtenUsers.filter { it.id == newUser.id } `should be equal to` listOf(newUser)
+            },
+        )
+        inOrder(messages, users) {
+            verify(messages).insertMessages(listOf(message))
+            verify(users).insertUsers(any())
+        }
+    }
+
+    @Test
+    fun `When an upsert is pending, queries should write it first`() = runTest {
+        val message = randomMessage()
+        whenever(messages.selectMessagesForChannel(message.cid, null)) doReturn listOf(message)
+
+        sut.upsertBatch(messages = listOf(message))
+        val result = sut.selectMessagesForChannel(message.cid, null)
+
+        result `should be equal to` listOf(message)
+        inOrder(messages) {
+            verify(messages).insertMessages(listOf(message))
+            verify(messages).selectMessagesForChannel(message.cid, null)
+        }
+    }
+
+    @Test
+    fun `When deleting a reaction, pending upserts should be written first`() = runTest {
+        val message = randomMessage()
+        val reaction = randomReaction(messageId = message.id)
+
+        sut.upsertBatch(messages = listOf(message))
+        sut.deleteReaction(reaction)
+
+        inOrder(messages, reactions) {
+            verify(messages).insertMessages(listOf(message))
+            verify(reactions).deleteReaction(reaction)
+        }
+    }
+
+    @Test
+    fun `When clearing during a flush, the repositories should be cleared after the flush`() = runTest {
+        val message = randomMessage()
+        val write = CompletableDeferred<Unit>()
+        whenever(messages.insertMessages(listOf(message))) doSuspendableAnswer { write.await() }
+
+        sut.upsertBatch(messages = listOf(message))
+        launch { sut.flushPendingWrites() }
+        runCurrent()
+        launch { sut.clear() }
+        runCurrent()
+
+        verify(messages, never()).clear()
+        write.complete(Unit)
+        runCurrent()
+        verify(messages).clear()
+    }
 }
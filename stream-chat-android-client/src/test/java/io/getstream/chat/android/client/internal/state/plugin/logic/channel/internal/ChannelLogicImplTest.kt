@@ -711,6 +711,35 @@ internal class ChannelLogicImplTest {
             // Then
             verify(paginationManager).setOldestMessage(null)
         }
+
+        @Test
+        fun `should not read evicted messages when nothing was evicted`() = runTest {
+            // Given
+            val query = QueryChannelRequest().withMessages(Pagination.LESS_THAN, "msgId", 30)
+            whenever(stateImpl.getEvictedOlderBound()).thenReturn(null)
+            // When
+            sut.updateStateFromDatabase(query)
+            // Then
+            verify(repository, never()).selectMessagesForChannel(any(), any())
+            verify(stateImpl, never()).upsertMessages(any(), any())
+        }
+
+        @Test
+        fun `should restore evicted older messages from database`() = runTest {
+            // Given
+            val query = QueryChannelRequest().withMessages(Pagination.LESS_THAN, "msgId", 30)
+            val notEvicted = randomMessage(id = "m1", createdAt = Date(1000))
+            val evicted1 = randomMessage(id = "m2", createdAt = Date(2000))
+            val evicted2 = randomMessage(id = "m3", createdAt = Date(3000))
+            whenever(stateImpl.getEvictedOlderBound()).thenReturn(Date(2000))
+            whenever(repository.selectMessagesForChannel(any(), any()))
+                .thenReturn(listOf(evicted2, evicted1, notEvicted))
+            // When
+            sut.updateStateFromDatabase(query)
+            // Then
+            verify(stateImpl).upsertMessages(listOf(evicted1, evicted2), false)
+            verify(stateImpl).trimNewestMessages()
+        }
     }
 
     // endregion
@@ -21,10 +21,13 @@ import io.getstream.chat.android.client.persistance.repository.ChannelConfigRepo
 import io.getstream.chat.android.client.persistance.repository.ChannelRepository
 import io.getstream.chat.android.client.persistance.repository.QueryChannelsRepository
 import io.getstream.chat.android.client.persistance.repository.RepositoryFacade
+import io.getstream.chat.android.client.query.QueryChannelsSpec
 import io.getstream.chat.android.client.query.pagination.AnyChannelPaginationRequest
 import io.getstream.chat.android.client.test.randomQueryChannelsSpec
 import io.getstream.chat.android.models.Channel
 import io.getstream.chat.android.models.Filters
+import io.getstream.chat.android.models.Member
+import io.getstream.chat.android.models.User
 import io.getstream.chat.android.models.querysort.QuerySortByField
 import io.getstream.chat.android.randomChannel
 import io.getstream.chat.android.randomChannelConfig
@@ -33,10 +36,13 @@ import kotlinx.coroutines.test.runTest
 import org.junit.jupiter.api.Assertions.assertEquals
 import org.junit.jupiter.api.Assertions.assertNull
 import org.junit.jupiter.api.Test
+import org.mockito.kotlin.any
 import org.mockito.kotlin.doReturn
 import org.mockito.kotlin.mock
+import org.mockito.kotlin.never
 import org.mockito.kotlin.verify
 import org.mockito.kotlin.whenever
+import java.util.Date
 
 internal class QueryChannelsDatabaseLogicTest {
 
@@ -77,6 +83,8 @@ internal class QueryChannelsDatabaseLogicTest {
         val pagination = AnyChannelPaginationRequest()
 
         whenever(queryChannelsRepository.selectBy(identifier)) doReturn null
+        whenever(channelRepository.selectAllCids()) doReturn emptyList()
+        whenever(channelRepository.selectChannels(emptyList())) doReturn emptyList()
 
         // When
         val result = logic.fetchChannelsFromCache(pagination, identifier)
@@ -86,6 +94,67 @@ internal class QueryChannelsDatabaseLogicTest {
         verify(queryChannelsRepository).selectBy(identifier)
     }
 
+    @Test
+    fun `fetchChannelsFromCache should match stored channels locally when spec not found`() = runTest {
+        // Given
+        val filter = Filters.eq("type", "messaging")
+        val sort = QuerySortByField.descByName<Channel>("last_message_at")
+        val identifier = QueryChannelsIdentifier.Standard(filter, sort)
+        val pagination = AnyChannelPaginationRequest()
+
+        val matching = randomChannel(id = "channel1", type = "messaging")
+        val notMatching = randomChannel(id = "channel2", type = "livestream")
+        val storedCids = listOf(matching.cid, notMatching.cid)
+
+        whenever(queryChannelsRepository.selectBy(identifier)) doReturn null
+        whenever(channelRepository.selectAllCids()) doReturn storedCids
+        whenever(channelRepository.selectChannels(listOf(matching.cid))) doReturn listOf(matching)
+        whenever(repositoryFacade.selectChannels(listOf(matching.cid), pagination)) doReturn listOf(matching)
+
+        // When
+        val result = logic.fetchChannelsFromCache(pagination, identifier)
+
+        // Then
+        assertEquals(QueryChannelsSpec(filter, sort, setOf(matching.cid)), result?.spec)
+        assertEquals(listOf(matching), result?.channels)
+        verify(queryChannelsRepository, never()).insertQueryChannels(any())
+        verify(channelRepository, never()).selectChannels(listOf(notMatching.cid))
+    }
+
+    @Test
+    fun `fetchChannelsFromCache should match every stored candidate before the page is sorted`() = runTest {
+        // Given
+        val filter = Filters.`in`("members", "alice")
+        val sort = QuerySortByField.descByName<Channel>("last_message_at")
+        val identifier = QueryChannelsIdentifier.Standard(filter, sort)
+        val pagination = AnyChannelPaginationRequest().apply { channelLimit = 1 }
+
+        val alice = Member(user = User(id = "alice"))
+        val stored = List(150) {
+            randomChannel(
+                id = "channel$it",
+                memberCount = 1,
+                members = listOf(alice),
+                lastMessageAt = Date(it.toLong()),
+            )
+        }
+        val storedCids = stored.map(Channel::cid)
+        val latest = stored.last()
+
+        whenever(queryChannelsRepository.selectBy(identifier)) doReturn null
+        whenever(channelRepository.selectAllCids()) doReturn storedCids
+        whenever(channelRepository.selectChannels(storedCids.take(100))) doReturn stored.take(100)
+        whenever(channelRepository.selectChannels(storedCids.drop(100))) doReturn stored.drop(100)
+        whenever(repositoryFacade.selectChannels(storedCids, pagination)) doReturn listOf(latest)
+
+        // When
+        val result = logic.fetchChannelsFromCache(pagination, identifier)
+
+        // Then
+        assertEquals(storedCids.toSet(), result?.spec?.cids)
+        assertEquals(listOf(latest), result?.channels)
+    }
+
     @Test
     fun `fetchChannelsFromCache should return cached spec and channels when spec found`() = runTest {
         // Given
@@ -20,6 +20,7 @@ import kotlinx.coroutines.flow.MutableStateFlow
 import kotlinx.coroutines.test.runTest
 import org.junit.jupiter.api.Assertions.assertEquals
 import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertNull
 import org.junit.jupiter.api.Assertions.assertTrue
 import org.junit.jupiter.api.Nested
 import org.junit.jupiter.api.Test
@@ -345,6 +346,75 @@ internal class ChannelStateImplNonChannelStatesTest : ChannelStateImplTestBase()
 
     // endregion
 
+    // region EvictedBounds
+
+    @Nested
+    inner class EvictedBounds {
+
+        @Test
+        fun `evicted bounds should be null when nothing was trimmed`() = runTest {
+            // given
+            val stateWithLimit = createChannelStateWithLimit(50)
+            stateWithLimit.setMessages(createMessages(81))
+            // then
+            assertNull(stateWithLimit.getEvictedOlderBound())
+            assertNull(stateWithLimit.getEvictedNewerBound())
+        }
+
+        @Test
+        fun `trimOldestMessages should expose the oldest evicted message date`() = runTest {
+            // given
+            val stateWithLimit = createChannelStateWithLimit(50)
+            val messages = createMessages(81)
+            stateWithLimit.setMessages(messages)
+            // when
+            stateWithLimit.trimOldestMessages()
+            // then
+            assertEquals(messages.first().createdAt, stateWithLimit.getEvictedOlderBound())
+            assertNull(stateWithLimit.getEvictedNewerBound())
+        }
+
+        @Test
+        fun `trimNewestMessages should expose the newest evicted message date`() = runTest {
+            // given
+            val stateWithLimit = createChannelStateWithLimit(50)
+            val messages = createMessages(81)
+            stateWithLimit.setMessages(messages)
+            // when
+            stateWithLimit.trimNewestMessages()
+            // then
+            assertEquals(messages.last().createdAt, stateWithLimit.getEvictedNewerBound())
+            assertNull(stateWithLimit.getEvictedOlderBound())
+        }
+
+        @Test
+        fun `evicted older bound should be cleared once the evicted range is restored`() = runTest {
+            // given
+            val stateWithLimit = createChannelStateWithLimit(50)
+            val messages = createMessages(81)
+            stateWithLimit.setMessages(messages)
+            stateWithLimit.trimOldestMessages()
+            // when
+            stateWithLimit.upsertMessages(messages.take(31))
+            // then
+            assertNull(stateWithLimit.getEvictedOlderBound())
+        }
+
+        @Test
+        fun `setMessages should clear the evicted bounds`() = runTest {
+            // given
+            val stateWithLimit = createChannelStateWithLimit(50)
+            stateWithLimit.setMessages(createMessages(81))
+            stateWithLimit.trimOldestMessages()
+            // when
+            stateWithLimit.setMessages(createMessages(10, startIndex = 100))
+            // then
+            assertNull(stateWithLimit.getEvictedOlderBound())
+        }
+    }
+
+    // endregion
+
     // region Destroy
 
     @Nested
@@ -34,6 +34,7 @@ import java.util.Date
 internal abstract class ChannelStateImplTestBase {
 
     protected val userFlow = MutableStateFlow(currentUser)
+    protected val latestUsers = MutableStateFlow(mapOf(currentUser.id to currentUser))
     protected lateinit var channelState: ChannelStateImpl
 
     @BeforeEach
@@ -42,7 +43,7 @@ internal abstract class ChannelStateImplTestBase {
             channelType = CHANNEL_TYPE,
             channelId = CHANNEL_ID,
             currentUser = userFlow,
-            latestUsers = MutableStateFlow(mapOf(currentUser.id to currentUser)),
+            latestUsers = latestUsers,
             mutedUsers = MutableStateFlow(emptyList()),
             liveLocations = MutableStateFlow(emptyList()),
             messageLimit = null,
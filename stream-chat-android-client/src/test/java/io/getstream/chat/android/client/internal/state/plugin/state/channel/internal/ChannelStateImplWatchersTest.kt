@@ -23,6 +23,7 @@ import io.getstream.chat.android.randomUser
 import kotlinx.coroutines.test.runTest
 import org.junit.jupiter.api.Assertions.assertEquals
 import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertSame
 import org.junit.jupiter.api.Assertions.assertTrue
 import org.junit.jupiter.api.Nested
 import org.junit.jupiter.api.Test
@@ -274,6 +275,28 @@ internal class ChannelStateImplWatchersTest : ChannelStateImplTestBase() {
             val enrichedWatcher = channelState.watchers.value.find { it.id == currentUser.id }
             assertEquals("Tom", enrichedWatcher?.name)
         }
+
+        @Test
+        fun `watchers should be enriched again when a watching user is updated`() = runTest {
+            // given
+            channelState.setWatchers(listOf(currentUser), watcherCount = 1)
+            // when
+            latestUsers.value = mapOf(currentUser.id to currentUser.copy(name = "Thomas"))
+            // then
+            assertEquals("Thomas", channelState.watchers.value.single().name)
+        }
+
+        @Test
+        fun `watchers should not be enriched again when an unrelated user is updated`() = runTest {
+            // given
+            channelState.setWatchers(createWatchers(3), watcherCount = 3)
+            val watchers = channelState.watchers.value
+            // when
+            val unrelatedUser = randomUser()
+            latestUsers.value = latestUsers.value + (unrelatedUser.id to unrelatedUser)
+            // then
+            assertSame(watchers, channelState.watchers.value)
+        }
     }
 
     private fun createWatcher(index: Int): User {
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.client.internal.state.plugin.state.querychannels.internal
+
+import io.getstream.chat.android.models.Channel
+import io.getstream.chat.android.models.Location
+import io.getstream.chat.android.models.User
+import io.getstream.chat.android.models.querysort.QuerySortByField
+import org.amshove.kluent.`should be`
+import org.amshove.kluent.`should be equal to`
+import org.amshove.kluent.`should be null`
+import org.amshove.kluent.`should not be`
+import org.junit.jupiter.api.Test
+import java.util.Date
+
+internal class SortedChannelIndexTest {
+
+    private val sort = QuerySortByField.descByName<Channel>("last_message_at")
+    private val alice = User(id = "alice", name = "Alice")
+    private val bob = User(id = "bob", name = "Bob")
+
+    private val index = SortedChannelIndex()
+
+    @Test
+    fun `Given no channels, When updating, Then null is returned`() {
+        index.update(null, emptyMap(), emptyList(), sort).`should be null`()
+    }
+
+    @Test
+    fun `Given channels, When updating, Then the channels are sorted`() {
+        val channels = channels(1 to alice, 3 to bob, 2 to alice)
+
+        val result = index.update(channels, emptyMap(), emptyList(), sort)
+
+        result?.map(Channel::id) `should be equal to` listOf("3", "2", "1")
+    }
+
+    @Test
+    fun `Given a changed channel, When updating, Then only the channel is repositioned`() {
+        val channels = channels(1 to alice, 2 to bob, 3 to alice, 4 to bob, 5 to alice)
+        val first = index.update(channels, emptyMap(), emptyList(), sort)!!
+        val updated = channels.getValue("messaging:1").copy(lastMessageAt = Date(10))
+
+        val result = index.update(channels + (updated.cid to updated), emptyMap(), emptyList(), sort)!!
+
+        result.map(Channel::id) `should be equal to` listOf("1", "5", "4", "3", "2")
+        result[1] `should be` first[0]
+    }
+
+    @Test
+    fun `Given a removed channel, When updating, Then the channel is removed`() {
+        val channels = channels(1 to alice, 2 to bob, 3 to alice, 4 to bob, 5 to alice)
+        index.update(channels, emptyMap(), emptyList(), sort)
+
+        val result = index.update(channels - "messaging:3", emptyMap(), emptyList(), sort)
+
+        result?.map(Channel::id) `should be equal to` listOf("5", "4", "2", "1")
+    }
+
+    @Test
+    fun `Given an updated user, When updating, Then only the channels of the user are enriched`() {
+        val channels = channels(
+            1 to alice, 2 to bob, 3 to alice, 4 to bob, 5 to alice, 6 to alice, 7 to alice, 8 to alice,
+        )
+        val first = index.update(channels, mapOf(alice.id to alice, bob.id to bob), emptyList(), sort)!!
+        val renamedBob = bob.copy(name = "Robert")
+
+        val result = index.update(channels, mapOf(alice.id to alice, bob.id to renamedBob), emptyList(), sort)!!
+
+        val bobChannels = result.filter { it.createdBy.id == bob.id }
+        bobChannels.map { it.createdBy.name } `should be equal to` listOf("Robert", "Robert")
+        result.single { it.id == "8" } `should be` first.single { it.id == "8" }
+        result.single { it.id == "4" } `should not be` first.single { it.id == "4" }
+    }
+
+    @Test
+    fun `Given an updated user not referenced by the channels, When updating, Then the same list is returned`() {
+        val channels = channels(1 to alice, 2 to alice, 3 to alice)
+        val first = index.update(channels, mapOf(alice.id to alice, bob.id to bob), emptyList(), sort)!!
+
+        val renamedBob = bob.copy(name = "Robert")
+        val result = index.update(channels, mapOf(alice.id to alice, bob.id to renamedBob), emptyList(), sort)!!
+
+        result `should be` first
+    }
+
+    @Test
+    fun `Given a new live location, When updating, Then it is attached to its channel`() {
+        val channels = channels(1 to alice, 2 to bob, 3 to alice, 4 to bob, 5 to alice)
+        index.update(channels, emptyMap(), emptyList(), sort)
+        val location = Location(cid = "messaging:2", messageId = "message", userId = bob.id)
+
+        val result = index.update(channels, emptyMap(), listOf(location), sort)!!
+
+        result.single { it.id == "2" }.activeLiveLocations `should be equal to` listOf(location)
+        result.filterNot { it.id == "2" }.all { it.activeLiveLocations.isEmpty() } `should be equal to` true
+    }
+
+    @Test
+    fun `Given a new sort, When updating, Then the channels are sorted again`() {
+        val channels = channels(1 to alice, 2 to bob, 3 to alice)
+        index.update(channels, emptyMap(), emptyList(), sort)
+
+        val ascendingSort = QuerySortByField.ascByName<Channel>("last_message_at")
+        val result = index.update(channels, emptyMap(), emptyList(), ascendingSort)
+
+        result?.map(Channel::id) `should be equal to` listOf("1", "2", "3")
+    }
+
+    private fun channels(vararg channels: Pair<Int, User>): Map<String, Channel> =
+        channels.associate { (order, user) ->
+            val channel = Channel(
+                type = "messaging",
+                id = order.toString(),
+                createdBy = user,
+                lastMessageAt = Date(order.toLong()),
+            )
+            channel.cid to channel
+        }
+}
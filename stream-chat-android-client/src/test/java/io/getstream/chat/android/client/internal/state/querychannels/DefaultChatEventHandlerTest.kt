@@ -19,6 +19,7 @@ package io.getstream.chat.android.client.internal.state.querychannels
 import io.getstream.chat.android.client.api.event.DefaultChatEventHandler
 import io.getstream.chat.android.client.api.event.EventHandlingResult
 import io.getstream.chat.android.client.setup.state.ClientState
+import io.getstream.chat.android.client.test.randomChannelUpdatedEvent
 import io.getstream.chat.android.client.test.randomMemberAddedEvent
 import io.getstream.chat.android.client.test.randomMemberRemovedEvent
 import io.getstream.chat.android.client.test.randomNewMessageEvent
@@ -230,4 +231,94 @@ internal class DefaultChatEventHandlerTest {
 
         result `should be equal to` EventHandlingResult.Skip
     }
+
+    @Test
+    fun `Given the channel does not match the filter When received NewMessageEvent Should skip the update`() {
+        val channel = randomChannel(type = "messaging")
+        val eventHandler = DefaultChatEventHandler(MutableStateFlow(emptyMap()), mock())
+        val event = randomNewMessageEvent(cid = channel.cid, message = randomMessage(type = "regular"))
+
+        val result = eventHandler.handleChatEvent(
+            event = event,
+            filter = Filters.eq("type", "livestream"),
+            cachedChannel = channel,
+        )
+
+        result `should be equal to` EventHandlingResult.Skip
+    }
+
+    @Test
+    fun `Given the channel does not match the filter When received NotificationMessageNewEvent Should skip the update`() {
+        val channel = randomChannel(type = "messaging")
+        val eventHandler = DefaultChatEventHandler(MutableStateFlow(emptyMap()), mock())
+        val event = randomNotificationMessageNewEvent(cid = channel.cid, channel = channel)
+
+        val result = eventHandler.handleChatEvent(
+            event = event,
+            filter = Filters.eq("type", "livestream"),
+            cachedChannel = null,
+        )
+
+        result `should be equal to` EventHandlingResult.Skip
+    }
+
+    @Test
+    fun `Given the channel matches the filter When received NotificationMessageNewEvent Should watch and add the channel`() {
+        val channel = randomChannel(type = "messaging")
+        val eventHandler = DefaultChatEventHandler(MutableStateFlow(emptyMap()), mock())
+        val event = randomNotificationMessageNewEvent(cid = channel.cid, channel = channel)
+
+        val result = eventHandler.handleChatEvent(
+            event = event,
+            filter = Filters.eq("type", "messaging"),
+            cachedChannel = null,
+        )
+
+        result `should be equal to` EventHandlingResult.WatchAndAdd(channel.cid)
+    }
+
+    @Test
+    fun `Given the channel is present When received ChannelUpdatedEvent no longer matching the filter Should remove the channel`() {
+        val channel = randomChannel(type = "messaging")
+        val eventHandler = DefaultChatEventHandler(MutableStateFlow(mapOf(channel.cid to channel)), mock())
+        val event = randomChannelUpdatedEvent(cid = channel.cid, channel = channel)
+
+        val result = eventHandler.handleChatEvent(
+            event = event,
+            filter = Filters.eq("type", "livestream"),
+            cachedChannel = channel,
+        )
+
+        result `should be equal to` EventHandlingResult.Remove(channel.cid)
+    }
+
+    @Test
+    fun `Given the channel is present When received ChannelUpdatedEvent still matching the filter Should skip the update`() {
+        val channel = randomChannel(type = "messaging")
+        val eventHandler = DefaultChatEventHandler(MutableStateFlow(mapOf(channel.cid to channel)), mock())
+        val event = randomChannelUpdatedEvent(cid = channel.cid, channel = channel)
+
+        val result = eventHandler.handleChatEvent(
+            event = event,
+            filter = Filters.eq("type", "messaging"),
+            cachedChannel = channel,
+        )
+
+        result `should be equal to` EventHandlingResult.Skip
+    }
+
+    @Test
+    fun `Given the channel is present When received ChannelUpdatedEvent without members Should skip the update`() {
+        val channel = randomChannel(type = "messaging", memberCount = 0, members = emptyList())
+        val eventHandler = DefaultChatEventHandler(MutableStateFlow(mapOf(channel.cid to channel)), mock())
+        val event = randomChannelUpdatedEvent(cid = channel.cid, channel = channel)
+
+        val result = eventHandler.handleChatEvent(
+            event = event,
+            filter = Filters.`in`("members", "alice"),
+            cachedChannel = channel,
+        )
+
+        result `should be equal to` EventHandlingResult.Skip
+    }
 }
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.client.parser2
+
+import com.squareup.moshi.JsonDataException
+import com.squareup.moshi.Moshi
+import io.getstream.chat.android.client.api2.mapping.DomainMapping
+import io.getstream.chat.android.client.api2.model.dto.DownstreamChannelDto
+import io.getstream.chat.android.client.parser2.adapters.DateAdapter
+import io.getstream.chat.android.client.parser2.direct.AttachmentAdapter
+import io.getstream.chat.android.client.parser2.direct.ChannelAdapter
+import io.getstream.chat.android.client.parser2.direct.ChannelInfoAdapter
+import io.getstream.chat.android.client.parser2.direct.ChannelUserReadAdapter
+import io.getstream.chat.android.client.parser2.direct.CommandAdapter
+import io.getstream.chat.android.client.parser2.direct.ConfigAdapter
+import io.getstream.chat.android.client.parser2.direct.DeviceAdapter
+import io.getstream.chat.android.client.parser2.direct.LocationAdapter
+import io.getstream.chat.android.client.parser2.direct.MemberAdapter
+import io.getstream.chat.android.client.parser2.direct.MessageAdapter
+import io.getstream.chat.android.client.parser2.direct.MessageModerationDetailsAdapter
+import io.getstream.chat.android.client.parser2.direct.MessageReminderInfoAdapter
+import io.getstream.chat.android.client.parser2.direct.ModerationAdapter
+import io.getstream.chat.android.client.parser2.direct.OptionAdapter
+import io.getstream.chat.android.client.parser2.direct.PollAdapter
+import io.getstream.chat.android.client.parser2.direct.PrivacySettingsAdapter
+import io.getstream.chat.android.client.parser2.direct.ReactionAdapter
+import io.getstream.chat.android.client.parser2.direct.ReactionGroupAdapter
+import io.getstream.chat.android.client.parser2.direct.UserAdapter
+import io.getstream.chat.android.client.parser2.direct.UserGroupAdapter
+import io.getstream.chat.android.client.parser2.direct.UserGroupMemberAdapter
+import io.getstream.chat.android.client.parser2.testdata.ChannelTestData
+import io.getstream.chat.android.models.NoOpChannelTransformer
+import io.getstream.chat.android.models.NoOpMessageTransformer
+import io.getstream.chat.android.models.NoOpUserTransformer
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import java.util.Date
+
+internal class ChannelParsingTest {
+
+    private val parser = ParserFactory.createMoshiChatParser()
+
+    private val domainMapping = DomainMapping(
+        currentUserIdProvider = { "" },
+        channelTransformer = NoOpChannelTransformer,
+        messageTransformer = NoOpMessageTransformer,
+        userTransformer = NoOpUserTransformer,
+    )
+
+    private val moshi = Moshi.Builder().add(DateAdapter()).build()
+    private val dateAdapter = moshi.adapter(Date::class.java)
+    private val userAdapter = UserAdapter(
+        deviceAdapter = DeviceAdapter(),
+        privacySettingsAdapter = PrivacySettingsAdapter(),
+        dateAdapter = dateAdapter,
+        userTransformer = NoOpUserTransformer,
+    )
+    private val locationAdapter = LocationAdapter(dateAdapter = dateAdapter)
+    private val messageAdapter = MessageAdapter(
+        attachmentAdapter = AttachmentAdapter(),
+        channelInfoAdapter = ChannelInfoAdapter(),
+        reactionAdapter = ReactionAdapter(userAdapter = userAdapter, dateAdapter = dateAdapter),
+        reactionGroupAdapter = ReactionGroupAdapter(dateAdapter = dateAdapter),
+        userAdapter = userAdapter,
+        userGroupAdapter = UserGroupAdapter(
+            memberAdapter = UserGroupMemberAdapter(dateAdapter = dateAdapter),
+            dateAdapter = dateAdapter,
+        ),
+        moderationDetailsAdapter = MessageModerationDetailsAdapter(),
+        moderationAdapter = ModerationAdapter(),
+        pollAdapter = PollAdapter(
+            userAdapter = userAdapter,
+            optionAdapter = OptionAdapter(),
+            dateAdapter = dateAdapter,
+            currentUserIdProvider = { "" },
+        ),
+        reminderAdapter = MessageReminderInfoAdapter(dateAdapter = dateAdapter),
+        locationAdapter = locationAdapter,
+        dateAdapter = dateAdapter,
+        messageTransformer = NoOpMessageTransformer,
+    )
+    private val channelAdapter = ChannelAdapter(
+        messageAdapter = messageAdapter,
+        memberAdapter = MemberAdapter(userAdapter = userAdapter, dateAdapter = dateAdapter),
+        userAdapter = userAdapter,
+        channelUserReadAdapter = ChannelUserReadAdapter(userAdapter = userAdapter, dateAdapter = dateAdapter),
+        configAdapter = ConfigAdapter(commandAdapter = CommandAdapter(), dateAdapter = dateAdapter),
+        locationAdapter = locationAdapter,
+        dateAdapter = dateAdapter,
+        currentUserIdProvider = { "" },
+        channelTransformer = NoOpChannelTransformer,
+    )
+
+    // region DTO path (JSON → DownstreamChannelDto → Channel)
+
+    @Test
+    fun `DTO path - deserializes all fields`() {
+        val dto = parser.fromJson(ChannelTestData.jsonAllFields, DownstreamChannelDto::class.java)
+        val channel = with(domainMapping) { dto.toDomain() }
+        assertEquals(ChannelTestData.expectedAllFields, channel)
+    }
+
+    @Test
+    fun `DTO path - deserializes nested collections`() {
+        val dto = parser.fromJson(ChannelTestData.jsonWithNestedCollections, DownstreamChannelDto::class.java)
+        val channel = with(domainMapping) { dto.toDomain() }
+        assertEquals(ChannelTestData.expectedWithNestedCollections, channel)
+    }
+
+    @Test
+    fun `DTO path - deserializes with optional fields missing`() {
+        val dto = parser.fromJson(ChannelTestData.jsonOptionalFieldsMissing, DownstreamChannelDto::class.java)
+        val channel = with(domainMapping) { dto.toDomain() }
+        assertEquals(ChannelTestData.expectedOptionalFieldsMissing, channel)
+    }
+
+    // endregion
+
+    // region Direct path (JSON → Channel via ChannelAdapter)
+
+    @Test
+    fun `Direct path - deserializes all fields`() {
+        val channel = channelAdapter.fromJson(ChannelTestData.jsonAllFields)
+        assertEquals(ChannelTestData.expectedAllFields, channel)
+    }
+
+    @Test
+    fun `Direct path - deserializes nested collections`() {
+        val channel = channelAdapter.fromJson(ChannelTestData.jsonWithNestedCollections)
+        assertEquals(ChannelTestData.expectedWithNestedCollections, channel)
+    }
+
+    @Test
+    fun `Direct path - deserializes with optional fields missing`() {
+        val channel = channelAdapter.fromJson(ChannelTestData.jsonOptionalFieldsMissing)
+        assertEquals(ChannelTestData.expectedOptionalFieldsMissing, channel)
+    }
+
+    // endregion
+
+    // region Error message parity
+
+    @Test
+    fun `Direct path - throws on missing cid`() {
+        assertThrows<JsonDataException> { channelAdapter.fromJson(ChannelTestData.jsonMissingCid) }
+    }
+
+    @Test
+    fun `Direct path - throws on missing id`() {
+        assertThrows<JsonDataException> { channelAdapter.fromJson(ChannelTestData.jsonMissingId) }
+    }
+
+    @Test
+    fun `Direct path - throws on missing type`() {
+        assertThrows<JsonDataException> { channelAdapter.fromJson(ChannelTestData.jsonMissingType) }
+    }
+
+    @Test
+    fun `Direct path - throws on missing frozen`() {
+        assertThrows<JsonDataException> { channelAdapter.fromJson(ChannelTestData.jsonMissingFrozen) }
+    }
+
+    @Test
+    fun `Direct path - throws on missing config`() {
+        assertThrows<JsonDataException> { channelAdapter.fromJson(ChannelTestData.jsonMissingConfig) }
+    }
+
+    // endregion
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.client.parser2
+
+import io.getstream.chat.android.client.events.ChatEvent
+import io.getstream.chat.android.client.events.HealthEvent
+import io.getstream.chat.android.client.events.MessageReadEvent
+import io.getstream.chat.android.client.events.MessageUpdatedEvent
+import io.getstream.chat.android.client.events.NotificationMessageNewEvent
+import io.getstream.chat.android.client.events.ReactionDeletedEvent
+import io.getstream.chat.android.client.events.ReactionNewEvent
+import io.getstream.chat.android.client.events.ReactionUpdateEvent
+import io.getstream.chat.android.client.events.TypingStartEvent
+import io.getstream.chat.android.client.events.TypingStopEvent
+import io.getstream.chat.android.client.events.UserPresenceChangedEvent
+import io.getstream.chat.android.client.parser2.testdata.DirectEventTestData
+import io.getstream.chat.android.models.NoOpChannelTransformer
+import io.getstream.chat.android.models.NoOpMessageTransformer
+import io.getstream.chat.android.models.NoOpUserTransformer
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertInstanceOf
+import org.junit.jupiter.api.Assertions.assertNull
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.params.ParameterizedTest
+import org.junit.jupiter.params.provider.Arguments
+import org.junit.jupiter.params.provider.MethodSource
+
+/**
+ * Parity suite for the direct event adapters: every event type handled by [DirectEventParser]
+ * must produce exactly what the JSON → `ChatEventDto` → `EventMapping` pipeline produces.
+ */
+internal class DirectEventParityTest {
+
+    private val directParser = DirectEventParser(
+        currentUserIdProvider = { "reader1" },
+        channelTransformer = NoOpChannelTransformer,
+        messageTransformer = NoOpMessageTransformer,
+        userTransformer = NoOpUserTransformer,
+    )
+
+    private val dtoParser = ParserFactory.createMoshiChatParser(currentUserIdProvider = { "reader1" })
+
+    /** This method uses [parityArguments] as a source of arguments. */
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("parityArguments")
+    fun `direct path produces the same event as the DTO path`(
+        @Suppress("UNUSED_PARAMETER") name: String,
+        json: String,
+        expectedClass: Class<out ChatEvent>,
+    ) {
+        val directResult = directParser.parse(json)
+        val dtoResult = dtoParser.fromJson(json, ChatEvent::class.java)
+
+        assertInstanceOf(expectedClass, directResult)
+        assertEquals(dtoResult, directResult)
+    }
+
+    @Test
+    fun `health check carrying me falls back to the DTO path`() {
+        assertNull(directParser.parse(DirectEventTestData.healthCheckWithMe))
+    }
+
+    @Test
+    fun `message read without cid falls back to the DTO path`() {
+        assertNull(directParser.parse(DirectEventTestData.markAllRead))
+    }
+
+    @Test
+    fun `event message and quoted message are enriched with the event cid`() {
+        val event = directParser.parse(DirectEventTestData.messageUpdatedWithQuote) as MessageUpdatedEvent
+        assertEquals("messaging:general", event.message.cid)
+        assertEquals("messaging:general", event.message.replyTo?.cid)
+    }
+
+    @Test
+    fun `notification message is enriched with the channel info`() {
+        val event = directParser.parse(DirectEventTestData.notificationMessageNew) as NotificationMessageNewEvent
+        assertEquals("messaging:123", event.message.channelInfo?.cid)
+        assertEquals("messaging:123", event.message.replyTo?.channelInfo?.cid)
+    }
+
+    companion object {
+
+        @JvmStatic
+        fun parityArguments(): List<Arguments> = listOf(
+            Arguments.of("typing.start", DirectEventTestData.typingStart, TypingStartEvent::class.java),
+            Arguments.of("typing.stop", DirectEventTestData.typingStop, TypingStopEvent::class.java),
+            Arguments.of("message.read", DirectEventTestData.messageRead, MessageReadEvent::class.java),
+            Arguments.of(
+                "message.read in thread",
+                DirectEventTestData.messageReadInThread,
+                MessageReadEvent::class.java,
+            ),
+            Arguments.of("message.updated", DirectEventTestData.messageUpdated, MessageUpdatedEvent::class.java),
+            Arguments.of(
+                "message.updated with quote",
+                DirectEventTestData.messageUpdatedWithQuote,
+                MessageUpdatedEvent::class.java,
+            ),
+            Arguments.of("reaction.new", DirectEventTestData.reactionNew, ReactionNewEvent::class.java),
+            Arguments.of("reaction.updated", DirectEventTestData.reactionUpdated, ReactionUpdateEvent::class.java),
+            Arguments.of("reaction.deleted", DirectEventTestData.reactionDeleted, ReactionDeletedEvent::class.java),
+            Arguments.of(
+                "notification.message_new",
+                DirectEventTestData.notificationMessageNew,
+                NotificationMessageNewEvent::class.java,
+            ),
+            Arguments.of(
+                "notification.message_new with channel extra data",
+                DirectEventTestData.notificationMessageNewWithCustomChannel,
+                NotificationMessageNewEvent::class.java,
+            ),
+            Arguments.of(
+                "user.presence.changed",
+                DirectEventTestData.userPresenceChanged,
+                UserPresenceChangedEvent::class.java,
+            ),
+            Arguments.of("health.check", DirectEventTestData.healthCheck, HealthEvent::class.java),
+        )
+    }
+}
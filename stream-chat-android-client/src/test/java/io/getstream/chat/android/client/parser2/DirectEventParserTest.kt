@@ -27,6 +27,7 @@ import io.getstream.chat.android.models.NoOpChannelTransformer
 import io.getstream.chat.android.models.NoOpMessageTransformer
 import io.getstream.chat.android.models.NoOpUserTransformer
 import io.getstream.chat.android.models.UserTransformer
+import okio.Buffer
 import org.junit.jupiter.api.Assertions.assertEquals
 import org.junit.jupiter.api.Assertions.assertNull
 import org.junit.jupiter.api.Assertions.assertTrue
@@ -37,6 +38,7 @@ internal class DirectEventParserTest {
 
     private val parser = DirectEventParser(
         currentUserIdProvider = { "" },
+        channelTransformer = NoOpChannelTransformer,
         messageTransformer = NoOpMessageTransformer,
         userTransformer = NoOpUserTransformer,
     )
@@ -85,6 +87,15 @@ internal class DirectEventParserTest {
             val json = """{"type":"","cid":"messaging:general"}"""
             assertEquals("", extractType(json))
         }
+
+        @Test
+        fun `reads type from a peeked source without consuming it`() {
+            val json = """{"cid":"messaging:general","type":"message.new"}"""
+            val source = Buffer().writeUtf8(json)
+
+            assertEquals("message.new", extractType(source.peek()))
+            assertEquals(json, source.readUtf8())
+        }
     }
 
     @Nested
@@ -120,9 +131,19 @@ internal class DirectEventParserTest {
             assertEquals(dtoResult, directResult)
         }
 
+        @Test
+        fun `parses from a source and leaves it unconsumed for the fallback path`() {
+            val source = Buffer().writeUtf8(NewMessageEventTestData.jsonAllFields)
+
+            val fromSource = parser.parse(source)
+
+            assertEquals(parser.parse(NewMessageEventTestData.jsonAllFields), fromSource)
+            assertEquals(NewMessageEventTestData.jsonAllFields, source.readUtf8())
+        }
+
         @Test
         fun `returns null for unsupported event type`() {
-            val json = """{"type":"message.read","cid":"messaging:general","user":{}}"""
+            val json = """{"type":"channel.hidden","cid":"messaging:general","user":{}}"""
             assertNull(parser.parse(json))
         }
 
@@ -146,6 +167,7 @@ internal class DirectEventParserTest {
         fun `custom MessageTransformer is applied to parsed NewMessageEvent`() {
             val customParser = DirectEventParser(
                 currentUserIdProvider = { "" },
+                channelTransformer = NoOpChannelTransformer,
                 messageTransformer = MessageTransformer { it.copy(text = it.text + " [transformed]") },
                 userTransformer = NoOpUserTransformer,
             )
@@ -157,6 +179,7 @@ internal class DirectEventParserTest {
         fun `custom UserTransformer is applied to all nested users in parsed NewMessageEvent`() {
             val customParser = DirectEventParser(
                 currentUserIdProvider = { "" },
+                channelTransformer = NoOpChannelTransformer,
                 messageTransformer = NoOpMessageTransformer,
                 userTransformer = UserTransformer { it.copy(name = it.name + " [transformed]") },
             )
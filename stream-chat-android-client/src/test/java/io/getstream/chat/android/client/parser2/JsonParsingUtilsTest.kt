@@ -21,6 +21,7 @@ import com.squareup.moshi.JsonDataException
 import com.squareup.moshi.JsonReader
 import com.squareup.moshi.JsonWriter
 import io.getstream.chat.android.client.parser2.direct.JsonParsingUtils
+import io.getstream.chat.android.client.utils.internal.LazyExtraData
 import okio.Buffer
 import org.junit.jupiter.api.Assertions.assertEquals
 import org.junit.jupiter.api.Assertions.assertNull
@@ -156,42 +157,45 @@ internal class JsonParsingUtilsTest {
     // region accumulateExtraData
 
     @Test
-    fun `accumulateExtraData creates map on first call`() {
+    fun `accumulateExtraData adds value to extra data`() {
+        val extraData = LazyExtraData.Builder()
         val reader = readerFor("""{"key":"value"}""")
         reader.beginObject()
         val key = reader.nextName()
-        val result = JsonParsingUtils.accumulateExtraData(key, reader, null)
-        assertEquals(mapOf("key" to "value"), result)
+        JsonParsingUtils.accumulateExtraData(key, reader, extraData)
+        assertEquals(mapOf("key" to "value"), extraData.build())
     }
 
     @Test
-    fun `accumulateExtraData appends to existing map`() {
-        val existing = mutableMapOf<String, Any>("a" to 1.0)
-        val reader = readerFor("""{"b":"two"}""")
+    fun `accumulateExtraData appends to existing values`() {
+        val extraData = LazyExtraData.Builder()
+        val reader = readerFor("""{"a":1,"b":"two"}""")
         reader.beginObject()
-        val key = reader.nextName()
-        val result = JsonParsingUtils.accumulateExtraData(key, reader, existing)
-        assertEquals(mapOf("a" to 1.0, "b" to "two"), result)
+        JsonParsingUtils.accumulateExtraData(reader.nextName(), reader, extraData)
+        JsonParsingUtils.accumulateExtraData(reader.nextName(), reader, extraData)
+        assertEquals(mapOf("a" to 1.0, "b" to "two"), extraData.build())
     }
 
     @Test
-    fun `accumulateExtraData returns original map when value is null`() {
-        val existing = mutableMapOf<String, Any>("a" to 1.0)
-        val reader = readerFor("""{"b":null}""")
+    fun `accumulateExtraData skips null values`() {
+        val extraData = LazyExtraData.Builder()
+        val reader = readerFor("""{"a":1,"b":null}""")
         reader.beginObject()
-        val key = reader.nextName()
-        val result = JsonParsingUtils.accumulateExtraData(key, reader, existing)
-        // null JSON values are skipped — original map returned unchanged
-        assertEquals(existing, result)
+        JsonParsingUtils.accumulateExtraData(reader.nextName(), reader, extraData)
+        JsonParsingUtils.accumulateExtraData(reader.nextName(), reader, extraData)
+        reader.endObject()
+        // null JSON values are skipped
+        assertEquals(mapOf("a" to 1.0), extraData.build())
     }
 
     @Test
-    fun `accumulateExtraData returns null when value is null and no existing map`() {
+    fun `accumulateExtraData builds empty map when all values are null`() {
+        val extraData = LazyExtraData.Builder()
         val reader = readerFor("""{"b":null}""")
         reader.beginObject()
         val key = reader.nextName()
-        val result = JsonParsingUtils.accumulateExtraData(key, reader, null)
-        assertNull(result)
+        JsonParsingUtils.accumulateExtraData(key, reader, extraData)
+        assertEquals(emptyMap<String, Any>(), extraData.build())
     }
 
     // endregion
@@ -41,6 +41,7 @@ internal object ParserFactory {
         ),
         directEventParser = DirectEventParser(
             currentUserIdProvider = currentUserIdProvider,
+            channelTransformer = apiModelTransformers.incomingChannelTransformer,
             messageTransformer = apiModelTransformers.incomingMessageTransformer,
             userTransformer = apiModelTransformers.incomingUserTransformer,
         ).takeIf { fastEventParsing },
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.client.parser2.testdata
+
+import org.intellij.lang.annotations.Language
+
+/**
+ * WebSocket event payloads for the event types covered by `DirectEventParser`.
+ * Used to check that the direct and DTO parsing paths produce identical events.
+ */
+internal object DirectEventTestData {
+
+    @Language("JSON")
+    private const val MINIMAL_USER_JSON =
+        """{"id":"user-1","role":"user","banned":false,"online":true,"unread_count":3}"""
+
+    /** A message without `channel` whose cid differs from the event's, quoting another such message. */
+    @Language("JSON")
+    private const val MESSAGE_WITH_QUOTE_JSON = """{
+        "id":"msg-1",
+        "cid":"messaging:other",
+        "text":"Reply",
+        "html":"<p>Reply</p>",
+        "type":"regular",
+        "user":$MINIMAL_USER_JSON,
+        "attachments":[],
+        "latest_reactions":[],
+        "own_reactions":[],
+        "mentioned_users":[],
+        "reply_count":0,
+        "deleted_reply_count":0,
+        "created_at":"2020-01-01T00:00:00.000Z",
+        "updated_at":"2020-01-01T00:00:00.000Z",
+        "silent":false,
+        "quoted_message_id":"msg-0",
+        "quoted_message":{
+            "id":"msg-0",
+            "cid":"messaging:other",
+            "text":"Original",
+            "html":"<p>Original</p>",
+            "type":"regular",
+            "user":$MINIMAL_USER_JSON,
+            "attachments":[],
+            "latest_reactions":[],
+            "own_reactions":[],
+            "mentioned_users":[],
+            "reply_count":0,
+            "deleted_reply_count":0,
+            "created_at":"2019-12-31T00:00:00.000Z",
+            "updated_at":"2019-12-31T00:00:00.000Z",
+            "silent":false
+        }
+    }"""
+
+    @Language("JSON")
+    val typingStart = """{
+        "type": "typing.start",
+        "created_at": "2020-01-01T00:00:00.000Z",
+        "user": ${UserTestData.jsonAllFields},
+        "cid": "messaging:general",
+        "channel_type": "messaging",
+        "channel_id": "general",
+        "parent_id": "parent-1"
+    }"""
+
+    @Language("JSON")
+    val typingStop = """{
+        "type": "typing.stop",
+        "created_at": "2020-01-01T00:00:00.123Z",
+        "user": $MINIMAL_USER_JSON,
+        "cid": "messaging:general",
+        "channel_type": "messaging",
+        "channel_id": "general"
+    }"""
+
+    @Language("JSON")
+    val messageRead = """{
+        "type": "message.read",
+        "created_at": "2020-01-01T00:00:00.000Z",
+        "user": ${UserTestData.jsonAllFields},
+        "cid": "messaging:general",
+        "channel_type": "messaging",
+        "channel_id": "general",
+        "last_read_message_id": "msg-1",
+        "team": "team1"
+    }"""
+
+    @Language("JSON")
+    val messageReadInThread = """{
+        "type": "message.read",
+        "created_at": "2020-01-01T00:00:00.000Z",
+        "user": $MINIMAL_USER_JSON,
+        "cid": "messaging:123",
+        "channel_type": "messaging",
+        "channel_id": "123",
+        "thread": {
+            "channel_cid": "messaging:123",
+            "channel": ${ChannelTestData.jsonWithNestedCollections},
+            "parent_message_id": "msg-1",
+            "parent_message": $MESSAGE_WITH_QUOTE_JSON,
+            "created_by_user_id": "user-1",
+            "created_by": $MINIMAL_USER_JSON,
+            "reply_count": 3,
+            "participant_count": 2,
+            "thread_participants": [
+                {"user_id": "user-2", "last_thread_message_at": "2020-01-01T00:00:00.000Z"},
+                {"user_id": "user-1", "user": $MINIMAL_USER_JSON, "last_thread_message_at": "2020-01-02T00:00:00.000Z"},
+                {"user_id": "user-3", "last_thread_message_at": null}
+            ],
+            "last_message_at": "2020-01-02T00:00:00.000Z",
+            "created_at": "2020-01-01T00:00:00.000Z",
+            "updated_at": "2020-01-02T00:00:00.000Z",
+            "title": "Thread title",
+            "custom_field": "custom_value"
+        }
+    }"""
+
+    @Language("JSON")
+    val messageUpdated = """{
+        "type": "message.updated",
+        "created_at": "2020-01-01T00:00:00.000Z",
+        "user": ${UserTestData.jsonAllFields},
+        "cid": "messaging:general",
+        "channel_type": "messaging",
+        "channel_id": "general",
+        "message": ${MessageTestData.jsonAllFields}
+    }"""
+
+    @Language("JSON")
+    val messageUpdatedWithQuote = """{
+        "type": "message.updated",
+        "created_at": "2020-01-01T00:00:00.000Z",
+        "user": $MINIMAL_USER_JSON,
+        "cid": "messaging:general",
+        "channel_type": "messaging",
+        "channel_id": "general",
+        "message": $MESSAGE_WITH_QUOTE_JSON
+    }"""
+
+    @Language("JSON")
+    val reactionNew = """{
+        "type": "reaction.new",
+        "created_at": "2020-01-01T00:00:00.000Z",
+        "user": ${UserTestData.jsonAllFields},
+        "cid": "messaging:general",
+        "channel_type": "messaging",
+        "channel_id": "general",
+        "message": ${MessageTestData.jsonAllFields},
+        "reaction": ${ReactionTestData.jsonAllFields}
+    }"""
+
+    @Language("JSON")
+    val reactionUpdated = """{
+        "type": "reaction.updated",
+        "created_at": "2020-01-01T00:00:00.000Z",
+        "user": $MINIMAL_USER_JSON,
+        "cid": "messaging:general",
+        "channel_type": "messaging",
+        "channel_id": "general",
+        "message": $MESSAGE_WITH_QUOTE_JSON,
+        "reaction": ${ReactionTestData.jsonAllFields}
+    }"""
+
+    @Language("JSON")
+    val reactionDeleted = """{
+        "type": "reaction.deleted",
+        "created_at": "2020-01-01T00:00:00.000Z",
+        "user": $MINIMAL_USER_JSON,
+        "cid": "messaging:general",
+        "channel_type": "messaging",
+        "channel_id": "general",
+        "message": $MESSAGE_WITH_QUOTE_JSON,
+        "reaction": ${ReactionTestData.jsonOptionalFieldsMissing}
+    }"""
+
+    @Language("JSON")
+    val notificationMessageNew = """{
+        "type": "notification.message_new",
+        "created_at": "2020-01-01T00:00:00.000Z",
+        "cid": "messaging:123",
+        "channel_type": "messaging",
+        "channel_id": "123",
+        "message": $MESSAGE_WITH_QUOTE_JSON,
+        "channel": ${ChannelTestData.jsonWithNestedCollections},
+        "total_unread_count": 4,
+        "unread_channels": 2,
+        "grouped_unread_channels": {"messaging": 4}
+    }"""
+
+    @Language("JSON")
+    val notificationMessageNewWithCustomChannel = """{
+        "type": "notification.message_new",
+        "created_at": "2020-01-01T00:00:00.000Z",
+        "cid": "messaging:123",
+        "channel_type": "messaging",
+        "channel_id": "123",
+        "channel": ${ChannelTestData.jsonAllFields},
+        "message": ${MessageTestData.jsonAllFields}
+    }"""
+
+    @Language("JSON")
+    val userPresenceChanged = """{
+        "type": "user.presence.changed",
+        "created_at": "2020-01-01T00:00:00.000Z",
+        "user": ${UserTestData.jsonAllFields}
+    }"""
+
+    @Language("JSON")
+    val healthCheck = """{
+        "type": "health.check",
+        "created_at": "2020-01-01T00:00:00.000Z",
+        "connection_id": "connection-1",
+        "cid": "*"
+    }"""
+
+    @Language("JSON")
+    val healthCheckWithMe = """{
+        "type": "health.check",
+        "created_at": "2020-01-01T00:00:00.000Z",
+        "connection_id": "connection-1",
+        "me": $MINIMAL_USER_JSON
+    }"""
+
+    @Language("JSON")
+    val markAllRead = """{
+        "type": "message.read",
+        "created_at": "2020-01-01T00:00:00.000Z",
+        "user": $MINIMAL_USER_JSON
+    }"""
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.client.query.filter
+
+import io.getstream.chat.android.models.Channel
+import io.getstream.chat.android.models.FilterObject
+import io.getstream.chat.android.models.Filters
+import io.getstream.chat.android.models.Member
+import io.getstream.chat.android.models.Message
+import io.getstream.chat.android.models.User
+import org.amshove.kluent.`should be equal to`
+import org.junit.jupiter.api.Test
+import java.util.Date
+
+internal class FilterPredicateTest {
+
+    private val alice = User(id = "alice", name = "Alice Liddell")
+    private val bob = User(id = "bob", name = "Bob Builder")
+
+    private val channel = Channel(
+        type = "messaging",
+        id = "general",
+        memberCount = 2,
+        members = listOf(Member(user = alice), Member(user = bob)),
+        membership = Member(user = alice),
+        lastMessageAt = Date(2_000),
+        extraData = mapOf("tags" to listOf("work", "news"), "priority" to 3),
+    )
+
+    @Test
+    fun `Equals and In filters should match model fields and channel members`() {
+        evaluate(Filters.eq("type", "messaging")) `should be equal to` true
+        evaluate(Filters.eq("type", "team")) `should be equal to` false
+        evaluate(Filters.`in`("members", "alice", "carol")) `should be equal to` true
+        evaluate(Filters.`in`("members", "carol")) `should be equal to` false
+        evaluate(Filters.nin("members", "carol")) `should be equal to` true
+    }
+
+    @Test
+    fun `Logical filters should combine the results of their children`() {
+        val matching = Filters.eq("type", "messaging")
+        val notMatching = Filters.eq("id", "random")
+
+        evaluate(Filters.and(matching, notMatching)) `should be equal to` false
+        evaluate(Filters.or(matching, notMatching)) `should be equal to` true
+        evaluate(Filters.nor(notMatching)) `should be equal to` true
+        evaluate(Filters.neutral()) `should be equal to` true
+    }
+
+    @Test
+    fun `Comparison filters should compare dates and numbers of different types`() {
+        evaluate(Filters.greaterThan("last_message_at", Date(1_000))) `should be equal to` true
+        evaluate(Filters.lessThanEquals("last_message_at", Date(1_000))) `should be equal to` false
+        evaluate(Filters.eq("priority", 3L)) `should be equal to` true
+        evaluate(Filters.greaterThanEquals("priority", 2.5)) `should be equal to` true
+    }
+
+    @Test
+    fun `Custom list fields should support contains`() {
+        evaluate(Filters.contains("tags", "news")) `should be equal to` true
+        evaluate(Filters.contains("tags", "sports")) `should be equal to` false
+    }
+
+    @Test
+    fun `Autocomplete should match the prefix of any word ignoring case`() {
+        evaluate(Filters.autocomplete("member.user.name", "lid")) `should be equal to` true
+        evaluate(Filters.autocomplete("member.user.name", "ice")) `should be equal to` false
+    }
+
+    @Test
+    fun `Fields that are not available locally should be undecided`() {
+        evaluate(Filters.eq("unknown_field", "value")) `should be equal to` null
+        evaluate(Filters.`in`("members", "alice"), channel.copy(memberCount = 3)) `should be equal to` null
+        val withoutMembers = channel.copy(memberCount = 0, members = emptyList())
+        evaluate(Filters.`in`("members", "alice"), withoutMembers) `should be equal to` null
+        evaluate(Filters.eq("pinned", false), channel.copy(membership = null)) `should be equal to` null
+    }
+
+    @Test
+    fun `Undecided children should only decide logical filters when the result is certain`() {
+        val undecided = Filters.eq("unknown_field", "value")
+
+        evaluate(Filters.and(undecided, Filters.eq("type", "team"))) `should be equal to` false
+        evaluate(Filters.and(undecided, Filters.eq("type", "messaging"))) `should be equal to` null
+        evaluate(Filters.or(undecided, Filters.eq("type", "messaging"))) `should be equal to` true
+        evaluate(Filters.or(undecided, Filters.eq("type", "team"))) `should be equal to` null
+    }
+
+    @Test
+    fun `Known nullable fields should support exists`() {
+        evaluate(Filters.exists("last_message_at")) `should be equal to` true
+        evaluate(Filters.notExists("last_message_at"), channel.copy(lastMessageAt = null)) `should be equal to` true
+        evaluate(Filters.exists("deleted_at")) `should be equal to` false
+    }
+
+    @Test
+    fun `Distinct filter should match channels with exactly the given members`() {
+        val distinctChannel = channel.copy(id = "!members-abc")
+
+        evaluate(Filters.distinct(listOf("alice", "bob")), distinctChannel) `should be equal to` true
+        evaluate(Filters.distinct(listOf("alice")), distinctChannel) `should be equal to` false
+        evaluate(Filters.distinct(listOf("alice", "bob"))) `should be equal to` false
+    }
+
+    @Test
+    fun `Predicates should evaluate members, users and messages`() {
+        val member = Member(user = alice, channelRole = "channel_moderator")
+        val message = Message(text = "hi", user = bob, mentionedUsersIds = listOf("alice"))
+        val isModerator = FilterPredicate.forMembers(Filters.eq("channel_role", "channel_moderator"))
+        val isBuilder = FilterPredicate.forUsers(Filters.autocomplete("name", "bui"))
+        val isFromBob = FilterPredicate.forMessages(Filters.eq("user.id", "bob"))
+        val mentionsCarol = FilterPredicate.forMessages(Filters.`in`("mentioned_users.id", "carol"))
+
+        isModerator.evaluate(member) `should be equal to` true
+        isBuilder.evaluate(bob) `should be equal to` true
+        isFromBob.evaluate(message) `should be equal to` true
+        mentionsCarol.evaluate(message) `should be equal to` false
+    }
+
+    private fun evaluate(filter: FilterObject, target: Channel = channel): Boolean? =
+        FilterPredicate.forChannels(filter).evaluate(target)
+}
@@ -33,6 +33,7 @@ import io.getstream.chat.android.test.asCall
 import io.getstream.result.Error
 import kotlinx.coroutines.test.runTest
 import org.junit.Test
+import org.junit.jupiter.api.Assertions.assertEquals
 import org.junit.jupiter.api.Assertions.assertFalse
 import org.junit.jupiter.api.Assertions.assertTrue
 import org.mockito.kotlin.any
@@ -66,6 +67,17 @@ internal class MessageReceiptManagerTest {
         assertTrue(result)
     }
 
+    @Test
+    fun `notify when receipts are stored`() = runTest {
+        var notified = 0
+        val fixture = Fixture()
+        val sut = fixture.get(onReceiptsStored = { notified++ })
+
+        sut.markMessageAsDelivered(DeliverableMessage)
+
+        assertEquals(1, notified)
+    }
+
     @Test
     fun `fetch channel from API when channel is not found from repository`() = runTest {
         val message = DeliverableMessage
@@ -434,11 +446,12 @@ internal class MessageReceiptManagerTest {
             }
         }
 
-        fun get() = MessageReceiptManager(
+        fun get(onReceiptsStored: () -> Unit = {}) = MessageReceiptManager(
             now = { Now },
             getRepositoryFacade = { mockRepositoryFacade },
             messageReceiptRepository = mockMessageReceiptRepository,
             api = mockChatApi,
+            onReceiptsStored = onReceiptsStored,
         )
     }
 }
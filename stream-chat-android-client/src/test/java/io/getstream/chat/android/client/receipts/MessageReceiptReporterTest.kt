@@ -29,6 +29,7 @@ import kotlinx.coroutines.test.advanceTimeBy
 import kotlinx.coroutines.test.runTest
 import org.junit.Test
 import org.mockito.kotlin.any
+import org.mockito.kotlin.doAnswer
 import org.mockito.kotlin.doReturn
 import org.mockito.kotlin.mock
 import org.mockito.kotlin.never
@@ -102,7 +103,7 @@ internal class MessageReceiptReporterTest {
     }
 
     @Test
-    fun `should execute periodically with correct delay`() = runTest {
+    fun `should not poll when no receipts are enqueued`() = runTest {
         val fixture = Fixture()
             .givenMessageReceipts(listOf(randomMessageReceipt()))
             .givenMarkDelivered()
@@ -111,13 +112,99 @@ internal class MessageReceiptReporterTest {
         sut.start()
         advanceTimeBy(100) // Allow initial execution
 
-        advanceTimeBy(1000) // Advance to the second interval
+        advanceTimeBy(10_000)
 
-        advanceTimeBy(1000) // Advance to the third interval
+        fixture.verifyMarkDeliveredCalled(times(1))
+    }
+
+    @Test
+    fun `should report enqueued receipts after the debounce`() = runTest {
+        val fixture = Fixture()
+            .givenMessageReceipts(listOf(randomMessageReceipt()))
+            .givenMarkDelivered()
+        val sut = fixture.get(backgroundScope)
+
+        sut.start()
+        advanceTimeBy(100) // Allow initial execution
+
+        sut.onReceiptsEnqueued()
+        sut.onReceiptsEnqueued()
+        advanceTimeBy(500)
+        fixture.verifyMarkDeliveredCalled(times(1))
+
+        advanceTimeBy(600)
+        fixture.verifyMarkDeliveredCalled(times(2))
+    }
+
+    @Test
+    fun `should report enqueued receipts immediately when flushed`() = runTest {
+        val fixture = Fixture()
+            .givenMessageReceipts(listOf(randomMessageReceipt()))
+            .givenMarkDelivered()
+        val sut = fixture.get(backgroundScope)
+
+        sut.start()
+        advanceTimeBy(100) // Allow initial execution
+
+        sut.onReceiptsEnqueued()
+        sut.flush()
+        advanceTimeBy(100)
+
+        fixture.verifyMarkDeliveredCalled(times(2))
+    }
+
+    @Test
+    fun `should back off exponentially when marking messages as delivered fails`() = runTest {
+        val fixture = Fixture()
+            .givenMessageReceipts(listOf(randomMessageReceipt()))
+            .givenMarkDelivered(error = mock())
+        val sut = fixture.get(backgroundScope)
+
+        sut.start()
+        advanceTimeBy(100) // Allow initial execution
+        fixture.verifyMarkDeliveredCalled(times(1))
 
-        advanceTimeBy(1000) // Advance to the fourth interval
+        advanceTimeBy(1000) // First retry after 1s
+        fixture.verifyMarkDeliveredCalled(times(2))
+
+        advanceTimeBy(1000) // Second retry waits 2s
+        fixture.verifyMarkDeliveredCalled(times(2))
 
-        fixture.verifyMarkDeliveredCalled(times(4))
+        advanceTimeBy(1000)
+        fixture.verifyMarkDeliveredCalled(times(3))
+    }
+
+    @Test
+    fun `should retry immediately when flushed during the backoff`() = runTest {
+        val fixture = Fixture()
+            .givenMessageReceipts(listOf(randomMessageReceipt()))
+            .givenMarkDelivered(error = mock())
+        val sut = fixture.get(backgroundScope)
+
+        sut.start()
+        advanceTimeBy(100) // Allow initial execution
+        fixture.verifyMarkDeliveredCalled(times(1))
+
+        sut.flush()
+        advanceTimeBy(100)
+
+        fixture.verifyMarkDeliveredCalled(times(2))
+    }
+
+    @Test
+    fun `should not skip the next debounce when a flush is served by the following batch`() = runTest {
+        val fixture = Fixture()
+            .givenMessageReceiptBatches(List(100) { randomMessageReceipt() }, emptyList())
+        val sut = fixture.get(backgroundScope)
+        // The flush arrives while the first, full batch is being reported, so the second batch serves it
+        fixture.givenMarkDelivered(onCall = sut::flush)
+
+        sut.start()
+        advanceTimeBy(100) // Allow initial execution
+        fixture.verifySelectMessageReceiptsCalled(times(2))
+
+        advanceTimeBy(1000)
+        fixture.verifySelectMessageReceiptsCalled(times(3))
     }
 
     @Test
@@ -145,6 +232,18 @@ internal class MessageReceiptReporterTest {
             wheneverBlocking { mockMessageReceiptRepository.selectMessageReceipts(limit = 100) } doReturn receipts
         }
 
+        fun givenMessageReceiptBatches(first: List<MessageReceipt>, vararg next: List<MessageReceipt>) = apply {
+            wheneverBlocking { mockMessageReceiptRepository.selectMessageReceipts(limit = 100) }
+                .doReturn(first, *next)
+        }
+
+        fun givenMarkDelivered(onCall: () -> Unit) = apply {
+            whenever(mockApi.markDelivered(any())) doAnswer {
+                onCall()
+                Unit.asCall()
+            }
+        }
+
         fun givenMarkDelivered(messages: List<Message>? = null, error: Error? = null) = apply {
             whenever(mockApi.markDelivered(messages ?: any())) doReturn
                 (error?.asCall() ?: Unit.asCall())
@@ -157,6 +256,10 @@ internal class MessageReceiptReporterTest {
             verify(mockApi, mode).markDelivered(messages ?: any())
         }
 
+        fun verifySelectMessageReceiptsCalled(mode: VerificationMode) {
+            verifyBlocking(mockMessageReceiptRepository, mode) { selectMessageReceipts(limit = 100) }
+        }
+
         fun verifyDeleteByMessageIdsCalled(
             mode: VerificationMode = times(1),
             messageIds: List<String>? = null,
@@ -31,13 +31,18 @@ import io.getstream.chat.android.randomString
 import io.getstream.result.Error
 import io.getstream.result.Result
 import kotlinx.coroutines.launch
+import kotlinx.coroutines.test.StandardTestDispatcher
 import kotlinx.coroutines.test.runCurrent
 import kotlinx.coroutines.test.runTest
 import okhttp3.WebSocket
 import okhttp3.WebSocketListener
+import okio.BufferedSource
+import okio.ByteString.Companion.encodeUtf8
 import org.amshove.kluent.`should be equal to`
 import org.junit.jupiter.api.Test
+import org.mockito.kotlin.any
 import org.mockito.kotlin.doReturn
+import org.mockito.kotlin.eq
 import org.mockito.kotlin.mock
 import org.mockito.kotlin.verify
 import org.mockito.kotlin.whenever
@@ -49,7 +54,8 @@ internal class StreamWebSocketTest {
     private val parser = mock<ChatParser>()
     private val webSocket = mock<WebSocket>()
     private lateinit var webSocketListener: WebSocketListener
-    private val streamWebSocket = StreamWebSocket(parser) {
+    private val testDispatcher = StandardTestDispatcher()
+    private val streamWebSocket = StreamWebSocket(parser, parseDispatcher = testDispatcher) {
         webSocketListener = it
         webSocket
     }
@@ -88,7 +94,7 @@ internal class StreamWebSocketTest {
     }
 
     @Test
-    fun `When messages are received by websocket, they should be added to eventFlow`() = runTest {
+    fun `When messages are received by websocket, they should be added to eventFlow`() = runTest(testDispatcher) {
         val eventsMap = List(positiveRandomInt(50)) { mock<ChatEvent>() }.associateBy { randomString() }
         eventsMap.forEach { textEvent, chatEvent ->
             whenever(parser.fromJsonOrError(textEvent, ChatEvent::class.java)) doReturn Result.Success(chatEvent)
@@ -106,7 +112,24 @@ internal class StreamWebSocketTest {
     }
 
     @Test
-    fun `When an known error is received by websocket, it should be added to eventFlow`() = runTest {
+    fun `When a binary frame is received, it should be parsed from its bytes`() = runTest(testDispatcher) {
+        val chatEvent = mock<ChatEvent>()
+        val bytes = randomString().encodeUtf8()
+        whenever(parser.fromJsonOrError(any<BufferedSource>(), eq(ChatEvent::class.java)))
+            .doReturn(Result.Success(chatEvent))
+        val listResult = mutableListOf<StreamWebSocketEvent>()
+        val job = launch { streamWebSocket.listen().collect { listResult.add(it) } }
+        runCurrent()
+
+        webSocketListener.onMessage(webSocket, bytes)
+        runCurrent()
+
+        listResult `should be equal to` listOf(StreamWebSocketEvent.Message(chatEvent))
+        job.cancel()
+    }
+
+    @Test
+    fun `When an known error is received by websocket, it should be added to eventFlow`() = runTest(testDispatcher) {
         val textEvent = randomString()
         val code = randomInt()
         val message = randomString()
@@ -136,7 +159,7 @@ internal class StreamWebSocketTest {
     }
 
     @Test
-    fun `When an unknown error is received by websocket, it should be added to eventFlow`() = runTest {
+    fun `When an unknown error is received by websocket, it should be added to eventFlow`() = runTest(testDispatcher) {
         val textEvent = randomString()
         val cause = mock<Throwable>()
         whenever(parser.fromJsonOrError(textEvent, ChatEvent::class.java))
@@ -163,7 +186,7 @@ internal class StreamWebSocketTest {
     }
 
     @Test
-    fun `When socket is closded locally, we should reject the event within our eventFlow`() = runTest {
+    fun `When socket is closded locally, we should reject the event within our eventFlow`() = runTest(testDispatcher) {
         val listener = streamWebSocket.listen()
         val listResult = mutableListOf<StreamWebSocketEvent>()
         val job = launch { listener.collect { listResult.add(it) } }
@@ -177,7 +200,7 @@ internal class StreamWebSocketTest {
     }
 
     @Test
-    fun `When socket is closded remotelly, it should be added to our eventFlow`() = runTest {
+    fun `When socket is closded remotelly, it should be added to our eventFlow`() = runTest(testDispatcher) {
         val listener = streamWebSocket.listen()
         val listResult = mutableListOf<StreamWebSocketEvent>()
         val job = launch { listener.collect { listResult.add(it) } }
@@ -195,4 +218,65 @@ internal class StreamWebSocketTest {
         )
         job.cancel()
     }
+
+    @Test
+    fun `When frames arrive faster than they are parsed, overflow should be reported`() = runTest(testDispatcher) {
+        val bufferCapacity = 2
+        val droppedFrames = 3
+        val streamWebSocket = StreamWebSocket(parser, testDispatcher, bufferCapacity) {
+            webSocketListener = it
+            webSocket
+        }
+        val eventsMap = List(bufferCapacity + droppedFrames) { mock<ChatEvent>() }.associateBy { randomString() }
+        eventsMap.forEach { textEvent, chatEvent ->
+            whenever(parser.fromJsonOrError(textEvent, ChatEvent::class.java)) doReturn Result.Success(chatEvent)
+        }
+
+        eventsMap.keys.forEach { textEvent -> webSocketListener.onMessage(webSocket, textEvent) }
+        val listResult = mutableListOf<StreamWebSocketEvent>()
+        val job = launch { streamWebSocket.listen().collect { listResult.add(it) } }
+        runCurrent()
+
+        val acceptedEvents = eventsMap.values.take(bufferCapacity)
+        listResult `should be equal to` listOf(
+            StreamWebSocketEvent.Message(acceptedEvents[0]),
+            StreamWebSocketEvent.Overflow(droppedFrames.toLong()),
+            StreamWebSocketEvent.Message(acceptedEvents[1]),
+        )
+        streamWebSocket.droppedFrameCount `should be equal to` droppedFrames.toLong()
+        job.cancel()
+    }
+
+    @Test
+    fun `When the frame queue is full, a socket failure should still be delivered`() = runTest(testDispatcher) {
+        val bufferCapacity = 1
+        val streamWebSocket = StreamWebSocket(parser, testDispatcher, bufferCapacity) {
+            webSocketListener = it
+            webSocket
+        }
+        val textEvents = List(bufferCapacity + 1) { randomString() }
+        val chatEvent = mock<ChatEvent>()
+        textEvents.forEach { textEvent ->
+            whenever(parser.fromJsonOrError(textEvent, ChatEvent::class.java)) doReturn Result.Success(chatEvent)
+        }
+        val cause = IllegalStateException()
+
+        textEvents.forEach { textEvent -> webSocketListener.onMessage(webSocket, textEvent) }
+        webSocketListener.onFailure(webSocket, cause, null)
+        val listResult = mutableListOf<StreamWebSocketEvent>()
+        val job = launch { streamWebSocket.listen().collect { listResult.add(it) } }
+        runCurrent()
+
+        listResult `should be equal to` listOf(
+            StreamWebSocketEvent.Message(chatEvent),
+            StreamWebSocketEvent.Overflow(1),
+            StreamWebSocketEvent.Error(
+                Error.NetworkError.fromChatErrorCode(
+                    chatErrorCode = ChatErrorCode.SOCKET_FAILURE,
+                    cause = cause,
+                ),
+            ),
+        )
+        job.cancel()
+    }
 }
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.client.utils.internal
+
+import com.squareup.moshi.JsonReader
+import io.getstream.chat.android.client.extensions.getBoolean
+import io.getstream.chat.android.client.extensions.getDouble
+import io.getstream.chat.android.client.extensions.getInt
+import io.getstream.chat.android.client.extensions.getLong
+import io.getstream.chat.android.client.extensions.getString
+import okio.Buffer
+import org.amshove.kluent.`should be`
+import org.amshove.kluent.`should be equal to`
+import org.amshove.kluent.`should be instance of`
+import org.amshove.kluent.`should be null`
+import org.junit.jupiter.api.Test
+
+internal class LazyExtraDataTest {
+
+    @Test
+    fun `of returns an empty map when there is nothing to decode`() {
+        LazyExtraData.of(null) `should be equal to` emptyMap()
+        LazyExtraData.of("") `should be equal to` emptyMap()
+        LazyExtraData.of("null") `should be equal to` emptyMap()
+        LazyExtraData.of("{}") `should be equal to` emptyMap()
+    }
+
+    @Test
+    fun `decodes values the same way as a Moshi map`() {
+        val extraData = LazyExtraData.of("""{"name":"John","count":3,"flags":[true],"nested":{"a":1}}""")
+
+        extraData `should be equal to` mapOf(
+            "name" to "John",
+            "count" to 3.0,
+            "flags" to listOf(true),
+            "nested" to mapOf("a" to 1.0),
+        )
+    }
+
+    @Test
+    fun `last of duplicate keys wins`() {
+        val extraData = LazyExtraData.of("""{"name":"John","name":"Jane"}""")
+
+        extraData `should be equal to` mapOf("name" to "Jane")
+        extraData.getString("name") `should be equal to` "Jane"
+    }
+
+    @Test
+    fun `typed accessors read values without a Double round trip`() {
+        val extraData = LazyExtraData.of(
+            """{"id":9007199254740993,"count":3,"ratio":0.5,"name":"John","muted":true}""",
+        )
+
+        extraData.getLong("id") `should be equal to` 9007199254740993L
+        extraData.getInt("count") `should be equal to` 3
+        extraData.getDouble("ratio") `should be equal to` 0.5
+        extraData.getString("name") `should be equal to` "John"
+        extraData.getBoolean("muted") `should be equal to` true
+    }
+
+    @Test
+    fun `typed accessors return null for missing keys and mismatched types`() {
+        val extraData = LazyExtraData.of("""{"ratio":0.5,"name":"John"}""")
+
+        extraData.getString("missing").`should be null`()
+        extraData.getString("ratio").`should be null`()
+        extraData.getLong("name").`should be null`()
+        extraData.getLong("ratio").`should be null`()
+    }
+
+    @Test
+    fun `typed accessors read plain maps`() {
+        val extraData = mapOf("id" to 3L, "count" to 3.0, "ratio" to 0.5, "name" to "John", "muted" to true)
+
+        extraData.getLong("id") `should be equal to` 3L
+        extraData.getInt("count") `should be equal to` 3
+        extraData.getDouble("ratio") `should be equal to` 0.5
+        extraData.getString("name") `should be equal to` "John"
+        extraData.getBoolean("muted") `should be equal to` true
+        extraData.getLong("ratio").`should be null`()
+        extraData.getString("count").`should be null`()
+    }
+
+    @Test
+    fun `keeps the raw JSON`() {
+        val json = """{"count":3,"name":"John"}"""
+        val extraData = LazyExtraData.of(json) as LazyExtraData
+
+        extraData["count"] `should be equal to` 3.0
+        extraData.toJson() `should be equal to` json
+    }
+
+    @Test
+    fun `malformed JSON is decoded as an empty map`() {
+        val extraData = LazyExtraData.of("""{"name":""")
+
+        extraData `should be equal to` emptyMap()
+    }
+
+    @Test
+    fun `builder collects raw values`() {
+        val reader = JsonReader.of(Buffer().writeUtf8("""{"count":3,"nested":{"a":[1,2]}}"""))
+        val builder = LazyExtraData.Builder()
+        reader.beginObject()
+        while (reader.hasNext()) {
+            builder.add(reader.nextName(), reader)
+        }
+        reader.endObject()
+
+        val extraData = builder.build()
+
+        extraData `should be instance of` LazyExtraData::class
+        (extraData as LazyExtraData).toJson() `should be equal to` """{"count":3,"nested":{"a":[1,2]}}"""
+    }
+
+    @Test
+    fun `builder without values builds an empty map`() {
+        LazyExtraData.Builder().build() `should be equal to` emptyMap()
+    }
+
+    @Test
+    fun `copyExtraData keeps lazy extra data as is`() {
+        val extraData = LazyExtraData.of("""{"name":"John"}""")
+
+        extraData.copyExtraData() `should be` extraData
+    }
+}
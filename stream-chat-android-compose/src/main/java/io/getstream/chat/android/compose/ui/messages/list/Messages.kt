@@ -57,6 +57,7 @@ import io.getstream.chat.android.compose.ui.theme.MessageListLoadingMoreItemCont
 import io.getstream.chat.android.compose.ui.theme.ScrollToBottomButtonParams
 import io.getstream.chat.android.compose.ui.theme.ScrollToFirstUnreadButtonParams
 import io.getstream.chat.android.compose.ui.theme.StreamTokens
+import io.getstream.chat.android.compose.ui.util.prewarm
 import io.getstream.chat.android.compose.util.isAppInForegroundAsState
 import io.getstream.chat.android.models.Message
 import io.getstream.chat.android.ui.common.state.messages.list.HasMessageListItemState
@@ -283,6 +284,12 @@ internal fun Messages(
         }
     }
 
+    // Builds the message texts off the main thread, so the items are served from the cache when composed.
+    val messageTextFormatter = ChatTheme.messageTextFormatter
+    LaunchedEffect(messages, messageTextFormatter) {
+        messageTextFormatter.prewarm(messages)
+    }
+
     // Notifies the bottom-most item every time it changes, and the app is in the foreground.
     val isAppInForeground by isAppInForegroundAsState()
     LaunchedEffect(lazyListState, messages, isAppInForeground) {
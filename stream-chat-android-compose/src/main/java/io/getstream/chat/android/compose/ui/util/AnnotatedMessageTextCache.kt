@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.compose.ui.util
+
+import android.util.LruCache
+import androidx.compose.ui.graphics.Color
+import androidx.compose.ui.text.AnnotatedString
+import androidx.compose.ui.text.TextStyle
+import androidx.compose.ui.text.font.FontStyle
+import java.util.Date
+
+/**
+ * Process-wide cache of the [AnnotatedString]s built for message texts, so the link and mention
+ * passes of [buildAnnotatedMessageText] do not run again on every recomposition or when a message
+ * scrolls back into view.
+ *
+ * The cache is bounded by the total number of characters of the cached texts.
+ */
+internal object AnnotatedMessageTextCache {
+
+    private const val MAX_SIZE_IN_CHARS = 512 * 1024
+
+    private val cache = object : LruCache<Key, AnnotatedString>(MAX_SIZE_IN_CHARS) {
+        override fun sizeOf(key: Key, value: AnnotatedString): Int = value.length + 1
+    }
+
+    /**
+     * Returns the cached text for the [key], or builds and caches it with [build].
+     */
+    fun getOrPut(key: Key, build: () -> AnnotatedString): AnnotatedString =
+        cache.get(key) ?: build().also { cache.put(key, it) }
+
+    /**
+     * Identifies a built message text by its message and every input that changes how it looks.
+     */
+    data class Key(
+        val messageId: String,
+        val updatedAt: Date?,
+        val text: String,
+        val textColor: Color,
+        val textFontStyle: FontStyle?,
+        val linkStyle: TextStyle,
+        val mentions: List<TextMention>,
+    )
+}
@@ -25,10 +25,15 @@ import io.getstream.chat.android.compose.ui.theme.ChatTheme
 import io.getstream.chat.android.compose.ui.theme.MessageStyling
 import io.getstream.chat.android.compose.ui.theme.StreamDesign
 import io.getstream.chat.android.compose.ui.theme.TranslationConfig
+import io.getstream.chat.android.core.internal.coroutines.DispatcherProvider
 import io.getstream.chat.android.models.Message
 import io.getstream.chat.android.models.User
 import io.getstream.chat.android.ui.common.feature.messages.translations.MessageOriginalTranslationsStore
+import io.getstream.chat.android.ui.common.state.messages.list.MessageItemState
+import io.getstream.chat.android.ui.common.state.messages.list.MessageListItemState
 import io.getstream.chat.android.ui.common.utils.extensions.isMine
+import kotlinx.coroutines.ensureActive
+import kotlinx.coroutines.withContext
 
 /**
  * An interface that allows to format the message text.
@@ -107,7 +112,7 @@ public fun interface MessageTextFormatter {
 public typealias AnnotatedMessageTextBuilder = AnnotatedString.Builder.(message: Message, currentUser: User?) -> Unit
 
 private class CompositeMessageTextFormatter(
-    private val formatters: List<MessageTextFormatter>,
+    val formatters: List<MessageTextFormatter>,
 ) : MessageTextFormatter {
 
     override fun format(message: Message, currentUser: User?): AnnotatedString {
@@ -136,6 +141,35 @@ private class DefaultMessageTextFormatter(
 ) : MessageTextFormatter {
 
     override fun format(message: Message, currentUser: User?): AnnotatedString {
+        val key = cacheKey(message, currentUser)
+        // A custom builder can depend on anything, so its output is never cached
+        if (builder != null) return build(key) { builder.invoke(this, message, currentUser) }
+        return AnnotatedMessageTextCache.getOrPut(key) { build(key) }
+    }
+
+    /**
+     * Returns the cache key of the [message] text, or null if the text is never cached.
+     * Invokes the style lambdas, so it has to be called on the thread the formatter is used on.
+     */
+    fun cacheKeyOrNull(message: Message, currentUser: User?): AnnotatedMessageTextCache.Key? =
+        cacheKey(message, currentUser).takeIf { builder == null }
+
+    /**
+     * Builds the text described by the [key]. Safe to call from any thread.
+     */
+    fun build(
+        key: AnnotatedMessageTextCache.Key,
+        extra: AnnotatedString.Builder.() -> Unit = {},
+    ): AnnotatedString = buildAnnotatedMessageText(
+        text = key.text,
+        textColor = key.textColor,
+        textFontStyle = key.textFontStyle,
+        linkStyle = key.linkStyle,
+        mentions = key.mentions,
+        builder = extra,
+    )
+
+    private fun cacheKey(message: Message, currentUser: User?): AnnotatedMessageTextCache.Key {
         val displayedText = when (autoTranslationEnabled) {
             true -> {
                 // If auto-translation is enabled, we check if the message is showing original text.
@@ -154,17 +188,44 @@ private class DefaultMessageTextFormatter(
             else -> message.text
         }
         val isMine = message.isMine(currentUser)
-        val textColor = textStyle(isMine, message).color
-        val linkStyle = linkStyle(isMine)
-        return buildAnnotatedMessageText(
+        return AnnotatedMessageTextCache.Key(
+            messageId = message.id,
+            updatedAt = message.updatedAt,
             text = displayedText,
-            textColor = textColor,
+            textColor = textStyle(isMine, message).color,
             textFontStyle = typography.bodyDefault.fontStyle,
-            linkStyle = linkStyle,
+            linkStyle = linkStyle(isMine),
             mentions = message.collectTextMentions(colors = colors, textColorOverride = mentionColor(isMine)),
-            builder = {
-                builder?.invoke(this, message, currentUser)
-            },
         )
     }
 }
+
+/**
+ * Formats the texts of the messages in [items] ahead of time, so they are served from the
+ * [AnnotatedMessageTextCache] when composed. Only the default formatters are cached, so custom
+ * formatters are left alone.
+ *
+ * The style lambdas of the formatters are provided by the integrator, so they are invoked in the caller's
+ * context (the main thread when called from composition). Only the texts are built on the IO dispatcher.
+ */
+internal suspend fun MessageTextFormatter.prewarm(items: List<MessageListItemState>) {
+    val prewarms = prewarmsFor(items)
+    if (prewarms.isEmpty()) return
+    withContext(DispatcherProvider.IO) {
+        prewarms.forEach { (formatter, key) ->
+            ensureActive()
+            AnnotatedMessageTextCache.getOrPut(key) { formatter.build(key) }
+        }
+    }
+}
+
+private fun MessageTextFormatter.prewarmsFor(
+    items: List<MessageListItemState>,
+): List<Pair<DefaultMessageTextFormatter, AnnotatedMessageTextCache.Key>> = when (this) {
+    is DefaultMessageTextFormatter -> items.mapNotNull { item ->
+        (item as? MessageItemState)?.let { cacheKeyOrNull(it.message, it.currentUser) }?.let { this to it }
+    }
+
+    is CompositeMessageTextFormatter -> formatters.flatMap { it.prewarmsFor(items) }
+    else -> emptyList()
+}
@@ -31,7 +31,7 @@ import androidx.core.util.PatternsCompat
 import io.getstream.chat.android.compose.ui.theme.StreamDesign
 import io.getstream.chat.android.models.Message
 import io.getstream.chat.android.ui.common.feature.messages.composer.mention.Mention
-import io.getstream.chat.android.ui.common.feature.messages.composer.mention.mentionRegex
+import io.getstream.chat.android.ui.common.feature.messages.composer.mention.MentionMatcher
 import java.util.regex.Pattern
 
 internal typealias AnnotationTag = String
@@ -178,9 +178,7 @@ internal fun buildAnnotatedMessageText(
             schemes = EMAIL_SCHEMES,
             textStyle = linkStyle,
         )
-        mentions.forEach { mention ->
-            tagMention(text = text, mention = mention)
-        }
+        tagMentions(text = text, mentions = mentions)
 
         // Finally, we apply any additional styling that was passed in.
         builder(this)
@@ -295,27 +293,29 @@ private fun AnnotatedString.Builder.linkify(
 }
 
 /**
- * Tags every word-bounded `@<token>` occurrence in [text] with [mention]'s annotation tag and
- * styles it with [mention]'s color.
+ * Tags every word-bounded `@<token>` occurrence in [text] with the annotation tag of the matching
+ * [mentions] and styles it with their color. All the mentions are found in a single pass.
  */
-private fun AnnotatedString.Builder.tagMention(
+private fun AnnotatedString.Builder.tagMentions(
     text: String,
-    mention: TextMention,
+    mentions: List<TextMention>,
 ) {
-    if (mention.token.isEmpty()) return
-    val pattern = mentionRegex(mention.token)
-    pattern.findAll(text).forEach { match ->
-        addStyle(
-            style = SpanStyle(color = mention.color, background = mention.background),
-            start = match.range.first,
-            end = match.range.last + 1,
-        )
-        addStringAnnotation(
-            tag = mention.annotationTag,
-            annotation = mention.token,
-            start = match.range.first,
-            end = match.range.last + 1,
-        )
+    if (mentions.isEmpty()) return
+    val mentionsByToken = mentions.groupBy(TextMention::token)
+    MentionMatcher(mentionsByToken.keys).findAll(text).forEach { match ->
+        mentionsByToken[match.token]?.forEach { mention ->
+            addStyle(
+                style = SpanStyle(color = mention.color, background = mention.background),
+                start = match.start,
+                end = match.end,
+            )
+            addStringAnnotation(
+                tag = mention.annotationTag,
+                annotation = mention.token,
+                start = match.start,
+                end = match.end,
+            )
+        }
     }
 }
 
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.compose.ui.util
+
+import androidx.compose.ui.graphics.Color
+import androidx.compose.ui.text.AnnotatedString
+import androidx.compose.ui.text.TextStyle
+import androidx.compose.ui.text.font.FontStyle
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import io.getstream.chat.android.randomString
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertSame
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.annotation.Config
+import java.util.Date
+
+@RunWith(AndroidJUnit4::class)
+@Config(sdk = [33])
+internal class AnnotatedMessageTextCacheTest {
+
+    @Test
+    fun `returns the cached text for an equal key`() {
+        val key = randomKey()
+        var builds = 0
+
+        val build = {
+            builds++
+            AnnotatedString(key.text)
+        }
+
+        val first = AnnotatedMessageTextCache.getOrPut(key, build)
+        val second = AnnotatedMessageTextCache.getOrPut(key.copy(), build)
+
+        assertEquals(1, builds)
+        assertSame(first, second)
+    }
+
+    @Test
+    fun `builds the text again when a style input changes`() {
+        val key = randomKey()
+        AnnotatedMessageTextCache.getOrPut(key) { AnnotatedString(key.text) }
+        var builds = 0
+
+        val restyled = AnnotatedMessageTextCache.getOrPut(key.copy(linkStyle = TextStyle(color = Color.Red))) {
+            builds++
+            AnnotatedString("restyled")
+        }
+        val recolored = AnnotatedMessageTextCache.getOrPut(key.copy(textColor = Color.Blue)) {
+            builds++
+            AnnotatedString("recolored")
+        }
+
+        assertEquals(2, builds)
+        assertEquals("restyled", restyled.text)
+        assertEquals("recolored", recolored.text)
+    }
+
+    @Test
+    fun `builds the text again when the message is updated`() {
+        val key = randomKey()
+        AnnotatedMessageTextCache.getOrPut(key) { AnnotatedString(key.text) }
+
+        val updated = AnnotatedMessageTextCache.getOrPut(key.copy(updatedAt = Date(UPDATED_AT))) {
+            AnnotatedString("updated")
+        }
+
+        assertEquals("updated", updated.text)
+    }
+
+    private fun randomKey() = AnnotatedMessageTextCache.Key(
+        messageId = randomString(),
+        updatedAt = null,
+        text = randomString(),
+        textColor = Color.Black,
+        textFontStyle = FontStyle.Normal,
+        linkStyle = TextStyle(color = Color.Blue),
+        mentions = emptyList(),
+    )
+
+    private companion object {
+        private const val UPDATED_AT = 1_000L
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.models
+
+import androidx.compose.runtime.Immutable
+
+/**
+ * Model representing a message found by a local, full-text message search.
+ */
+@Immutable
+public data class MessageSearchHit(
+    /**
+     * The message that matched the search query.
+     */
+    val message: Message,
+
+    /**
+     * An excerpt of the message text around the matched words, with each match wrapped in
+     * `<b>` and `</b>` tags.
+     */
+    val snippet: String,
+)
@@ -28,11 +28,24 @@ public abstract class BaseQuerySort<T : Any> : QuerySorter<T> {
 
     override var sortSpecifications: List<SortSpecification<T>> = emptyList()
 
+    /**
+     * The comparator built for [sortSpecifications], reused until the specifications change.
+     */
+    @Volatile
+    private var compiledComparator: CompiledComparator<T>? = null
+
     /**
      * Comparator class that will be generator by the sort specifications.
      */
     override val comparator: Comparator<in T>
-        get() = CompositeComparator(sortSpecifications.map { it.comparator })
+        get() {
+            val specifications = sortSpecifications
+            compiledComparator
+                ?.takeIf { it.specifications === specifications }
+                ?.let { return it.comparator }
+            return CompositeComparator(specifications.map { it.comparator })
+                .also { compiledComparator = CompiledComparator(specifications, it) }
+        }
 
     private val SortSpecification<T>.comparator: Comparator<T>
         get() {
@@ -82,3 +95,8 @@ public abstract class BaseQuerySort<T : Any> : QuerySorter<T> {
         return true
     }
 }
+
+private class CompiledComparator<T>(
+    val specifications: List<SortSpecification<T>>,
+    val comparator: Comparator<in T>,
+)
@@ -18,7 +18,7 @@ package io.getstream.chat.android.models.querysort
 
 import io.getstream.chat.android.models.querysort.internal.SortAttribute
 import io.getstream.chat.android.models.querysort.internal.SortSpecification
-import io.getstream.chat.android.models.querysort.internal.compare
+import io.getstream.chat.android.models.querysort.internal.compareFields
 
 /**
  * Implementation of QuerySorter for fields that implements `ComparableFieldProvider`. This QuerySorter doesn't
@@ -48,10 +48,7 @@ public class QuerySortByField<T : ComparableFieldProvider> : BaseQuerySort<T>()
     private fun String.comparator(sortDirection: SortDirection): Comparator<T> =
         Comparator { o1, o2 ->
             val fieldName = this
-            val fieldOne = o1.getComparableField(fieldName) as? Comparable<Any>
-            val fieldTwo = o2.getComparableField(fieldName) as? Comparable<Any>
-
-            compare(fieldOne, fieldTwo, sortDirection)
+            compareFields(o1.getComparableField(fieldName), o2.getComparableField(fieldName), sortDirection)
         }
 
     private fun add(sortSpecification: SortSpecification<T>): QuerySortByField<T> {
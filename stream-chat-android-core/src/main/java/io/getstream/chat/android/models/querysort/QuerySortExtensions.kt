@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.models.querysort
+
+import io.getstream.chat.android.core.internal.InternalStreamChatApi
+import io.getstream.chat.android.models.querysort.internal.compareFields
+import java.util.Date
+
+/**
+ * Sorts the elements with [sort], like `sortedWith(sort.comparator)`.
+ *
+ * For a [QuerySortByField] the sort keys of every element are extracted once before sorting (a Schwartzian
+ * transform), so [ComparableFieldProvider.getComparableField] runs n times per field instead of on both sides of
+ * each of the O(n log n) comparisons, and dates are compared by their primitive time.
+ *
+ * @param sort The sort to apply.
+ * @return A new list with the elements sorted by [sort].
+ */
+@InternalStreamChatApi
+public fun <T : Any> Collection<T>.sortedWithQuery(sort: QuerySorter<T>): List<T> {
+    if (size < 2 || sort !is QuerySortByField<*>) return sortedWith(sort.comparator)
+    val specifications = sort.sortSpecifications
+    val fieldNames = Array(specifications.size) { specifications[it].sortAttribute.name }
+    val directions = Array(specifications.size) { specifications[it].sortDirection }
+    val keyed = mapTo(ArrayList(size)) { element ->
+        val provider = element as ComparableFieldProvider
+        KeyedElement(element, Array(fieldNames.size) { provider.getComparableField(fieldNames[it]).toSortKey() })
+    }
+    keyed.sortWith { first, second ->
+        for (index in directions.indices) {
+            val result = compareFields(first.keys[index], second.keys[index], directions[index])
+            if (result != QuerySorter.EQUAL_ON_COMPARISON) return@sortWith result
+        }
+        QuerySorter.EQUAL_ON_COMPARISON
+    }
+    return keyed.map(KeyedElement<T>::element)
+}
+
+private class KeyedElement<T>(val element: T, val keys: Array<Any?>)
+
+private fun Comparable<*>?.toSortKey(): Any? = if (this is Date) time else this
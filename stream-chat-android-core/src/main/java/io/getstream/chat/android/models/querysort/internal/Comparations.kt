@@ -20,6 +20,7 @@ import io.getstream.chat.android.models.querysort.QuerySorter.Companion.EQUAL_ON
 import io.getstream.chat.android.models.querysort.QuerySorter.Companion.LESS_ON_COMPARISON
 import io.getstream.chat.android.models.querysort.QuerySorter.Companion.MORE_ON_COMPARISON
 import io.getstream.chat.android.models.querysort.SortDirection
+import java.util.Date
 
 /**
  * Compares two [Comparable] values based on the given [SortDirection].
@@ -41,3 +42,29 @@ internal fun compare(
         else -> error("Impossible case!")
     }
 }
+
+/**
+ * Same as [compare], with fast paths for the field types used the most in sorts: dates and numbers are compared by
+ * their primitive values instead of going through [Comparable.compareTo].
+ *
+ * @param first The first value to compare.
+ * @param second The second value to compare.
+ * @param sortDirection The direction of sorting.
+ */
+@Suppress("UNCHECKED_CAST")
+internal fun compareFields(
+    first: Any?,
+    second: Any?,
+    sortDirection: SortDirection,
+): Int {
+    val result = when {
+        first === second -> EQUAL_ON_COMPARISON
+        first == null -> LESS_ON_COMPARISON
+        second == null -> MORE_ON_COMPARISON
+        first is Long && second is Long -> first.compareTo(second)
+        first is Int && second is Int -> first.compareTo(second)
+        first is Date && second is Date -> first.time.compareTo(second.time)
+        else -> (first as Comparable<Any>).compareTo(second)
+    }
+    return result * sortDirection.value
+}
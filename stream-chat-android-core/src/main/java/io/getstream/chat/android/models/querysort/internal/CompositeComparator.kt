@@ -25,11 +25,12 @@ import io.getstream.chat.android.models.querysort.QuerySorter
  * @param comparators The list of comparators to be combined.
  */
 internal class CompositeComparator<T>(private val comparators: List<Comparator<T>>) : Comparator<T> {
-    override fun compare(o1: T, o2: T): Int =
-        comparators.fold(QuerySorter.EQUAL_ON_COMPARISON) { currentComparisonValue, comparator ->
-            when (currentComparisonValue) {
-                QuerySorter.EQUAL_ON_COMPARISON -> comparator.compare(o1, o2)
-                else -> currentComparisonValue
-            }
+    override fun compare(o1: T, o2: T): Int {
+        // Indexed loop: no iterator allocation and no evaluation past the first difference
+        for (index in comparators.indices) {
+            val result = comparators[index].compare(o1, o2)
+            if (result != QuerySorter.EQUAL_ON_COMPARISON) return result
         }
+        return QuerySorter.EQUAL_ON_COMPARISON
+    }
 }
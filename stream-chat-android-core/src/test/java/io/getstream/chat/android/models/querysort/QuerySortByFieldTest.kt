@@ -24,6 +24,7 @@ import org.amshove.kluent.`should be equal to`
 import org.amshove.kluent.`should be instance of`
 import org.junit.jupiter.api.Assertions
 import org.junit.jupiter.api.Test
+import java.util.Date
 
 internal class QuerySortByFieldTest {
 
@@ -125,4 +126,47 @@ internal class QuerySortByFieldTest {
         // then
         sortedChannels `should be equal to` listOf(channel2, channel1)
     }
+
+    @Test
+    fun `When the sort specifications are unchanged, Then the comparator is reused`() {
+        // given
+        val querySort = QuerySortByField<Channel>().desc("last_message_at")
+        // when
+        val first = querySort.comparator
+        val second = querySort.comparator
+        // then
+        Assertions.assertSame(first, second)
+    }
+
+    @Test
+    fun `When a field is added to the sort, Then a new comparator is built`() {
+        // given
+        val querySort = QuerySortByField<Channel>().desc("last_message_at")
+        val first = querySort.comparator
+        // when
+        querySort.asc("member_count")
+        // then
+        Assertions.assertNotSame(first, querySort.comparator)
+    }
+
+    @Test
+    fun `When sorting with sortedWithQuery, Then the result is the same as with the comparator`() {
+        // given
+        val channels = List(100) { index ->
+            Channel(
+                id = "cid$index",
+                memberCount = (index * 7) % 10,
+                lastMessageAt = Date(((index * 13) % 20).toLong()).takeIf { index % 9 != 0 },
+                name = "Channel ${index % 5}",
+            )
+        }
+        val querySort = QuerySortByField<Channel>()
+            .desc("last_message_at")
+            .asc("member_count")
+            .desc("name")
+        // when
+        val sortedChannels = channels.sortedWithQuery(querySort)
+        // then
+        sortedChannels `should be equal to` channels.sortedWith(querySort.comparator)
+    }
 }
@@ -26,6 +26,7 @@ tasks.withType<KotlinCompile> {
 
 dependencies {
     implementation(project(":stream-chat-android-ui-components"))
+    implementation(libs.stream.log)
 
     implementation(libs.androidx.core.ktx)
 
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.markdown
+
+import io.getstream.log.taggedLogger
+import org.commonmark.node.Node
+import java.util.Collections
+import java.util.Date
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.Executor
+
+/**
+ * LRU cache of the parsed Markdown [Node]s of message texts, bounded by the total number of characters of the texts.
+ *
+ * Only the syntax tree is cached. The spans are rendered from it for every bind, because span instances, like the
+ * image drawables of the images plugin, hold per-view state and can't be shared between TextViews.
+ *
+ * @param maxSizeInChars The maximum number of characters of the texts whose nodes are kept. Must be positive.
+ * @param executor The executor used by [prefetch] to parse texts ahead of time.
+ * @param parse Parses a text into its Markdown [Node].
+ */
+internal class MarkdownNodeCache(
+    private val maxSizeInChars: Int,
+    private val executor: Executor,
+    private val parse: (text: String) -> Node,
+) {
+
+    private val logger by taggedLogger("Chat:MarkdownNodeCache")
+
+    private val nodes = LinkedHashMap<Key, Node>(INITIAL_CAPACITY, LOAD_FACTOR, true)
+    private var sizeInChars = 0
+
+    private val pendingKeys: MutableSet<Key> = Collections.newSetFromMap(ConcurrentHashMap())
+
+    init {
+        require(maxSizeInChars > 0) { "maxSizeInChars <= 0" }
+    }
+
+    /**
+     * Returns the cached node for the [key], or parses and caches it.
+     */
+    fun getOrParse(key: Key): Node = get(key) ?: parse(key.text).also { put(key, it) }
+
+    /**
+     * Parses the texts of the [keys] which are not cached yet on the [executor]. The [keys] are taken in order, up to
+     * the size of the cache, so prefetching doesn't evict the nodes it has just parsed.
+     */
+    fun prefetch(keys: List<Key>) {
+        var remainingChars = maxSizeInChars
+        for (key in keys) {
+            remainingChars -= key.sizeInChars
+            if (remainingChars < 0) break
+            if (get(key) == null && pendingKeys.add(key)) {
+                executor.execute {
+                    try {
+                        getOrParse(key)
+                    } catch (e: Exception) {
+                        logger.e(e) { "[prefetch] failed for message: ${key.messageId}" }
+                    } finally {
+                        pendingKeys.remove(key)
+                    }
+                }
+            }
+        }
+    }
+
+    @Synchronized
+    private fun get(key: Key): Node? = nodes[key]
+
+    @Synchronized
+    private fun put(key: Key, node: Node) {
+        if (nodes.put(key, node) == null) {
+            sizeInChars += key.sizeInChars
+        }
+        val eldestKeys = nodes.keys.iterator()
+        while (sizeInChars > maxSizeInChars && eldestKeys.hasNext()) {
+            sizeInChars -= eldestKeys.next().sizeInChars
+            eldestKeys.remove()
+        }
+    }
+
+    /**
+     * Identifies a parsed message text by its message and the displayed text.
+     */
+    data class Key(
+        val messageId: String,
+        val updatedAt: Date?,
+        val text: String,
+    ) {
+        val sizeInChars: Int get() = text.length + 1
+    }
+
+    private companion object {
+        private const val INITIAL_CAPACITY = 16
+        private const val LOAD_FACTOR = 0.75f
+    }
+}
@@ -20,6 +20,7 @@ import android.content.Context
 import android.widget.TextView
 import io.getstream.chat.android.ui.feature.messages.list.adapter.MessageListItem
 import io.getstream.chat.android.ui.helper.transformer.ChatMessageTextTransformer
+import io.getstream.chat.android.ui.helper.transformer.PrerenderingMessageTextTransformer
 import io.getstream.chat.android.ui.utils.Linkify
 import io.noties.markwon.Markwon
 import io.noties.markwon.SoftBreakAddsNewLinePlugin
@@ -27,15 +28,27 @@ import io.noties.markwon.core.CorePlugin
 import io.noties.markwon.ext.strikethrough.StrikethroughPlugin
 import io.noties.markwon.image.ImagesPlugin
 import io.noties.markwon.linkify.LinkifyPlugin
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
 
 /**
  * Markdown based implementation of [ChatMessageTextTransformer] that parses the message text as Markdown
  * and apply it to [TextView].
+ *
+ * The parsed Markdown is kept in an LRU cache keyed by the message id, its update date and the displayed text,
+ * so rebinding a message that scrolls back into view does not parse it again. The messages the list is about to
+ * display are parsed ahead of time, off the main thread, with [prerender].
+ *
+ * @param context The context used to build the Markdown renderer.
+ * @param getDisplayedText Returns the text to render for a message item.
+ * @param cacheSize The maximum number of characters of parsed Markdown kept in the cache. Must be positive.
  */
 public class MarkdownTextTransformer @JvmOverloads constructor(
     context: Context,
     private val getDisplayedText: (messageItem: MessageListItem.MessageItem) -> String = { it.message.text },
-) : ChatMessageTextTransformer {
+    cacheSize: Int = DEFAULT_CACHE_SIZE,
+) : PrerenderingMessageTextTransformer {
+
     private val markwon: Markwon = Markwon.builder(context)
         .usePlugin(CorePlugin.create())
         .usePlugin(LinkifyPlugin.create())
@@ -44,9 +57,43 @@ public class MarkdownTextTransformer @JvmOverloads constructor(
         .usePlugin(SoftBreakAddsNewLinePlugin.create())
         .build()
 
+    private val parseExecutor: ExecutorService by lazy {
+        Executors.newSingleThreadExecutor { runnable ->
+            Thread(runnable, "Chat:MarkdownPrerender").apply { isDaemon = true }
+        }
+    }
+
+    private val nodeCache = MarkdownNodeCache(
+        maxSizeInChars = cacheSize,
+        executor = { parseExecutor.execute(it) },
+        parse = { text -> markwon.parse(text.fixItalicAtEnd()) },
+    )
+
     override fun transformAndApply(textView: TextView, messageItem: MessageListItem.MessageItem) {
-        val displayedText = getDisplayedText(messageItem)
-        markwon.setMarkdown(textView, displayedText.fixItalicAtEnd())
+        // The spans are rendered for every bind, as they can't be shared between TextViews
+        val node = nodeCache.getOrParse(messageItem.cacheKey())
+        markwon.setParsedMarkdown(textView, markwon.render(node))
         Linkify.addLinks(textView, messageItem.message)
     }
+
+    /**
+     * Parses the Markdown of the given [messageItems] on a background thread, so they are served from the cache
+     * when bound. The message list calls it with the items it is about to display. Only the parsing is done ahead of
+     * time: the spans are still rendered on bind, as they can't be shared between TextViews.
+     *
+     * @param messageItems The message items to parse, the most relevant first.
+     */
+    override fun prerender(messageItems: List<MessageListItem.MessageItem>) {
+        nodeCache.prefetch(messageItems.map { it.cacheKey() })
+    }
+
+    private fun MessageListItem.MessageItem.cacheKey(): MarkdownNodeCache.Key = MarkdownNodeCache.Key(
+        messageId = message.id,
+        updatedAt = message.updatedAt,
+        text = getDisplayedText(this),
+    )
+
+    private companion object {
+        private const val DEFAULT_CACHE_SIZE = 256 * 1024
+    }
 }
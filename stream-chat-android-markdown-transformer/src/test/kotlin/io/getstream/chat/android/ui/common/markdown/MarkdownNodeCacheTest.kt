@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.ui.common.markdown
+
+import io.getstream.chat.android.markdown.MarkdownNodeCache
+import org.commonmark.node.Document
+import org.commonmark.node.Node
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertNotSame
+import org.junit.jupiter.api.Assertions.assertSame
+import org.junit.jupiter.api.Test
+import java.util.Date
+
+internal class MarkdownNodeCacheTest {
+
+    private val parsedTexts = mutableListOf<String>()
+    private val scheduledTasks = mutableListOf<Runnable>()
+
+    @Test
+    fun cachedNodeIsReturnedForTheSameKey() {
+        val cache = cache()
+        val key = MarkdownNodeCache.Key(messageId = "id", updatedAt = null, text = "*text*")
+
+        val first = cache.getOrParse(key)
+        val second = cache.getOrParse(key.copy())
+
+        assertSame(first, second)
+        assertEquals(listOf("*text*"), parsedTexts)
+    }
+
+    @Test
+    fun textIsParsedAgainWhenTheKeyChanges() {
+        val cache = cache()
+        val key = MarkdownNodeCache.Key(messageId = "id", updatedAt = null, text = "*text*")
+
+        val original = cache.getOrParse(key)
+        val edited = cache.getOrParse(key.copy(text = "**edited**"))
+        val updated = cache.getOrParse(key.copy(updatedAt = Date(UPDATED_AT)))
+
+        assertNotSame(original, edited)
+        assertNotSame(original, updated)
+        assertEquals(listOf("*text*", "**edited**", "*text*"), parsedTexts)
+    }
+
+    @Test
+    fun leastRecentlyUsedNodesAreEvictedOverTheSizeLimit() {
+        // Every key below takes 2 characters, so the cache holds 2 of them
+        val cache = cache(maxSizeInChars = 4)
+        val first = MarkdownNodeCache.Key(messageId = "1", updatedAt = null, text = "a")
+        val second = MarkdownNodeCache.Key(messageId = "2", updatedAt = null, text = "b")
+        val third = MarkdownNodeCache.Key(messageId = "3", updatedAt = null, text = "c")
+
+        cache.getOrParse(first)
+        cache.getOrParse(second)
+        cache.getOrParse(first)
+        cache.getOrParse(third)
+        cache.getOrParse(first)
+        cache.getOrParse(second)
+
+        assertEquals(listOf("a", "b", "c", "b"), parsedTexts)
+    }
+
+    @Test
+    fun prefetchParsesTheTextsOnTheExecutor() {
+        val cache = cache()
+        val cached = MarkdownNodeCache.Key(messageId = "1", updatedAt = null, text = "cached")
+        val prefetched = MarkdownNodeCache.Key(messageId = "2", updatedAt = null, text = "prefetched")
+        cache.getOrParse(cached)
+
+        cache.prefetch(listOf(cached, prefetched))
+        cache.prefetch(listOf(prefetched))
+        val parsedBeforeRun = parsedTexts.toList()
+        scheduledTasks.forEach(Runnable::run)
+        cache.getOrParse(prefetched)
+
+        assertEquals(listOf("cached"), parsedBeforeRun)
+        assertEquals(1, scheduledTasks.size)
+        assertEquals(listOf("cached", "prefetched"), parsedTexts)
+    }
+
+    @Test
+    fun prefetchStopsAtTheSizeOfTheCache() {
+        // Every key below takes 2 characters, so the cache holds 2 of them
+        val cache = cache(maxSizeInChars = 4)
+        val keys = listOf("a", "b", "c").mapIndexed { index, text ->
+            MarkdownNodeCache.Key(messageId = "$index", updatedAt = null, text = text)
+        }
+
+        cache.prefetch(keys)
+        scheduledTasks.forEach(Runnable::run)
+
+        assertEquals(listOf("a", "b"), parsedTexts)
+    }
+
+    private fun cache(maxSizeInChars: Int = MAX_SIZE_IN_CHARS) = MarkdownNodeCache(
+        maxSizeInChars = maxSizeInChars,
+        executor = { scheduledTasks += it },
+        parse = ::parse,
+    )
+
+    private fun parse(text: String): Node {
+        parsedTexts += text
+        return Document()
+    }
+
+    private companion object {
+        private const val MAX_SIZE_IN_CHARS = 1024
+        private const val UPDATED_AT = 1_000L
+    }
+}
@@ -8,6 +8,8 @@ plugins {
     alias(libs.plugins.androidx.baseline.profile)
 }
 
+apply(from = "$rootDir/scripts/jmh.gradle")
+
 android {
     namespace = "io.getstream.chat.android.ui.common"
     defaultConfig {
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.ui.common.benchmark
+
+import io.getstream.chat.android.models.Channel
+import io.getstream.chat.android.models.ChannelUserRead
+import io.getstream.chat.android.models.Member
+import io.getstream.chat.android.models.Message
+import io.getstream.chat.android.models.User
+import io.getstream.chat.android.ui.common.feature.messages.list.DateSeparatorHandler
+import io.getstream.chat.android.ui.common.feature.messages.list.MessageItemStateCache
+import io.getstream.chat.android.ui.common.feature.messages.list.MessagePositionHandler
+import io.getstream.chat.android.ui.common.feature.messages.list.groupMessageListItems
+import io.getstream.chat.android.ui.common.state.messages.list.MessageFooterVisibility
+import io.getstream.chat.android.ui.common.state.messages.list.MessageListItemState
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Fork
+import org.openjdk.jmh.annotations.Measurement
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.Warmup
+import java.util.Date
+import java.util.concurrent.TimeUnit
+
+/**
+ * Measures `groupMessageListItems`, the grouping pass `MessageListController` runs every time the message list
+ * changes: date separators, group positions, footers and the read and delivery receipts of the other members.
+ *
+ * Every invocation starts from an empty [MessageItemStateCache], so it measures a full grouping pass rather than
+ * the reuse of the previous items.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+internal open class MessageGroupingBenchmark {
+
+    @Param("30", "300", "3000")
+    @JvmField
+    var messageCount: Int = 0
+
+    private lateinit var messages: List<Message>
+    private lateinit var members: List<Member>
+    private lateinit var reads: List<ChannelUserRead>
+    private lateinit var channel: Channel
+
+    private val currentUser = User(id = "alice")
+    private val dateSeparatorHandler = DateSeparatorHandler.getDefaultDateSeparatorHandler()
+    private val messagePositionHandler = MessagePositionHandler.defaultHandler()
+    private val messageFooterVisibility = MessageFooterVisibility.LastInGroup
+
+    @Setup
+    fun setUp() {
+        val users = listOf(currentUser, User(id = "bob"))
+        messages = List(messageCount) { index ->
+            Message(
+                id = "message_$index",
+                cid = CID,
+                text = "Benchmark message $index",
+                // Runs of three messages per author, spread over several days to produce date separators.
+                user = users[(index / AUTHOR_RUN_LENGTH) % users.size],
+                createdAt = messageDate(index),
+            )
+        }
+        // Readers stopped at different points of the list, so the receipts are spread over several messages.
+        val readers = List(READER_COUNT) { User(id = "reader_$it") }
+        members = (users + readers).map { Member(user = it) }
+        reads = readers.mapIndexed { readerIndex, reader ->
+            val lastReadIndex = (messageCount - 1) - readerIndex * (messageCount / READER_COUNT)
+            ChannelUserRead(
+                user = reader,
+                lastReceivedEventDate = messageDate(lastReadIndex),
+                unreadMessages = messageCount - 1 - lastReadIndex,
+                lastRead = messageDate(lastReadIndex),
+                lastReadMessageId = messages[lastReadIndex].id,
+                lastDeliveredAt = messageDate(messageCount - 1),
+                lastDeliveredMessageId = messages.last().id,
+            )
+        }
+        channel = Channel(type = "messaging", id = "benchmark", members = members, read = reads)
+    }
+
+    @Benchmark
+    fun groupMessages(): List<MessageListItemState> = groupMessageListItems(
+        messages = messages,
+        isInThread = false,
+        reads = reads,
+        dateSeparatorHandler = dateSeparatorHandler,
+        messageFooterVisibility = messageFooterVisibility,
+        messagePositionHandler = messagePositionHandler,
+        typingUsers = emptyList(),
+        focusedMessage = null,
+        unreadLabel = null,
+        members = members,
+        endOfOlderMessages = false,
+        channel = channel,
+        ownCapabilities = emptySet(),
+        messagesInOriginalLanguage = emptySet(),
+        itemStateCache = MessageItemStateCache(),
+        currentUser = currentUser,
+        parentMessageId = null,
+        showDateSeparatorInEmptyThread = false,
+        showThreadSeparatorInEmptyThread = false,
+        onMessageFocused = {},
+    )
+
+    private fun messageDate(index: Int) = Date(BASE_TIME + index * MESSAGE_INTERVAL_MS)
+
+    private companion object {
+        private const val CID = "messaging:benchmark"
+        private const val BASE_TIME = 1_700_000_000_000L
+        private const val MESSAGE_INTERVAL_MS = 20 * 60 * 1000L
+        private const val AUTHOR_RUN_LENGTH = 3
+        private const val READER_COUNT = 5
+    }
+}
@@ -37,8 +37,8 @@ import io.getstream.chat.android.models.User
 import io.getstream.chat.android.models.UserGroup
 import io.getstream.chat.android.ui.common.feature.messages.composer.mention.Mention
 import io.getstream.chat.android.ui.common.feature.messages.composer.mention.MentionLookupHandler
+import io.getstream.chat.android.ui.common.feature.messages.composer.mention.MentionMatcher
 import io.getstream.chat.android.ui.common.feature.messages.composer.mention.UserLookupHandler
-import io.getstream.chat.android.ui.common.feature.messages.composer.mention.mentionRegex
 import io.getstream.chat.android.ui.common.feature.messages.composer.typing.TypingSuggester
 import io.getstream.chat.android.ui.common.feature.messages.composer.typing.TypingSuggestionOptions
 import io.getstream.chat.android.ui.common.helper.internal.AttachmentStorageHelper.Companion.EXTRA_SOURCE_URI
@@ -947,8 +947,9 @@ public class MessageComposerController(
         val groups = mutableMapOf<String, UserGroup>()
         var channel = false
         var here = false
+        val mentionedTokens = MentionMatcher(selectedMentions.flatMap(Mention::tokens)).findTokens(message)
         for (mention in selectedMentions) {
-            if (mention.tokens.none { mentionRegex(it).containsMatchIn(message) }) continue
+            if (mention.tokens.none(mentionedTokens::contains)) continue
             when (mention) {
                 is Mention.User -> userIds += mention.user.id
                 Mention.Channel -> channel = true
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.ui.common.feature.messages.composer.mention
+
+import io.getstream.chat.android.core.internal.InternalStreamChatApi
+
+/**
+ * Finds the mentions of several tokens (`@<token>`) in a text in a single pass.
+ *
+ * Equivalent to running [mentionRegex] for every token, but without compiling a regex and scanning the text once
+ * per token: the tokens are kept in a trie, and the text is only walked from the `@` characters that are not
+ * preceded by a word character. Matches follow the same rules as [mentionRegex]: case-sensitive, Unicode-aware
+ * word boundaries on both sides, and non-overlapping occurrences of the same token. Empty tokens never match.
+ *
+ * @param tokens The literal display texts of the mentions (without the leading `@`).
+ */
+@InternalStreamChatApi
+public class MentionMatcher(tokens: Iterable<String>) {
+
+    private val root = Node()
+
+    init {
+        tokens.forEach { token ->
+            if (token.isNotEmpty()) {
+                var node = root
+                token.forEach { char -> node = node.children.getOrPut(char, ::Node) }
+                node.token = token
+            }
+        }
+    }
+
+    /**
+     * Returns every mention found in [text], ordered by position.
+     */
+    public fun findAll(text: CharSequence): List<Match> {
+        if (root.children.isEmpty()) return emptyList()
+        val matches = ArrayList<Match>()
+        // End of the last match of each token, so occurrences of the same token never overlap
+        val lastEnds = HashMap<String, Int>()
+        var start = indexOfAt(text, 0)
+        while (start >= 0) {
+            if (start == 0 || !isWordCodePoint(Character.codePointBefore(text, start))) {
+                var node = root
+                var index = start + 1
+                while (index < text.length) {
+                    node = node.children[text[index]] ?: break
+                    index++
+                    val token = node.token ?: continue
+                    val isBounded = index == text.length || !isWordCodePoint(Character.codePointAt(text, index))
+                    if (isBounded && start >= (lastEnds[token] ?: 0)) {
+                        matches.add(Match(token = token, start = start, end = index))
+                        lastEnds[token] = index
+                    }
+                }
+            }
+            start = indexOfAt(text, start + 1)
+        }
+        return matches
+    }
+
+    /**
+     * Returns the tokens that have at least one mention in [text].
+     */
+    public fun findTokens(text: CharSequence): Set<String> = findAll(text).mapTo(HashSet(), Match::token)
+
+    private fun indexOfAt(text: CharSequence, from: Int): Int {
+        for (index in from until text.length) {
+            if (text[index] == '@') return index
+        }
+        return -1
+    }
+
+    private fun isWordCodePoint(codePoint: Int): Boolean = when (Character.getType(codePoint).toByte()) {
+        Character.UPPERCASE_LETTER,
+        Character.LOWERCASE_LETTER,
+        Character.TITLECASE_LETTER,
+        Character.MODIFIER_LETTER,
+        Character.OTHER_LETTER,
+        Character.DECIMAL_DIGIT_NUMBER,
+        Character.LETTER_NUMBER,
+        Character.OTHER_NUMBER,
+        -> true
+        else -> codePoint == '_'.code
+    }
+
+    /**
+     * A mention of [token] found in the text.
+     *
+     * @property token The token that was matched (without the leading `@`).
+     * @property start The index of the `@` in the text.
+     * @property end The index right after the end of the mention.
+     */
+    public data class Match(
+        val token: String,
+        val start: Int,
+        val end: Int,
+    )
+
+    private class Node {
+        val children = HashMap<Char, Node>()
+        var token: String? = null
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.ui.common.feature.messages.composer.query
+
+import io.getstream.chat.android.models.User
+import io.getstream.chat.android.ui.common.feature.messages.composer.query.formatter.QueryFormatter
+
+/**
+ * Search index over the names of a list of [User]s, used to serve mention suggestions.
+ *
+ * Each name (or id when the name is blank) is normalized with the [formatter] and tokenized once, when the user is
+ * first seen. Normalized names are reused across [search]es, so only new or renamed users pay for the normalization.
+ * The index keeps the users sorted by normalized name and the name tokens in a sorted array, so a [search] is a
+ * binary search for the prefix plus one pass over the matches. Updating the index and matching the query happen under
+ * the same lock, so concurrent searches over different lists never see each other's users.
+ *
+ * Every query word except the last must equal a name word, and the last one must be a prefix of a name word.
+ *
+ * @param formatter The formatter used to normalize the names and the queries.
+ */
+internal class UserSearchIndex(
+    private val formatter: QueryFormatter,
+) {
+
+    private var users: List<User> = emptyList()
+
+    /** Normalized name of each user, by position in [users]. */
+    private var names: Array<NormalizedName> = emptyArray()
+
+    /** Positions in [users], sorted by normalized name. */
+    private var order: IntArray = IntArray(0)
+
+    /** Distinct name tokens of every user, sorted, with the position of the user they belong to. */
+    private var tokens: Array<String> = emptyArray()
+    private var tokenPositions: IntArray = IntArray(0)
+
+    /**
+     * Returns the [users] matching the [query], sorted by normalized name.
+     */
+    @Synchronized
+    fun search(users: List<User>, query: String): List<User> {
+        update(users)
+        return search(query)
+    }
+
+    /**
+     * Updates the index with the given [users], normalizing only the names that are not indexed yet.
+     */
+    private fun update(users: List<User>) {
+        if (users === this.users) return
+        val previous = HashMap<String, NormalizedName>(names.size)
+        names.forEach { previous[it.source] = it }
+        val names = Array(users.size) { position ->
+            val source = users[position].searchableName()
+            previous[source] ?: normalize(source)
+        }
+        val unchanged = names.size == this.names.size && names.indices.all { names[it] === this.names[it] }
+        this.users = users
+        if (unchanged) return
+        this.names = names
+        rebuild()
+    }
+
+    /**
+     * Returns the indexed users matching the [query], sorted by normalized name.
+     */
+    private fun search(query: String): List<User> {
+        val queryTokens = formatter.format(query).tokenize()
+        if (queryTokens.isEmpty()) return order.map(users::get)
+
+        val prefix = queryTokens.last()
+        val prefixMatches = BooleanArray(users.size)
+        var index = lowerBound(prefix)
+        while (index < tokens.size && tokens[index].startsWith(prefix)) {
+            prefixMatches[tokenPositions[index]] = true
+            index++
+        }
+        val fullTokens = queryTokens.subList(0, queryTokens.lastIndex)
+        val result = ArrayList<User>()
+        for (position in order) {
+            if (prefixMatches[position] && fullTokens.all(names[position].tokens::contains)) {
+                result.add(users[position])
+            }
+        }
+        return result
+    }
+
+    private fun rebuild() {
+        // Stable sort, so users with the same name keep their relative order
+        order = names.indices.sortedBy { names[it].value }.toIntArray()
+
+        val entries = ArrayList<Pair<String, Int>>()
+        names.forEachIndexed { position, name ->
+            name.tokens.forEach { token -> entries.add(token to position) }
+        }
+        entries.sortBy { it.first }
+        tokens = Array(entries.size) { entries[it].first }
+        tokenPositions = IntArray(entries.size) { entries[it].second }
+    }
+
+    /**
+     * Returns the index of the first token that is not less than [prefix].
+     */
+    private fun lowerBound(prefix: String): Int {
+        var low = 0
+        var high = tokens.size
+        while (low < high) {
+            val mid = (low + high) ushr 1
+            if (tokens[mid] < prefix) low = mid + 1 else high = mid
+        }
+        return low
+    }
+
+    private fun normalize(source: String): NormalizedName {
+        val value = formatter.format(source)
+        return NormalizedName(source = source, value = value, tokens = value.tokenize().toSet())
+    }
+
+    private fun User.searchableName(): String = name.ifBlank(::id)
+
+    private fun String.tokenize(): List<String> = split(WHITESPACE).filter(String::isNotEmpty)
+
+    private class NormalizedName(
+        val source: String,
+        val value: String,
+        val tokens: Set<String>,
+    )
+
+    private companion object {
+        private val WHITESPACE = "\\s+".toRegex()
+    }
+}
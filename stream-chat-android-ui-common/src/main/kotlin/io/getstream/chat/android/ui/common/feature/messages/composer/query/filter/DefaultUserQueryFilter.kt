@@ -17,6 +17,7 @@
 package io.getstream.chat.android.ui.common.feature.messages.composer.query.filter
 
 import io.getstream.chat.android.models.User
+import io.getstream.chat.android.ui.common.feature.messages.composer.query.UserSearchIndex
 import io.getstream.chat.android.ui.common.feature.messages.composer.query.formatter.Combine
 import io.getstream.chat.android.ui.common.feature.messages.composer.query.formatter.IgnoreDiacritics
 import io.getstream.chat.android.ui.common.feature.messages.composer.query.formatter.Lowercase
@@ -34,6 +35,9 @@ import io.getstream.log.taggedLogger
  * alphabetically by normalized name. Normalization applies lowercasing, diacritics removal, and
  * optional transliteration.
  *
+ * Names are normalized once and kept in a search index across calls, so filtering the same or a
+ * slightly changed list of users on every keystroke only normalizes the query and the new names.
+ *
  * @param transliterator The transliterator to use for normalizing strings.
  */
 public class DefaultUserQueryFilter(
@@ -42,38 +46,16 @@ public class DefaultUserQueryFilter(
 
     private val logger by taggedLogger("Chat:QueryFilter")
 
-    private val queryFormatter = Combine(
-        Lowercase(),
-        IgnoreDiacritics(),
-        Transliterate(transliterator),
+    private val index = UserSearchIndex(
+        formatter = Combine(
+            Lowercase(),
+            IgnoreDiacritics(),
+            Transliterate(transliterator),
+        ),
     )
 
     override fun filter(items: List<User>, query: String): List<User> {
         logger.d { "[filter] query: \"$query\", items.size: ${items.size}" }
-        val queryTokens = queryFormatter.format(query).tokenize()
-        return items
-            .map { user -> user to queryFormatter.format(user.name.ifBlank(user::id)) }
-            .filter { (_, formattedName) -> matches(queryTokens, formattedName) }
-            .sortedBy { (_, formattedName) -> formattedName }
-            .map { (user, _) -> user }
-    }
-
-    private fun matches(queryTokens: List<String>, formattedName: String): Boolean {
-        if (queryTokens.isEmpty()) return true
-        val nameTokens = formattedName.tokenize()
-        val lastIndex = queryTokens.lastIndex
-        return queryTokens.withIndex().all { (i, token) ->
-            if (i == lastIndex) {
-                nameTokens.any { it.startsWith(token) }
-            } else {
-                nameTokens.any { it == token }
-            }
-        }
-    }
-
-    private fun String.tokenize(): List<String> = split(WHITESPACE).filter(String::isNotEmpty)
-
-    private companion object {
-        private val WHITESPACE = "\\s+".toRegex()
+        return index.search(items, query)
     }
 }
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.ui.common.feature.messages.list
+
+import io.getstream.chat.android.ui.common.state.messages.list.MessageItemState
+import io.getstream.chat.android.ui.common.state.messages.list.MessageListItemState
+
+/**
+ * Keeps the [MessageItemState]s of the last grouping pass so that items which did not change keep their instance.
+ *
+ * Re-grouping a message list produces equal items for every message not affected by an update. Handing out the
+ * previous instance for those lets list diffing short-circuit on identity instead of comparing every message.
+ */
+internal class MessageItemStateCache {
+
+    private var previousItems: Map<String, MessageItemState> = emptyMap()
+
+    /**
+     * Returns the previous instance for [item] if it is equal to it, otherwise [item] itself.
+     */
+    fun reuse(item: MessageItemState): MessageItemState {
+        return previousItems[item.message.id]?.takeIf { it == item } ?: item
+    }
+
+    /**
+     * Stores the [MessageItemState]s of the given [items] as the baseline for the next grouping pass.
+     */
+    fun update(items: List<MessageListItemState>) {
+        previousItems = items.filterIsInstance<MessageItemState>().associateBy { it.message.id }
+    }
+}
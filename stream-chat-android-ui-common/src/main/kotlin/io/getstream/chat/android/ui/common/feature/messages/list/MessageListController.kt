@@ -34,16 +34,12 @@ import io.getstream.chat.android.client.audio.audioHash
 import io.getstream.chat.android.client.channel.state.ChannelState
 import io.getstream.chat.android.client.errors.extractCause
 import io.getstream.chat.android.client.extensions.cidToTypeAndId
-import io.getstream.chat.android.client.extensions.deliveredReadsOf
-import io.getstream.chat.android.client.extensions.getCreatedAtOrDefault
 import io.getstream.chat.android.client.extensions.getCreatedAtOrNull
 import io.getstream.chat.android.client.extensions.internal.wasCreatedAfter
 import io.getstream.chat.android.client.setup.state.ClientState
 import io.getstream.chat.android.client.utils.attachment.isAudioRecording
-import io.getstream.chat.android.client.utils.message.isDeleted
 import io.getstream.chat.android.client.utils.message.isError
 import io.getstream.chat.android.client.utils.message.isGiphy
-import io.getstream.chat.android.client.utils.message.isModerationBounce
 import io.getstream.chat.android.client.utils.message.isModerationError
 import io.getstream.chat.android.client.utils.message.isSystem
 import io.getstream.chat.android.client.utils.message.isThreadStart
@@ -51,7 +47,6 @@ import io.getstream.chat.android.core.internal.InternalStreamChatApi
 import io.getstream.chat.android.core.internal.coroutines.DispatcherProvider
 import io.getstream.chat.android.core.internal.exhaustive
 import io.getstream.chat.android.core.utils.Debouncer
-import io.getstream.chat.android.core.utils.date.diff
 import io.getstream.chat.android.models.Attachment
 import io.getstream.chat.android.models.Channel
 import io.getstream.chat.android.models.ChannelCapabilities
@@ -85,18 +80,14 @@ import io.getstream.chat.android.ui.common.state.messages.ThreadReply
 import io.getstream.chat.android.ui.common.state.messages.UnblockUser
 import io.getstream.chat.android.ui.common.state.messages.UnmuteUser
 import io.getstream.chat.android.ui.common.state.messages.list.CancelGiphy
-import io.getstream.chat.android.ui.common.state.messages.list.DateSeparatorItemState
-import io.getstream.chat.android.ui.common.state.messages.list.EmptyThreadPlaceholderItemState
 import io.getstream.chat.android.ui.common.state.messages.list.GiphyAction
 import io.getstream.chat.android.ui.common.state.messages.list.HasMessageListItemState
 import io.getstream.chat.android.ui.common.state.messages.list.MessageFocusRemoved
-import io.getstream.chat.android.ui.common.state.messages.list.MessageFocused
 import io.getstream.chat.android.ui.common.state.messages.list.MessageFooterVisibility
 import io.getstream.chat.android.ui.common.state.messages.list.MessageItemState
 import io.getstream.chat.android.ui.common.state.messages.list.MessageListItemState
 import io.getstream.chat.android.ui.common.state.messages.list.MessageListState
 import io.getstream.chat.android.ui.common.state.messages.list.MessagePosition
-import io.getstream.chat.android.ui.common.state.messages.list.ModeratedMessageItemState
 import io.getstream.chat.android.ui.common.state.messages.list.MyOwn
 import io.getstream.chat.android.ui.common.state.messages.list.NewMessageState
 import io.getstream.chat.android.ui.common.state.messages.list.Other
@@ -107,19 +98,14 @@ import io.getstream.chat.android.ui.common.state.messages.list.SelectedMessageRe
 import io.getstream.chat.android.ui.common.state.messages.list.SelectedMessageState
 import io.getstream.chat.android.ui.common.state.messages.list.SendGiphy
 import io.getstream.chat.android.ui.common.state.messages.list.ShuffleGiphy
-import io.getstream.chat.android.ui.common.state.messages.list.StartOfTheChannelItemState
-import io.getstream.chat.android.ui.common.state.messages.list.SystemMessageItemState
-import io.getstream.chat.android.ui.common.state.messages.list.ThreadDateSeparatorItemState
 import io.getstream.chat.android.ui.common.state.messages.list.Typing
 import io.getstream.chat.android.ui.common.state.messages.list.TypingItemState
-import io.getstream.chat.android.ui.common.state.messages.list.UnreadSeparatorItemState
 import io.getstream.chat.android.ui.common.state.messages.list.lastItemOrNull
 import io.getstream.chat.android.ui.common.state.messages.list.stringify
 import io.getstream.chat.android.ui.common.state.messages.poll.PollSelectionType
 import io.getstream.chat.android.ui.common.state.messages.poll.PollState
 import io.getstream.chat.android.ui.common.state.messages.poll.SelectedPoll
 import io.getstream.chat.android.ui.common.utils.extensions.onFirst
-import io.getstream.chat.android.ui.common.utils.extensions.shouldShowMessageFooter
 import io.getstream.log.TaggedLogger
 import io.getstream.log.taggedLogger
 import io.getstream.result.Error
@@ -421,6 +407,16 @@ public class MessageListController(
      */
     private var removeFocusedMessageJob: Pair<String, Job>? = null
 
+    /**
+     * Reuses unchanged message items between grouping passes of the channel message list.
+     */
+    private val messageItemStateCache = MessageItemStateCache()
+
+    /**
+     * Reuses unchanged message items between grouping passes of the thread message list.
+     */
+    private val threadItemStateCache = MessageItemStateCache()
+
     /**
      * Whether the user is inside search or not.
      */
@@ -542,6 +538,7 @@ public class MessageListController(
                             ),
                             ownCapabilities = channel.ownCapabilities,
                             messagesInOriginalLanguage = messagesInOriginalLanguage,
+                            itemStateCache = messageItemStateCache,
                         ),
                         endOfNewMessagesReached = endOfNewerMessages,
                     )
@@ -840,6 +837,7 @@ public class MessageListController(
                         channel = null,
                         ownCapabilities = ownCapabilities,
                         messagesInOriginalLanguage = messagesInOriginalLanguage,
+                        itemStateCache = threadItemStateCache,
                     ),
                     parentMessageId = threadId,
                     endOfNewMessagesReached = true,
@@ -883,10 +881,12 @@ public class MessageListController(
      * @param endOfOlderMessages Whether we reached the end of older messages.
      * @param channel The channel we are currently in.
      * @param ownCapabilities The capabilities the current user has in the channel.
+     * @param messagesInOriginalLanguage The IDs of the messages which should show their original text.
+     * @param itemStateCache Cache used to reuse the [MessageItemState]s which did not change since the last pass.
      *
      * @return A list of [MessageListItemState]s, each containing a position.
      */
-    @Suppress("LongParameterList", "LongMethod")
+    @Suppress("LongParameterList")
     private fun groupMessages(
         messages: List<Message>,
         isInThread: Boolean,
@@ -902,152 +902,30 @@ public class MessageListController(
         channel: Channel?,
         ownCapabilities: Set<String>,
         messagesInOriginalLanguage: Set<String>,
+        itemStateCache: MessageItemStateCache,
     ): List<MessageListItemState> {
-        val parentMessageId = (_mode.value as? MessageMode.MessageThread)?.parentMessage?.id
-        val currentUser = user.value
-        val groupedMessages = mutableListOf<MessageListItemState>()
-        val membersMap = members.associateBy { it.user.id }
-        val sortedReads = reads
-            .filter { it.user.id != currentUser?.id && !it.belongsToFreshlyAddedMember(membersMap) }
-            .sortedBy { it.lastRead }
-        val lastRead = sortedReads.lastOrNull()?.lastRead
-        val channelReadsIndexed = messages
-            .withIndex()
-            .associate { (index, message) -> message.id to index }
-            .let { messageToIndex ->
-                sortedReads.mapNotNull { channelUserRead ->
-                    messageToIndex[channelUserRead.lastReadMessageId]?.let {
-                        channelUserRead to it
-                    }
-                }
-            }
-        val isThreadWithNoReplies = isInThread && messages.size == 1
-        val isThreadWithReplies = isInThread && messages.size > 1
-        val shouldAddDateSeparatorInEmptyThread = isThreadWithNoReplies && showDateSeparatorInEmptyThread
-        val shouldAddThreadSeparator = isThreadWithReplies ||
-            (isThreadWithNoReplies && showThreadSeparatorInEmptyThread)
-
-        if (endOfOlderMessages && channel != null) {
-            groupedMessages.add(StartOfTheChannelItemState(channel))
-        }
-
-        var unreadLabelAdded = false
-        var lastReadMessageFound = false
-        messages.forEachIndexed { index, message ->
-            val user = message.user
-            val previousMessage = messages.getOrNull(index - 1)
-            val nextMessage = messages.getOrNull(index + 1)
-
-            val hasDateSeparatorBefore = dateSeparatorHandler.shouldAddDateSeparator(previousMessage, message)
-            val hasDateSeparatorAfter =
-                nextMessage?.let { dateSeparatorHandler.shouldAddDateSeparator(message, it) } ?: false
-
-            val position = messagePositionHandler.handleMessagePosition(
-                previousMessage = previousMessage,
-                message = message,
-                nextMessage = nextMessage,
-                isAfterDateSeparator = hasDateSeparatorBefore,
-                isBeforeDateSeparator = hasDateSeparatorAfter,
-                isInThread = isInThread,
-            )
-
-            val isLastMessageInGroup = position == MessagePosition.BOTTOM || position == MessagePosition.NONE
-
-            val shouldShowFooter = messageFooterVisibility.shouldShowMessageFooter(
-                message = message,
-                isLastMessageInGroup = isLastMessageInGroup,
-                nextMessage = nextMessage,
-            )
-
-            if (hasDateSeparatorBefore) {
-                message.getCreatedAtOrNull()?.let { createdAt ->
-                    groupedMessages.add(DateSeparatorItemState(createdAt))
-                }
-            }
-
-            lastReadMessageFound = lastReadMessageFound || unreadLabel?.lastReadMessageId == previousMessage?.id
-
-            unreadLabel
-                ?.takeIf { lastReadMessageFound }
-                ?.takeUnless { unreadLabelAdded }
-                ?.takeUnless { message.isDeleted() }
-                ?.let { unreadLabelAdded = groupedMessages.add(UnreadSeparatorItemState(it.unreadCount)) }
-
-            if (message.isSystem()) {
-                groupedMessages.add(SystemMessageItemState(message = message))
-            } else if (message.isError() && !message.isModerationBounce()) {
-                groupedMessages.add(ModeratedMessageItemState(message = message))
-            } else {
-                val isMessageRead = message.createdAt
-                    ?.let { lastRead != null && it <= lastRead }
-                    ?: false
-
-                val messageReadBy = channelReadsIndexed
-                    .filter { it.second >= index }
-                    .map { it.first }
-
-                val isMessageDelivered = channel?.deliveredReadsOf(message)?.isEmpty() == false
-
-                val isMessageFocused = message.id == focusedMessage?.id
-                if (isMessageFocused) removeMessageFocus(message.id)
-
-                groupedMessages.add(
-                    MessageItemState(
-                        message = message,
-                        currentUser = currentUser,
-                        groupPosition = position,
-                        parentMessageId = parentMessageId,
-                        isMine = user.id == currentUser?.id,
-                        isInThread = isInThread,
-                        isMessageRead = isMessageRead,
-                        isMessageDelivered = isMessageDelivered,
-                        showMessageFooter = shouldShowFooter,
-                        messageReadBy = messageReadBy,
-                        focusState = if (isMessageFocused) MessageFocused else null,
-                        ownCapabilities = ownCapabilities,
-                        showOriginalText = messagesInOriginalLanguage.contains(message.id),
-                    ),
-                )
-            }
-
-            if (index == 0 && shouldAddThreadSeparator) {
-                groupedMessages.add(
-                    ThreadDateSeparatorItemState(
-                        date = message.getCreatedAtOrDefault(Date()),
-                        replyCount = message.replyCount,
-                    ),
-                )
-            }
-
-            if (shouldAddDateSeparatorInEmptyThread) {
-                message.getCreatedAtOrNull()?.let { createdAt ->
-                    groupedMessages.add(DateSeparatorItemState(createdAt))
-                }
-            }
-
-            if (isThreadWithNoReplies) {
-                groupedMessages.add(EmptyThreadPlaceholderItemState)
-            }
-        }
-
-        if (typingUsers.isNotEmpty()) {
-            groupedMessages.add(TypingItemState(typingUsers))
-        }
-
-        return groupedMessages
-    }
-
-    /**
-     * Checks if [ChannelUserRead] belongs to a freshly added member.
-     *
-     * It is used to determine if this member explicitly read this channel using [ChatClient.markRead].
-     */
-    private fun ChannelUserRead.belongsToFreshlyAddedMember(
-        membersMap: Map<String, Member>,
-    ): Boolean {
-        val member = membersMap[user.id]
-        val membershipAndLastReadDiff = member?.createdAt?.diff(lastRead)?.millis ?: Long.MAX_VALUE
-        return membershipAndLastReadDiff < MEMBERSHIP_AND_LAST_READ_THRESHOLD_MS
+        return groupMessageListItems(
+            messages = messages,
+            isInThread = isInThread,
+            reads = reads,
+            dateSeparatorHandler = dateSeparatorHandler,
+            messageFooterVisibility = messageFooterVisibility,
+            messagePositionHandler = messagePositionHandler,
+            typingUsers = typingUsers,
+            focusedMessage = focusedMessage,
+            unreadLabel = unreadLabel,
+            members = members,
+            endOfOlderMessages = endOfOlderMessages,
+            channel = channel,
+            ownCapabilities = ownCapabilities,
+            messagesInOriginalLanguage = messagesInOriginalLanguage,
+            itemStateCache = itemStateCache,
+            currentUser = user.value,
+            parentMessageId = (_mode.value as? MessageMode.MessageThread)?.parentMessage?.id,
+            showDateSeparatorInEmptyThread = showDateSeparatorInEmptyThread,
+            showThreadSeparatorInEmptyThread = showThreadSeparatorInEmptyThread,
+            onMessageFocused = ::removeMessageFocus,
+        )
     }
 
     /**
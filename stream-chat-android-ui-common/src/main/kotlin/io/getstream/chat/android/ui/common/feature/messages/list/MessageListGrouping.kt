@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.getstream.chat.android.ui.common.feature.messages.list
+
+import io.getstream.chat.android.client.ChatClient
+import io.getstream.chat.android.client.extensions.getCreatedAtOrDefault
+import io.getstream.chat.android.client.extensions.getCreatedAtOrNull
+import io.getstream.chat.android.client.utils.message.isDeleted
+import io.getstream.chat.android.client.utils.message.isError
+import io.getstream.chat.android.client.utils.message.isModerationBounce
+import io.getstream.chat.android.client.utils.message.isSystem
+import io.getstream.chat.android.core.utils.date.diff
+import io.getstream.chat.android.models.Channel
+import io.getstream.chat.android.models.ChannelUserRead
+import io.getstream.chat.android.models.Member
+import io.getstream.chat.android.models.Message
+import io.getstream.chat.android.models.User
+import io.getstream.chat.android.ui.common.feature.messages.list.MessageListController.UnreadLabel
+import io.getstream.chat.android.ui.common.state.messages.list.DateSeparatorItemState
+import io.getstream.chat.android.ui.common.state.messages.list.EmptyThreadPlaceholderItemState
+import io.getstream.chat.android.ui.common.state.messages.list.MessageFocused
+import io.getstream.chat.android.ui.common.state.messages.list.MessageFooterVisibility
+import io.getstream.chat.android.ui.common.state.messages.list.MessageItemState
+import io.getstream.chat.android.ui.common.state.messages.list.MessageListItemState
+import io.getstream.chat.android.ui.common.state.messages.list.MessagePosition
+import io.getstream.chat.android.ui.common.state.messages.list.ModeratedMessageItemState
+import io.getstream.chat.android.ui.common.state.messages.list.StartOfTheChannelItemState
+import io.getstream.chat.android.ui.common.state.messages.list.SystemMessageItemState
+import io.getstream.chat.android.ui.common.state.messages.list.ThreadDateSeparatorItemState
+import io.getstream.chat.android.ui.common.state.messages.list.TypingItemState
+import io.getstream.chat.android.ui.common.state.messages.list.UnreadSeparatorItemState
+import io.getstream.chat.android.ui.common.utils.extensions.shouldShowMessageFooter
+import java.util.Date
+
+/**
+ * Groups the [messages] into the items of a message list: date and thread separators, the position of every message
+ * inside its group, footers, read and delivery receipts, the unread separator and the typing indicator.
+ *
+ * Kept free of [MessageListController] state, so it can be measured on its own. See [MessageListController] for the
+ * meaning of the shared parameters.
+ *
+ * @param currentUser The currently logged in user.
+ * @param parentMessageId The id of the parent message when showing a thread.
+ * @param showDateSeparatorInEmptyThread Whether to add a date separator to a thread without replies.
+ * @param showThreadSeparatorInEmptyThread Whether to add a thread separator to a thread without replies.
+ * @param onMessageFocused Called with the id of the focused message once its item is created.
+ *
+ * @return A list of [MessageListItemState]s, each containing a position.
+ */
+@Suppress("LongParameterList", "LongMethod", "CyclomaticComplexMethod")
+internal fun groupMessageListItems(
+    messages: List<Message>,
+    isInThread: Boolean,
+    reads: List<ChannelUserRead>,
+    dateSeparatorHandler: DateSeparatorHandler,
+    messageFooterVisibility: MessageFooterVisibility,
+    messagePositionHandler: MessagePositionHandler,
+    typingUsers: List<User>,
+    focusedMessage: Message?,
+    unreadLabel: UnreadLabel?,
+    members: List<Member>,
+    endOfOlderMessages: Boolean,
+    channel: Channel?,
+    ownCapabilities: Set<String>,
+    messagesInOriginalLanguage: Set<String>,
+    itemStateCache: MessageItemStateCache,
+    currentUser: User?,
+    parentMessageId: String?,
+    showDateSeparatorInEmptyThread: Boolean,
+    showThreadSeparatorInEmptyThread: Boolean,
+    onMessageFocused: (messageId: String) -> Unit,
+): List<MessageListItemState> {
+    val groupedMessages = mutableListOf<MessageListItemState>()
+    val membersMap = members.associateBy { it.user.id }
+    val sortedReads = reads
+        .filter { it.user.id != currentUser?.id && !it.belongsToFreshlyAddedMember(membersMap) }
+        .sortedBy { it.lastRead }
+    val lastRead = sortedReads.lastOrNull()?.lastRead
+    val receipts = messages
+        .withIndex()
+        .associate { (index, message) -> message.id to index }
+        .let { messageToIndex ->
+            sortedReads.mapNotNull { channelUserRead ->
+                messageToIndex[channelUserRead.lastReadMessageId]?.let {
+                    channelUserRead to it
+                }
+            }
+        }
+        .let { channelReadsIndexed -> MessageReceiptsIndex(channelReadsIndexed, channel?.read) }
+    val isThreadWithNoReplies = isInThread && messages.size == 1
+    val isThreadWithReplies = isInThread && messages.size > 1
+    val shouldAddDateSeparatorInEmptyThread = isThreadWithNoReplies && showDateSeparatorInEmptyThread
+    val shouldAddThreadSeparator = isThreadWithReplies ||
+        (isThreadWithNoReplies && showThreadSeparatorInEmptyThread)
+
+    if (endOfOlderMessages && channel != null) {
+        groupedMessages.add(StartOfTheChannelItemState(channel))
+    }
+
+    var unreadLabelAdded = false
+    var lastReadMessageFound = false
+    messages.forEachIndexed { index, message ->
+        val user = message.user
+        val previousMessage = messages.getOrNull(index - 1)
+        val nextMessage = messages.getOrNull(index + 1)
+
+        val hasDateSeparatorBefore = dateSeparatorHandler.shouldAddDateSeparator(previousMessage, message)
+        val hasDateSeparatorAfter =
+            nextMessage?.let { dateSeparatorHandler.shouldAddDateSeparator(message, it) } ?: false
+
+        val position = messagePositionHandler.handleMessagePosition(
+            previousMessage = previousMessage,
+            message = message,
+            nextMessage = nextMessage,
+            isAfterDateSeparator = hasDateSeparatorBefore,
+            isBeforeDateSeparator = hasDateSeparatorAfter,
+            isInThread = isInThread,
+        )
+
+        val isLastMessageInGroup = position == MessagePosition.BOTTOM || position == MessagePosition.NONE
+
+        val shouldShowFooter = messageFooterVisibility.shouldShowMessageFooter(
+            message = message,
+            isLastMessageInGroup = isLastMessageInGroup,
+            nextMessage = nextMessage,
+        )
+
+        if (hasDateSeparatorBefore) {
+            message.getCreatedAtOrNull()?.let { createdAt ->
+                groupedMessages.add(DateSeparatorItemState(createdAt))
+            }
+        }
+
+        lastReadMessageFound = lastReadMessageFound || unreadLabel?.lastReadMessageId == previousMessage?.id
+
+        unreadLabel
+            ?.takeIf { lastReadMessageFound }
+            ?.takeUnless { unreadLabelAdded }
+            ?.takeUnless { message.isDeleted() }
+            ?.let { unreadLabelAdded = groupedMessages.add(UnreadSeparatorItemState(it.unreadCount)) }
+
+        if (message.isSystem()) {
+            groupedMessages.add(SystemMessageItemState(message = message))
+        } else if (message.isError() && !message.isModerationBounce()) {
+            groupedMessages.add(ModeratedMessageItemState(message = message))
+        } else {
+            val isMessageRead = message.createdAt
+                ?.let { lastRead != null && it <= lastRead }
+                ?: false
+
+            val messageReadBy = receipts.readersOf(index)
+
+            val isMessageDelivered = receipts.isDelivered(message)
+
+            val isMessageFocused = message.id == focusedMessage?.id
+            if (isMessageFocused) onMessageFocused(message.id)
+
+            groupedMessages.add(
+                itemStateCache.reuse(
+                    MessageItemState(
+                        message = message,
+                        currentUser = currentUser,
+                        groupPosition = position,
+                        parentMessageId = parentMessageId,
+                        isMine = user.id == currentUser?.id,
+                        isInThread = isInThread,
+                        isMessageRead = isMessageRead,
+                        isMessageDelivered = isMessageDelivered,
+                        showMessageFooter = shouldShowFooter,
+                        messageReadBy = messageReadBy,
+                        focusState = if (isMessageFocused) MessageFocused else null,
+                        ownCapabilities = ownCapabilities,
+                        showOriginalText = messagesInOriginalLanguage.contains(message.id),
+                    ),
+                ),
+            )
+        }
+
+        if (index == 0 && shouldAddThreadSeparator) {
+            groupedMessages.add(
+                ThreadDateSeparatorItemState(
+                    date = message.getCreatedAtOrDefault(Date()),
+                    replyCount = message.replyCount,
+                ),
+            )
+        }
+
+        if (shouldAddDateSeparatorInEmptyThread) {
+            message.getCreatedAtOrNull()?.let { createdAt ->
+                groupedMessages.add(DateSeparatorItemState(createdAt))
+            }
+        }
+
+        if (isThreadWithNoReplies) {
+            groupedMessages.add(EmptyThreadPlaceholderItemState)
+        }
+    }
+
+    if (typingUsers.isNotEmpty()) {
+        groupedMessages.add(TypingItemState(typingUsers))
+    }
+
+    itemStateCache.update(groupedMessages)
+    return groupedMessages
+}
+
+/**
+ * Checks if [ChannelUserRead] belongs to a freshly added member.
+ *
+ * It is used to determine if this member explicitly read this channel using [ChatClient.markRead].
+ */
+private fun ChannelUserRead.belongsToFreshlyAddedMember(
+    membersMap: Map<String, Member>,
+): Boolean {
+    val member = membersMap[user.id]
+    val membershipAndLastReadDiff = member?.createdAt?.diff(lastRead)?.millis ?: Long.MAX_VALUE
+    return membershipAndLastReadDiff < MessageListController.MEMBERSHIP_AND_LAST_READ_THRESHOLD_MS
+}
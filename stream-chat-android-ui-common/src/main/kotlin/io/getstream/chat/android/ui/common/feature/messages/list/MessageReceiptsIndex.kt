@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.ui.common.feature.messages.list
+
+import io.getstream.chat.android.client.extensions.getCreatedAtOrDefault
+import io.getstream.chat.android.client.extensions.internal.NEVER
+import io.getstream.chat.android.models.ChannelUserRead
+import io.getstream.chat.android.models.Message
+
+/**
+ * Resolves read and delivery receipts for the messages of a message list without scanning every read for every
+ * message.
+ *
+ * A user has read every message up to and including their last read message, so the readers of a message are all
+ * reads whose last read message sits at the same or a later position. Reads are bucketed by that position once and
+ * every message between two read positions shares the same readers list.
+ *
+ * @param readsWithPosition Reads paired with the position of their last read message, in the order readers are listed.
+ * @param deliveryReads Reads used to determine if a message was delivered, or null if delivery is not tracked.
+ */
+internal class MessageReceiptsIndex(
+    private val readsWithPosition: List<Pair<ChannelUserRead, Int>>,
+    deliveryReads: List<ChannelUserRead>?,
+) {
+    private val readPositions: IntArray = readsWithPosition.map { it.second }.distinct().sorted().toIntArray()
+    private val readersByBucket = arrayOfNulls<List<ChannelUserRead>>(readPositions.size)
+
+    private val latestDelivery: ChannelUserRead? = deliveryReads?.maxByOrNull { it.lastDeliveredAt ?: NEVER }
+    private val runnerUpDelivery: ChannelUserRead? = deliveryReads
+        ?.filter { it.user.id != latestDelivery?.user?.id }
+        ?.maxByOrNull { it.lastDeliveredAt ?: NEVER }
+
+    /**
+     * Returns the reads of the users who have read the message at the given [position].
+     */
+    fun readersOf(position: Int): List<ChannelUserRead> {
+        val searchResult = readPositions.binarySearch(position)
+        val bucket = if (searchResult < 0) -searchResult - 1 else searchResult
+        if (bucket >= readPositions.size) return emptyList()
+        return readersByBucket[bucket] ?: readsWithPosition
+            .filter { it.second >= readPositions[bucket] }
+            .map { it.first }
+            .also { readersByBucket[bucket] = it }
+    }
+
+    /**
+     * Checks if the [message] has been delivered to at least one user other than its sender.
+     */
+    fun isDelivered(message: Message): Boolean {
+        val latestOtherDelivery = when (latestDelivery?.user?.id) {
+            message.user.id -> runnerUpDelivery
+            else -> latestDelivery
+        } ?: return false
+        return (latestOtherDelivery.lastDeliveredAt ?: NEVER) >= message.getCreatedAtOrDefault(NEVER)
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.ui.common.feature.messages.composer.mention
+
+import io.getstream.chat.android.ui.common.feature.messages.composer.mention.MentionMatcher.Match
+import org.amshove.kluent.`should be equal to`
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.params.ParameterizedTest
+import org.junit.jupiter.params.provider.MethodSource
+
+internal class MentionMatcherTest {
+
+    @ParameterizedTest(name = "[{index}] display=\"{0}\" in text=\"{1}\" -> ranges={2}")
+    @MethodSource(
+        "io.getstream.chat.android.ui.common.feature.messages.composer.mention.MentionRegexTest#provideMatchCases",
+    )
+    fun `findAll matches the same ranges as mentionRegex`(
+        display: String,
+        text: String,
+        expectedRanges: List<IntRange>,
+    ) {
+        val matches = MentionMatcher(listOf(display)).findAll(text).map { it.start until it.end }
+
+        matches `should be equal to` expectedRanges
+    }
+
+    @Test
+    fun `findAll finds the mentions of every token in order`() {
+        val matcher = MentionMatcher(listOf("alice", "bob", "here"))
+
+        val matches = matcher.findAll("@bob and @alice, @here! @bobby @alice")
+
+        matches `should be equal to` listOf(
+            Match(token = "bob", start = 0, end = 4),
+            Match(token = "alice", start = 9, end = 15),
+            Match(token = "here", start = 17, end = 22),
+            Match(token = "alice", start = 31, end = 37),
+        )
+    }
+
+    @Test
+    fun `findAll finds overlapping mentions of tokens sharing a prefix`() {
+        val matcher = MentionMatcher(listOf("John", "John Doe"))
+
+        val matches = matcher.findAll("hi @John Doe")
+
+        matches `should be equal to` listOf(
+            Match(token = "John", start = 3, end = 8),
+            Match(token = "John Doe", start = 3, end = 12),
+        )
+    }
+
+    @Test
+    fun `findAll handles tokens containing the mention character`() {
+        val matcher = MentionMatcher(listOf("a@a"))
+
+        val matches = matcher.findAll("@a@a@a@a")
+
+        matches `should be equal to` regexMatches("a@a", "@a@a@a@a")
+    }
+
+    @Test
+    fun `findTokens returns the tokens that are mentioned`() {
+        val matcher = MentionMatcher(listOf("alice", "bob", "", "channel"))
+
+        matcher.findTokens("@alice @channels @bob_") `should be equal to` setOf("alice")
+    }
+
+    private fun regexMatches(display: String, text: String): List<Match> =
+        mentionRegex(display).findAll(text).map { Match(display, it.range.first, it.range.last + 1) }.toList()
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.ui.common.feature.messages.composer.query
+
+import io.getstream.chat.android.models.User
+import io.getstream.chat.android.randomUser
+import io.getstream.chat.android.ui.common.feature.messages.composer.query.formatter.QueryFormatter
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Test
+
+internal class UserSearchIndexTest {
+
+    private val formattedNames = mutableListOf<String>()
+    private val formatter = QueryFormatter { query ->
+        formattedNames.add(query)
+        query.lowercase()
+    }
+    private val index = UserSearchIndex(formatter)
+
+    @Test
+    fun `names are normalized only once across updates`() {
+        val alice = randomUser(name = "Alice Smith")
+        val bob = randomUser(name = "Bob Jones")
+        index.search(listOf(alice, bob), "al")
+        index.search(listOf(alice.copy(), bob.copy()), "al")
+
+        assertEquals(listOf("Alice Smith", "Bob Jones", "al", "al"), formattedNames)
+    }
+
+    @Test
+    fun `search only returns users of the given list`() {
+        val alice = randomUser(name = "Alice Smith")
+        val bob = randomUser(name = "Bob Smith")
+
+        assertEquals(listOf("Alice Smith"), index.search(listOf(alice), "smith").map(User::name))
+        assertEquals(listOf("Bob Smith"), index.search(listOf(bob), "smith").map(User::name))
+    }
+
+    @Test
+    fun `only new and renamed users are normalized on update`() {
+        val alice = randomUser(name = "Alice Smith")
+        val bob = randomUser(name = "Bob Jones")
+        index.search(listOf(alice, bob), "")
+        formattedNames.clear()
+
+        val users = listOf(alice, bob.copy(name = "Bob Brown"), randomUser(name = "Charlie"))
+        val matches = index.search(users, "brown")
+
+        assertEquals(listOf("Bob Brown", "Charlie", "brown"), formattedNames)
+        assertEquals(listOf("Bob Brown"), matches.map(User::name))
+        assertEquals(emptyList<String>(), index.search(users, "jones").map(User::name))
+    }
+
+    @Test
+    fun `search returns the latest user instances`() {
+        val alice = randomUser(name = "Alice", image = "old")
+        index.search(listOf(alice), "")
+
+        assertEquals(listOf("new"), index.search(listOf(alice.copy(image = "new")), "al").map(User::image))
+    }
+
+    @Test
+    fun `search matches full words and a final prefix in any order`() {
+        val users = listOf(
+            randomUser(name = "Charlie Smith"),
+            randomUser(name = "Alice Smith"),
+            randomUser(name = "Smithers"),
+            randomUser(name = "Bob Jones"),
+        )
+
+        assertEquals(listOf("Alice Smith", "Charlie Smith", "Smithers"), index.search(users, "smi").map(User::name))
+        assertEquals(listOf("Alice Smith"), index.search(users, "smith al").map(User::name))
+        assertEquals(emptyList<String>(), index.search(users, "smi al").map(User::name))
+        assertEquals(
+            listOf("Alice Smith", "Bob Jones", "Charlie Smith", "Smithers"),
+            index.search(users, " ").map(User::name),
+        )
+    }
+}
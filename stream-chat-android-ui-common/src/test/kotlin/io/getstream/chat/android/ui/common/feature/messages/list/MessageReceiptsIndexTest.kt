@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.ui.common.feature.messages.list
+
+import io.getstream.chat.android.client.extensions.deliveredReadsOf
+import io.getstream.chat.android.randomChannel
+import io.getstream.chat.android.randomChannelUserRead
+import io.getstream.chat.android.randomDate
+import io.getstream.chat.android.randomMessage
+import io.getstream.chat.android.randomUser
+import org.amshove.kluent.shouldBeEmpty
+import org.amshove.kluent.shouldBeEqualTo
+import org.amshove.kluent.shouldBeFalse
+import org.junit.jupiter.api.Test
+import java.util.Date
+
+internal class MessageReceiptsIndexTest {
+
+    @Test
+    fun `readersOf should return the reads whose last read message is at or after the position`() {
+        val messagesCount = 50
+        val readsWithPosition = List(20) { randomChannelUserRead() to (0 until messagesCount).random() }
+        val index = MessageReceiptsIndex(readsWithPosition, deliveryReads = null)
+
+        repeat(messagesCount + 5) { position ->
+            index.readersOf(position) shouldBeEqualTo readsWithPosition
+                .filter { it.second >= position }
+                .map { it.first }
+        }
+    }
+
+    @Test
+    fun `readersOf should return the same instance for positions between two read positions`() {
+        val first = randomChannelUserRead()
+        val second = randomChannelUserRead()
+        val index = MessageReceiptsIndex(listOf(first to 2, second to 6), deliveryReads = null)
+
+        index.readersOf(0) shouldBeEqualTo listOf(first, second)
+        (index.readersOf(0) === index.readersOf(2)) shouldBeEqualTo true
+        index.readersOf(3) shouldBeEqualTo listOf(second)
+        (index.readersOf(3) === index.readersOf(6)) shouldBeEqualTo true
+        index.readersOf(7).shouldBeEmpty()
+    }
+
+    @Test
+    fun `isDelivered should match deliveredReadsOf`() {
+        val users = List(5) { randomUser() }
+        val reads = users.map { user ->
+            randomChannelUserRead(user = user, lastDeliveredAt = randomDate().takeIf { listOf(true, false).random() })
+        }
+        val channel = randomChannel(read = reads)
+        val index = MessageReceiptsIndex(emptyList(), deliveryReads = reads)
+
+        repeat(100) {
+            val message = randomMessage(user = users.random(), createdAt = randomDate().takeIf { it.time % 5 != 0L })
+            index.isDelivered(message) shouldBeEqualTo channel.deliveredReadsOf(message).isNotEmpty()
+        }
+    }
+
+    @Test
+    fun `isDelivered should ignore the delivery of the sender`() {
+        val sender = randomUser()
+        val reads = listOf(randomChannelUserRead(user = sender, lastDeliveredAt = Date(2000)))
+        val index = MessageReceiptsIndex(emptyList(), deliveryReads = reads)
+
+        index.isDelivered(randomMessage(user = sender, createdAt = Date(1000))).shouldBeFalse()
+    }
+
+    @Test
+    fun `isDelivered should be false when delivery is not tracked`() {
+        val index = MessageReceiptsIndex(emptyList(), deliveryReads = null)
+
+        index.isDelivered(randomMessage()).shouldBeFalse()
+    }
+}
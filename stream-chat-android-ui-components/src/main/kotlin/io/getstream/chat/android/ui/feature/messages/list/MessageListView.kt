@@ -103,6 +103,7 @@ import io.getstream.chat.android.ui.feature.messages.list.options.message.Messag
 import io.getstream.chat.android.ui.feature.messages.list.options.message.MessageOptionItemsFactory
 import io.getstream.chat.android.ui.feature.messages.list.options.message.MessageOptionsDialogFragment
 import io.getstream.chat.android.ui.font.setTextStyle
+import io.getstream.chat.android.ui.helper.transformer.PrerenderingMessageTextTransformer
 import io.getstream.chat.android.ui.model.MessageListItemWrapper
 import io.getstream.chat.android.ui.navigation.destinations.AttachmentDestination
 import io.getstream.chat.android.ui.navigation.destinations.WebLinkDestination
@@ -1282,6 +1283,7 @@ public class MessageListView : ConstraintLayout {
             val filteredList = listItem.items
                 .filter(messageListItemPredicate::predicate)
                 .let(messageListItemTransformer::transform)
+            prerenderMessageTexts(filteredList)
 
             withContext(DispatcherProvider.Main) {
                 val isThreadStart = !adapter.isThread && listItem.isThread ||
@@ -1318,6 +1320,15 @@ public class MessageListView : ConstraintLayout {
         }
     }
 
+    /**
+     * Lets the message text transformer prepare the texts of the [items] before they are bound, newest first, as the
+     * list is displayed from its end.
+     */
+    private fun prerenderMessageTexts(items: List<MessageListItem>) {
+        val transformer = ChatUI.messageTextTransformer as? PrerenderingMessageTextTransformer ?: return
+        transformer.prerender(items.filterIsInstance<MessageListItem.MessageItem>().asReversed())
+    }
+
     private fun MessageListItemAdapter.submitListOnAnimationsFinished(
         filteredList: List<MessageListItem>,
         commitCallback: () -> Unit,
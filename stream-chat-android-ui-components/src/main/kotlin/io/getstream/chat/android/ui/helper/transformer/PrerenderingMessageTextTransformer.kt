@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2014-2026 Stream.io Inc. All rights reserved.
+ *
+ * Licensed under the Stream License;
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    https://github.com/GetStream/stream-chat-android/blob/main/LICENSE
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.getstream.chat.android.ui.helper.transformer
+
+import io.getstream.chat.android.ui.feature.messages.list.adapter.MessageListItem
+
+/**
+ * A [ChatMessageTextTransformer] that can prepare the text of message items before they are bound.
+ *
+ * The message list calls [prerender] off the main thread with the message items it is about to display, so the
+ * expensive part of the transformation doesn't run while binding.
+ */
+public interface PrerenderingMessageTextTransformer : ChatMessageTextTransformer {
+
+    /**
+     * Prepares the text of the given [messageItems], ordered by priority, ahead of their binding.
+     * Called from a background thread.
+     *
+     * @param messageItems The message items about to be displayed, the most relevant first.
+     */
+    public fun prerender(messageItems: List<MessageListItem.MessageItem>)
+}
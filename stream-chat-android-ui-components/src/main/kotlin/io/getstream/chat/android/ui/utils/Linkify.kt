@@ -29,7 +29,7 @@ import androidx.core.util.PatternsCompat
 import io.getstream.chat.android.core.internal.InternalStreamChatApi
 import io.getstream.chat.android.models.Message
 import io.getstream.chat.android.ui.common.feature.messages.composer.mention.Mention
-import io.getstream.chat.android.ui.common.feature.messages.composer.mention.mentionRegex
+import io.getstream.chat.android.ui.common.feature.messages.composer.mention.MentionMatcher
 import java.util.Locale
 import java.util.regex.Pattern
 
@@ -67,11 +67,14 @@ public object Linkify {
     private fun gatherSpecs(spannable: Spannable, message: Message): List<SpanSpec> = buildList {
         addAll(urlSpecs(spannable))
         addAll(emailSpecs(spannable))
-        message.mentionedUsers.forEach { addAll(mentionSpecs(spannable, Mention.User(it))) }
-        if (message.mentionedChannel) addAll(mentionSpecs(spannable, Mention.Channel))
-        if (message.mentionedHere) addAll(mentionSpecs(spannable, Mention.Here))
-        message.mentionedRoles.forEach { addAll(mentionSpecs(spannable, Mention.Role(it))) }
-        message.mentionedGroups.forEach { addAll(mentionSpecs(spannable, Mention.Group(it))) }
+        val mentions = buildList {
+            message.mentionedUsers.forEach { add(Mention.User(it)) }
+            if (message.mentionedChannel) add(Mention.Channel)
+            if (message.mentionedHere) add(Mention.Here)
+            message.mentionedRoles.forEach { add(Mention.Role(it)) }
+            message.mentionedGroups.forEach { add(Mention.Group(it)) }
+        }
+        addAll(mentionSpecs(spannable, mentions))
     }
 
     @SuppressLint("RestrictedApi")
@@ -88,14 +91,21 @@ public object Linkify {
         null,
     ) { it.makeUrlSpan(listOf("mailto:")) }
 
-    private fun mentionSpecs(spannable: Spannable, mention: Mention): List<SpanSpec> =
-        mention.tokens.flatMap { token ->
-            gatherSpanSpecs(
-                spannable,
-                mentionRegex(token).toPattern(),
-                null,
-            ) { MentionSpan(mention) }
+    /**
+     * Finds the mentions of all the given [mentions] in a single pass over the text.
+     */
+    private fun mentionSpecs(spannable: Spannable, mentions: List<Mention>): List<SpanSpec> {
+        if (mentions.isEmpty()) return emptyList()
+        val mentionsByToken = HashMap<String, MutableList<Mention>>()
+        mentions.forEach { mention ->
+            mention.tokens.forEach { token -> mentionsByToken.getOrPut(token, ::mutableListOf).add(mention) }
         }
+        return MentionMatcher(mentionsByToken.keys).findAll(spannable).flatMap { match ->
+            mentionsByToken[match.token].orEmpty().map { mention ->
+                SpanSpec(span = MentionSpan(mention), start = match.start, end = match.end)
+            }
+        }
+    }
 
     private fun addLinkMovementMethod(t: TextView) {
         val m = t.movementMethod